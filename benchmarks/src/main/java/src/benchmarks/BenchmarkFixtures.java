@@ -0,0 +1,50 @@
+package src.benchmarks;
+
+import java.io.PrintStream;
+
+import src.*;
+
+/**
+ * Shared setup for the benchmarks: seeded silent simulation contexts and teams with their starters on court.
+ */
+public class BenchmarkFixtures {
+    // Fixed matchup used by the game, series and microbenchmarks
+    public static final String AWAY_TEAM = "Lakers";
+    public static final String HOME_TEAM = "Celtics";
+
+    // Fixed seed, so every run replays the same games
+    public static final long SEED = 20240101L;
+
+    /**
+     * Create a seeded simulation context that discards all output.
+     */
+    public static SimulationContext silentContext() {
+        return new SimulationContext(LocalizedStrings.Language.ENGLISH, new RandomSource(SEED),
+                                     new PrintStream(new Game.NullOutputStream()));
+    }
+
+    /**
+     * Create a silent Game on a seeded context.
+     */
+    public static Game silentGame() {
+        Game game = new Game(silentContext());
+        game.silentMode = true;
+        return game;
+    }
+
+    /**
+     * Put a team's starters on court, the same way a game starts.
+     *
+     * @param team The team
+     * @return On-court lineup
+     */
+    public static Lineup startersOnCourt(Team team) {
+        Lineup onCourt = new Lineup();
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player p = team.starters.get(i);
+            onCourt.put(i, p);
+            p.isOnCourt = true;
+        }
+        return onCourt;
+    }
+}
@@ -0,0 +1,22 @@
+package src.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point of benchmarks.jar: runs the benchmarks with the GC profiler attached,
+ * so every result reports allocation rate and GC counts next to throughput.
+ *
+ * Usage (from the repository root): java -jar benchmarks/target/benchmarks.jar [benchmark regex] [JMH options]
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
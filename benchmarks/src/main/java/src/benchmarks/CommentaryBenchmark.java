@@ -0,0 +1,41 @@
+package src.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import src.*;
+
+/**
+ * Throughput of the live commentary of one possession: getting the ball, the shot choice, the make and the rebound,
+ * written to a stream that discards all output. Run from the repository root, the corpora are read from ./database.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentaryBenchmark {
+    // Mid-range jumper, a typical shot
+    private static final int DISTANCE = 15;
+
+    private SimulationContext ctx;
+    private Player offensePlayer;
+    private Player defensePlayer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkFixtures.silentContext();
+        offensePlayer = new Team(BenchmarkFixtures.AWAY_TEAM).starters.get(Player.Position.SF);
+        defensePlayer = new Team(BenchmarkFixtures.HOME_TEAM).starters.get(Player.Position.SF);
+    }
+
+    @Benchmark
+    public void possession() {
+        Comments.getBallComment(ctx, BenchmarkFixtures.AWAY_TEAM, offensePlayer.name, defensePlayer.name);
+        Comments.getShotChoice(ctx, offensePlayer, DISTANCE, Player.ShotType.JUMPER);
+        Comments.getMakeShotsComment(ctx, offensePlayer.name, defensePlayer.name, DISTANCE, Player.ShotType.JUMPER);
+        Comments.getReboundComment(ctx, defensePlayer.name, false);
+    }
+}
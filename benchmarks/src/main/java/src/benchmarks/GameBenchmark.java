@@ -0,0 +1,60 @@
+package src.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import src.*;
+
+/**
+ * Throughput of whole simulations in silent mode: a single game, a best-of-seven series and a full season.
+ * Run from the repository root, the simulator reads its rosters and schedule from ./database.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GameBenchmark {
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkFixtures.silentGame();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String hostGame() throws Exception {
+        return game.hostGame(BenchmarkFixtures.AWAY_TEAM, BenchmarkFixtures.HOME_TEAM);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String hostSeries() {
+        return game.hostSeries(BenchmarkFixtures.AWAY_TEAM, BenchmarkFixtures.HOME_TEAM, "Finals");
+    }
+
+    /**
+     * A season keeps recaps and seeds in its Game, so every season gets a fresh one.
+     */
+    @State(Scope.Thread)
+    public static class SeasonState {
+        Game game;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            game = BenchmarkFixtures.silentGame();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MINUTES)
+    @Warmup(iterations = 2, time = 10)
+    @Measurement(iterations = 3, time = 20)
+    public String hostSeason(SeasonState state) {
+        return state.game.hostSeason();
+    }
+}
@@ -0,0 +1,67 @@
+package src.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import src.*;
+
+/**
+ * Throughput of the per-possession engine steps, on the fixed matchup with both starting lineups on court.
+ * Teams are rebuilt every iteration, since shots and substitutions change player stats and lineups.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UtilitiesBenchmark {
+    // Mid-range jumper, a typical shot
+    private static final int DISTANCE = 15;
+
+    private SimulationContext ctx;
+    private Team offenseTeam;
+    private Team defenseTeam;
+    private Lineup offenseOnCourt;
+    private Lineup defenseOnCourt;
+    private Player offensePlayer;
+    private Player defensePlayer;
+    private Player.ShotType shotType;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ctx = BenchmarkFixtures.silentContext();
+        offenseTeam = new Team(BenchmarkFixtures.AWAY_TEAM);
+        defenseTeam = new Team(BenchmarkFixtures.HOME_TEAM);
+        offenseTeam.hasBall = true;
+        offenseOnCourt = BenchmarkFixtures.startersOnCourt(offenseTeam);
+        defenseOnCourt = BenchmarkFixtures.startersOnCourt(defenseTeam);
+        offensePlayer = offenseOnCourt.get(Player.Position.SF);
+        defensePlayer = defenseOnCourt.get(Player.Position.SF);
+        shotType = Utilities.chooseShotType(ctx, offensePlayer, DISTANCE);
+    }
+
+    @Benchmark
+    public Player choosePlayerBasedOnRating() {
+        return Utilities.choosePlayerBasedOnRating(ctx, offenseOnCourt, Utilities.SelectionCriterion.RATING, 2, 360, offenseTeam, defenseTeam);
+    }
+
+    @Benchmark
+    public double calculatePercentage() {
+        return Utilities.calculatePercentage(ctx, DISTANCE, offensePlayer, defensePlayer, offenseOnCourt,
+                                             shotType, 360, 2, offenseTeam, defenseTeam);
+    }
+
+    @Benchmark
+    public Utilities.ShotResult judgeMakeShot() {
+        return Utilities.judgeMakeShot(ctx, DISTANCE, offensePlayer, defensePlayer, offenseTeam, defenseTeam, offenseOnCourt,
+                                       defenseOnCourt, 45.0, 360, 2, offenseTeam, defenseTeam, shotType);
+    }
+
+    @Benchmark
+    public boolean checkIntelligentSubstitutions() {
+        return Utilities.checkIntelligentSubstitutions(ctx, offenseTeam, offenseOnCourt, 2, 360, 1080,
+                                                       offenseTeam, defenseTeam, false);
+    }
+}
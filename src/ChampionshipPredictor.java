@@ -0,0 +1,425 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs championship prediction seasons on a fixed pool of worker threads.
+ * Seasons are independent, so they are sharded across the workers and each
+ * worker counts its own season outcomes (champions, wins, seeds, play-in and playoff rounds) in plain arrays;
+ * the per-worker counts are merged at the end.
+ * Every season's random source is seeded up front from the root seed, by season index,
+ * so the result for a seed does not depend on the number of workers.
+ * In fast mode, every game's winner is drawn from a head-to-head win probability matrix instead of being simulated.
+ * In adaptive mode, seasons run in batches until the 95% confidence interval of every champion's title probability
+ * is within the target precision. Batch sizes only depend on the counts so far, so adaptive runs replay by seed as well.
+ * Batches run in chunks of at most updateInterval seasons. After every chunk, a snapshot of the counts is handed to a
+ * writer thread, which saves the checkpoint and rewrites the live results while the workers go on with the next chunk,
+ * already submitted before the current one is merged.
+ * A killed run can resume from its last checkpoint and still end with the same result.
+ */
+public class ChampionshipPredictor {
+    // Total number of seasons to simulate, or the most seasons to simulate in adaptive mode
+    private final int seasonCount;
+
+    // Number of worker threads
+    private final int threadCount;
+
+    // Target half-width of every title probability's confidence interval, 0 to run exactly seasonCount seasons
+    private final double precision;
+
+    // Root seed, and the source of each season's seed drawn from it in season index order
+    private final long seed;
+    private final RandomSource seedSource;
+
+    // Console stream for progress output
+    private final PrintStream console;
+
+    // Win probabilities to draw game winners from in fast mode, null to simulate every game
+    private final WinProbabilityMatrix winProbabilities;
+
+    // Number of seasons finished so far, across all workers
+    private final AtomicInteger completed = new AtomicInteger();
+
+    // Number of seasons in the merged counts
+    private int seasonsRun = 0;
+
+    // Merged season outcome counts of all workers
+    private final OutcomeDistribution outcomes = new OutcomeDistribution();
+
+    // Checkpoint file and hash of the rosters it belongs to, null to run without checkpoints
+    private String checkpointPath = null;
+    private String rosterHash = null;
+
+    // Num of seasons at which the batch a checkpoint stopped in ends, 0 when not resumed
+    private int resumedBatchEnd = 0;
+
+    // Live results rewritten after every chunk, null to only write the results at the end
+    private PredictionResults liveResults = null;
+
+    // Num of seasons between checkpoints and live result updates
+    private int updateInterval = Constants.PREDICTION_UPDATE_SEASONS;
+
+    // Start and end time of the last run (end 0 while running), and the num of seasons done before it started
+    private long startNanos = 0;
+    private long endNanos = 0;
+    private int startSeasons = 0;
+
+    /**
+     * Construct a predictor.
+     *
+     * @param seasonCount Number of seasons to simulate
+     * @param threadCount Number of worker threads, values below 1 fall back to the number of available cores
+     * @param seed Root seed of the prediction
+     * @param console Stream to print progress to
+     */
+    public ChampionshipPredictor(int seasonCount, int threadCount, long seed, PrintStream console) {
+        this(seasonCount, threadCount, seed, console, null, 0);
+    }
+
+    /**
+     * Construct a predictor.
+     *
+     * @param seasonCount Number of seasons to simulate, or the most seasons to simulate in adaptive mode
+     * @param threadCount Number of worker threads, values below 1 fall back to the number of available cores
+     * @param seed Root seed of the prediction
+     * @param console Stream to print progress to
+     * @param winProbabilities Win probabilities to draw game winners from, null to simulate every game
+     * @param precision Target half-width of the confidence intervals (e.g. 0.005 for 0.5%), 0 to run exactly seasonCount seasons
+     */
+    public ChampionshipPredictor(int seasonCount, int threadCount, long seed, PrintStream console,
+                                 WinProbabilityMatrix winProbabilities, double precision) {
+        this.seasonCount = seasonCount;
+        this.threadCount = threadCount > 0 ? Math.min(threadCount, Math.max(seasonCount, 1))
+                                           : Runtime.getRuntime().availableProcessors();
+        this.console = console;
+        this.winProbabilities = winProbabilities;
+        this.precision = precision;
+        this.seed = seed;
+        this.seedSource = new RandomSource(seed);
+    }
+
+    /**
+     * Save a checkpoint to a file after every chunk of seasons, and delete it once the run has finished.
+     * Runs without checkpoints if the roster files can't be hashed, as a checkpoint could never be matched to its rosters.
+     *
+     * @param path Path of the checkpoint file
+     */
+    public void setCheckpointPath(String path) {
+        String hash = RosterRepository.getRosterHash(Constants.ROSTER_PATH);
+        if (hash == null) {
+            System.err.println("Roster files can't be hashed, running without checkpoints.");
+            return;
+        }
+        this.checkpointPath = path;
+        this.rosterHash = hash;
+    }
+
+    /**
+     * Rewrite the results after every chunk of seasons while the run goes on.
+     *
+     * @param results Results to rewrite
+     */
+    public void setLiveResults(PredictionResults results) {
+        this.liveResults = results;
+    }
+
+    /**
+     * Set the num of seasons between checkpoints and live result updates.
+     * The result for a seed does not depend on it.
+     *
+     * @param seasons Num of seasons, values below 1 fall back to the default
+     */
+    public void setUpdateInterval(int seasons) {
+        this.updateInterval = seasons > 0 ? seasons : Constants.PREDICTION_UPDATE_SEASONS;
+    }
+
+    /**
+     * Get the simulation speed of the last run, not counting seasons restored from a checkpoint.
+     */
+    public double getSeasonsPerSecond() {
+        double seconds = ((endNanos > 0 ? endNanos : System.nanoTime()) - startNanos) / 1e9;
+        return seconds > 0 ? (seasonsRun - startSeasons) / seconds : 0;
+    }
+
+    /**
+     * Continue from a checkpoint instead of starting over. The predictor must have the checkpoint's seed, season count,
+     * precision and win probabilities; the number of worker threads may differ.
+     *
+     * @param checkpoint Checkpoint of an unfinished run
+     */
+    public void resumeFrom(PredictionCheckpoint checkpoint) {
+        outcomes.merge(checkpoint.outcomes);
+        seasonsRun = checkpoint.seasonsRun;
+        resumedBatchEnd = checkpoint.batchEnd;
+        completed.set(seasonsRun);
+
+        // Replay the seed source up to the first unfinished season
+        for (int i = 0; i < seasonsRun; i++) seedSource.nextLong();
+    }
+
+    /**
+     * Get the number of worker threads actually used.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Get the number of seasons simulated by the last run.
+     */
+    public int getSeasonsRun() {
+        return seasonsRun;
+    }
+
+    /**
+     * Get the merged season outcome counts of the last run.
+     */
+    public OutcomeDistribution getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Simulate the seasons and count the champions.
+     *
+     * @return Map of team name (English) to number of championships won
+     */
+    public Map<String, Integer> run() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        ExecutorService updateWriter = Executors.newSingleThreadExecutor();
+        startNanos = System.nanoTime();
+        endNanos = 0;
+        startSeasons = seasonsRun;
+
+        try {
+            // The first batch is all seasons, or the first adaptive batch, unless resumed in the middle of a batch
+            int batchEnd = resumedBatchEnd > 0 ? resumedBatchEnd
+                                               : Math.min(precision > 0 ? Constants.PREDICTION_FIRST_BATCH : seasonCount, seasonCount);
+            while (true) {
+                runBatch(pool, updateWriter, batchEnd);
+                if (precision <= 0) break;
+
+                // Adaptive mode: after each batch, stop once every interval is narrow enough,
+                // otherwise run about as many seasons as the widest interval still needs, at most doubling the total
+                Map<String, Integer> championCounts = outcomes.getChampionCounts();
+                double widestMargin = getWidestMargin(championCounts, seasonsRun);
+                console.printf("Simulated %d seasons, widest interval: +/-%.2f%%%n", seasonsRun, widestMargin * 100);
+                if (widestMargin <= precision || seasonsRun >= seasonCount) break;
+
+                int needed = getSeasonsNeeded(championCounts, seasonsRun, precision);
+                int batchSize = Math.max(Constants.PREDICTION_FIRST_BATCH, Math.min(needed - seasonsRun, seasonsRun));
+                batchEnd = seasonsRun + Math.min(batchSize, seasonCount - seasonsRun);
+            }
+        } finally {
+            endNanos = System.nanoTime();
+            pool.shutdownNow();
+
+            // Wait for every queued checkpoint and live result write, so none of them lands after the checkpoint is deleted
+            // or the final results are written
+            updateWriter.shutdown();
+            while (!updateWriter.awaitTermination(1, TimeUnit.MINUTES)) {
+                System.err.println("Still waiting for checkpoint and live result writes to finish...");
+            }
+        }
+
+        if (checkpointPath != null) PredictionCheckpoint.delete(checkpointPath);
+        return outcomes.getChampionCounts();
+    }
+
+    /**
+     * Simulate the seasons up to the end of a batch in chunks of updateInterval seasons, publishing an update after each chunk.
+     * The next chunk is always submitted before the current one is merged, so the workers go on simulating
+     * while a chunk boundary is merged and published.
+     *
+     * @param pool Worker pool
+     * @param updateWriter Writer thread
+     * @param batchEnd Num of seasons at which the batch ends
+     * @throws IllegalStateException If a season fails to simulate
+     */
+    private void runBatch(ExecutorService pool, ExecutorService updateWriter, int batchEnd) throws InterruptedException {
+        if (seasonsRun >= batchEnd) return;
+        int submitted = seasonsRun + Math.min(updateInterval, batchEnd - seasonsRun);
+        List<Future<OutcomeDistribution>> chunk = submitChunk(pool, submitted - seasonsRun);
+
+        while (chunk != null) {
+            int chunkSize = Math.min(updateInterval, batchEnd - seasonsRun);
+            List<Future<OutcomeDistribution>> next = null;
+            if (submitted < batchEnd) {
+                int nextSize = Math.min(updateInterval, batchEnd - submitted);
+                next = submitChunk(pool, nextSize);
+                submitted += nextSize;
+            }
+
+            mergeChunk(chunk, chunkSize);
+            publishUpdate(updateWriter, batchEnd);
+            chunk = next;
+        }
+    }
+
+    /**
+     * Seed the next seasons and split them as evenly as possible across the workers.
+     *
+     * @param pool Worker pool
+     * @param count Number of seasons in the chunk
+     * @return The chunk's shards
+     */
+    private List<Future<OutcomeDistribution>> submitChunk(ExecutorService pool, int count) {
+        // Seed the chunk's seasons up front, in season index order
+        long[] seasonSeeds = new long[count];
+        for (int i = 0; i < count; i++) seasonSeeds[i] = seedSource.nextLong();
+
+        List<Future<OutcomeDistribution>> shards = new ArrayList<>();
+        int shardStart = 0;
+        for (int i = 0; i < threadCount; i++) {
+            final int start = shardStart;
+            final int end = start + count / threadCount + (i < count % threadCount ? 1 : 0);
+            shards.add(pool.submit(() -> runShard(seasonSeeds, start, end)));
+            shardStart = end;
+        }
+        return shards;
+    }
+
+    /**
+     * Wait for a chunk's shards and merge their outcome counts.
+     *
+     * @param shards The chunk's shards
+     * @param count Number of seasons in the chunk
+     * @throws IllegalStateException If a season fails to simulate
+     */
+    private void mergeChunk(List<Future<OutcomeDistribution>> shards, int count) throws InterruptedException {
+        // A failed shard fails the run: its seeds are used up, so carrying on would leave the counts short of seasonsRun,
+        // and the last checkpoint is kept to resume from instead
+        for (Future<OutcomeDistribution> shard : shards) {
+            try {
+                outcomes.merge(shard.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Prediction simulation failed: " + e.getCause(), e.getCause());
+            }
+        }
+        seasonsRun += count;
+    }
+
+    /**
+     * Hand a snapshot of the counts so far to the writer thread, which saves the checkpoint and rewrites the live results.
+     *
+     * @param updateWriter Writer thread
+     * @param batchEnd Num of seasons at which the current batch ends
+     */
+    private void publishUpdate(ExecutorService updateWriter, int batchEnd) {
+        if (checkpointPath == null && liveResults == null) return;
+
+        OutcomeDistribution snapshot = outcomes.copy();
+        double seasonsPerSecond = getSeasonsPerSecond();
+
+        // In adaptive mode, expect as many seasons as the widest interval needs so far
+        int targetSeasons = seasonCount;
+        if (precision > 0) {
+            int needed = getSeasonsNeeded(snapshot.getChampionCounts(), seasonsRun, precision);
+            targetSeasons = Math.min(Math.max(needed, batchEnd), seasonCount);
+        }
+        final int target = targetSeasons;
+
+        updateWriter.execute(() -> {
+            saveCheckpoint(snapshot, batchEnd);
+            if (liveResults != null) liveResults.write(snapshot, target, seasonsPerSecond, false);
+        });
+    }
+
+    /**
+     * Save the settings, progress and counts of a snapshot to the checkpoint file, if there is one.
+     *
+     * @param snapshot Counts so far
+     * @param batchEnd Num of seasons at which the current batch ends
+     */
+    private void saveCheckpoint(OutcomeDistribution snapshot, int batchEnd) {
+        if (checkpointPath == null) return;
+
+        PredictionCheckpoint checkpoint = new PredictionCheckpoint();
+        checkpoint.seed = seed;
+        checkpoint.seasonCount = seasonCount;
+        checkpoint.precision = precision;
+        checkpoint.fastMode = winProbabilities != null;
+        checkpoint.matrixGames = winProbabilities != null ? winProbabilities.getGamesPerPair() : Constants.WIN_PROBABILITY_GAMES_PER_PAIR;
+        checkpoint.rosterHash = rosterHash;
+        checkpoint.seasonsRun = (int) snapshot.getSeasons();
+        checkpoint.batchEnd = batchEnd;
+        checkpoint.outcomes = snapshot;
+        checkpoint.save(checkpointPath);
+    }
+
+    /**
+     * Simulate a range of seasons on the current thread.
+     *
+     * @param seasonSeeds Seeds of the batch's seasons
+     * @param start Index of the first season to simulate
+     * @param end Index after the last season to simulate
+     * @return Outcome counts of this shard
+     */
+    private OutcomeDistribution runShard(long[] seasonSeeds, int start, int end) {
+        OutcomeDistribution shardOutcomes = new OutcomeDistribution();
+
+        for (int i = start; i < end; i++) {
+            // Create new game instance for each simulation to ensure clean state,
+            // each game owns its context so workers share no mutable state
+            SimulationContext ctx = new SimulationContext(LocalizedStrings.getLanguage(), new RandomSource(seasonSeeds[i]), System.out);
+            Game game = new Game(ctx);
+            game.silentMode = true;
+            game.winProbabilities = winProbabilities;
+
+            // silent seasons rethrow their failures, and a season without a champion is never counted
+            if (game.hostSeason().isEmpty()) throw new IllegalStateException("Season " + i + " ended without a champion");
+            shardOutcomes.record(game.seasonOutcome);
+
+            // Print progress every 5 seasons
+            int done = completed.incrementAndGet();
+            if (done % 5 == 0) {
+                console.println("Simulated " + done + (precision > 0 ? "" : "/" + seasonCount) + " seasons...");
+            }
+        }
+
+        return shardOutcomes;
+    }
+
+    /**
+     * Get the 95% Wilson score interval of a title probability, which stays inside [0, 1] for rare champions.
+     *
+     * @param titles Num of titles won
+     * @param seasons Num of seasons simulated
+     * @return Lower and upper bounds of the interval
+     */
+    public static double[] getConfidenceInterval(int titles, int seasons) {
+        double z = Constants.CONFIDENCE_Z;
+        double p = (double) titles / seasons;
+        double denominator = 1 + z * z / seasons;
+        double center = (p + z * z / (2.0 * seasons)) / denominator;
+        double margin = z * Math.sqrt(p * (1 - p) / seasons + z * z / (4.0 * seasons * seasons)) / denominator;
+        return new double[]{Math.max(center - margin, 0), Math.min(center + margin, 1)};
+    }
+
+    /**
+     * Get the widest half-width of the champions' confidence intervals.
+     */
+    private static double getWidestMargin(Map<String, Integer> championCounts, int seasons) {
+        double widest = 0;
+        for (int titles : championCounts.values()) {
+            double[] interval = getConfidenceInterval(titles, seasons);
+            widest = Math.max(widest, (interval[1] - interval[0]) / 2);
+        }
+        return widest;
+    }
+
+    /**
+     * Estimate the total num of seasons for every champion's interval to be within the precision, by the normal approximation.
+     */
+    private static int getSeasonsNeeded(Map<String, Integer> championCounts, int seasons, double precision) {
+        double z = Constants.CONFIDENCE_Z;
+        double maxVariance = 0;
+        for (int titles : championCounts.values()) {
+            double p = (double) titles / seasons;
+            maxVariance = Math.max(maxVariance, p * (1 - p));
+        }
+        return (int) Math.min(Math.ceil(z * z * maxVariance / (precision * precision)), Integer.MAX_VALUE);
+    }
+}
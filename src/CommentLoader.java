@@ -1,233 +1,253 @@
 package src;
 
 import java.io.*;
-import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CommentLoader - Loads and manages commentary strings from external JSON files.
  * This separates content from code, making it easier to maintain and localize.
  * Uses native Java without external dependencies.
+ * A corpus is compiled when it is loaded: every sentence array is stored once by full JSON path,
+ * with its sentences pre-split into literal text and {0}-style placeholders. A Key created once
+ * (e.g. as a static final field) resolves its entry in every language up front, so picking a comment is an array read.
  */
 public class CommentLoader {
-    private static Map<String, Object> comments = null;
-    private static String currentLanguage = null;
-    
+    // Compiled comment corpora, by language
+    private static final Map<LocalizedStrings.Language, Corpus> corpora = new ConcurrentHashMap<>();
+
     /**
-     * Load comments from JSON file.
-     * @param language Language code (e.g., "zh_CN", "en_US")
+     * A commentary sentence split into literal segments and placeholders, so it is rendered in one pass.
      */
-    public static void loadComments(String language) {
-        try {
-            String filePath = "database/comments/comments_" + language + ".json";
-            String content = new String(Files.readAllBytes(Paths.get(filePath)));
-            comments = parseJSON(content);
-            currentLanguage = language;
-        } catch (IOException e) {
-            System.err.println("Error loading comments file: " + e.getMessage());
-            e.printStackTrace();
+    public static final class Template {
+        // Original sentence
+        private final String text;
+
+        // Literal segments around the placeholders, one more than the placeholders
+        private final String[] literals;
+
+        // Argument index of each placeholder
+        private final int[] placeholders;
+
+        private Template(String text) {
+            List<String> literalList = new ArrayList<>();
+            List<Integer> placeholderList = new ArrayList<>();
+            int literalStart = 0;
+            int i = text.indexOf('{');
+            while (i >= 0) {
+                int close = text.indexOf('}', i);
+                if (close < 0) break;
+                String digits = text.substring(i + 1, close);
+                if (!digits.isEmpty() && digits.length() <= 9 && digits.chars().allMatch(Character::isDigit)
+                    && String.valueOf(Integer.parseInt(digits)).equals(digits)) {
+                    literalList.add(text.substring(literalStart, i));
+                    placeholderList.add(Integer.parseInt(digits));
+                    literalStart = close + 1;
+                    i = text.indexOf('{', literalStart);
+                } else {
+                    i = text.indexOf('{', i + 1);
+                }
+            }
+            literalList.add(text.substring(literalStart));
+
+            this.text = text;
+            this.literals = literalList.toArray(new String[0]);
+            this.placeholders = new int[placeholderList.size()];
+            for (int j = 0; j < placeholders.length; j++) placeholders[j] = placeholderList.get(j);
+        }
+
+        /**
+         * Get the original sentence.
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Append the sentence with placeholders replaced by arguments (e.g., "{0}" by args[0]).
+         * A placeholder without an argument is kept as it is.
+         */
+        public void render(StringBuilder sb, Object... args) {
+            sb.append(literals[0]);
+            for (int i = 0; i < placeholders.length; i++) {
+                int arg = placeholders[i];
+                if (arg < args.length) sb.append(args[arg]);
+                else sb.append('{').append(arg).append('}');
+                sb.append(literals[i + 1]);
+            }
         }
     }
-    
+
     /**
-     * Load comments using the language from LocalizedStrings.
+     * A JSON path resolved once in the corpus of every language, so getting its entry is an array read.
+     * Create keys once, e.g. as static final fields, with CommentLoader.key().
      */
-    public static void loadComments() {
-        String languageCode = LocalizedStrings.getCurrentLanguage().getCode();
-        loadComments(languageCode);
+    public static final class Key {
+        private final String path;
+
+        // Resolved sentences and templates, by language ordinal
+        private final String[][] arrays = new String[LocalizedStrings.Language.values().length][];
+        private final Template[][] templates = new Template[LocalizedStrings.Language.values().length][];
+        private final String[] strings = new String[LocalizedStrings.Language.values().length];
+
+        private Key(String path) {
+            this.path = path;
+        }
+
+        /**
+         * Get the JSON path of the key.
+         */
+        public String getPath() {
+            return path;
+        }
     }
-    
+
     /**
-     * Ensure comments are loaded before use.
+     * Create a key, resolving its JSON path in the corpus of every language.
+     * A missing path resolves to an empty array and an empty string, as with lookups by path.
+     *
+     * @param path JSON path (e.g., "layup", "dunk.basic")
+     * @return The key
      */
-    private static void ensureLoaded() {
-        if (comments == null) {
-            loadComments();
+    public static Key key(String path) {
+        Key key = new Key(path);
+        for (LocalizedStrings.Language language : LocalizedStrings.Language.values()) {
+            Corpus corpus = forLanguage(language);
+            int index = language.ordinal();
+            key.arrays[index] = corpus.getStringArray(path);
+            key.templates[index] = corpus.templates.getOrDefault(path, new Template[0]);
+            key.strings[index] = corpus.getString(path);
         }
+        return key;
     }
-    
+
     /**
-     * Simple JSON parser for our specific use case.
-     * Handles objects, arrays, and strings.
+     * The commentary corpus of one language. A corpus is read-only once loaded,
+     * so simulations running on different threads can share it.
      */
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> parseJSON(String json) {
-        json = json.trim();
-        if (json.startsWith("{")) {
-            return parseObject(json);
+    public static class Corpus {
+        private final LocalizedStrings.Language language;
+
+        // Sentence arrays, their compiled templates and single strings, by full JSON path
+        private final Map<String, String[]> arrays = new HashMap<>();
+        private final Map<String, Template[]> templates = new HashMap<>();
+        private final Map<String, String> strings = new HashMap<>();
+
+        private Corpus(LocalizedStrings.Language language, Map<String, Object> comments) {
+            this.language = language;
+            compile("", comments);
         }
-        return new HashMap<>();
-    }
-    
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> parseObject(String json) {
-        Map<String, Object> map = new HashMap<>();
-        json = json.trim().substring(1, json.length() - 1).trim();
-        
-        int i = 0;
-        while (i < json.length()) {
-            // Skip whitespace
-            while (i < json.length() && Character.isWhitespace(json.charAt(i))) i++;
-            if (i >= json.length()) break;
-            
-            // Parse key
-            if (json.charAt(i) != '"') break;
-            i++; // skip opening quote
-            int keyStart = i;
-            while (i < json.length() && json.charAt(i) != '"') {
-                if (json.charAt(i) == '\\') i++; // skip escaped char
-                i++;
-            }
-            String key = json.substring(keyStart, i);
-            i++; // skip closing quote
-            
-            // Skip whitespace and colon
-            while (i < json.length() && (Character.isWhitespace(json.charAt(i)) || json.charAt(i) == ':')) i++;
-            
-            // Parse value
-            Object value = null;
-            if (json.charAt(i) == '{') {
-                // Nested object
-                int braceCount = 0;
-                int start = i;
-                do {
-                    if (json.charAt(i) == '{') braceCount++;
-                    else if (json.charAt(i) == '}') braceCount--;
-                    i++;
-                } while (braceCount > 0 && i < json.length());
-                value = parseObject(json.substring(start, i));
-            } else if (json.charAt(i) == '[') {
-                // Array
-                int bracketCount = 0;
-                int start = i;
-                do {
-                    if (json.charAt(i) == '[') bracketCount++;
-                    else if (json.charAt(i) == ']') bracketCount--;
-                    i++;
-                } while (bracketCount > 0 && i < json.length());
-                value = parseArray(json.substring(start, i));
-            } else if (json.charAt(i) == '"') {
-                // String
-                i++; // skip opening quote
-                StringBuilder sb = new StringBuilder();
-                while (i < json.length() && json.charAt(i) != '"') {
-                    if (json.charAt(i) == '\\' && i + 1 < json.length()) {
-                        i++;
-                        char next = json.charAt(i);
-                        if (next == 'n') sb.append('\n');
-                        else if (next == 't') sb.append('\t');
-                        else if (next == 'r') sb.append('\r');
-                        else sb.append(next);
-                    } else {
-                        sb.append(json.charAt(i));
-                    }
-                    i++;
+
+        @SuppressWarnings("unchecked")
+        private void compile(String prefix, Map<String, Object> comments) {
+            for (Map.Entry<String, Object> entry : comments.entrySet()) {
+                String path = prefix + entry.getKey();
+                Object value = entry.getValue();
+                if (value instanceof Map) {
+                    compile(path + ".", (Map<String, Object>) value);
+                } else if (value instanceof List) {
+                    String[] array = ((List<String>) value).toArray(new String[0]);
+                    Template[] compiled = new Template[array.length];
+                    for (int i = 0; i < array.length; i++) compiled[i] = new Template(array[i]);
+                    arrays.put(path, array);
+                    templates.put(path, compiled);
+                } else if (value instanceof String) {
+                    strings.put(path, (String) value);
                 }
-                value = sb.toString();
-                i++; // skip closing quote
             }
-            
-            map.put(key, value);
-            
-            // Skip comma
-            while (i < json.length() && (Character.isWhitespace(json.charAt(i)) || json.charAt(i) == ',')) i++;
         }
-        
-        return map;
-    }
-    
-    private static List<String> parseArray(String json) {
-        List<String> list = new ArrayList<>();
-        json = json.trim().substring(1, json.length() - 1).trim();
-        
-        int i = 0;
-        while (i < json.length()) {
-            // Skip whitespace
-            while (i < json.length() && Character.isWhitespace(json.charAt(i))) i++;
-            if (i >= json.length()) break;
-            
-            if (json.charAt(i) == '"') {
-                i++; // skip opening quote
-                StringBuilder sb = new StringBuilder();
-                while (i < json.length() && json.charAt(i) != '"') {
-                    if (json.charAt(i) == '\\' && i + 1 < json.length()) {
-                        i++;
-                        char next = json.charAt(i);
-                        if (next == 'n') sb.append('\n');
-                        else if (next == 't') sb.append('\t');
-                        else if (next == 'r') sb.append('\r');
-                        else sb.append(next);
-                    } else {
-                        sb.append(json.charAt(i));
-                    }
-                    i++;
-                }
-                list.add(sb.toString());
-                i++; // skip closing quote
-            }
-            
-            // Skip comma
-            while (i < json.length() && (Character.isWhitespace(json.charAt(i)) || json.charAt(i) == ',')) i++;
+
+        /**
+         * Get a string array from JSON path.
+         * The array is shared, callers must not modify it.
+         * @param path JSON path (e.g., "layup", "dunk.basic")
+         * @return Array of strings
+         */
+        public String[] getStringArray(String path) {
+            return arrays.getOrDefault(path, new String[0]);
+        }
+
+        /**
+         * Get the string array of a key.
+         * The array is shared, callers must not modify it.
+         */
+        public String[] getStringArray(Key key) {
+            return key.arrays[language.ordinal()];
+        }
+
+        /**
+         * Get a single string from JSON path.
+         * @param path JSON path (e.g., "shotPosition.underBasket")
+         * @return Single string
+         */
+        public String getString(String path) {
+            return strings.getOrDefault(path, "");
+        }
+
+        /**
+         * Get the single string of a key.
+         */
+        public String getString(Key key) {
+            return key.strings[language.ordinal()];
+        }
+
+        /**
+         * Get a random string from an array at the given path and format it.
+         * @param random Random source
+         * @param path JSON path
+         * @param args Arguments for formatting
+         * @return Formatted random string
+         */
+        public String getRandomFormatted(RandomSource random, String path, Object... args) {
+            Template[] array = templates.getOrDefault(path, new Template[0]);
+            return pick(random, array, new StringBuilder(), args);
+        }
+
+        /**
+         * Get a random string from the array of a key and format it.
+         * @param random Random source
+         * @param sb Scratch buffer to render into, cleared first
+         * @param key Key of the array
+         * @param args Arguments for formatting
+         * @return Formatted random string
+         */
+        public String getRandomFormatted(RandomSource random, StringBuilder sb, Key key, Object... args) {
+            return pick(random, key.templates[language.ordinal()], sb, args);
+        }
+
+        private static String pick(RandomSource random, Template[] array, StringBuilder sb, Object... args) {
+            if (array.length == 0) return "";
+
+            int index = Utilities.generateRandomNum(random, 1, array.length) - 1;
+            sb.setLength(0);
+            array[index].render(sb, args);
+            return sb.toString();
         }
-        
-        return list;
     }
     
     /**
-     * Get a string array from JSON path.
-     * @param path JSON path (e.g., "layup", "dunk.basic")
-     * @return Array of strings
+     * Get the comment corpus of a language, loading it from its JSON file on first use.
+     * @param language Language of the corpus
+     * @return The comment corpus
      */
-    @SuppressWarnings("unchecked")
-    public static String[] getStringArray(String path) {
-        ensureLoaded();
-        try {
-            String[] parts = path.split("\\.");
-            Object current = comments;
-            
-            for (String part : parts) {
-                if (current instanceof Map) {
-                    current = ((Map<String, Object>) current).get(part);
-                }
-            }
-            
-            if (current instanceof List) {
-                List<String> list = (List<String>) current;
-                return list.toArray(new String[0]);
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting string array for path: " + path);
-            e.printStackTrace();
-        }
-        return new String[0];
+    public static Corpus forLanguage(LocalizedStrings.Language language) {
+        return corpora.computeIfAbsent(language, CommentLoader::loadComments);
     }
     
     /**
-     * Get a single string from JSON path.
-     * @param path JSON path (e.g., "shotPosition.underBasket")
-     * @return Single string
+     * Load comments from JSON file.
+     * @param language Language of the corpus
+     * @return The compiled comment corpus
      */
-    @SuppressWarnings("unchecked")
-    public static String getString(String path) {
-        ensureLoaded();
+    private static Corpus loadComments(LocalizedStrings.Language language) {
+        Map<String, Object> comments = new HashMap<>();
         try {
-            String[] parts = path.split("\\.");
-            Object current = comments;
-            
-            for (String part : parts) {
-                if (current instanceof Map) {
-                    current = ((Map<String, Object>) current).get(part);
-                }
-            }
-            
-            if (current instanceof String) {
-                return (String) current;
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting string for path: " + path);
+            comments = JsonReader.readObject("database/comments/comments_" + language.getCode() + ".json");
+        } catch (IOException e) {
+            System.err.println("Error loading comments file: " + e.getMessage());
             e.printStackTrace();
         }
-        return "";
+        return new Corpus(language, comments);
     }
     
     /**
@@ -237,25 +257,9 @@ public class CommentLoader {
      * @return Formatted string
      */
     public static String format(String template, Object... args) {
-        String result = template;
-        for (int i = 0; i < args.length; i++) {
-            result = result.replace("{" + i + "}", String.valueOf(args[i]));
-        }
-        return result;
-    }
-    
-    /**
-     * Get a random string from an array at the given path and format it.
-     * @param random Random object
-     * @param path JSON path
-     * @param args Arguments for formatting
-     * @return Formatted random string
-     */
-    public static String getRandomFormatted(Random random, String path, Object... args) {
-        String[] array = getStringArray(path);
-        if (array.length == 0) return "";
-        
-        int index = Utilities.generateRandomNum(random, 1, array.length) - 1;
-        return format(array[index], args);
+        StringBuilder sb = new StringBuilder();
+        new Template(template).render(sb, args);
+        return sb.toString();
     }
+
 }
@@ -0,0 +1,197 @@
+package src;
+
+import java.util.List;
+
+/**
+ * Game event listener that turns play-by-play events into live comments.
+ * All commentary-only randomness (extra status and garbage-time comments,
+ * shot positions, picked sentences) is drawn from the commentary random generator,
+ * so the game itself plays out the same whether or not it is commented.
+ */
+public class CommentaryListener implements GameEventListener {
+    // Simulation context to comment into
+    private final SimulationContext ctx;
+
+    /**
+     * Construct a commentary listener.
+     *
+     * @param ctx Simulation context to comment into
+     */
+    public CommentaryListener(SimulationContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void onJumpBall(Team team1, Team team2, Team winTeam) {
+        Comments.getJumpBallComments(ctx, team1, team2, winTeam);
+    }
+
+    @Override
+    public void onHeldBall(Player offensePlayer, Player defensePlayer, Player winPlayer) {
+        Comments.getJumpBallComments(ctx, ctx.playerName(offensePlayer), ctx.playerName(defensePlayer), ctx.playerName(winPlayer));
+    }
+
+    @Override
+    public void onPossession(Team offenseTeam, Player offensePlayer, Player defensePlayer) {
+        Comments.getBallComment(ctx, ctx.teamName(offenseTeam), ctx.playerName(offensePlayer), ctx.playerName(defensePlayer));
+    }
+
+    @Override
+    public void onTurnover(Player offensePlayer) {
+        Comments.getTurnoverComment(ctx, ctx.playerName(offensePlayer));
+    }
+
+    @Override
+    public void onSteal(Player offensePlayer, Player defensePlayer) {
+        Comments.getStealComment(ctx, ctx.playerName(offensePlayer), ctx.playerName(defensePlayer));
+    }
+
+    @Override
+    public void onNoFastBreak(Team team) {
+        Comments.getNonFastBreak(ctx, ctx.teamName(team));
+    }
+
+    @Override
+    public void onFastBreak(Team team, Player finisher) {
+        Comments.getFastBreak(ctx, ctx.teamName(team), ctx.playerName(finisher));
+    }
+
+    @Override
+    public void onBlock(Player defensePlayer) {
+        Comments.getBlockComment(ctx, ctx.playerName(defensePlayer));
+    }
+
+    @Override
+    public void onBlockOutOfBounds(Player defensePlayer) {
+        Comments.getOutOfBound(ctx, ctx.playerName(defensePlayer));
+    }
+
+    @Override
+    public void onRebound(Player rebounder, boolean isOffensive) {
+        Comments.getReboundComment(ctx, ctx.playerName(rebounder), isOffensive);
+    }
+
+    @Override
+    public void onFoulOut(Player player, boolean isNormalFoul) {
+        Comments.getFoulOutComment(ctx, ctx.playerName(player), isNormalFoul);
+    }
+
+    @Override
+    public void onFoulProtect(Player player) {
+        Comments.getFoulProtectComment(ctx, ctx.playerName(player));
+    }
+
+    @Override
+    public void onSubstitution(Player currentPlayer, Player previousPlayer) {
+        Comments.getSubstituteComment(ctx, ctx.playerName(currentPlayer), ctx.playerName(previousPlayer));
+    }
+
+    @Override
+    public void onOffensiveFoul(Player fouler, int type) {
+        Comments.getOffensiveFoul(ctx, ctx.playerName(fouler), type);
+    }
+
+    @Override
+    public void onDefensiveFoul(Player fouler, int type) {
+        Comments.getDefensiveFoul(ctx, ctx.playerName(fouler), type);
+    }
+
+    @Override
+    public void onChallenge(Team team, boolean isSuccessful) {
+        Comments.getChallengeComment(ctx, ctx.teamName(team), isSuccessful);
+    }
+
+    @Override
+    public void onFoulBonus(Team offenseTeam, Team defenseTeam) {
+        Comments.getReachFoulTimes(ctx, ctx.teamName(offenseTeam), ctx.teamName(defenseTeam));
+    }
+
+    @Override
+    public void onTimeout(Team team) {
+        Comments.getTimeOutComment(ctx, ctx.teamName(team));
+    }
+
+    @Override
+    public void onShotAttempt(Player offensePlayer, int distance, Player.ShotType shotType) {
+        Comments.getShotChoice(ctx, offensePlayer, distance, shotType);
+    }
+
+    @Override
+    public void onMadeShot(Player offensePlayer, Player defensePlayer, int distance, Player.ShotType shotType) {
+        Comments.getMakeShotsComment(ctx, ctx.playerName(offensePlayer), ctx.playerName(defensePlayer), distance, shotType);
+        if (Utilities.generateRandomNum(ctx.commentaryRandom) <= Constants.STATUS_COMMENT_PERCENT) Comments.getStatusComment(ctx, offensePlayer, true);
+    }
+
+    @Override
+    public void onMissedShot(Player offensePlayer, Player.ShotType shotType) {
+        Comments.getMissShotsComment(ctx, shotType, ctx.playerName(offensePlayer));
+        if (Utilities.generateRandomNum(ctx.commentaryRandom) <= Constants.STATUS_COMMENT_PERCENT) Comments.getStatusComment(ctx, offensePlayer, false);
+    }
+
+    @Override
+    public void onShotOutOfBounds(Player offensePlayer) {
+        Comments.shotOutOfBound(ctx, ctx.playerName(offensePlayer));
+    }
+
+    @Override
+    public void onAndOne(Player offensePlayer) {
+        Comments.getAndOneComment(ctx, ctx.playerName(offensePlayer));
+    }
+
+    @Override
+    public void onShootingFoul(Player offensePlayer, Player defensePlayer) {
+        Comments.getFoulComment(ctx, ctx.playerName(offensePlayer), ctx.playerName(defensePlayer));
+    }
+
+    @Override
+    public void onFlagrantFoul(Player offensePlayer, Player defensePlayer) {
+        Comments.getFlagFoulComment(ctx, ctx.playerName(offensePlayer), ctx.playerName(defensePlayer));
+    }
+
+    @Override
+    public void onFreeThrowPrepare(Player player) {
+        Comments.getFreeThrowPrepareComment(ctx, ctx.playerName(player));
+    }
+
+    @Override
+    public void onFreeThrow(Player player, int count, boolean onlyOneShot, boolean isMade) {
+        if (isMade) Comments.getMakeFreeThrowComment(ctx, count, onlyOneShot);
+        else Comments.getMissFreeThrowComment(ctx, count, onlyOneShot);
+    }
+
+    @Override
+    public void onInjury(Player player) {
+        Comments.getInjuryComment(ctx, ctx.playerName(player));
+    }
+
+    @Override
+    public void onScoreUpdate(int quarterTime, int currentQuarter, Team awayTeam, Team homeTeam) {
+        Comments.getTimeAndScore(ctx, quarterTime, currentQuarter, awayTeam, homeTeam);
+    }
+
+    @Override
+    public void onGarbageTime(Team team1, Team team2) {
+        // chance to give starters extra live comments in garbage time
+        int temp = Utilities.generateRandomNum(ctx.commentaryRandom);
+        if (temp <= Constants.EXTRA_COMMENT) {
+            Comments.getStartersComment(ctx, team1);
+        } else if (temp <= 2 * Constants.EXTRA_COMMENT) {
+            Comments.getStartersComment(ctx, team2);
+        }
+    }
+
+    @Override
+    public void onQuarterEnd(int currentQuarter, Team awayTeam, Team homeTeam) {
+        Comments.quarterEnd(ctx, currentQuarter, awayTeam, homeTeam);
+    }
+
+    @Override
+    public void onRegulationEnd(Team awayTeam, Team homeTeam) {
+        Comments.regularEnd(ctx, awayTeam, homeTeam);
+    }
+
+    @Override
+    public void onGameEnd(Team awayTeam, Team homeTeam, List<Integer> awayScores, List<Integer> homeScores) {
+        Comments.gameEnd(ctx, awayTeam, homeTeam, awayScores, homeScores);
+    }
+}
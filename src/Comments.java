@@ -3,14 +3,116 @@ package src;
 import java.util.*;
 
 public class Comments {
-    // The Random object to generate random number
-    public static Random random = new Random();
-
-    // Random index of corpus
-    private static int rdm = -1;
-
-    // The string builder for comment output
-    public static StringBuilder sb = new StringBuilder(Constants.MAX_SB_LEN);
+    // Commentary corpus entries, resolved once when the class is loaded
+    private static final CommentLoader.Key JUMP_BALL_INTRO = CommentLoader.key("jumpBall.intro");
+    private static final CommentLoader.Key JUMP_BALL_PREPARATION = CommentLoader.key("jumpBall.preparation");
+    private static final CommentLoader.Key JUMP_BALL_TEAM_RESULT = CommentLoader.key("jumpBall.teamResult");
+    private static final CommentLoader.Key JUMP_BALL_CONFLICT = CommentLoader.key("jumpBall.conflict");
+    private static final CommentLoader.Key JUMP_BALL_PLAYER_RESULT = CommentLoader.key("jumpBall.playerResult");
+    private static final CommentLoader.Key SHOT_POSITION_BASKET = CommentLoader.key("shotPosition.basket");
+    private static final CommentLoader.Key SHOT_POSITION_LEFT_CORNER_PAINT = CommentLoader.key("shotPosition.leftCornerPaint");
+    private static final CommentLoader.Key SHOT_POSITION_LEFT_CORNER = CommentLoader.key("shotPosition.leftCorner");
+    private static final CommentLoader.Key SHOT_POSITION_LEFT45_PAINT = CommentLoader.key("shotPosition.left45Paint");
+    private static final CommentLoader.Key SHOT_POSITION_LEFT45 = CommentLoader.key("shotPosition.left45");
+    private static final CommentLoader.Key SHOT_POSITION_FREE_THROW_LINE = CommentLoader.key("shotPosition.freeThrowLine");
+    private static final CommentLoader.Key SHOT_POSITION_TOP_OF_KEY = CommentLoader.key("shotPosition.topOfKey");
+    private static final CommentLoader.Key SHOT_POSITION_RIGHT45_PAINT = CommentLoader.key("shotPosition.right45Paint");
+    private static final CommentLoader.Key SHOT_POSITION_RIGHT45 = CommentLoader.key("shotPosition.right45");
+    private static final CommentLoader.Key SHOT_POSITION_RIGHT_CORNER_PAINT = CommentLoader.key("shotPosition.rightCornerPaint");
+    private static final CommentLoader.Key SHOT_POSITION_RIGHT_CORNER = CommentLoader.key("shotPosition.rightCorner");
+    private static final CommentLoader.Key CELEBRATE = CommentLoader.key("celebrate");
+    private static final CommentLoader.Key UPSET = CommentLoader.key("upset");
+    private static final CommentLoader.Key GET_BALL_TEAM_OFFENSE = CommentLoader.key("getBall.teamOffense");
+    private static final CommentLoader.Key GET_BALL_PLAYER_RECEIVE = CommentLoader.key("getBall.playerReceive");
+    private static final CommentLoader.Key GET_BALL_DEFENSE = CommentLoader.key("getBall.defense");
+    private static final CommentLoader.Key TURNOVER = CommentLoader.key("turnover");
+    private static final CommentLoader.Key NON_FAST_BREAK = CommentLoader.key("nonFastBreak");
+    private static final CommentLoader.Key STEAL = CommentLoader.key("steal");
+    private static final CommentLoader.Key BLOCK = CommentLoader.key("block");
+    private static final CommentLoader.Key FREE_THROW_MAKE = CommentLoader.key("freeThrow.make");
+    private static final CommentLoader.Key FREE_THROW_MISS = CommentLoader.key("freeThrow.miss");
+    private static final CommentLoader.Key STARTERS_GARBAGE_TIME = CommentLoader.key("startersGarbageTime");
+    private static final CommentLoader.Key AND_ONE = CommentLoader.key("andOne");
+    private static final CommentLoader.Key REACH_FOUL_TIMES = CommentLoader.key("reachFoulTimes");
+    private static final CommentLoader.Key FOUL_DEFENSIVE = CommentLoader.key("foul.defensive");
+    private static final CommentLoader.Key FOUL_FLAGRANT = CommentLoader.key("foul.flagrant");
+    private static final CommentLoader.Key FREE_THROW_PREPARE = CommentLoader.key("freeThrow.prepare");
+    private static final CommentLoader.Key CHALLENGE_REQUEST = CommentLoader.key("challenge.request");
+    private static final CommentLoader.Key CHALLENGE_SUCCESS = CommentLoader.key("challenge.success");
+    private static final CommentLoader.Key CHALLENGE_FAILURE = CommentLoader.key("challenge.failure");
+    private static final CommentLoader.Key MAKE_SHOT_DUNK = CommentLoader.key("makeShot.dunk");
+    private static final CommentLoader.Key MAKE_SHOT_TWO_POINT = CommentLoader.key("makeShot.twoPoint");
+    private static final CommentLoader.Key MAKE_SHOT_THREE_POINT = CommentLoader.key("makeShot.threePoint");
+    private static final CommentLoader.Key MISS_SHOT_DUNK = CommentLoader.key("missShot.dunk");
+    private static final CommentLoader.Key MISS_SHOT_NORMAL = CommentLoader.key("missShot.normal");
+    private static final CommentLoader.Key PLAYER_STATUS_GOOD = CommentLoader.key("playerStatus.good");
+    private static final CommentLoader.Key PLAYER_STATUS_BAD = CommentLoader.key("playerStatus.bad");
+    private static final CommentLoader.Key REBOUND = CommentLoader.key("rebound");
+    private static final CommentLoader.Key OUT_OF_BOUND = CommentLoader.key("outOfBound");
+    private static final CommentLoader.Key SHOT_OUT_OF_BOUND = CommentLoader.key("shotOutOfBound");
+    private static final CommentLoader.Key INJURY = CommentLoader.key("injury");
+    private static final CommentLoader.Key FAST_BREAK = CommentLoader.key("fastBreak");
+    private static final CommentLoader.Key FOUL_CHARGING = CommentLoader.key("foul.charging");
+    private static final CommentLoader.Key FOUL_ILLEGAL_SCREEN = CommentLoader.key("foul.illegalScreen");
+    private static final CommentLoader.Key FOUL_BLOCKING = CommentLoader.key("foul.blocking");
+    private static final CommentLoader.Key FOUL_REACH_IN = CommentLoader.key("foul.reachIn");
+    private static final CommentLoader.Key TIMEOUT = CommentLoader.key("timeout");
+    private static final CommentLoader.Key FOUL_OUT_NORMAL = CommentLoader.key("foulOut.normal");
+    private static final CommentLoader.Key FOUL_OUT_FLAGRANT = CommentLoader.key("foulOut.flagrant");
+    private static final CommentLoader.Key FOUL_PROTECT = CommentLoader.key("foulProtect");
+    private static final CommentLoader.Key LAYUP = CommentLoader.key("layup");
+    private static final CommentLoader.Key DUNK_BASIC = CommentLoader.key("dunk.basic");
+    private static final CommentLoader.Key DUNK_ADVANCED = CommentLoader.key("dunk.advanced");
+    private static final CommentLoader.Key SHOT_CLOSE = CommentLoader.key("shot.close");
+    private static final CommentLoader.Key SHOT_FAR = CommentLoader.key("shot.far");
+
+    // Localized strings, resolved once when the class is loaded
+    private static final LocalizedStrings.Key DISTANCE_FEET = LocalizedStrings.key("commentary.distance.feet");
+    private static final LocalizedStrings.Key SHOT_THREEPOINT_SUFFIX = LocalizedStrings.key("commentary.shot.threepoint_suffix");
+    private static final LocalizedStrings.Key FREETHROW_LABEL = LocalizedStrings.key("commentary.freethrow.label");
+    private static final LocalizedStrings.Key FREETHROW_ATTEMPT_SUFFIX = LocalizedStrings.key("commentary.freethrow.attempt_suffix");
+    private static final LocalizedStrings.Key PLAYER_STATUS_CURRENTLY = LocalizedStrings.key("commentary.player_status.currently");
+    private static final LocalizedStrings.Key PLAYER_STATUS_FG_MADE = LocalizedStrings.key("commentary.player_status.fg_made");
+    private static final LocalizedStrings.Key PLAYER_STATUS_FG_TOTAL = LocalizedStrings.key("commentary.player_status.fg_total");
+    private static final LocalizedStrings.Key PLAYER_STATUS_POINTS_SUFFIX = LocalizedStrings.key("commentary.player_status.points_suffix");
+    private static final LocalizedStrings.Key REBOUND_OFFENSIVE = LocalizedStrings.key("commentary.rebound.offensive");
+    private static final LocalizedStrings.Key REBOUND_DEFENSIVE = LocalizedStrings.key("commentary.rebound.defensive");
+    private static final LocalizedStrings.Key SUBSTITUTION_REPLACE = LocalizedStrings.key("commentary.substitution.replace");
+    private static final LocalizedStrings.Key SUBSTITUTION_PREFIX = LocalizedStrings.key("commentary.substitution.prefix");
+    private static final LocalizedStrings.Key TIME_QUARTER_PREFIX = LocalizedStrings.key("commentary.time.quarter_prefix");
+    private static final LocalizedStrings.Key TIME_QUARTER_SUFFIX = LocalizedStrings.key("commentary.time.quarter_suffix");
+    private static final LocalizedStrings.Key TIME_OVERTIME_PREFIX = LocalizedStrings.key("commentary.time.overtime_prefix");
+    private static final LocalizedStrings.Key TIME_SECONDS = LocalizedStrings.key("commentary.time.seconds");
+    private static final LocalizedStrings.Key TIME_QUARTER_END = LocalizedStrings.key("commentary.time.quarter_end");
+    private static final LocalizedStrings.Key TIME_CURRENT_SCORE = LocalizedStrings.key("commentary.time.current_score");
+    private static final LocalizedStrings.Key TIME_GAME_START = LocalizedStrings.key("commentary.time.game_start");
+    private static final LocalizedStrings.Key REGULAR_END_TIME_UP = LocalizedStrings.key("commentary.regular_end.time_up");
+    private static final LocalizedStrings.Key REGULAR_END_TIED_PREFIX = LocalizedStrings.key("commentary.regular_end.tied_prefix");
+    private static final LocalizedStrings.Key REGULAR_END_TIED_SUFFIX = LocalizedStrings.key("commentary.regular_end.tied_suffix");
+    private static final LocalizedStrings.Key REGULAR_END_OVERTIME_START = LocalizedStrings.key("commentary.regular_end.overtime_start");
+    private static final LocalizedStrings.Key GAME_END_FULL_TIME = LocalizedStrings.key("commentary.game_end.full_time");
+    private static final LocalizedStrings.Key GAME_END_FINAL_SCORE = LocalizedStrings.key("commentary.game_end.final_score");
+    private static final LocalizedStrings.Key GAME_END_CONGRATULATIONS = LocalizedStrings.key("commentary.game_end.congratulations");
+    private static final LocalizedStrings.Key GAME_END_WIN_BY = LocalizedStrings.key("commentary.game_end.win_by");
+    private static final LocalizedStrings.Key GAME_END_POINTS_ADVANTAGE = LocalizedStrings.key("commentary.game_end.points_advantage");
+    private static final LocalizedStrings.Key GAME_END_DEFEAT = LocalizedStrings.key("commentary.game_end.defeat");
+    private static final LocalizedStrings.Key GAME_END_QUARTER_DETAILS = LocalizedStrings.key("commentary.game_end.quarter_details");
+    private static final LocalizedStrings.Key PLAYER_STATS_POINTS = LocalizedStrings.key("commentary.player_stats.points");
+    private static final LocalizedStrings.Key PLAYER_STATS_REBOUNDS = LocalizedStrings.key("commentary.player_stats.rebounds");
+    private static final LocalizedStrings.Key PLAYER_STATS_ASSISTS = LocalizedStrings.key("commentary.player_stats.assists");
+    private static final LocalizedStrings.Key PLAYER_STATS_STEALS = LocalizedStrings.key("commentary.player_stats.steals");
+    private static final LocalizedStrings.Key PLAYER_STATS_BLOCKS = LocalizedStrings.key("commentary.player_stats.blocks");
+    private static final LocalizedStrings.Key PLAYER_STATS_TURNOVERS = LocalizedStrings.key("commentary.player_stats.turnovers");
+    private static final LocalizedStrings.Key PLAYER_STATS_FOULS = LocalizedStrings.key("commentary.player_stats.fouls");
+    private static final LocalizedStrings.Key PLAYER_STATS_FIELDGOALS = LocalizedStrings.key("commentary.player_stats.fieldgoals");
+    private static final LocalizedStrings.Key PLAYER_STATS_THREEPOINTERS = LocalizedStrings.key("commentary.player_stats.threepointers");
+    private static final LocalizedStrings.Key PLAYER_STATS_FREETHROWS = LocalizedStrings.key("commentary.player_stats.freethrows");
+    private static final LocalizedStrings.Key PLAYER_STATS_PLAYING_TIME = LocalizedStrings.key("commentary.player_stats.playing_time");
+    private static final LocalizedStrings.Key PLAYER_STATS_MINUTES = LocalizedStrings.key("commentary.player_stats.minutes");
+    private static final LocalizedStrings.Key PLAYER_STATS_SECONDS = LocalizedStrings.key("commentary.player_stats.seconds");
+    private static final LocalizedStrings.Key PLAYER_STATS_DNP = LocalizedStrings.key("commentary.player_stats.dnp");
+    private static final LocalizedStrings.Key TEAM_STATS_HEADER = LocalizedStrings.key("commentary.team_stats.header");
+    private static final LocalizedStrings.Key TEAM_STATS_TOTAL = LocalizedStrings.key("commentary.team_stats.total");
 
     /**
      * Randomly pick one sentence from the corpus and output it.
@@ -19,11 +121,11 @@ public class Comments {
      * @param output Boolean indicating whether to print output.
      * @return Picked live comment.
      */
-    public static String pickStringOutput(String[] corpus, boolean output) {
-        rdm = Utilities.generateRandomNum(random, 1, corpus.length) - 1;
+    public static String pickStringOutput(SimulationContext ctx, String[] corpus, boolean output) {
+        int rdm = Utilities.generateRandomNum(ctx.commentaryRandom, 1, corpus.length) - 1;
         String pickedComment = corpus[rdm];
 
-        if (output) System.out.println(corpus[rdm]);
+        if (output) ctx.out.println(pickedComment);
         return pickedComment;
     }
 
@@ -35,16 +137,16 @@ public class Comments {
      * @param name Player's full name
      * @return Player's last name
      */
-    public static String getLastName(String name) {
+    public static String getLastName(SimulationContext ctx, String name) {
         // Determine delimiter based on language
-        String delimiter = (LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE) ? "·" : " ";
+        String delimiter = (ctx.language == LocalizedStrings.Language.CHINESE) ? "·" : " ";
         
         if (!name.contains(delimiter)) return name;
 
         String[] parts = name.split(delimiter);
         
         // In English mode, check if last part is a suffix (Jr., Sr., III, IV, etc.)
-        if (LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.ENGLISH) {
+        if (ctx.language == LocalizedStrings.Language.ENGLISH) {
             String lastPart = parts[parts.length - 1];
             // Common name suffixes
             if (lastPart.equals("Jr.") || lastPart.equals("Sr.") || 
@@ -67,19 +169,19 @@ public class Comments {
      * @param team2 Team 2
      * @param winTeam Team that wins jump ball
      */
-    public static void getJumpBallComments(Team team1, Team team2, Team winTeam) {
+    public static void getJumpBallComments(SimulationContext ctx, Team team1, Team team2, Team winTeam) {
         // Translate team names if in Chinese mode
-        String team1Display = Constants.getLocalizedTeamName(team1.name);
-        String team2Display = Constants.getLocalizedTeamName(team2.name);
-        String winTeamDisplay = Constants.getLocalizedTeamName(winTeam.name);
+        String team1Display = ctx.teamName(team1);
+        String team2Display = ctx.teamName(team2);
+        String winTeamDisplay = ctx.teamName(winTeam);
         
-        String intro = CommentLoader.getRandomFormatted(random, "jumpBall.intro", team1Display, team2Display);
-        String preparation = CommentLoader.getRandomFormatted(random, "jumpBall.preparation");
-        String result = CommentLoader.getRandomFormatted(random, "jumpBall.teamResult", winTeamDisplay);
+        String intro = ctx.comment(JUMP_BALL_INTRO, team1Display, team2Display);
+        String preparation = ctx.comment(JUMP_BALL_PREPARATION);
+        String result = ctx.comment(JUMP_BALL_TEAM_RESULT, winTeamDisplay);
         
-        System.out.println(intro);
-        System.out.println(preparation);
-        System.out.println(result);
+        ctx.out.println(intro);
+        ctx.out.println(preparation);
+        ctx.out.println(result);
     }
 
     /**
@@ -89,16 +191,16 @@ public class Comments {
      * @param defensePlayer Defense player
      * @param winPlayer The player that wins the jumpball
      */
-    public static void getJumpBallComments(String offensePlayer, String defensePlayer, String winPlayer) {
-        String offenseLastName = getLastName(offensePlayer);
-        String defenseLastName = getLastName(defensePlayer);
-        String winLastName = getLastName(winPlayer);
+    public static void getJumpBallComments(SimulationContext ctx, String offensePlayer, String defensePlayer, String winPlayer) {
+        String offenseLastName = getLastName(ctx, offensePlayer);
+        String defenseLastName = getLastName(ctx, defensePlayer);
+        String winLastName = getLastName(ctx, winPlayer);
 
-        String conflict = CommentLoader.getRandomFormatted(random, "jumpBall.conflict", offenseLastName, defenseLastName);
-        String result = CommentLoader.getRandomFormatted(random, "jumpBall.playerResult", winLastName);
+        String conflict = ctx.comment(JUMP_BALL_CONFLICT, offenseLastName, defenseLastName);
+        String result = ctx.comment(JUMP_BALL_PLAYER_RESULT, winLastName);
 
-        System.out.println(conflict);
-        System.out.println(result);
+        ctx.out.println(conflict);
+        ctx.out.println(result);
     }
     
     /**
@@ -107,93 +209,57 @@ public class Comments {
      * @param get Team that wins jump ball
      * @return Player's shot position string
      */
-    public static String getShotPos(Random random, int distance) {
-        int degree = Utilities.generateRandomNum(random, 1, 180);
-
-        if (distance <= 10) return CommentLoader.getString("shotPosition.basket");
-        else if (degree <= 30 && distance <= 15) return CommentLoader.getString("shotPosition.leftCornerPaint");
-        else if (degree <= 30 && distance > 15) return CommentLoader.getString("shotPosition.leftCorner");
-        else if (degree <= 60 && distance <= 15) return CommentLoader.getString("shotPosition.left45Paint");
-        else if (degree <= 60 && distance > 15) return CommentLoader.getString("shotPosition.left45");
-        else if (degree <= 120 && distance <= 20) return CommentLoader.getString("shotPosition.freeThrowLine");
-        else if (degree <= 120 && distance > 20) return CommentLoader.getString("shotPosition.topOfKey");
-        else if (degree <= 150 && distance <= 15) return CommentLoader.getString("shotPosition.right45Paint");
-        else if (degree <= 150 && distance > 15) return CommentLoader.getString("shotPosition.right45");
-        else if (degree <= 180 && distance <= 15) return CommentLoader.getString("shotPosition.rightCornerPaint");
-        else return CommentLoader.getString("shotPosition.rightCorner");
-    }
-
-    /**
-     * Generate layup comments.
-     * 
-     * @return Player's layup comments string
-     */
-    public static String pickLayup(Random random) {
-        String[] resources = CommentLoader.getStringArray("layup");
-        return pickStringOutput(resources, false);
-    }
+    public static String getShotPos(SimulationContext ctx, int distance) {
+        int degree = Utilities.generateRandomNum(ctx.commentaryRandom, 1, 180);
 
-    /**
-     * Generate dunk comments.
-     * 
-     * @param dunkerType Player's dunkerType
-     * @return Player's dunk comments string
-     */
-    public static String pickDunk(Random random, Player.DunkerType dunkerType) {
-        String path = (dunkerType == Player.DunkerType.EXCELLENT) ? "dunk.basic" : "dunk.advanced";
-        String[] resources = CommentLoader.getStringArray(path);
-        return pickStringOutput(resources, false);
+        if (distance <= 10) return ctx.comments.getString(SHOT_POSITION_BASKET);
+        else if (degree <= 30 && distance <= 15) return ctx.comments.getString(SHOT_POSITION_LEFT_CORNER_PAINT);
+        else if (degree <= 30 && distance > 15) return ctx.comments.getString(SHOT_POSITION_LEFT_CORNER);
+        else if (degree <= 60 && distance <= 15) return ctx.comments.getString(SHOT_POSITION_LEFT45_PAINT);
+        else if (degree <= 60 && distance > 15) return ctx.comments.getString(SHOT_POSITION_LEFT45);
+        else if (degree <= 120 && distance <= 20) return ctx.comments.getString(SHOT_POSITION_FREE_THROW_LINE);
+        else if (degree <= 120 && distance > 20) return ctx.comments.getString(SHOT_POSITION_TOP_OF_KEY);
+        else if (degree <= 150 && distance <= 15) return ctx.comments.getString(SHOT_POSITION_RIGHT45_PAINT);
+        else if (degree <= 150 && distance > 15) return ctx.comments.getString(SHOT_POSITION_RIGHT45);
+        else if (degree <= 180 && distance <= 15) return ctx.comments.getString(SHOT_POSITION_RIGHT_CORNER_PAINT);
+        else return ctx.comments.getString(SHOT_POSITION_RIGHT_CORNER);
     }
 
     /**
-     * Generate shot comments.
-     * 
+     * Get a random sentence of a shot movement for a shot type picked by the game engine.
+     * Excellent dunkers draw from the basic dunk sentences, the other dunker types from the advanced ones.
+     *
+     * @param offensePlayer Offense player
      * @param distance Player's shot distance
-     * @return Player's shot comments string
+     * @param shotType Player's shot type
+     * @return Shot movement sentence
      */
-    public static String pickShot(Random random, int distance) {
-        String path = (distance >= Constants.SHOT_CHOICE_THLD) ? "shot.close" : "shot.far";
-        String[] resources = CommentLoader.getStringArray(path);
-        String suffix = distance >= Constants.MIN_THREE_SHOT ? LocalizedStrings.get("commentary.shot.threepoint_suffix") : "";
-        String result = pickStringOutput(resources, false);
+    public static String getShotMovement(SimulationContext ctx, Player offensePlayer, int distance, Player.ShotType shotType) {
+        CommentLoader.Key key;
+        if (shotType == Player.ShotType.LAYUP) key = LAYUP;
+        else if (shotType == Player.ShotType.DUNK) key = offensePlayer.dunkerType == Player.DunkerType.EXCELLENT ? DUNK_BASIC : DUNK_ADVANCED;
+        else key = (distance >= Constants.SHOT_CHOICE_THLD) ? SHOT_CLOSE : SHOT_FAR;
 
-        sb.delete( 0, sb.length() );
-        sb.append(result).append(suffix);
-        return sb.toString();
+        String[] resources = ctx.comments.getStringArray(key);
+        return resources[Utilities.generateRandomNum(ctx.commentaryRandom, 1, resources.length) - 1];
     }
 
     /**
      * Generate shot choice comments.
      * 
+     * @param offensePlayer Offense player
      * @param distance Player's shot distance
-     * @return Player's shot comments string
-     */
-    public static String getShotChoice(Random random, Player player, int distance, String shotPos) {
-        int temp = Utilities.generateRandomNum(random);
-        Player.DunkerType dunkerType = player.dunkerType;
-        String movement = "";
-        if (distance <= Constants.MAX_CLOSE_SHOT) {
-            if (dunkerType == Player.DunkerType.RARELY_DUNK) {
-                if (temp <= Constants.TYPE_1_LAYUP) movement = pickLayup(random);
-                else if (temp <= Constants.TYPE_1_LAYUP + Constants.TYPE_1_DUNK) movement = pickDunk(random, dunkerType);
-            } else if (dunkerType == Player.DunkerType.NORMAL) {
-                if (temp <= Constants.TYPE_2_LAYUP) movement = pickLayup(random);
-                else if (temp <= Constants.TYPE_2_LAYUP + Constants.TYPE_2_DUNK) movement = pickDunk(random, dunkerType);
-            } else {
-                if (temp <= Constants.TYPE_3_LAYUP) movement = pickLayup(random);
-                else if (temp <= Constants.TYPE_3_LAYUP + Constants.TYPE_3_DUNK) movement = pickDunk(random, dunkerType);
-            }
-
-            if (movement.equals("")) movement = pickShot(random, distance);
-        } else movement = pickShot(random, distance);
-
-        sb.delete( 0, sb.length() );
-        sb.append(distance).append(LocalizedStrings.get("commentary.distance.feet"));
-        if (Utilities.generateRandomNum(random) <= Constants.SHOT_POSITION_PERCENT && LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE) sb.append(shotPos);
-        sb.append(movement).append("!");
+     * @param shotType Player's shot type, picked by the game engine
+     */
+    public static void getShotChoice(SimulationContext ctx, Player offensePlayer, int distance, Player.ShotType shotType) {
+        StringBuilder sb = ctx.builder();
+        sb.append(distance).append(ctx.strings.get(DISTANCE_FEET));
+        if (Utilities.generateRandomNum(ctx.commentaryRandom) <= Constants.SHOT_POSITION_PERCENT && ctx.language == LocalizedStrings.Language.CHINESE) sb.append(getShotPos(ctx, distance));
+        sb.append(getShotMovement(ctx, offensePlayer, distance, shotType));
+        if (distance >= Constants.MIN_THREE_SHOT) sb.append(ctx.strings.get(SHOT_THREEPOINT_SUFFIX));
+        sb.append("!");
 
-        System.out.println(sb.toString());
-        return movement;
+        ctx.out.println(sb.toString());
     }
 
     /**
@@ -202,11 +268,11 @@ public class Comments {
      * @param name Player's name
      * @param percent The percent to generate celebrate comment
      */
-    public static void getCelebrateComment(String name, int percent) {
-        if (Utilities.generateRandomNum(random) <= percent) {
-            String lastName = getLastName(name);
-            String comment = CommentLoader.getRandomFormatted(random, "celebrate", lastName);
-            System.out.println(comment);
+    public static void getCelebrateComment(SimulationContext ctx, String name, int percent) {
+        if (Utilities.generateRandomNum(ctx.commentaryRandom) <= percent) {
+            String lastName = getLastName(ctx, name);
+            String comment = ctx.comment(CELEBRATE, lastName);
+            ctx.out.println(comment);
         }
     }
 
@@ -216,11 +282,11 @@ public class Comments {
      * @param name Player's name
      * @param percent The percent to generate upset comment
      */
-    public static void getUpsetComment(String name, int percent) {
-        if (Utilities.generateRandomNum(random) <= percent) {
-            String lastName = getLastName(name);
-            String comment = CommentLoader.getRandomFormatted(random, "upset", lastName);
-            System.out.println(comment);
+    public static void getUpsetComment(SimulationContext ctx, String name, int percent) {
+        if (Utilities.generateRandomNum(ctx.commentaryRandom) <= percent) {
+            String lastName = getLastName(ctx, name);
+            String comment = ctx.comment(UPSET, lastName);
+            ctx.out.println(comment);
         }
     }
 
@@ -231,19 +297,19 @@ public class Comments {
      * @param name Player name
      * @param defensePlayer Defense player name
      */
-    public static void getBallComment(String teamName, String name, String defensePlayer) {
-        String lastName = getLastName(name);
-        String defenseLastName = getLastName(defensePlayer);
+    public static void getBallComment(SimulationContext ctx, String teamName, String name, String defensePlayer) {
+        String lastName = getLastName(ctx, name);
+        String defenseLastName = getLastName(ctx, defensePlayer);
 
-        String comment1 = CommentLoader.getRandomFormatted(random, "getBall.teamOffense", teamName);
-        String comment2 = CommentLoader.getRandomFormatted(random, "getBall.playerReceive", lastName);
-        String comment3 = CommentLoader.getRandomFormatted(random, "getBall.defense", defenseLastName);
+        String comment1 = ctx.comment(GET_BALL_TEAM_OFFENSE, teamName);
+        String comment2 = ctx.comment(GET_BALL_PLAYER_RECEIVE, lastName);
+        String comment3 = ctx.comment(GET_BALL_DEFENSE, defenseLastName);
         
-        sb.delete( 0, sb.length() );
+        StringBuilder sb = ctx.builder();
         sb.append("\n").append(comment1)
           .append("\n").append(comment2)
           .append("\n").append(comment3);
-        System.out.println(sb.toString());
+        ctx.out.println(sb.toString());
     }
 
     /**
@@ -251,11 +317,11 @@ public class Comments {
      * 
      * @param name Player's name
      */
-    public static void getTurnoverComment(String name) {
-        String lastName = getLastName(name);
-        String comment = CommentLoader.getRandomFormatted(random, "turnover", lastName);
-        System.out.println(comment);
-        getUpsetComment(name, Constants.UPSET_HIGH_PERCENT);
+    public static void getTurnoverComment(SimulationContext ctx, String name) {
+        String lastName = getLastName(ctx, name);
+        String comment = ctx.comment(TURNOVER, lastName);
+        ctx.out.println(comment);
+        getUpsetComment(ctx, name, Constants.UPSET_HIGH_PERCENT);
     }
 
     /**
@@ -263,9 +329,9 @@ public class Comments {
      * 
      * @param team Team name
      */
-    public static void getNonFastBreak(String team) {
-        String comment = CommentLoader.getRandomFormatted(random, "nonFastBreak", team);
-        System.out.println(comment);
+    public static void getNonFastBreak(SimulationContext ctx, String team) {
+        String comment = ctx.comment(NON_FAST_BREAK, team);
+        ctx.out.println(comment);
     }
 
     /**
@@ -274,11 +340,11 @@ public class Comments {
      * @param offensePlayer Offense player name
      * @param defensePlayer Defense player name
      */
-    public static void getStealComment(String offensePlayer, String defensePlayer) {
-        String offenseLastName = getLastName(offensePlayer);
-        String defenseLastName = getLastName(defensePlayer);
-        String comment = CommentLoader.getRandomFormatted(random, "steal", defenseLastName, offenseLastName);
-        System.out.println(comment);
+    public static void getStealComment(SimulationContext ctx, String offensePlayer, String defensePlayer) {
+        String offenseLastName = getLastName(ctx, offensePlayer);
+        String defenseLastName = getLastName(ctx, defensePlayer);
+        String comment = ctx.comment(STEAL, defenseLastName, offenseLastName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -286,10 +352,10 @@ public class Comments {
      * 
      * @param defensePlayer Defense player name
      */
-    public static void getBlockComment(String defensePlayer) {
-        String defenseLastName = getLastName(defensePlayer);
-        String comment = CommentLoader.getRandomFormatted(random, "block", defenseLastName);
-        System.out.println(comment);
+    public static void getBlockComment(SimulationContext ctx, String defensePlayer) {
+        String defenseLastName = getLastName(ctx, defensePlayer);
+        String comment = ctx.comment(BLOCK, defenseLastName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -298,14 +364,14 @@ public class Comments {
      * @param count The number of ongoing free throw
      * @param onlyOneShot Whether only one free throw in total
      */
-    public static void getMakeFreeThrowComment(int count, boolean onlyOneShot) {
+    public static void getMakeFreeThrowComment(SimulationContext ctx, int count, boolean onlyOneShot) {
         String countPrefix = onlyOneShot ? 
-            LocalizedStrings.get("commentary.freethrow.label") : 
-            count + LocalizedStrings.get("commentary.freethrow.attempt_suffix");
-        String[] resources = CommentLoader.getStringArray("freeThrow.make");
-        sb.delete( 0, sb.length() );
-        sb.append(countPrefix).append(pickStringOutput(resources, false));
-        System.out.println(sb.toString());
+            ctx.strings.get(FREETHROW_LABEL) : 
+            count + ctx.strings.get(FREETHROW_ATTEMPT_SUFFIX);
+        String[] resources = ctx.comments.getStringArray(FREE_THROW_MAKE);
+        StringBuilder sb = ctx.builder();
+        sb.append(countPrefix).append(pickStringOutput(ctx, resources, false));
+        ctx.out.println(sb.toString());
     }
 
     /**
@@ -314,14 +380,14 @@ public class Comments {
      * @param count The number of ongoing free throw
      * @param onlyOneShot Whether only one free throw in total
      */
-    public static void getMissFreeThrowComment(int count, boolean onlyOneShot) {
+    public static void getMissFreeThrowComment(SimulationContext ctx, int count, boolean onlyOneShot) {
         String countPrefix = onlyOneShot ? 
-            LocalizedStrings.get("commentary.freethrow.label") : 
-            count + LocalizedStrings.get("commentary.freethrow.attempt_suffix");
-        String[] resources = CommentLoader.getStringArray("freeThrow.miss");
-        sb.delete( 0, sb.length() );
-        sb.append(countPrefix).append(pickStringOutput(resources, false));
-        System.out.println(sb.toString());
+            ctx.strings.get(FREETHROW_LABEL) : 
+            count + ctx.strings.get(FREETHROW_ATTEMPT_SUFFIX);
+        String[] resources = ctx.comments.getStringArray(FREE_THROW_MISS);
+        StringBuilder sb = ctx.builder();
+        sb.append(countPrefix).append(pickStringOutput(ctx, resources, false));
+        ctx.out.println(sb.toString());
     }
 
     /**
@@ -329,12 +395,12 @@ public class Comments {
      * 
      * @param team The team to be commented
      */
-    public static void getStartersComment(Team team) {
-        int randomIndex = Utilities.generateRandomNum(random, 0, team.starters.size() - 1);
-        Player randomPlayer = (Player)team.starters.values().toArray()[randomIndex];
-        String playerName = getLastName(randomPlayer.getDisplayName());
-        String comment = CommentLoader.getRandomFormatted(random, "startersGarbageTime", playerName);
-        System.out.println(comment);
+    public static void getStartersComment(SimulationContext ctx, Team team) {
+        int randomIndex = Utilities.generateRandomNum(ctx.commentaryRandom, 0, team.starters.size() - 1);
+        Player randomPlayer = team.starters.get(randomIndex);
+        String playerName = getLastName(ctx, ctx.playerName(randomPlayer));
+        String comment = ctx.comment(STARTERS_GARBAGE_TIME, playerName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -342,10 +408,10 @@ public class Comments {
      * 
      * @param name Player name
      */
-    public static void getAndOneComment(String name) {
-        String[] resources = CommentLoader.getStringArray("andOne");
-        pickStringOutput(resources, true);
-        getCelebrateComment(name, Constants.CELEBRATE_HIGH_PERCENT);
+    public static void getAndOneComment(SimulationContext ctx, String name) {
+        String[] resources = ctx.comments.getStringArray(AND_ONE);
+        pickStringOutput(ctx, resources, true);
+        getCelebrateComment(ctx, name, Constants.CELEBRATE_HIGH_PERCENT);
     }
 
     /**
@@ -354,9 +420,9 @@ public class Comments {
      * @param offenseTeam Offense team name
      * @param defenseTeam Defense team name
      */
-    public static void getReachFoulTimes(String offenseTeam, String defenseTeam) {
-        String comment = CommentLoader.getRandomFormatted(random, "reachFoulTimes", defenseTeam, offenseTeam);
-        System.out.println(comment);
+    public static void getReachFoulTimes(SimulationContext ctx, String offenseTeam, String defenseTeam) {
+        String comment = ctx.comment(REACH_FOUL_TIMES, defenseTeam, offenseTeam);
+        ctx.out.println(comment);
     }
 
     /**
@@ -365,11 +431,11 @@ public class Comments {
      * @param offensePlayer Offense player name
      * @param defensePlayer Defense player name
      */
-    public static void getFoulComment(String offensePlayer, String defensePlayer) {
-        String offenseLastName = getLastName(offensePlayer);
-        String defenseLastName = getLastName(defensePlayer);
-        String comment = CommentLoader.getRandomFormatted(random, "foul.defensive", defenseLastName, offenseLastName);
-        System.out.println(comment);
+    public static void getFoulComment(SimulationContext ctx, String offensePlayer, String defensePlayer) {
+        String offenseLastName = getLastName(ctx, offensePlayer);
+        String defenseLastName = getLastName(ctx, defensePlayer);
+        String comment = ctx.comment(FOUL_DEFENSIVE, defenseLastName, offenseLastName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -378,11 +444,11 @@ public class Comments {
      * @param offensePlayer Offense player name
      * @param defensePlayer Defense player name
      */
-    public static void getFlagFoulComment(String offensePlayer, String defensePlayer) {
-        String offenseLastName = getLastName(offensePlayer);
-        String defenseLastName = getLastName(defensePlayer);
-        String comment = CommentLoader.getRandomFormatted(random, "foul.flagrant", defenseLastName, offenseLastName);
-        System.out.println(comment);
+    public static void getFlagFoulComment(SimulationContext ctx, String offensePlayer, String defensePlayer) {
+        String offenseLastName = getLastName(ctx, offensePlayer);
+        String defenseLastName = getLastName(ctx, defensePlayer);
+        String comment = ctx.comment(FOUL_FLAGRANT, defenseLastName, offenseLastName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -390,31 +456,29 @@ public class Comments {
      * 
      * @param player Free throw player name
      */
-    public static void getFreeThrowPrepareComment(String player) {
-        String playerLastName = getLastName(player);
-        String comment = CommentLoader.getRandomFormatted(random, "freeThrow.prepare", playerLastName);
-        System.out.println(comment);
+    public static void getFreeThrowPrepareComment(SimulationContext ctx, String player) {
+        String playerLastName = getLastName(ctx, player);
+        String comment = ctx.comment(FREE_THROW_PREPARE, playerLastName);
+        ctx.out.println(comment);
     }
 
     /**
      * Generate foul challenge comments.
      * 
      * @param teamName Challenge team name
-     * @return Whether the challenge succeed
+     * @param isSuccessful Whether the challenge succeed
      */
-    public static boolean getChallengeComment(String teamName) {
-        String requestComment = CommentLoader.getRandomFormatted(random, "challenge.request", teamName);
-        System.out.println(requestComment);
+    public static void getChallengeComment(SimulationContext ctx, String teamName, boolean isSuccessful) {
+        String requestComment = ctx.comment(CHALLENGE_REQUEST, teamName);
+        ctx.out.println(requestComment);
 
         // challenge successful
-        if (Utilities.generateRandomNum(random) <= Constants.CHALLENGE_SUCCESS) {
-            String successComment = CommentLoader.getRandomFormatted(random, "challenge.success", teamName);
-            System.out.println(successComment);
-            return true;
+        if (isSuccessful) {
+            String successComment = ctx.comment(CHALLENGE_SUCCESS, teamName);
+            ctx.out.println(successComment);
         } else {
-            String failComment = CommentLoader.getRandomFormatted(random, "challenge.failure", teamName);
-            System.out.println(failComment);
-            return false;
+            String failComment = ctx.comment(CHALLENGE_FAILURE, teamName);
+            ctx.out.println(failComment);
         }
     }
 
@@ -424,43 +488,43 @@ public class Comments {
      * @param offenseName Offense player name
      * @param defenseName Defense player name
      * @param distance Player's shot distance
-     * @param movement Player's shot choice
+     * @param shotType Player's shot type
      */
-    public static void getMakeShotsComment(String offenseName, String defenseName, int distance, String movement) {
+    public static void getMakeShotsComment(SimulationContext ctx, String offenseName, String defenseName, int distance, Player.ShotType shotType) {
         String comment;
-        String defenseLastName = getLastName(defenseName);
+        String defenseLastName = getLastName(ctx, defenseName);
 
         // dunk or normal 2-point shot
-        if (movement.contains(LocalizedStrings.get("commentary.shot.dunk_marker"))) {
-            comment = CommentLoader.getRandomFormatted(random, "makeShot.dunk", defenseLastName);
+        if (shotType == Player.ShotType.DUNK) {
+            comment = ctx.comment(MAKE_SHOT_DUNK, defenseLastName);
         } else if (distance < Constants.MIN_THREE_SHOT) {
-            comment = CommentLoader.getRandomFormatted(random, "makeShot.twoPoint", defenseLastName);
+            comment = ctx.comment(MAKE_SHOT_TWO_POINT, defenseLastName);
         } else {
-            comment = CommentLoader.getRandomFormatted(random, "makeShot.threePoint", defenseLastName);
+            comment = ctx.comment(MAKE_SHOT_THREE_POINT, defenseLastName);
         }
 
-        System.out.println(comment);
-        getCelebrateComment(offenseName, Constants.CELEBRATE_LOW_PERCENT);
+        ctx.out.println(comment);
+        getCelebrateComment(ctx, offenseName, Constants.CELEBRATE_LOW_PERCENT);
     }
 
     /**
      * Generate comments when the player misses a shot.
      * 
-     * @param movement Player's shot choice
+     * @param shotType Player's shot type
      * @param offenseName Player's name
      */
-    public static void getMissShotsComment(String movement, String offenseName) {
-        String offenseLastName = getLastName(offenseName);
+    public static void getMissShotsComment(SimulationContext ctx, Player.ShotType shotType, String offenseName) {
+        String offenseLastName = getLastName(ctx, offenseName);
         String comment;
 
-        if (movement.contains(LocalizedStrings.get("commentary.shot.dunk_marker"))) {
-            comment = CommentLoader.getRandomFormatted(random, "missShot.dunk");
+        if (shotType == Player.ShotType.DUNK) {
+            comment = ctx.comment(MISS_SHOT_DUNK);
         } else {
-            comment = CommentLoader.getRandomFormatted(random, "missShot.normal");
+            comment = ctx.comment(MISS_SHOT_NORMAL);
         }
 
-        System.out.println(comment);
-        getUpsetComment(offenseLastName, Constants.UPSET_LOW_PERCENT);
+        ctx.out.println(comment);
+        getUpsetComment(ctx, offenseLastName, Constants.UPSET_LOW_PERCENT);
     }
 
     /**
@@ -469,28 +533,28 @@ public class Comments {
      * @param player Player object
      * @param isGoodstatus Whether the player is in good status or bad status
      */
-    public static void getStatusComment(Player player, boolean isGoodstatus) {
+    public static void getStatusComment(SimulationContext ctx, Player player, boolean isGoodstatus) {
         if (isGoodstatus &&
             (player.score >= Constants.MIN_GOOD_SCORE ||
             (player.shotMade >= Constants.MIN_SHOT_MADE && player.shotMade * 1.0 / player.shotAttempted >= Constants.MIN_GOOD_SHOT_PERCENT))
             || !isGoodstatus &&
             (player.shotAttempted >= Constants.MIN_SHOT_ATTEMPTED && player.shotMade * 1.0 / player.shotAttempted <= Constants.MAX_BAD_SHOT_PERCENT)) {
             
-            String lastName = getLastName(player.getDisplayName());
+            String lastName = getLastName(ctx, ctx.playerName(player));
             String comment;
 
             if (isGoodstatus) {
-                comment = CommentLoader.getRandomFormatted(random, "playerStatus.good", lastName);
+                comment = ctx.comment(PLAYER_STATUS_GOOD, lastName);
             } else {
-                comment = CommentLoader.getRandomFormatted(random, "playerStatus.bad", lastName);
+                comment = ctx.comment(PLAYER_STATUS_BAD, lastName);
             }
 
-            String suffix = LocalizedStrings.get("commentary.player_status.currently") + 
-                player.shotAttempted + LocalizedStrings.get("commentary.player_status.fg_made") + 
-                player.shotMade + LocalizedStrings.get("commentary.player_status.fg_total") + 
-                player.score + LocalizedStrings.get("commentary.player_status.points_suffix");
-            System.out.println(comment);
-            System.out.println(suffix);
+            String suffix = ctx.strings.get(PLAYER_STATUS_CURRENTLY) + 
+                player.shotAttempted + ctx.strings.get(PLAYER_STATUS_FG_MADE) + 
+                player.shotMade + ctx.strings.get(PLAYER_STATUS_FG_TOTAL) + 
+                player.score + ctx.strings.get(PLAYER_STATUS_POINTS_SUFFIX);
+            ctx.out.println(comment);
+            ctx.out.println(suffix);
         }
     }
 
@@ -500,13 +564,13 @@ public class Comments {
      * @param name Player name
      * @param isOrb Whether the current rebound is offensive rebound or defensive rebound
      */
-    public static void getReboundComment(String name, boolean isOrb) {
-        String lastName = getLastName(name);
+    public static void getReboundComment(SimulationContext ctx, String name, boolean isOrb) {
+        String lastName = getLastName(ctx, name);
         String rebType = isOrb ? 
-            LocalizedStrings.get("commentary.rebound.offensive") : 
-            LocalizedStrings.get("commentary.rebound.defensive");
-        String comment = CommentLoader.getRandomFormatted(random, "rebound", lastName, rebType);
-        System.out.println(comment);
+            ctx.strings.get(REBOUND_OFFENSIVE) : 
+            ctx.strings.get(REBOUND_DEFENSIVE);
+        String comment = ctx.comment(REBOUND, lastName, rebType);
+        ctx.out.println(comment);
     }
 
     /**
@@ -514,10 +578,10 @@ public class Comments {
      * 
      * @param defensePlayer Defense player name
      */
-    public static void getOutOfBound(String defenseName) {
-        String comment = CommentLoader.getRandomFormatted(random, "outOfBound");
-        System.out.println(comment);
-        getCelebrateComment(defenseName, Constants.CELEBRATE_HIGH_PERCENT);
+    public static void getOutOfBound(SimulationContext ctx, String defenseName) {
+        String comment = ctx.comment(OUT_OF_BOUND);
+        ctx.out.println(comment);
+        getCelebrateComment(ctx, defenseName, Constants.CELEBRATE_HIGH_PERCENT);
     }
 
     /**
@@ -525,10 +589,10 @@ public class Comments {
      * 
      * @param offensePlayer Offense player name
      */
-    public static void shotOutOfBound(String offensePlayer) {
-        String comment = CommentLoader.getRandomFormatted(random, "shotOutOfBound");
-        System.out.println(comment);
-        getUpsetComment(offensePlayer, Constants.UPSET_LOW_PERCENT);
+    public static void shotOutOfBound(SimulationContext ctx, String offensePlayer) {
+        String comment = ctx.comment(SHOT_OUT_OF_BOUND);
+        ctx.out.println(comment);
+        getUpsetComment(ctx, offensePlayer, Constants.UPSET_LOW_PERCENT);
     }
 
     /**
@@ -536,10 +600,10 @@ public class Comments {
      * 
      * @param name Player name
      */
-    public static void getInjuryComment(String name) {
-        String lastName = getLastName(name);
-        String comment = CommentLoader.getRandomFormatted(random, "injury", lastName);
-        System.out.println(comment);
+    public static void getInjuryComment(SimulationContext ctx, String name) {
+        String lastName = getLastName(ctx, name);
+        String comment = ctx.comment(INJURY, lastName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -548,11 +612,11 @@ public class Comments {
      * @param teamName Team name
      * @param offensePlayer Offense player name
      */
-    public static void getFastBreak(String teamName, String offensePlayer) {
-        String offenseLastName = getLastName(offensePlayer);
-        String comment = CommentLoader.getRandomFormatted(random, "fastBreak", teamName, offenseLastName);
-        System.out.println(comment);
-        getCelebrateComment(offensePlayer, Constants.CELEBRATE_HIGH_PERCENT);
+    public static void getFastBreak(SimulationContext ctx, String teamName, String offensePlayer) {
+        String offenseLastName = getLastName(ctx, offensePlayer);
+        String comment = ctx.comment(FAST_BREAK, teamName, offenseLastName);
+        ctx.out.println(comment);
+        getCelebrateComment(ctx, offensePlayer, Constants.CELEBRATE_HIGH_PERCENT);
     }
 
     /**
@@ -561,20 +625,20 @@ public class Comments {
      * @param offensePlayer Offense player name
      * @param type Offensive foul type (1 - Charging foul, 2 - Illegal screen foul)
      */
-    public static void getOffensiveFoul(String offensePlayer, int type) {
-        String offenseLastName = getLastName(offensePlayer);
+    public static void getOffensiveFoul(SimulationContext ctx, String offensePlayer, int type) {
+        String offenseLastName = getLastName(ctx, offensePlayer);
         String comment;
 
         if (type == 1) {
-            comment = CommentLoader.getRandomFormatted(random, "foul.charging", offenseLastName);
+            comment = ctx.comment(FOUL_CHARGING, offenseLastName);
         } else if (type == 2) {
-            comment = CommentLoader.getRandomFormatted(random, "foul.illegalScreen", offenseLastName);
+            comment = ctx.comment(FOUL_ILLEGAL_SCREEN, offenseLastName);
         } else {
             return;
         }
 
-        System.out.println(comment);
-        getUpsetComment(offensePlayer, Constants.UPSET_HIGH_PERCENT);
+        ctx.out.println(comment);
+        getUpsetComment(ctx, offensePlayer, Constants.UPSET_HIGH_PERCENT);
     }
 
     /**
@@ -583,20 +647,20 @@ public class Comments {
      * @param defensePlayer Defense player name
      * @param type Defensive foul type (1 - Blocking foul, 2 - Reach in foul)
      */
-    public static void getDefensiveFoul(String defensePlayer, int type) {
-        String defenseLastName = getLastName(defensePlayer);
+    public static void getDefensiveFoul(SimulationContext ctx, String defensePlayer, int type) {
+        String defenseLastName = getLastName(ctx, defensePlayer);
         String comment;
 
         if (type == 1) {
-            comment = CommentLoader.getRandomFormatted(random, "foul.blocking", defenseLastName);
+            comment = ctx.comment(FOUL_BLOCKING, defenseLastName);
         } else if (type == 2) {
-            comment = CommentLoader.getRandomFormatted(random, "foul.reachIn", defenseLastName);
+            comment = ctx.comment(FOUL_REACH_IN, defenseLastName);
         } else {
             return;
         }
 
-        System.out.println(comment);
-        getUpsetComment(defensePlayer, Constants.UPSET_HIGH_PERCENT);
+        ctx.out.println(comment);
+        getUpsetComment(ctx, defensePlayer, Constants.UPSET_HIGH_PERCENT);
     }
 
     /**
@@ -604,9 +668,9 @@ public class Comments {
      * 
      * @param teamName Team name
      */
-    public static void getTimeOutComment(String teamName) {
-        String comment = CommentLoader.getRandomFormatted(random, "timeout", teamName);
-        System.out.println("\n" + comment);
+    public static void getTimeOutComment(SimulationContext ctx, String teamName) {
+        String comment = ctx.comment(TIMEOUT, teamName);
+        ctx.out.println("\n" + comment);
     }
 
     /**
@@ -615,17 +679,17 @@ public class Comments {
      * @param name Player name
      * @param isNormalFoul Player gets fouled by normal foul or flagrant foul
      */
-    public static void getFoulOutComment(String name, boolean isNormalFoul) {
-        String lastName = getLastName(name);
+    public static void getFoulOutComment(SimulationContext ctx, String name, boolean isNormalFoul) {
+        String lastName = getLastName(ctx, name);
         String comment;
 
         if (isNormalFoul) {
-            comment = CommentLoader.getRandomFormatted(random, "foulOut.normal", lastName);
+            comment = ctx.comment(FOUL_OUT_NORMAL, lastName);
         } else {
-            comment = CommentLoader.getRandomFormatted(random, "foulOut.flagrant", lastName);
+            comment = ctx.comment(FOUL_OUT_FLAGRANT, lastName);
         }
 
-        System.out.println(comment);
+        ctx.out.println(comment);
     }
 
     /**
@@ -633,10 +697,10 @@ public class Comments {
      * 
      * @param name Player's name
      */
-    public static void getFoulProtectComment(String name) {
-        String lastName = getLastName(name);
-        String comment = CommentLoader.getRandomFormatted(random, "foulProtect", lastName);
-        System.out.println(comment);
+    public static void getFoulProtectComment(SimulationContext ctx, String name) {
+        String lastName = getLastName(ctx, name);
+        String comment = ctx.comment(FOUL_PROTECT, lastName);
+        ctx.out.println(comment);
     }
 
     /**
@@ -645,13 +709,13 @@ public class Comments {
      * @param currentPlayer In player name
      * @param previousPlayer Out player name
      */
-    public static void getSubstituteComment(String currentPlayer, String previousPlayer) {
+    public static void getSubstituteComment(SimulationContext ctx, String currentPlayer, String previousPlayer) {
         if (!currentPlayer.equals(previousPlayer)) {
-            sb.delete( 0, sb.length() );
+            StringBuilder sb = ctx.builder();
             sb.append(currentPlayer)
-              .append(LocalizedStrings.get("commentary.substitution.replace"))
+              .append(ctx.strings.get(SUBSTITUTION_REPLACE))
               .append(previousPlayer).append("!");
-            System.out.println(sb.toString());
+            ctx.out.println(sb.toString());
         }
     }
 
@@ -659,9 +723,9 @@ public class Comments {
      * Print substitution prefix to indicate substitutions are about to happen.
      * @param teamName The name of the team making substitutions
      */
-    public static void getSubstitutionPrefix(String teamName) {
-        System.out.println("\n════════════════ " + teamName + " " + 
-            LocalizedStrings.get("commentary.substitution.prefix") + " ════════════════");
+    public static void getSubstitutionPrefix(SimulationContext ctx, String teamName) {
+        ctx.out.println("\n════════════════ " + teamName + " " + 
+            ctx.strings.get(SUBSTITUTION_PREFIX) + " ════════════════");
     }
 
     /**
@@ -673,34 +737,34 @@ public class Comments {
      * @param awayTeam The away team (displayed first)
      * @param homeTeam The home team (displayed second)
      */
-    public static void getTimeAndScore(int time, int currentQuarter, Team awayTeam, Team homeTeam) {
+    public static void getTimeAndScore(SimulationContext ctx, int time, int currentQuarter, Team awayTeam, Team homeTeam) {
         String minute = String.valueOf(time / 60);
         String second = String.valueOf(time % 60);
         if (time % 60 < 10) second = "0" + second;
 
-        sb.delete( 0, sb.length() );
+        StringBuilder sb = ctx.builder();
         if (currentQuarter <= 4) {
-            sb.append(LocalizedStrings.get("commentary.time.quarter_prefix"))
+            sb.append(ctx.strings.get(TIME_QUARTER_PREFIX))
               .append(currentQuarter)
-              .append(LocalizedStrings.get("commentary.time.quarter_suffix"))
+              .append(ctx.strings.get(TIME_QUARTER_SUFFIX))
               .append(" ");
         } else {
-            sb.append(LocalizedStrings.get("commentary.time.overtime_prefix"))
+            sb.append(ctx.strings.get(TIME_OVERTIME_PREFIX))
               .append(currentQuarter - 4)
-              .append(LocalizedStrings.get("commentary.time.quarter_suffix"))
+              .append(ctx.strings.get(TIME_QUARTER_SUFFIX))
               .append(" ");
         }
         
         // Translate team names if in Chinese mode
-        String awayTeamDisplay = Constants.getLocalizedTeamName(awayTeam.name);
-        String homeTeamDisplay = Constants.getLocalizedTeamName(homeTeam.name);
+        String awayTeamDisplay = ctx.teamName(awayTeam);
+        String homeTeamDisplay = ctx.teamName(homeTeam);
         
         sb.append(minute).append(":").append(second)
-          .append(LocalizedStrings.get("commentary.time.seconds")).append("  ")
+          .append(ctx.strings.get(TIME_SECONDS)).append("  ")
           .append(awayTeamDisplay).append(" ").append(awayTeam.totalScore)
           .append(":").append(homeTeam.totalScore).append(" ").append(homeTeamDisplay);
 
-        System.out.println(sb.toString()); 
+        ctx.out.println(sb.toString()); 
     }
 
     /**
@@ -711,20 +775,20 @@ public class Comments {
      * @param awayTeam The away team (displayed first)
      * @param homeTeam The home team (displayed second)
      */
-    public static void quarterEnd(int currentQuarter, Team awayTeam, Team homeTeam) {
-        sb.delete( 0, sb.length() );
+    public static void quarterEnd(SimulationContext ctx, int currentQuarter, Team awayTeam, Team homeTeam) {
+        StringBuilder sb = ctx.builder();
         
         // Translate team names if in Chinese mode
-        String awayTeamDisplay = Constants.getLocalizedTeamName(awayTeam.name);
-        String homeTeamDisplay = Constants.getLocalizedTeamName(homeTeam.name);
+        String awayTeamDisplay = ctx.teamName(awayTeam);
+        String homeTeamDisplay = ctx.teamName(homeTeam);
         
         sb.append("\n")
-          .append(LocalizedStrings.get("commentary.time.quarter_prefix"))
+          .append(ctx.strings.get(TIME_QUARTER_PREFIX))
           .append(currentQuarter)
-          .append(LocalizedStrings.get("commentary.time.quarter_suffix"))
-          .append(LocalizedStrings.get("commentary.time.quarter_end"))
+          .append(ctx.strings.get(TIME_QUARTER_SUFFIX))
+          .append(ctx.strings.get(TIME_QUARTER_END))
           .append("!\n")
-          .append(LocalizedStrings.get("commentary.time.current_score"))
+          .append(ctx.strings.get(TIME_CURRENT_SCORE))
           .append(" ")
           .append(awayTeamDisplay).append(" ").append(awayTeam.totalScore)
           .append(":").append(homeTeam.totalScore).append(" ").append(homeTeamDisplay)
@@ -733,13 +797,13 @@ public class Comments {
         sb.append("\n==============================================================================\n");
 
         sb.append("\n")
-          .append(LocalizedStrings.get("commentary.time.quarter_prefix"))
+          .append(ctx.strings.get(TIME_QUARTER_PREFIX))
           .append(currentQuarter + 1)
-          .append(LocalizedStrings.get("commentary.time.quarter_suffix"))
-          .append(LocalizedStrings.get("commentary.time.game_start"))
+          .append(ctx.strings.get(TIME_QUARTER_SUFFIX))
+          .append(ctx.strings.get(TIME_GAME_START))
           .append("!");
 
-        System.out.println(sb.toString()); 
+        ctx.out.println(sb.toString()); 
     }
 
     /**
@@ -749,20 +813,20 @@ public class Comments {
      * @param awayTeam The away team (displayed first)
      * @param homeTeam The home team (displayed second)
      */
-    public static void regularEnd(Team awayTeam, Team homeTeam) {
-        sb.delete( 0, sb.length() );
+    public static void regularEnd(SimulationContext ctx, Team awayTeam, Team homeTeam) {
+        StringBuilder sb = ctx.builder();
         sb.append("\n")
-          .append(LocalizedStrings.get("commentary.regular_end.time_up"))
+          .append(ctx.strings.get(REGULAR_END_TIME_UP))
           .append("!\n")
-          .append(LocalizedStrings.get("commentary.regular_end.tied_prefix"))
+          .append(ctx.strings.get(REGULAR_END_TIED_PREFIX))
           .append(awayTeam.totalScore)
-          .append(LocalizedStrings.get("commentary.regular_end.tied_suffix"))
+          .append(ctx.strings.get(REGULAR_END_TIED_SUFFIX))
           .append("!\n");
         sb.append("\n==============================================================================\n");
-        sb.append(LocalizedStrings.get("commentary.regular_end.overtime_start"))
+        sb.append(ctx.strings.get(REGULAR_END_OVERTIME_START))
           .append("!");
 
-        System.out.println(sb.toString()); 
+        ctx.out.println(sb.toString()); 
     }
 
     /**
@@ -774,19 +838,19 @@ public class Comments {
      * @param awayScores away team's scores of all quarters
      * @param homeScores home team's scores of all quarters
      */
-    public static void gameEnd(Team awayTeam, Team homeTeam, List<Integer> awayScores, List<Integer> homeScores) {
-        sb.delete( 0, sb.length() );
+    public static void gameEnd(SimulationContext ctx, Team awayTeam, Team homeTeam, List<Integer> awayScores, List<Integer> homeScores) {
+        StringBuilder sb = ctx.builder();
 
         sb.append("\n==============================================================================\n");
         
         // Translate team names if in Chinese mode
-        String awayTeamDisplay = Constants.getLocalizedTeamName(awayTeam.name);
-        String homeTeamDisplay = Constants.getLocalizedTeamName(homeTeam.name);
+        String awayTeamDisplay = ctx.teamName(awayTeam);
+        String homeTeamDisplay = ctx.teamName(homeTeam);
         
         sb.append("\n")
-          .append(LocalizedStrings.get("commentary.game_end.full_time"))
+          .append(ctx.strings.get(GAME_END_FULL_TIME))
           .append("!\n")
-          .append(LocalizedStrings.get("commentary.game_end.final_score"))
+          .append(ctx.strings.get(GAME_END_FINAL_SCORE))
           .append(" ")
           .append(awayTeamDisplay).append(" ").append(awayTeam.totalScore)
           .append(":").append(homeTeam.totalScore).append(" ").append(homeTeamDisplay)
@@ -794,17 +858,17 @@ public class Comments {
 
         String winTeam = awayTeam.totalScore >= homeTeam.totalScore ? awayTeamDisplay : homeTeamDisplay;
         String loseTeam = (awayTeam.totalScore >= homeTeam.totalScore) ? homeTeamDisplay : awayTeamDisplay;
-        sb.append(LocalizedStrings.get("commentary.game_end.congratulations"))
+        sb.append(ctx.strings.get(GAME_END_CONGRATULATIONS))
           .append(winTeam)
-          .append(LocalizedStrings.get("commentary.game_end.win_by"))
+          .append(ctx.strings.get(GAME_END_WIN_BY))
           .append(Math.max(awayTeam.totalScore, homeTeam.totalScore) - Math.min(awayTeam.totalScore, homeTeam.totalScore))
-          .append(LocalizedStrings.get("commentary.game_end.points_advantage"))
-          .append(LocalizedStrings.get("commentary.game_end.defeat"))
+          .append(ctx.strings.get(GAME_END_POINTS_ADVANTAGE))
+          .append(ctx.strings.get(GAME_END_DEFEAT))
           .append(loseTeam)
           .append("!\n");
 
         sb.append("\n")
-          .append(LocalizedStrings.get("commentary.game_end.quarter_details"))
+          .append(ctx.strings.get(GAME_END_QUARTER_DETAILS))
           .append(":\n")
           .append(awayTeamDisplay).append("\n").append(awayScores.get(0)).append("\t");
         for (int i = 1; i < awayScores.size(); i++) sb.append(awayScores.get(i) - awayScores.get(i - 1)).append("\t");
@@ -813,10 +877,10 @@ public class Comments {
         for (int i = 1; i < homeScores.size(); i++) sb.append(homeScores.get(i) - homeScores.get(i - 1)).append("\t");
         sb.append("\n");
 
-        System.out.print(sb.toString());
+        ctx.out.print(sb.toString());
 
-        getTeamData(awayTeam);
-        getTeamData(homeTeam);
+        getTeamData(ctx, awayTeam);
+        getTeamData(ctx, homeTeam);
     }
 
     /**
@@ -824,36 +888,36 @@ public class Comments {
      * 
      * @param player Player object
      */
-    public static void getPlayerData(Player player) {
-        sb.delete( 0, sb.length() );
+    public static void getPlayerData(SimulationContext ctx, Player player) {
+        StringBuilder sb = ctx.builder();
 
         if (player.hasBeenOnCourt) {
-            int minutes = player.secondsPlayed / 60;
-            int seconds = player.secondsPlayed % 60;
+            int minutes = player.getSecondsPlayed() / 60;
+            int seconds = player.getSecondsPlayed() % 60;
             
-            sb.append(player.getDisplayName()).append(": ")
-              .append(player.score).append(LocalizedStrings.get("commentary.player_stats.points")).append(", ")
-              .append(player.rebound).append(LocalizedStrings.get("commentary.player_stats.rebounds")).append(", ")
-              .append(player.assist).append(LocalizedStrings.get("commentary.player_stats.assists")).append(", ")
-              .append(player.steal).append(LocalizedStrings.get("commentary.player_stats.steals")).append(", ")
-              .append(player.block).append(LocalizedStrings.get("commentary.player_stats.blocks")).append(", ")
-              .append(player.turnover).append(LocalizedStrings.get("commentary.player_stats.turnovers")).append(", ")
-              .append(player.foul).append(LocalizedStrings.get("commentary.player_stats.fouls")).append(" ")
-              .append(LocalizedStrings.get("commentary.player_stats.fieldgoals"))
+            sb.append(ctx.playerName(player)).append(": ")
+              .append(player.score).append(ctx.strings.get(PLAYER_STATS_POINTS)).append(", ")
+              .append(player.rebound).append(ctx.strings.get(PLAYER_STATS_REBOUNDS)).append(", ")
+              .append(player.assist).append(ctx.strings.get(PLAYER_STATS_ASSISTS)).append(", ")
+              .append(player.steal).append(ctx.strings.get(PLAYER_STATS_STEALS)).append(", ")
+              .append(player.block).append(ctx.strings.get(PLAYER_STATS_BLOCKS)).append(", ")
+              .append(player.turnover).append(ctx.strings.get(PLAYER_STATS_TURNOVERS)).append(", ")
+              .append(player.foul).append(ctx.strings.get(PLAYER_STATS_FOULS)).append(" ")
+              .append(ctx.strings.get(PLAYER_STATS_FIELDGOALS))
               .append(player.shotMade).append("-").append(player.shotAttempted).append(", ")
-              .append(LocalizedStrings.get("commentary.player_stats.threepointers"))
+              .append(ctx.strings.get(PLAYER_STATS_THREEPOINTERS))
               .append(player.threeMade).append("-").append(player.threeAttempted).append(", ")
-              .append(LocalizedStrings.get("commentary.player_stats.freethrows"))
+              .append(ctx.strings.get(PLAYER_STATS_FREETHROWS))
               .append(player.freeThrowMade).append("-").append(player.freeThrowAttempted).append(" ")
-              .append(LocalizedStrings.get("commentary.player_stats.playing_time")).append(" ")
-              .append(minutes).append(LocalizedStrings.get("commentary.player_stats.minutes"))
-              .append(seconds).append(LocalizedStrings.get("commentary.player_stats.seconds"));
+              .append(ctx.strings.get(PLAYER_STATS_PLAYING_TIME)).append(" ")
+              .append(minutes).append(ctx.strings.get(PLAYER_STATS_MINUTES))
+              .append(seconds).append(ctx.strings.get(PLAYER_STATS_SECONDS));
         } else {
-            sb.append(player.getDisplayName()).append(": ")
-              .append(LocalizedStrings.get("commentary.player_stats.dnp"));
+            sb.append(ctx.playerName(player)).append(": ")
+              .append(ctx.strings.get(PLAYER_STATS_DNP));
         }
         
-        System.out.println(sb.toString());
+        ctx.out.println(sb.toString());
     }
 
     /**
@@ -861,54 +925,42 @@ public class Comments {
      * 
      * @param team Team name
      */
-    public static void getTeamData(Team team) {
-        sb.delete( 0, sb.length() );
+    public static void getTeamData(SimulationContext ctx, Team team) {
+        StringBuilder sb = ctx.builder();
 
-        // display each player's data and update total statistics
-        sb.append("\n").append(Constants.getLocalizedTeamName(team.name)).append(LocalizedStrings.get("commentary.team_stats.header")).append(":");
-        System.out.println(sb.toString());
+        // display each player's data
+        sb.append("\n").append(ctx.teamName(team)).append(ctx.strings.get(TEAM_STATS_HEADER)).append(":");
+        ctx.out.println(sb.toString());
 
         for (int i = 0; i < team.players.size(); i++) {
             Player currentPlayer = team.players.get(i);
-            getPlayerData(currentPlayer);
-            team.totalRebound += currentPlayer.rebound;
-            team.totalAssist += currentPlayer.assist;
-            team.totalSteal += currentPlayer.steal;
-            team.totalBlock += currentPlayer.block;
-            team.totalFoul += currentPlayer.foul;
-            team.totalTurnover += currentPlayer.turnover;
-            team.totalShotAttempted += currentPlayer.shotAttempted;
-            team.totalShotMade += currentPlayer.shotMade;
-            team.total3Attempted += currentPlayer.threeAttempted;
-            team.total3Made += currentPlayer.threeMade;
-            team.totalFreeAttempted += currentPlayer.freeThrowAttempted;
-            team.totalFreeMade += currentPlayer.freeThrowMade;
+            getPlayerData(ctx, currentPlayer);
         }
 
         sb.delete( 0, sb.length() );
-        sb.append("\n").append(Constants.getLocalizedTeamName(team.name)).append(LocalizedStrings.get("commentary.team_stats.total")).append(":\n");
-        sb.append(team.totalScore).append(LocalizedStrings.get("commentary.player_stats.points")).append(", ")
-          .append(team.totalRebound).append(LocalizedStrings.get("commentary.player_stats.rebounds")).append(", ")
-          .append(team.totalAssist).append(LocalizedStrings.get("commentary.player_stats.assists")).append(", ")
-          .append(team.totalSteal).append(LocalizedStrings.get("commentary.player_stats.steals")).append(", ")
-          .append(team.totalBlock).append(LocalizedStrings.get("commentary.player_stats.blocks")).append(", ")
-          .append(team.totalTurnover).append(LocalizedStrings.get("commentary.player_stats.turnovers")).append(", ")
-          .append(team.totalFoul).append(LocalizedStrings.get("commentary.player_stats.fouls")).append("\n");
+        sb.append("\n").append(ctx.teamName(team)).append(ctx.strings.get(TEAM_STATS_TOTAL)).append(":\n");
+        sb.append(team.totalScore).append(ctx.strings.get(PLAYER_STATS_POINTS)).append(", ")
+          .append(team.totalRebound).append(ctx.strings.get(PLAYER_STATS_REBOUNDS)).append(", ")
+          .append(team.totalAssist).append(ctx.strings.get(PLAYER_STATS_ASSISTS)).append(", ")
+          .append(team.totalSteal).append(ctx.strings.get(PLAYER_STATS_STEALS)).append(", ")
+          .append(team.totalBlock).append(ctx.strings.get(PLAYER_STATS_BLOCKS)).append(", ")
+          .append(team.totalTurnover).append(ctx.strings.get(PLAYER_STATS_TURNOVERS)).append(", ")
+          .append(team.totalFoul).append(ctx.strings.get(PLAYER_STATS_FOULS)).append("\n");
 
         double totalShotPercentage = team.totalShotAttempted != 0 ? team.totalShotMade * 100.0 / team.totalShotAttempted : 0.0;
         double total3Percentage = team.total3Attempted != 0 ? team.total3Made * 100.0 / team.total3Attempted : 0.0;
         double totalFreePercentage = team.totalFreeAttempted != 0 ? team.totalFreeMade * 100.0 / team.totalFreeAttempted : 0.0;
 
-        sb.append(LocalizedStrings.get("commentary.player_stats.fieldgoals")).append(": ")
+        sb.append(ctx.strings.get(PLAYER_STATS_FIELDGOALS)).append(": ")
           .append(team.totalShotMade).append("-").append(team.totalShotAttempted)
           .append("(").append(String.format("%.2f", totalShotPercentage)).append("%)")
-          .append("  ").append(LocalizedStrings.get("commentary.player_stats.threepointers")).append(": ")
+          .append("  ").append(ctx.strings.get(PLAYER_STATS_THREEPOINTERS)).append(": ")
           .append(team.total3Made).append("-").append(team.total3Attempted)
           .append("(").append(String.format("%.2f", total3Percentage)).append("%)")
-          .append("  ").append(LocalizedStrings.get("commentary.player_stats.freethrows")).append(": ")
+          .append("  ").append(ctx.strings.get(PLAYER_STATS_FREETHROWS)).append(": ")
           .append(team.totalFreeMade).append("-").append(team.totalFreeAttempted)
           .append("(").append(String.format("%.2f", totalFreePercentage)).append("%)");
 
-        System.out.println(sb.toString());
+        ctx.out.println(sb.toString());
     }
 }
@@ -78,6 +78,28 @@ public class Constants {
     public final static String PLAYIN_RECAP_NAME = "playin-recap.txt";
     public final static String RESULT_EXTENSION = ".txt";
 
+    /** Result file output: buffer size of each open file */
+    public final static int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    /** Fast prediction mode: cache directory of head-to-head win probabilities, num of simulated games per matchup, and seed of the estimation */
+    public final static String WIN_PROBABILITY_DIR = String.format("output%scache%s", sep, sep);
+    public final static int WIN_PROBABILITY_GAMES_PER_PAIR = 100;
+    public final static long WIN_PROBABILITY_SEED = 20250101L;
+
+    /** Version of the game simulation model, part of the win probability cache key. Bump it whenever a change to the engine,
+     *  ratings or tuning constants changes game results, so matrices estimated by an older model are not reused */
+    public final static int MODEL_VERSION = 1;
+
+    /** Adaptive prediction mode: default precision, seasons of the first batch, most seasons, and z of the 95% confidence interval */
+    public final static double PREDICTION_DEFAULT_PRECISION = 0.005;
+    public final static int PREDICTION_FIRST_BATCH = 100;
+    public final static int PREDICTION_MAX_SEASONS = 1000000;
+    public final static double CONFIDENCE_Z = 1.96;
+
+    /** Prediction checkpoints: checkpoint file, and default num of seasons between checkpoints and live result updates */
+    public final static String PREDICTION_CHECKPOINT_PATH = String.format("output%scache%sprediction-checkpoint.csv", sep, sep);
+    public final static int PREDICTION_UPDATE_SEASONS = 1000;
+
     /** Score difference to enter garbage time */
     public final static int DIFF1 = 30;
     public final static int TIME_LEFT1 = 720;
@@ -181,10 +203,6 @@ public class Constants {
     public final static String[] WEST_TEAMS_EN = {"Warriors", "Kings", "Suns", "Trail Blazers", "Clippers",
                                                   "Nuggets", "Grizzlies", "Lakers", "Rockets", "Mavericks",
                                                   "Timberwolves", "Jazz", "Thunder", "Spurs", "Pelicans"};
-    
-    /** Active team names for display (switches based on language) */
-    public static String[] EAST_TEAMS = EAST_TEAMS_ZH;
-    public static String[] WEST_TEAMS = WEST_TEAMS_ZH;
 
     /** Choose offense player based on ratings and time */
     public final static double MAJOR_SCORE_FACTOR = 0.55;
@@ -401,23 +419,6 @@ public class Constants {
         }
     }
     
-    /**
-     * Set the active team names for display based on language.
-     * Call this method when language changes to update team name arrays.
-     * Note: This only affects display names, roster files always use English names.
-     * 
-     * @param useEnglish true for English team names, false for Chinese
-     */
-    public static void setTeamLanguage(boolean useEnglish) {
-        if (useEnglish) {
-            EAST_TEAMS = EAST_TEAMS_EN;
-            WEST_TEAMS = WEST_TEAMS_EN;
-        } else {
-            EAST_TEAMS = EAST_TEAMS_ZH;
-            WEST_TEAMS = WEST_TEAMS_ZH;
-        }
-    }
-    
     /**
      * Get the roster filename for a team.
      * Always returns English filename regardless of display language.
@@ -460,7 +461,18 @@ public class Constants {
      * @return Localized team name based on current language
      */
     public static String getLocalizedTeamName(String englishName) {
-        if (LocalizedStrings.getLanguage() == LocalizedStrings.Language.CHINESE) {
+        return getLocalizedTeamName(englishName, LocalizedStrings.getLanguage());
+    }
+    
+    /**
+     * Get localized team name in the given language.
+     * 
+     * @param englishName English team name (from Team.name)
+     * @param language Display language
+     * @return Localized team name
+     */
+    public static String getLocalizedTeamName(String englishName, LocalizedStrings.Language language) {
+        if (language == LocalizedStrings.Language.CHINESE) {
             return translateToChinese(englishName);
         }
         return englishName;
@@ -4,9 +4,78 @@ import java.io.*;
 import java.util.*;
 
 public class Game {
+    // Localized strings, resolved once when the class is loaded
+    private static final LocalizedStrings.Key GAME_AWAY = LocalizedStrings.key("game.away");
+    private static final LocalizedStrings.Key GAME_HOME = LocalizedStrings.key("game.home");
+    private static final LocalizedStrings.Key GAME_SCORE_DIFFERENTIAL_TITLE = LocalizedStrings.key("game.score_differential_title");
+    private static final LocalizedStrings.Key GAME_SCORE_DIFFERENTIAL_LEADING = LocalizedStrings.key("game.score_differential_leading");
+    private static final LocalizedStrings.Key TIME_QUARTER_PREFIX = LocalizedStrings.key("commentary.time.quarter_prefix");
+    private static final LocalizedStrings.Key TIME_QUARTER_SUFFIX = LocalizedStrings.key("commentary.time.quarter_suffix");
+    private static final LocalizedStrings.Key TIME_OVERTIME_PREFIX = LocalizedStrings.key("commentary.time.overtime_prefix");
+    private static final LocalizedStrings.Key GAME_SCORE_DIFFERENTIAL_TIED = LocalizedStrings.key("game.score_differential_tied");
+    private static final LocalizedStrings.Key GAME_FLOW_INSIGHTS_TITLE = LocalizedStrings.key("game.flow_insights_title");
+    private static final LocalizedStrings.Key GAME_FLOW_LARGEST_LEAD = LocalizedStrings.key("game.flow_largest_lead");
+    private static final LocalizedStrings.Key GAME_FLOW_POINTS = LocalizedStrings.key("game.flow_points");
+    private static final LocalizedStrings.Key GAME_FLOW_LEAD_CHANGES = LocalizedStrings.key("game.flow_lead_changes");
+    private static final LocalizedStrings.Key GAME_FLOW_TIMES_TIED = LocalizedStrings.key("game.flow_times_tied");
+    private static final LocalizedStrings.Key RECAP_HEADER = LocalizedStrings.key("recap.header");
+    private static final LocalizedStrings.Key GAME_OVERTIME_SUFFIX = LocalizedStrings.key("game.overtime.suffix");
+    private static final LocalizedStrings.Key GAME_FINALSCORE = LocalizedStrings.key("game.finalscore");
+    private static final LocalizedStrings.Key GAME_AT = LocalizedStrings.key("game.at");
+    private static final LocalizedStrings.Key STAT_FIELDGOAL_PCT = LocalizedStrings.key("stat.fieldgoal.pct");
+    private static final LocalizedStrings.Key STAT_THREEPOINT_PCT = LocalizedStrings.key("stat.threepoint.pct");
+    private static final LocalizedStrings.Key STAT_POINTS_SHORT = LocalizedStrings.key("stat.points.short");
+    private static final LocalizedStrings.Key STAT_REBOUNDS_SHORT = LocalizedStrings.key("stat.rebounds.short");
+    private static final LocalizedStrings.Key STAT_ASSISTS_SHORT = LocalizedStrings.key("stat.assists.short");
+    private static final LocalizedStrings.Key STAT_STEALS_SHORT = LocalizedStrings.key("stat.steals.short");
+    private static final LocalizedStrings.Key STAT_BLOCKS_SHORT = LocalizedStrings.key("stat.blocks.short");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_PPG = LocalizedStrings.key("leaderboard.player_ppg");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_RPG = LocalizedStrings.key("leaderboard.player_rpg");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_APG = LocalizedStrings.key("leaderboard.player_apg");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_SPG = LocalizedStrings.key("leaderboard.player_spg");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_BPG = LocalizedStrings.key("leaderboard.player_bpg");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_FTMPG = LocalizedStrings.key("leaderboard.player_ftmpg");
+    private static final LocalizedStrings.Key LEADERBOARD_PLAYER_3PMPG = LocalizedStrings.key("leaderboard.player_3pmpg");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_PPG = LocalizedStrings.key("leaderboard.team_ppg");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_PAPG = LocalizedStrings.key("leaderboard.team_papg");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_FGMPG = LocalizedStrings.key("leaderboard.team_fgmpg");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_3PMPG = LocalizedStrings.key("leaderboard.team_3pmpg");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_FTMPG = LocalizedStrings.key("leaderboard.team_ftmpg");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_FGPCT = LocalizedStrings.key("leaderboard.team_fgpct");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_3PPCT = LocalizedStrings.key("leaderboard.team_3ppct");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_OPP_FGPCT = LocalizedStrings.key("leaderboard.team_opp_fgpct");
+    private static final LocalizedStrings.Key LEADERBOARD_TEAM_OPP_3PPCT = LocalizedStrings.key("leaderboard.team_opp_3ppct");
+    private static final LocalizedStrings.Key CONFERENCE_WEST_STANDINGS = LocalizedStrings.key("conference.west_standings");
+    private static final LocalizedStrings.Key CONFERENCE_EAST_STANDINGS = LocalizedStrings.key("conference.east_standings");
+    private static final LocalizedStrings.Key CONFERENCE_WEST = LocalizedStrings.key("conference.west");
+    private static final LocalizedStrings.Key CONFERENCE_EAST = LocalizedStrings.key("conference.east");
+    private static final LocalizedStrings.Key PLAYIN_7V8 = LocalizedStrings.key("playin.7v8");
+    private static final LocalizedStrings.Key PLAYIN_SECURED_PREFIX = LocalizedStrings.key("playin.secured_prefix");
+    private static final LocalizedStrings.Key PLAYIN_SECURED_7 = LocalizedStrings.key("playin.secured.7");
+    private static final LocalizedStrings.Key PLAYIN_ADVANCE_PREFIX = LocalizedStrings.key("playin.advance_prefix");
+    private static final LocalizedStrings.Key PLAYIN_ADVANCED = LocalizedStrings.key("playin.advanced");
+    private static final LocalizedStrings.Key PLAYIN_9V10 = LocalizedStrings.key("playin.9v10");
+    private static final LocalizedStrings.Key PLAYIN_ELIMINATED_PREFIX = LocalizedStrings.key("playin.eliminated_prefix");
+    private static final LocalizedStrings.Key PLAYIN_ELIMINATED = LocalizedStrings.key("playin.eliminated");
+    private static final LocalizedStrings.Key PLAYIN_FINAL_BATTLE = LocalizedStrings.key("playin.final_battle");
+    private static final LocalizedStrings.Key PLAYIN_SECURED_8 = LocalizedStrings.key("playin.secured.8");
+    private static final LocalizedStrings.Key PLAYOFF_RECAP_SERIES_RESULT = LocalizedStrings.key("playoff.recap.series_result");
+    private static final LocalizedStrings.Key PLAYOFF_RECAP_SERIES_MVP = LocalizedStrings.key("playoff.recap.series_mvp");
+    private static final LocalizedStrings.Key PLAYOFF_RECAP_AVERAGE = LocalizedStrings.key("playoff.recap.average");
+    private static final LocalizedStrings.Key PLAYOFF_RECAP_SERIES_RECORD = LocalizedStrings.key("playoff.recap.series_record");
+    private static final LocalizedStrings.Key PLAYOFF_ROUND_CHAMPIONSHIP = LocalizedStrings.key("playoff.round.championship");
+    private static final LocalizedStrings.Key PLAYOFF_RECAP_CHAMPION = LocalizedStrings.key("playoff.recap.champion");
+    private static final LocalizedStrings.Key PLAYOFF_RECAP_ADVANCE = LocalizedStrings.key("playoff.recap.advance");
+    private static final LocalizedStrings.Key PLAYOFF_ROUND_FIRST = LocalizedStrings.key("playoff.round.first");
+    private static final LocalizedStrings.Key PLAYOFF_ROUND_SEMI = LocalizedStrings.key("playoff.round.semi");
+    private static final LocalizedStrings.Key PLAYOFF_ROUND_FINAL = LocalizedStrings.key("playoff.round.final");
+
     // NBA daily schedule file
     public String schedulePath;
 
+    // Directory of the team roster files
+    public String rosterPath;
+
     // current year and next year's prefix
     public String currentYear;
     public String nextYear;
@@ -23,8 +92,27 @@ public class Game {
     // PrintStream for result output
     PrintStream ps;
 
+    // Opens the result files as buffered streams and closes them once written
+    private final OutputManager outputs = new OutputManager(Constants.OUTPUT_BUFFER_SIZE);
+
+    // Teams by team id, built from the roster directory on first use and reset before each of their games
+    private final Team[] teams = new Team[RosterRepository.getTeamCount()];
+    private String teamsRosterPath;
+
+    // Output stream of silent games, discards everything
+    private final PrintStream nullOut = new PrintStream(new NullOutputStream());
+
     // Silent mode for simulation
     public boolean silentMode = false;
+
+    // Head-to-head win probabilities to draw silent games' winners from instead of simulating them, null to simulate every game
+    public WinProbabilityMatrix winProbabilities;
+
+    // Per-simulation state: random generators, output stream, language
+    public final SimulationContext ctx;
+
+    // Live commentary, listens to game events unless in silent mode
+    private final GameEventListener commentary;
     
     public static class NullOutputStream extends OutputStream {
         @Override
@@ -45,8 +133,12 @@ public class Game {
     // Store last playoff game's final quarter for overtime tracking
     private int lastPlayoffFinalQuarter;
     
-    // Store current season standings for recap W/L records
-    private Map<String, List<Integer>> currentStanding;
+    // Store current season win / lose counts by team id, for recap W/L records and playoff home court
+    private int[] seasonWins;
+    private int[] seasonLoses;
+
+    // How far each team got in the current season
+    public SeasonOutcome seasonOutcome = new SeasonOutcome();
 
     /**
      * Inner class to store score differential data point
@@ -63,6 +155,39 @@ public class Game {
         }
     }
 
+    /**
+     * Inner class to store how far each team got in a season, by team id
+     */
+    public static class SeasonOutcome {
+        // Playoff rounds, a team's round is the furthest one it played
+        public static final int MISSED_PLAYOFFS = 0;
+        public static final int FIRST_ROUND = 1;
+        public static final int CONFERENCE_SEMIFINALS = 2;
+        public static final int CONFERENCE_FINALS = 3;
+        public static final int FINALS = 4;
+        public static final int CHAMPION = 5;
+
+        // Play-in results
+        public static final int NO_PLAY_IN = 0;
+        public static final int PLAY_IN_LOST = 1;
+        public static final int PLAY_IN_WON = 2;
+
+        public final int[] playoffRound = new int[RosterRepository.getTeamCount()];
+
+        // Regular season wins, conference standing (1 = first) and play-in result
+        public final int[] wins = new int[RosterRepository.getTeamCount()];
+        public final int[] conferenceSeed = new int[RosterRepository.getTeamCount()];
+        public final int[] playIn = new int[RosterRepository.getTeamCount()];
+
+        /**
+         * Record that a team played in a playoff round.
+         */
+        public void reachRound(String team, int round) {
+            int teamId = RosterRepository.getTeamId(team);
+            if (teamId >= 0) playoffRound[teamId] = round;
+        }
+    }
+
     /**
      * Inner class to store game flow insights
      */
@@ -160,10 +285,21 @@ public class Game {
     }
 
     /**
-     * Construct new Game instance to host a game or a season
+     * Construct new Game instance to host a game or a season, in the default language
      */
     public Game() {
+        this(new SimulationContext(LocalizedStrings.getLanguage()));
+    }
+
+    /**
+     * Construct new Game instance to host a game or a season
+     * @param ctx Simulation context (random generators, output stream and language) owned by this game
+     */
+    public Game(SimulationContext ctx) {
+        this.ctx = ctx;
+        this.commentary = new CommentaryListener(ctx);
         this.schedulePath = Constants.SCHEDULE_PATH;
+        this.rosterPath = Constants.ROSTER_PATH;
 
         // current year and next year's prefix
         this.currentYear = Constants.CURRENT_YEAR;
@@ -189,70 +325,100 @@ public class Game {
     }
 
     /**
-     * Host a game between two teams.
-     * @param info By default, info is the date when the game is hosted; for playoff games, info is the round and game number.
-     * @param gameMode Whether the game is a single game (default), regular season game or playoffs game
-     * @param stat SeasonStats object, store regular season's player stats
-     * @param seriesTeam1 For playoff series, the first team in series order (for consistent file naming). Can be null.
-     * @param seriesTeam2 For playoff series, the second team in series order (for consistent file naming). Can be null.
-     * @return Winner of the game
+     * Get the result file path of a game. Only needed when the game is written out.
      */
-    public String hostGame(String team1Name, String team2Name, String info, String gameMode, SeasonStats stat,
-                          String seriesTeam1, String seriesTeam2) throws Exception {
-        Random random = new Random();
-
+    private String getResultFilePath(String team1Name, String team2Name, String info, String gameMode,
+                                     String seriesTeam1, String seriesTeam2) {
         // For playoff series, use series order for file naming; otherwise use actual game order
         String fileTeam1 = (seriesTeam1 != null) ? seriesTeam1 : team1Name;
         String fileTeam2 = (seriesTeam2 != null) ? seriesTeam2 : team2Name;
         
         // Get team names for file path
-        String team1FileName = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
-                               Constants.translateToChinese(fileTeam1) : fileTeam1;
-        String team2FileName = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
-                               Constants.translateToChinese(fileTeam2) : fileTeam2;
+        String team1FileName = ctx.teamName(fileTeam1);
+        String team2FileName = ctx.teamName(fileTeam2);
 
         // each game's result file
-        String filePath;
         if (gameMode.equals("playoffs") || gameMode.equals("playin")) {
             String dir = gameMode.equals("playin") ? Constants.PLAYIN_GAMES_DIR : playoffsResultsPath;
-            filePath = dir + team1FileName + team2FileName + "-" + info + Constants.RESULT_EXTENSION;
+            return dir + team1FileName + team2FileName + "-" + info + Constants.RESULT_EXTENSION;
         }
         else if (gameMode.equals("regular")) {
             // games in Oct, Nov, Dec are hosted in current year
-            if (info.charAt(0) == '1') filePath = regularResultsPath + currentYear + info + "-" + team1FileName + team2FileName + Constants.RESULT_EXTENSION;
-            else filePath = regularResultsPath + nextYear + info + "-" + team1FileName + team2FileName + Constants.RESULT_EXTENSION;
+            if (info.charAt(0) == '1') return regularResultsPath + currentYear + info + "-" + team1FileName + team2FileName + Constants.RESULT_EXTENSION;
+            else return regularResultsPath + nextYear + info + "-" + team1FileName + team2FileName + Constants.RESULT_EXTENSION;
         }
         else {
-            filePath = singleResultsPath + team1FileName + team2FileName + Constants.RESULT_EXTENSION;
+            return singleResultsPath + team1FileName + team2FileName + Constants.RESULT_EXTENSION;
+        }
+    }
+
+    /**
+     * Get a team ready for a new game: built on its first game, and reset with its players on every later one.
+     *
+     * @param name The team's name
+     * @return The team, with its game stats at zero
+     */
+    private Team getTeam(String name) {
+        if (!rosterPath.equals(teamsRosterPath)) {
+            Arrays.fill(teams, null);
+            teamsRosterPath = rosterPath;
+        }
+
+        int id = RosterRepository.getTeamId(name);
+        if (id < 0) return new Team(name, rosterPath);
+        if (teams[id] == null || !teams[id].name.equals(name)) {
+            teams[id] = new Team(name, rosterPath);
+        } else {
+            teams[id].resetGameStats();
         }
-                                    
+        return teams[id];
+    }
+
+    /**
+     * Host a game between two teams.
+     * @param info By default, info is the date when the game is hosted; for playoff games, info is the round and game number.
+     * @param gameMode Whether the game is a single game (default), regular season game or playoffs game
+     * @param stat SeasonStats object, store regular season's player stats
+     * @param seriesTeam1 For playoff series, the first team in series order (for consistent file naming). Can be null.
+     * @param seriesTeam2 For playoff series, the second team in series order (for consistent file naming). Can be null.
+     * @return Winner of the game
+     */
+    public String hostGame(String team1Name, String team2Name, String info, String gameMode, SeasonStats stat,
+                          String seriesTeam1, String seriesTeam2) throws Exception {
+
+        // fast mode, a silent game only needs its winner
+        if (silentMode && winProbabilities != null) {
+            int away = RosterRepository.getTeamId(team1Name);
+            return winProbabilities.drawWinner(ctx.rootRandom, away, RosterRepository.getTeamId(team2Name)) == away ? team1Name : team2Name;
+        }
+
+        // every game plays with its own streams split from the simulation's root random source
+        ctx.startGame();
+
         if (silentMode) {
-            ps = new PrintStream(new NullOutputStream());
+            closeOutput();
+            ps = nullOut;
+            ctx.out = ps;
+            ctx.events = GameEventListener.NONE;
         } else {
-            ps = new PrintStream(filePath);
+            openOutput(getResultFilePath(team1Name, team2Name, info, gameMode, seriesTeam1, seriesTeam2));
+            ctx.events = commentary;
         }
-        System.setOut(ps);
 
-        Team team1 = new Team(team1Name);
-        Team team2 = new Team(team2Name);
+        Team team1 = getTeam(team1Name);
+        Team team2 = team2Name.equals(team1Name) ? new Team(team2Name, rosterPath) : getTeam(team2Name);
 
-        Map<String, Player> teamOneOnCourt = new HashMap<>();
-        Map<String, Player> teamTwoOnCourt = new HashMap<>();
-        for (String pos : team1.starters.keySet()) {
-            Player p = team1.starters.get(pos);
-            teamOneOnCourt.put(pos, p);
+        Lineup teamOneOnCourt = new Lineup();
+        Lineup teamTwoOnCourt = new Lineup();
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player p = team1.starters.get(i);
+            teamOneOnCourt.put(i, p);
             p.isOnCourt = true;
-            p.secondsPlayed = 0;
-            p.currentStintSeconds = 0;
-            p.lastSubbedOutTime = 0;
         }
-        for (String pos : team2.starters.keySet()) {
-            Player p = team2.starters.get(pos);
-            teamTwoOnCourt.put(pos, p);
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player p = team2.starters.get(i);
+            teamTwoOnCourt.put(i, p);
             p.isOnCourt = true;
-            p.secondsPlayed = 0;
-            p.currentStintSeconds = 0;
-            p.lastSubbedOutTime = 0;
         }
 
         int quarterTime = 720;
@@ -277,23 +443,23 @@ public class Game {
         int previousDifferential = 0;  // Track previous differential for lead changes
 
         // Print game header for playoff and play-in games showing home/away
-        if (gameMode.equals("playoffs") || gameMode.equals("playin")) {
-            String team1Display = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        if ((gameMode.equals("playoffs") || gameMode.equals("playin")) && !silentMode) {
+            String team1Display = ctx.language == LocalizedStrings.Language.CHINESE ?
                                  Constants.translateToChinese(team1.name) : team1.name;
-            String team2Display = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+            String team2Display = ctx.language == LocalizedStrings.Language.CHINESE ?
                                  Constants.translateToChinese(team2.name) : team2.name;
             
-            String awayLabel = LocalizedStrings.get("game.away");
-            String homeLabel = LocalizedStrings.get("game.home");
+            String awayLabel = ctx.strings.get(GAME_AWAY);
+            String homeLabel = ctx.strings.get(GAME_HOME);
             
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.println(team1Display + " (" + awayLabel + ") @ " + team2Display + " (" + homeLabel + ")");
-            System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.println();
+            ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            ctx.out.println(team1Display + " (" + awayLabel + ") @ " + team2Display + " (" + homeLabel + ")");
+            ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+            ctx.out.println();
         }
 
         // start game
-        Utilities.jumpBall(random, team1, team2);
+        Utilities.jumpBall(ctx, team1, team2);
         
         // Track total game time for minutes management
         int totalGameTime = 0;
@@ -307,15 +473,15 @@ public class Game {
             // decide play time and substitution
             int currentPlayTime;
             if (!isSecondChance) {
-                currentPlayTime = quarterTime > 24 ? Utilities.generateRandomPlayTime(random, 24) : quarterTime;
+                currentPlayTime = quarterTime > 24 ? Utilities.generateRandomPlayTime(ctx, 24) : quarterTime;
             } else {
-                currentPlayTime = quarterTime > 24 ? Utilities.generateRandomPlayTime(random, 14) : quarterTime;
+                currentPlayTime = quarterTime > 24 ? Utilities.generateRandomPlayTime(ctx, 14) : quarterTime;
                 isSecondChance = false;
             }
             
-            // Update player minutes for both teams
-            Utilities.updatePlayerMinutes(teamOneOnCourt, currentPlayTime);
-            Utilities.updatePlayerMinutes(teamTwoOnCourt, currentPlayTime);
+            // Advance the game clock, players on court accrue minutes until they are taken out
+            teamOneOnCourt.advanceClock(currentPlayTime);
+            teamTwoOnCourt.advanceClock(currentPlayTime);
             totalGameTime += currentPlayTime;
             
             // Track score differential at minute boundaries
@@ -348,7 +514,7 @@ public class Game {
             
             // quarters end or games end
             if (quarterTime == 0 && currentQuarter <= 3) {
-                Comments.quarterEnd(currentQuarter, team1, team2);
+                ctx.events.onQuarterEnd(currentQuarter, team1, team2);
                 quarterTime = 720;
                 currentQuarter += 1;
                 team1.quarterFoul = 0;
@@ -360,7 +526,11 @@ public class Game {
                 scoreDifferentials.add(new ScoreDifferentialPoint(currentQuarter, 720, differential));
                 minutesRecorded[12] = true;
             } else if (quarterTime == 0 && currentQuarter >= 4 && team1.totalScore != team2.totalScore) {
-                Comments.gameEnd(team1, team2, team1Scores, team2Scores);
+                teamOneOnCourt.stopClocks();
+                teamTwoOnCourt.stopClocks();
+                team1.sumPlayerStats();
+                team2.sumPlayerStats();
+                ctx.events.onGameEnd(team1, team2, team1Scores, team2Scores);
                 team1.totalScoreAllowed = team2.totalScore;
                 team2.totalScoreAllowed = team1.totalScore;
                 // Set opponent shooting stats
@@ -392,11 +562,13 @@ public class Game {
                 // Update game flow insights with final score
                 updateGameFlowInsights(gameFlow, finalDifferential, previousDifferential, currentQuarter, 0);
                 
-                // Display game flow insights
-                displayGameFlowInsights(gameFlow, team1, team2);
-                
-                // Display score differential diagram
-                displayScoreDifferentialDiagram(scoreDifferentials, team1, team2);
+                if (!silentMode) {
+                    // Display game flow insights
+                    displayGameFlowInsights(gameFlow, team1, team2);
+                    
+                    // Display score differential diagram
+                    displayScoreDifferentialDiagram(scoreDifferentials, team1, team2);
+                }
                 
                 break;
             } else if (quarterTime == 0 && currentQuarter >= 4 && team1.totalScore == team2.totalScore) {
@@ -404,7 +576,7 @@ public class Game {
                 currentQuarter += 1;
                 team1.quarterFoul = 0;
                 team2.quarterFoul = 0;
-                Comments.regularEnd(team1, team2);
+                ctx.events.onRegulationEnd(team1, team2);
             }
 
             // Check if it's garbage time
@@ -413,18 +585,19 @@ public class Game {
                                    (currentQuarter == 4 && scoreDiff >= Constants.DIFF2 && quarterTime <= Constants.TIME_LEFT2) ||
                                    (currentQuarter == 4 && scoreDiff >= Constants.DIFF3 && quarterTime <= Constants.TIME_LEFT3);
 
-            // Intelligent substitution system - each team independently decides whether to substitute
-            Utilities.checkIntelligentSubstitutions(random, team1, teamOneOnCourt, currentQuarter, quarterTime, 
-                                                   totalGameTime, team1, team2, isGarbageTime);
-            Utilities.checkIntelligentSubstitutions(random, team2, teamTwoOnCourt, currentQuarter, quarterTime,
-                                                   totalGameTime, team1, team2, isGarbageTime);
+            // Intelligent substitution system - each team independently decides whether to substitute,
+            // checked only when its scheduler sees a substitution could happen
+            Utilities.scheduleSubstitutions(ctx, team1, teamOneOnCourt, currentQuarter, quarterTime, 
+                                            totalGameTime, team1, team2, isGarbageTime);
+            Utilities.scheduleSubstitutions(ctx, team2, teamTwoOnCourt, currentQuarter, quarterTime,
+                                            totalGameTime, team1, team2, isGarbageTime);
 
             // get offsense team, defense team, offsense player, defense player
             Team offenseTeam = team1.hasBall ? team1 : team2;
             Team defenseTeam = !team1.hasBall ? team1 : team2;
-            Map<String, Player> offenseTeamOnCourt = team1.hasBall ? teamOneOnCourt : teamTwoOnCourt;
-            Map<String, Player> defenseTeamOnCourt = !team1.hasBall ? teamOneOnCourt : teamTwoOnCourt;
-            Player offensePlayer = Utilities.choosePlayerBasedOnRating(random, offenseTeamOnCourt, "rating",
+            Lineup offenseTeamOnCourt = team1.hasBall ? teamOneOnCourt : teamTwoOnCourt;
+            Lineup defenseTeamOnCourt = !team1.hasBall ? teamOneOnCourt : teamTwoOnCourt;
+            Player offensePlayer = Utilities.choosePlayerBasedOnRating(ctx, offenseTeamOnCourt, Utilities.SelectionCriterion.RATING,
                                                                        currentQuarter, quarterTime, offenseTeam, defenseTeam);
             
             if (offensePlayer == null) {
@@ -437,11 +610,11 @@ public class Game {
                 throw new RuntimeException("Cannot continue game without offense player");
             }
             
-            Player defensePlayer = Utilities.chooseDefensePlayer(random, offensePlayer, defenseTeamOnCourt);
-            Comments.getBallComment(Constants.getLocalizedTeamName(offenseTeam.name), offensePlayer.getDisplayName(), defensePlayer.getDisplayName());
+            Player defensePlayer = Utilities.chooseDefensePlayer(ctx, offensePlayer, defenseTeamOnCourt);
+            ctx.events.onPossession(offenseTeam, offensePlayer, defensePlayer);
 
             // judge ball possession lost: turnover, steal, jumpball lose
-            Utilities.LoseBallResult loseBallResult = Utilities.judgeLoseBall(random, defenseTeam, defenseTeamOnCourt, offensePlayer, defensePlayer);
+            Utilities.LoseBallResult loseBallResult = Utilities.judgeLoseBall(ctx, defenseTeam, defenseTeamOnCourt, offensePlayer, defensePlayer);
             if (loseBallResult == Utilities.LoseBallResult.LOSE_BALL_NO_SCORE) {
                 offenseTeam.hasBall = false;
                 defenseTeam.hasBall = true;
@@ -449,7 +622,7 @@ public class Game {
                 continue;
             } else if (loseBallResult == Utilities.LoseBallResult.LOSE_BALL_AND_SCORE) {
                 quarterTime -= currentPlayTime;
-                Comments.getTimeAndScore(quarterTime, currentQuarter, team1, team2);
+                ctx.events.onScoreUpdate(quarterTime, currentQuarter, team1, team2);
                 continue;
             } else if (loseBallResult == Utilities.LoseBallResult.JUMP_BALL_WIN) {
                 quarterTime -= currentPlayTime;
@@ -457,7 +630,7 @@ public class Game {
             }
 
             // judge offense foul or defense foul (no free-throw)
-            Utilities.FoulResult foulResult = Utilities.judgeNormalFoul(random, offenseTeamOnCourt, defenseTeamOnCourt, offensePlayer, defensePlayer,
+            Utilities.FoulResult foulResult = Utilities.judgeNormalFoul(ctx, offenseTeamOnCourt, defenseTeamOnCourt, offensePlayer, defensePlayer,
                                                       offenseTeam, defenseTeam, currentQuarter, quarterTime, team1, team2);
             if (foulResult == Utilities.FoulResult.OFFENSIVE_FOUL) {
                 offenseTeam.hasBall = false;
@@ -471,15 +644,15 @@ public class Game {
             }
 
             // check if any team player get injured
-            if (Utilities.judgeInjury(random, offenseTeamOnCourt, defenseTeamOnCourt, offenseTeam, defenseTeam)) continue;
+            if (Utilities.judgeInjury(ctx, offenseTeamOnCourt, defenseTeamOnCourt, offenseTeam, defenseTeam)) continue;
 
             // get shot distance, position, choice
-            int distance = Utilities.getShotDistance(random, offensePlayer);
-            String shotPos = Comments.getShotPos(random, distance);
-            String shotMovement = Comments.getShotChoice(random, offensePlayer, distance, shotPos);
+            int distance = Utilities.getShotDistance(ctx, offensePlayer);
+            Player.ShotType shotType = Utilities.chooseShotType(ctx, offensePlayer, distance);
+            ctx.events.onShotAttempt(offensePlayer, distance, shotType);
 
             // judge block
-            Utilities.BlockResult blockResult = Utilities.judgeBlock(random, distance, offenseTeamOnCourt, defenseTeamOnCourt, offensePlayer, defensePlayer);
+            Utilities.BlockResult blockResult = Utilities.judgeBlock(ctx, distance, offenseTeam, offenseTeamOnCourt, defenseTeamOnCourt, offensePlayer, defensePlayer);
             if (blockResult == Utilities.BlockResult.BLOCK_OFFENSIVE_REBOUND) {
                 quarterTime -= currentPlayTime;
                 continue;
@@ -492,13 +665,13 @@ public class Game {
             }
 
             // judge shot percentage
-            double percentage = Utilities.calculatePercentage(random, distance, offensePlayer, defensePlayer, offenseTeamOnCourt,
-                                                              shotMovement, quarterTime, currentQuarter, offenseTeam, defenseTeam);
+            double percentage = Utilities.calculatePercentage(ctx, distance, offensePlayer, defensePlayer, offenseTeamOnCourt,
+                                                              shotType, quarterTime, currentQuarter, offenseTeam, defenseTeam);
 
             // judge whether to make the shot
-            Utilities.ShotResult shotResult = Utilities.judgeMakeShot(random, distance, offensePlayer, defensePlayer, offenseTeam, defenseTeam, offenseTeamOnCourt,
+            Utilities.ShotResult shotResult = Utilities.judgeMakeShot(ctx, distance, offensePlayer, defensePlayer, offenseTeam, defenseTeam, offenseTeamOnCourt,
                                                     defenseTeamOnCourt, percentage, quarterTime - currentPlayTime, currentQuarter, team1, team2,
-                                                    shotMovement);
+                                                    shotType);
             if (shotResult == Utilities.ShotResult.MADE_SHOT || shotResult == Utilities.ShotResult.DEFENSIVE_REBOUND || shotResult == Utilities.ShotResult.OUT_OF_BOUNDS) {
                 offenseTeam.hasBall = false;
                 defenseTeam.hasBall = true;
@@ -536,16 +709,34 @@ public class Game {
             lastPlayoffFinalQuarter = currentQuarter;
         }
 
+        closeOutput();
         return team1.totalScore > team2.totalScore ? team1Name : team2Name;
     }
 
     /**
-     * Function overloading, temporarily generate a fake SeasonStats() object for playoff games.
+     * Point the output at a result file, closing the file written before.
+     */
+    private void openOutput(String path) throws IOException {
+        closeOutput();
+        ps = outputs.open(path);
+        ctx.out = ps;
+    }
+
+    /**
+     * Flush and close the current result file, if any.
+     */
+    private void closeOutput() {
+        if (ps != null) outputs.close(ps);
+        ps = null;
+    }
+
+    /**
+     * Function overloading for play-in and playoff games, which don't record season stats.
      * 
      * @return Winner or the game
      */
     public String hostGame(String team1Name, String team2Name, String info, String gameMode) throws Exception {
-        return hostGame(team1Name, team2Name, info, gameMode, new SeasonStats(), null, null);
+        return hostGame(team1Name, team2Name, info, gameMode, null, null, null);
     }
     
     /**
@@ -604,12 +795,12 @@ public class Game {
             return;
         }
         
-        System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println(LocalizedStrings.get("game.score_differential_title"));
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        ctx.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        ctx.out.println(ctx.strings.get(GAME_SCORE_DIFFERENTIAL_TITLE));
+        ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         
-        String team1Display = Constants.getLocalizedTeamName(team1.name);
-        String team2Display = Constants.getLocalizedTeamName(team2.name);
+        String team1Display = ctx.teamName(team1);
+        String team2Display = ctx.teamName(team2);
         
         // Find max differential to scale the diagram
         int maxDiff = 0;
@@ -622,27 +813,27 @@ public class Game {
         
         // Build separator line
         StringBuilder separator = new StringBuilder();
-        separator.append(team1Display).append(" ").append(LocalizedStrings.get("game.score_differential_leading"))
+        separator.append(team1Display).append(" ").append(ctx.strings.get(GAME_SCORE_DIFFERENTIAL_LEADING))
                  .append(" ←");
         for (int i = 0; i < 15; i++) separator.append("─");
         separator.append(" 0 ");
         for (int i = 0; i < 15; i++) separator.append("─");
         separator.append("→ ").append(team2Display).append(" ")
-                 .append(LocalizedStrings.get("game.score_differential_leading"));
-        System.out.println(separator.toString());
-        System.out.println();
+                 .append(ctx.strings.get(GAME_SCORE_DIFFERENTIAL_LEADING));
+        ctx.out.println(separator.toString());
+        ctx.out.println();
         
         int lastQuarter = 0;
         for (ScoreDifferentialPoint point : scoreDifferentials) {
             // Print quarter separator
             if (point.quarter != lastQuarter) {
-                if (lastQuarter > 0) System.out.println();
+                if (lastQuarter > 0) ctx.out.println();
                 if (point.quarter <= 4) {
-                    System.out.println(LocalizedStrings.get("commentary.time.quarter_prefix") + 
+                    ctx.out.println(ctx.strings.get(TIME_QUARTER_PREFIX) + 
                                      point.quarter + 
-                                     LocalizedStrings.get("commentary.time.quarter_suffix") + ":");
+                                     ctx.strings.get(TIME_QUARTER_SUFFIX) + ":");
                 } else {
-                    System.out.println(LocalizedStrings.get("commentary.time.overtime_prefix") + 
+                    ctx.out.println(ctx.strings.get(TIME_OVERTIME_PREFIX) + 
                                      (point.quarter - 4) + ":");
                 }
                 lastQuarter = point.quarter;
@@ -674,13 +865,13 @@ public class Game {
             } else {
                 // Tied - just the center line
                 for (int i = 0; i < 15; i++) line.append(" ");
-                line.append("│ ").append(LocalizedStrings.get("game.score_differential_tied"));
+                line.append("│ ").append(ctx.strings.get(GAME_SCORE_DIFFERENTIAL_TIED));
             }
             
-            System.out.println(line.toString());
+            ctx.out.println(line.toString());
         }
         
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
+        ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
     }
 
     /**
@@ -694,9 +885,9 @@ public class Game {
             int minutes = timeRemaining / 60;
             int seconds = timeRemaining % 60;
             String quarterStr = quarter <= 4 ? 
-                LocalizedStrings.get("commentary.time.quarter_prefix") + quarter + 
-                LocalizedStrings.get("commentary.time.quarter_suffix") :
-                LocalizedStrings.get("commentary.time.overtime_prefix") + (quarter - 4);
+                ctx.strings.get(TIME_QUARTER_PREFIX) + quarter + 
+                ctx.strings.get(TIME_QUARTER_SUFFIX) :
+                ctx.strings.get(TIME_OVERTIME_PREFIX) + (quarter - 4);
             gameFlow.team1MaxLeadTime = quarterStr + " " + minutes + ":" + 
                                         String.format("%02d", seconds);
         }
@@ -705,9 +896,9 @@ public class Game {
             int minutes = timeRemaining / 60;
             int seconds = timeRemaining % 60;
             String quarterStr = quarter <= 4 ? 
-                LocalizedStrings.get("commentary.time.quarter_prefix") + quarter + 
-                LocalizedStrings.get("commentary.time.quarter_suffix") :
-                LocalizedStrings.get("commentary.time.overtime_prefix") + (quarter - 4);
+                ctx.strings.get(TIME_QUARTER_PREFIX) + quarter + 
+                ctx.strings.get(TIME_QUARTER_SUFFIX) :
+                ctx.strings.get(TIME_OVERTIME_PREFIX) + (quarter - 4);
             gameFlow.team2MaxLeadTime = quarterStr + " " + minutes + ":" + 
                                         String.format("%02d", seconds);
         }
@@ -729,32 +920,32 @@ public class Game {
      * Display game flow insights
      */
     private void displayGameFlowInsights(GameFlowInsights gameFlow, Team team1, Team team2) {
-        System.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        System.out.println(LocalizedStrings.get("game.flow_insights_title"));
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        ctx.out.println("\n━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+        ctx.out.println(ctx.strings.get(GAME_FLOW_INSIGHTS_TITLE));
+        ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         
-        String team1Display = Constants.getLocalizedTeamName(team1.name);
-        String team2Display = Constants.getLocalizedTeamName(team2.name);
+        String team1Display = ctx.teamName(team1);
+        String team2Display = ctx.teamName(team2);
         
         // Largest leads
         if (gameFlow.team1LargestLead > 0) {
-            System.out.println(LocalizedStrings.get("game.flow_largest_lead") + ": " + 
+            ctx.out.println(ctx.strings.get(GAME_FLOW_LARGEST_LEAD) + ": " + 
                              team1Display + " " + gameFlow.team1LargestLead + " " +
-                             LocalizedStrings.get("game.flow_points") + " (" + 
+                             ctx.strings.get(GAME_FLOW_POINTS) + " (" + 
                              gameFlow.team1MaxLeadTime + ")");
         }
         if (gameFlow.team2LargestLead > 0) {
-            System.out.println(LocalizedStrings.get("game.flow_largest_lead") + ": " + 
+            ctx.out.println(ctx.strings.get(GAME_FLOW_LARGEST_LEAD) + ": " + 
                              team2Display + " " + gameFlow.team2LargestLead + " " +
-                             LocalizedStrings.get("game.flow_points") + " (" + 
+                             ctx.strings.get(GAME_FLOW_POINTS) + " (" + 
                              gameFlow.team2MaxLeadTime + ")");
         }
         
         // Lead changes and times tied
-        System.out.println(LocalizedStrings.get("game.flow_lead_changes") + ": " + gameFlow.leadChanges);
-        System.out.println(LocalizedStrings.get("game.flow_times_tied") + ": " + gameFlow.timesTied);
+        ctx.out.println(ctx.strings.get(GAME_FLOW_LEAD_CHANGES) + ": " + gameFlow.leadChanges);
+        ctx.out.println(ctx.strings.get(GAME_FLOW_TIMES_TIED) + ": " + gameFlow.timesTied);
         
-        System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
+        ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
     }
 
     /**
@@ -820,7 +1011,7 @@ public class Game {
                 marker = "🔐 ";  // Strong defense (4+ steals OR 4+ blocks)
             }
             
-            topPlayers.add(new PlayerRecapData(p.getDisplayName(), p.score, p.rebound, p.assist, p.steal, p.block, 
+            topPlayers.add(new PlayerRecapData(ctx.playerName(p), p.score, p.rebound, p.assist, p.steal, p.block, 
                                              p.shotMade, p.shotAttempted, marker));
         }
 
@@ -832,8 +1023,7 @@ public class Game {
      */
     private void writeSeasonRecap() {
         try {
-            PrintStream recapPs = new PrintStream(recapPath + Constants.RECAP_NAME);
-            System.setOut(recapPs);
+            openOutput(recapPath + Constants.RECAP_NAME);
 
             // Group recaps by date
             Map<String, List<GameRecapData>> recapsByDate = new LinkedHashMap<>();
@@ -847,23 +1037,24 @@ public class Game {
                 List<GameRecapData> gamesOnDate = entry.getValue();
 
                 // Date header
-                System.out.println();
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                System.out.println(LocalizedStrings.get("recap.header") + " - " + date);
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                System.out.println();
+                ctx.out.println();
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println(ctx.strings.get(RECAP_HEADER) + " - " + date);
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println();
 
                 // Write each game on this date
                 for (GameRecapData game : gamesOnDate) {
                     writeGameRecap(game);
                 }
 
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
             }
 
-            recapPs.close();
         } catch (Exception e) {
             System.err.println("Error writing season recap: " + e.getMessage());
+        } finally {
+            closeOutput();
         }
     }
 
@@ -872,9 +1063,9 @@ public class Game {
      */
     private void writeGameRecap(GameRecapData game) {
         // Translate team names based on current language
-        String awayTeamDisplay = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        String awayTeamDisplay = ctx.language == LocalizedStrings.Language.CHINESE ?
                                 Constants.translateToChinese(game.awayTeam) : game.awayTeam;
-        String homeTeamDisplay = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        String homeTeamDisplay = ctx.language == LocalizedStrings.Language.CHINESE ?
                                 Constants.translateToChinese(game.homeTeam) : game.homeTeam;
         
         // Build W/L record strings
@@ -891,9 +1082,9 @@ public class Game {
         String overtimeSuffix = "";
         if (game.finalQuarter > 4) {
             int overtimeCount = game.finalQuarter - 4;
-            String otLabel = LocalizedStrings.get("game.overtime.suffix");
+            String otLabel = ctx.strings.get(GAME_OVERTIME_SUFFIX);
             
-            if (LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE) {
+            if (ctx.language == LocalizedStrings.Language.CHINESE) {
                 // Chinese: (加时) for 1 OT, (2加时) for 2 OT, etc.
                 if (overtimeCount == 1) {
                     overtimeSuffix = " (" + otLabel + ")";
@@ -911,34 +1102,34 @@ public class Game {
         }
         
         // Final score line with W/L records and overtime suffix
-        System.out.println(LocalizedStrings.get("game.finalscore") + ": " + awayRecord + awayTeamDisplay + " " + game.awayScore + 
-                          " " + LocalizedStrings.get("game.at") + " " + homeTeamDisplay + " " + game.homeScore + homeRecord + overtimeSuffix);
+        ctx.out.println(ctx.strings.get(GAME_FINALSCORE) + ": " + awayRecord + awayTeamDisplay + " " + game.awayScore + 
+                          " " + ctx.strings.get(GAME_AT) + " " + homeTeamDisplay + " " + game.homeScore + homeRecord + overtimeSuffix);
         
         // Shooting percentages line
-        System.out.println(LocalizedStrings.get("stat.fieldgoal.pct") + ": " + 
+        ctx.out.println(ctx.strings.get(STAT_FIELDGOAL_PCT) + ": " + 
                           String.format("%.1f", game.awayFgPct) + "% vs " + String.format("%.1f", game.homeFgPct) + "% | " +
-                          LocalizedStrings.get("stat.threepoint.pct") + ": " + 
+                          ctx.strings.get(STAT_THREEPOINT_PCT) + ": " + 
                           String.format("%.1f", game.away3pPct) + "% vs " + String.format("%.1f", game.home3pPct) + "%");
         
         // Away team top players
-        String awayLabel = LocalizedStrings.get("game.away");
-        System.out.println("  " + awayTeamDisplay + " (" + awayLabel + "):");
+        String awayLabel = ctx.strings.get(GAME_AWAY);
+        ctx.out.println("  " + awayTeamDisplay + " (" + awayLabel + "):");
         for (PlayerRecapData player : game.awayTopPlayers) {
             // Build player stats line with pts/reb/ast
             StringBuilder statsLine = new StringBuilder();
             statsLine.append("    ").append(player.marker).append(player.name).append(" - ")
-                     .append(player.points).append(LocalizedStrings.get("stat.points.short")).append(" ")
-                     .append(player.rebounds).append(LocalizedStrings.get("stat.rebounds.short")).append(" ")
-                     .append(player.assists).append(LocalizedStrings.get("stat.assists.short"));
+                     .append(player.points).append(ctx.strings.get(STAT_POINTS_SHORT)).append(" ")
+                     .append(player.rebounds).append(ctx.strings.get(STAT_REBOUNDS_SHORT)).append(" ")
+                     .append(player.assists).append(ctx.strings.get(STAT_ASSISTS_SHORT));
             
             // Add steals if outstanding
             if (player.steals >= Constants.MIN_OUTSTANDING_STEALS) {
-                statsLine.append(" ").append(player.steals).append(LocalizedStrings.get("stat.steals.short"));
+                statsLine.append(" ").append(player.steals).append(ctx.strings.get(STAT_STEALS_SHORT));
             }
             
             // Add blocks if outstanding
             if (player.blocks >= Constants.MIN_OUTSTANDING_BLOCKS) {
-                statsLine.append(" ").append(player.blocks).append(LocalizedStrings.get("stat.blocks.short"));
+                statsLine.append(" ").append(player.blocks).append(ctx.strings.get(STAT_BLOCKS_SHORT));
             }
             
             // Add field goal stats if player has high FG% (>= 70%)
@@ -950,28 +1141,28 @@ public class Game {
                 }
             }
             
-            System.out.println(statsLine.toString());
+            ctx.out.println(statsLine.toString());
         }
         
         // Home team top players
-        String homeLabel = LocalizedStrings.get("game.home");
-        System.out.println("  " + homeTeamDisplay + " (" + homeLabel + "):");
+        String homeLabel = ctx.strings.get(GAME_HOME);
+        ctx.out.println("  " + homeTeamDisplay + " (" + homeLabel + "):");
         for (PlayerRecapData player : game.homeTopPlayers) {
             // Build player stats line with pts/reb/ast
             StringBuilder statsLine = new StringBuilder();
             statsLine.append("    ").append(player.marker).append(player.name).append(" - ")
-                     .append(player.points).append(LocalizedStrings.get("stat.points.short")).append(" ")
-                     .append(player.rebounds).append(LocalizedStrings.get("stat.rebounds.short")).append(" ")
-                     .append(player.assists).append(LocalizedStrings.get("stat.assists.short"));
+                     .append(player.points).append(ctx.strings.get(STAT_POINTS_SHORT)).append(" ")
+                     .append(player.rebounds).append(ctx.strings.get(STAT_REBOUNDS_SHORT)).append(" ")
+                     .append(player.assists).append(ctx.strings.get(STAT_ASSISTS_SHORT));
             
             // Add steals if outstanding
             if (player.steals >= Constants.MIN_OUTSTANDING_STEALS) {
-                statsLine.append(" ").append(player.steals).append(LocalizedStrings.get("stat.steals.short"));
+                statsLine.append(" ").append(player.steals).append(ctx.strings.get(STAT_STEALS_SHORT));
             }
             
             // Add blocks if outstanding
             if (player.blocks >= Constants.MIN_OUTSTANDING_BLOCKS) {
-                statsLine.append(" ").append(player.blocks).append(LocalizedStrings.get("stat.blocks.short"));
+                statsLine.append(" ").append(player.blocks).append(ctx.strings.get(STAT_BLOCKS_SHORT));
             }
             
             // Add field goal stats if player has high FG% (>= 70%)
@@ -983,138 +1174,101 @@ public class Game {
                 }
             }
             
-            System.out.println(statsLine.toString());
+            ctx.out.println(statsLine.toString());
         }
         
         // Display game flow insights if available
         if (game.flowInsights != null) {
-            System.out.println();
+            ctx.out.println();
             writeGameFlowInsights(game.flowInsights, game.awayTeam, game.homeTeam);
         }
         
-        System.out.println();
+        ctx.out.println();
     }
 
     /**
      * Write game flow insights to recap
      */
     private void writeGameFlowInsights(GameFlowInsights gameFlow, String team1Name, String team2Name) {
-        String team1Display = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        String team1Display = ctx.language == LocalizedStrings.Language.CHINESE ?
                              Constants.translateToChinese(team1Name) : team1Name;
-        String team2Display = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        String team2Display = ctx.language == LocalizedStrings.Language.CHINESE ?
                              Constants.translateToChinese(team2Name) : team2Name;
         
         // Largest leads
         if (gameFlow.team1LargestLead > 0) {
-            System.out.println(LocalizedStrings.get("game.flow_largest_lead") + ": " + 
+            ctx.out.println(ctx.strings.get(GAME_FLOW_LARGEST_LEAD) + ": " + 
                              team1Display + " " + gameFlow.team1LargestLead + " " +
-                             LocalizedStrings.get("game.flow_points") + 
+                             ctx.strings.get(GAME_FLOW_POINTS) + 
                              (gameFlow.team1MaxLeadTime.isEmpty() ? "" : " (" + gameFlow.team1MaxLeadTime + ")"));
         }
         if (gameFlow.team2LargestLead > 0) {
-            System.out.println(LocalizedStrings.get("game.flow_largest_lead") + ": " + 
+            ctx.out.println(ctx.strings.get(GAME_FLOW_LARGEST_LEAD) + ": " + 
                              team2Display + " " + gameFlow.team2LargestLead + " " +
-                             LocalizedStrings.get("game.flow_points") + 
+                             ctx.strings.get(GAME_FLOW_POINTS) + 
                              (gameFlow.team2MaxLeadTime.isEmpty() ? "" : " (" + gameFlow.team2MaxLeadTime + ")"));
         }
         
         // Lead changes and times tied
-        System.out.println(LocalizedStrings.get("game.flow_lead_changes") + ": " + gameFlow.leadChanges);
-        System.out.println(LocalizedStrings.get("game.flow_times_tied") + ": " + gameFlow.timesTied);
+        ctx.out.println(ctx.strings.get(GAME_FLOW_LEAD_CHANGES) + ": " + gameFlow.leadChanges);
+        ctx.out.println(ctx.strings.get(GAME_FLOW_TIMES_TIED) + ": " + gameFlow.timesTied);
     }
 
     /**
      * Simulate a season (regular season + playoffs).
+     * In silent mode a failed game fails the whole season instead of being logged and skipped.
+     *
+     * @return The champion
      */
     public String hostSeason() {
-        SeasonStats stat = new SeasonStats();
+        seasonOutcome = new SeasonOutcome();
+        // silent seasons don't record stats
+        SeasonStats stat = silentMode ? null : new SeasonStats();
 
-        // Always use English team names for internal keys (schedule uses English names)
-        String[] eastDivision = Constants.EAST_TEAMS_EN;
-        String[] westDivision = Constants.WEST_TEAMS_EN;
+        // Compiled once per schedule file and shared by all seasons, team ids index the win / lose arrays
+        Schedule schedule = Schedule.forPath(schedulePath);
+        int[] totalWins = new int[RosterRepository.getTeamCount()];
+        int[] totalLoses = new int[RosterRepository.getTeamCount()];
 
-        // <teamName, [totalWin, totalLose, division(0 west, 1 east)]>
-        Map<String, List<Integer>> standing = new HashMap<>();
-        for (String team : eastDivision) {
-            List<Integer> record = new ArrayList<>(Arrays.asList(0, 0, 1));
-            standing.put(team, record);
-        }
-        for (String team : westDivision) {
-            List<Integer> record = new ArrayList<>(Arrays.asList(0, 0, 0));
-            standing.put(team, record);
-        }
-        
-        // Store standing reference for recap W/L records
-        this.currentStanding = standing;
+        // Store standing reference for recap W/L records and playoff home court
+        this.seasonWins = totalWins;
+        this.seasonLoses = totalLoses;
 
         // simulate regular season and calculate each team's win / lose count
-        try (BufferedReader file = new BufferedReader(new InputStreamReader(new FileInputStream(schedulePath), "UTF-8"))) {
-            String line;
-            String currentDate = "";
-            while ((line = file.readLine()) != null) {
-                // skip empty line
-                if (line.length() == 0) continue;
-                
-                // current line only contains a date, set as current date
-                else if ((line.charAt(0) == '0' || line.charAt(0) == '1') && line.charAt(2) == '-') currentDate = line;
-
-                // teams line, host game between two teams
-                else {
-                    String[] parts = line.split(" ");
-                    String team1, team2;
-                    
-                    // Handle "Trail Blazers" which has a space in the name
-                    if (parts.length == 3) {
-                        // Could be "Team1 Trail Blazers" or "Trail Blazers Team2"
-                        if (parts[0].equals("Trail") && parts[1].equals("Blazers")) {
-                            team1 = "Trail Blazers";
-                            team2 = parts[2];
-                        } else if (parts[1].equals("Trail") && parts[2].equals("Blazers")) {
-                            team1 = parts[0];
-                            team2 = "Trail Blazers";
-                        } else {
-                            // Fallback: shouldn't happen
-                            team1 = parts[0];
-                            team2 = parts[1];
-                        }
-                    } else if (parts.length == 4) {
-                        // Both teams have spaces: "Trail Blazers Trail Blazers" (shouldn't happen in practice)
-                        team1 = parts[0] + " " + parts[1];
-                        team2 = parts[2] + " " + parts[3];
-                    } else {
-                        // Normal case: two single-word team names
-                        team1 = parts[0];
-                        team2 = parts[1];
-                    }
-                    
-                    String gameWinner = hostGame(team1, team2, currentDate, "regular", stat);
-                    String gameLoser = gameWinner.equals(team1) ? team2 : team1;
-
-                    int winnerWin = standing.get(gameWinner).get(0);
-                    standing.get(gameWinner).set(0, winnerWin + 1);
+        try {
+            for (int game = 0; game < schedule.gameCount; game++) {
+                int team1Id = schedule.awayTeams[game];
+                int team2Id = schedule.homeTeams[game];
+
+                // fast mode draws the winner by team id, the bulk of a fast season's games cost one matrix read each
+                int winnerId;
+                if (silentMode && winProbabilities != null) {
+                    winnerId = winProbabilities.drawWinner(ctx.rootRandom, team1Id, team2Id);
+                } else {
+                    String team1 = RosterRepository.getTeamName(team1Id);
+                    String team2 = RosterRepository.getTeamName(team2Id);
+                    winnerId = hostGame(team1, team2, schedule.getDate(game), "regular", stat).equals(team1) ? team1Id : team2Id;
+                }
+                if (winnerId == team1Id) {
+                    totalWins[team1Id]++;
+                    totalLoses[team2Id]++;
+                } else {
+                    totalWins[team2Id]++;
+                    totalLoses[team1Id]++;
+                }
 
-                    int loserLose = standing.get(gameLoser).get(1);
-                    standing.get(gameLoser).set(1, loserLose + 1);
-                    
-                    // Update the most recent recap with updated W/L records
-                    if (!seasonRecaps.isEmpty()) {
-                        GameRecapData lastRecap = seasonRecaps.get(seasonRecaps.size() - 1);
-                        // team1 is away, team2 is home
-                        List<Integer> team1Record = standing.get(team1);
-                        List<Integer> team2Record = standing.get(team2);
-                        
-                        if (team1Record != null) {
-                            lastRecap.awayWins = team1Record.get(0);
-                            lastRecap.awayLosses = team1Record.get(1);
-                        }
-                        if (team2Record != null) {
-                            lastRecap.homeWins = team2Record.get(0);
-                            lastRecap.homeLosses = team2Record.get(1);
-                        }
-                    }
+                // Update the most recent recap with updated W/L records
+                if (!seasonRecaps.isEmpty()) {
+                    GameRecapData lastRecap = seasonRecaps.get(seasonRecaps.size() - 1);
+                    // team1 is away, team2 is home
+                    lastRecap.awayWins = totalWins[team1Id];
+                    lastRecap.awayLosses = totalLoses[team1Id];
+                    lastRecap.homeWins = totalWins[team2Id];
+                    lastRecap.homeLosses = totalLoses[team2Id];
                 }
             }
         } catch (Exception e) {
+            rethrowIfSilent("Regular season simulation", e);
             System.err.println("Error during regular season simulation: " + e.getMessage());
             e.printStackTrace();
         }
@@ -1122,91 +1276,89 @@ public class Game {
         // generate stats leaderboard
         if (!silentMode) {
             try {
-                ps = new PrintStream(statFilePath);
-                System.setOut(ps);
+                openOutput(statFilePath);
 
-                System.out.println(LocalizedStrings.get("leaderboard.player_ppg"));
-                stat.printPlayerRank(stat.playerPerScores);
+                ctx.out.println(ctx.strings.get(LEADERBOARD_PLAYER_PPG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.SCORES);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.player_rpg"));
-                stat.printPlayerRank(stat.playerPerRebs);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_PLAYER_RPG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.REBS);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.player_apg"));
-                stat.printPlayerRank(stat.playerPerAsts);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_PLAYER_APG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.ASTS);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.player_spg"));
-                stat.printPlayerRank(stat.playerPerStls);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_PLAYER_SPG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.STLS);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.player_bpg"));
-                stat.printPlayerRank(stat.playerPerBlks);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_PLAYER_BPG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.BLKS);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.player_ftmpg"));
-                stat.printPlayerRank(stat.playerPerFts);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_PLAYER_FTMPG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.FTS);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.player_3pmpg"));
-                stat.printPlayerRank(stat.playerPerThrees);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_PLAYER_3PMPG));
+                stat.printPlayerRank(ctx, SeasonStats.PlayerStat.THREES);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_ppg"));
-                stat.printTeamRank(stat.teamPerScores);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_PPG));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.SCORES);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_papg"));
-                stat.printTeamRank(stat.teamPerScoresAllowed);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_PAPG));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.SCORES_ALLOWED);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_fgmpg"));
-                stat.printTeamRank(stat.teamPerShotsMade);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_FGMPG));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.SHOTS_MADE);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_3pmpg"));
-                stat.printTeamRank(stat.teamPerThreeMade);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_3PMPG));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.THREE_MADE);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_ftmpg"));
-                stat.printTeamRank(stat.teamPerFreeMade);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_FTMPG));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.FREE_MADE);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_fgpct"));
-                stat.printTeamRank(stat.teamPerShotsPercent);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_FGPCT));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.SHOTS_PERCENT);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_3ppct"));
-                stat.printTeamRank(stat.teamPerThreePercent);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_3PPCT));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.THREE_PERCENT);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_opp_fgpct"));
-                stat.printTeamRank(stat.teamPerOpponentShotsPercent);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_OPP_FGPCT));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.OPPONENT_SHOTS_PERCENT);
 
-                System.out.println("\n" + LocalizedStrings.get("leaderboard.team_opp_3ppct"));
-                stat.printTeamRank(stat.teamPerOpponent3Percent);
+                ctx.out.println("\n" + ctx.strings.get(LEADERBOARD_TEAM_OPP_3PPCT));
+                stat.printTeamRank(ctx, SeasonStats.TeamStat.OPPONENT_3_PERCENT);
             } catch (Exception e) {
-                System.out.println(e);
+                ctx.out.println(e);
             }
         }
 
         // generate west & east divisions top 8 seeds
         try {
             if (!silentMode) {
-                ps = new PrintStream(standingFilePath);
-                System.setOut(ps);
+                openOutput(standingFilePath);
             }
 
             // top 8 seeds in both divisions
             String[] westTemp = new String[8];
             String[] eastTemp = new String[8];
             
-            // value is totalWin for easy sorting
-            Map<String, Integer> westStanding = new HashMap<>();
-            Map<String, Integer> eastStanding = new HashMap<>();
+            // team ids of both divisions
+            List<Integer> westStanding = new ArrayList<>();
+            List<Integer> eastStanding = new ArrayList<>();
 
-            for (String key : standing.keySet()) {
-                if (standing.get(key).get(2) == 0) westStanding.put(key, standing.get(key).get(0));
-                if (standing.get(key).get(2) == 1) eastStanding.put(key, standing.get(key).get(0));
+            for (int id = 0; id < RosterRepository.getTeamCount(); id++) {
+                if (RosterRepository.getDivision(id) == 0) westStanding.add(id);
+                else eastStanding.add(id);
             }
 
-            Comparator<Map.Entry<String, Integer>> vComparator = (o1, o2) -> {
+            Comparator<Integer> vComparator = (o1, o2) -> {
                 // first sort by total win
-                if (o1.getValue() != o2.getValue()) {
-                    return o2.getValue() - o1.getValue();
+                if (totalWins[o1] != totalWins[o2]) {
+                    return totalWins[o2] - totalWins[o1];
                 } else {
-                    int o1Lose = standing.get(o1.getKey()).get(1);
-                    int o2Lose = standing.get(o2.getKey()).get(1);
+                    int o1Lose = totalLoses[o1];
+                    int o2Lose = totalLoses[o2];
 
-                    double o1winRate = o1.getValue() * 100.0 / (o1.getValue() + o1Lose);
-                    double o2winRate = o2.getValue() * 100.0 / (o2.getValue() + o2Lose);
+                    double o1winRate = totalWins[o1] * 100.0 / (totalWins[o1] + o1Lose);
+                    double o2winRate = totalWins[o2] * 100.0 / (totalWins[o2] + o2Lose);
                     
                     // then sort by win rate
                     if (o2winRate > o1winRate) return 1;
@@ -1215,25 +1367,26 @@ public class Game {
                 }
             };
             
-            List<Map.Entry<String, Integer>> list = new ArrayList<Map.Entry<String, Integer>>(westStanding.entrySet());
-            Collections.sort(list, vComparator);
+            Collections.sort(westStanding, vComparator);
+            System.arraycopy(totalWins, 0, seasonOutcome.wins, 0, totalWins.length);
+            for (int i = 0; i < westStanding.size(); i++) seasonOutcome.conferenceSeed[westStanding.get(i)] = i + 1;
             if (!silentMode) {
-                System.out.println(LocalizedStrings.get("conference.west_standings"));
-                SeasonStats.printStanding(standing, list);
+                ctx.out.println(ctx.strings.get(CONFERENCE_WEST_STANDINGS));
+                SeasonStats.printStanding(ctx, totalWins, totalLoses, westStanding);
             }
             
             // Copy top 10 teams for play-in tournament
             String[] westTop10 = new String[10];
-            for (int i = 0; i < 10; i++) westTop10[i] = list.get(i).getKey();
+            for (int i = 0; i < 10; i++) westTop10[i] = RosterRepository.getTeamName(westStanding.get(i));
 
-            if (!silentMode) System.out.println("\n" + LocalizedStrings.get("conference.east_standings"));
-            list = new ArrayList<Map.Entry<String, Integer>>(eastStanding.entrySet());
-            Collections.sort(list, vComparator);
-            if (!silentMode) SeasonStats.printStanding(standing, list);
+            if (!silentMode) ctx.out.println("\n" + ctx.strings.get(CONFERENCE_EAST_STANDINGS));
+            Collections.sort(eastStanding, vComparator);
+            for (int i = 0; i < eastStanding.size(); i++) seasonOutcome.conferenceSeed[eastStanding.get(i)] = i + 1;
+            if (!silentMode) SeasonStats.printStanding(ctx, totalWins, totalLoses, eastStanding);
             
             // Copy top 10 teams for play-in tournament
             String[] eastTop10 = new String[10];
-            for (int i = 0; i < 10; i++) eastTop10[i] = list.get(i).getKey();
+            for (int i = 0; i < 10; i++) eastTop10[i] = RosterRepository.getTeamName(eastStanding.get(i));
 
             // Write season recap before play-in
             if (!silentMode) writeSeasonRecap();
@@ -1257,10 +1410,29 @@ public class Game {
             List<String> eastSeeds = reorderSeeds(eastTemp);
 
             return hostPlayoffs(westSeeds, eastSeeds);
-        } catch (Exception e) {}
+        } catch (Exception e) {
+            rethrowIfSilent("Postseason simulation", e);
+        } finally {
+            // a game that failed midway may have left its result file open
+            closeOutput();
+            outputs.closeAll();
+        }
         return "";
     }
 
+    /**
+     * Rethrow a failure of a silent simulation. Silent seasons are only run for their outcome, e.g. by the predictor,
+     * and a season carried on past a failed game would be counted with a missing or partial result.
+     *
+     * @param stage Name of the failed stage, for the error message
+     * @param e The failure
+     */
+    private void rethrowIfSilent(String stage, Exception e) {
+        if (!silentMode) return;
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        throw new IllegalStateException(stage + " failed: " + e, e);
+    }
+
     // List to store play-in recap data
     private List<PlayInRecapData> playinRecaps = new ArrayList<>();
     
@@ -1268,8 +1440,8 @@ public class Game {
     private List<PlayoffRoundRecap> playoffRecaps = new ArrayList<>();
     private String currentPlayoffRound = "";
     
-    // Map to track team seeding for home court advantage (lower number = higher seed)
-    private Map<String, Integer> teamSeedMap = new HashMap<>();
+    // Team seeding by team id for home court advantage (lower number = higher seed, 0 = not seeded)
+    private final int[] teamSeeds = new int[RosterRepository.getTeamCount()];
 
     /**
      * Inner class to store playoff round recap data
@@ -1367,21 +1539,21 @@ public class Game {
      * @return Array with [7th seed, 8th seed]
      */
     private String[] hostPlayInTournament(String[] top10, boolean isWest) throws Exception {
-        String conference = isWest ? LocalizedStrings.get("conference.west") : LocalizedStrings.get("conference.east");
+        String conference = isWest ? ctx.strings.get(CONFERENCE_WEST) : ctx.strings.get(CONFERENCE_EAST);
         String[] finalSeeds = new String[2];
         
         // Game 1: 7v8 - Winner gets 7th seed, loser goes to final
         // 7th seed has home court advantage
         String team7 = top10[6];
         String team8 = top10[7];
-        String round7v8 = conference + LocalizedStrings.get("playin.7v8");
+        String round7v8 = conference + ctx.strings.get(PLAYIN_7V8);
         String winner7v8 = hostGame(team8, team7, round7v8, "playin"); // team8 away, team7 home
         String loser7v8 = winner7v8.equals(team7) ? team8 : team7;
         
         // Collect 7v8 recap status
         collectPlayInRecap(team7, team8, round7v8, winner7v8, loser7v8,
-                          LocalizedStrings.get("playin.secured_prefix") + " " + LocalizedStrings.get("playin.secured.7"),
-                          LocalizedStrings.get("playin.advance_prefix") + " " + LocalizedStrings.get("playin.advanced"));
+                          ctx.strings.get(PLAYIN_SECURED_PREFIX) + " " + ctx.strings.get(PLAYIN_SECURED_7),
+                          ctx.strings.get(PLAYIN_ADVANCE_PREFIX) + " " + ctx.strings.get(PLAYIN_ADVANCED));
         
         finalSeeds[0] = winner7v8; // 7th seed secured
         
@@ -1389,28 +1561,34 @@ public class Game {
         // 9th seed has home court advantage
         String team9 = top10[8];
         String team10 = top10[9];
-        String round9v10 = conference + LocalizedStrings.get("playin.9v10");
+        String round9v10 = conference + ctx.strings.get(PLAYIN_9V10);
         String winner9v10 = hostGame(team10, team9, round9v10, "playin"); // team10 away, team9 home
         String loser9v10 = winner9v10.equals(team9) ? team10 : team9;
         
         // Collect 9v10 recap status
         collectPlayInRecap(team9, team10, round9v10, winner9v10, loser9v10,
-                          LocalizedStrings.get("playin.advance_prefix") + " " + LocalizedStrings.get("playin.advanced"),
-                          LocalizedStrings.get("playin.eliminated_prefix") + " " + LocalizedStrings.get("playin.eliminated"));
+                          ctx.strings.get(PLAYIN_ADVANCE_PREFIX) + " " + ctx.strings.get(PLAYIN_ADVANCED),
+                          ctx.strings.get(PLAYIN_ELIMINATED_PREFIX) + " " + ctx.strings.get(PLAYIN_ELIMINATED));
         
         // Game 3: 8th seed battle - Winner gets 8th seed, loser eliminated
         // Higher seed (loser of 7v8, who was 7th or 8th) has home court advantage
-        String roundFinal = conference + LocalizedStrings.get("playin.final_battle");
+        String roundFinal = conference + ctx.strings.get(PLAYIN_FINAL_BATTLE);
         // loser7v8 is either 7th or 8th seed (higher), winner9v10 is 9th or 10th seed (lower)
         String winner8th = hostGame(winner9v10, loser7v8, roundFinal, "playin"); // winner9v10 away, loser7v8 home
         String loser8th = winner8th.equals(loser7v8) ? winner9v10 : loser7v8;
         
         // Collect final recap status
         collectPlayInRecap(loser7v8, winner9v10, roundFinal, winner8th, loser8th,
-                          LocalizedStrings.get("playin.secured_prefix") + " " + LocalizedStrings.get("playin.secured.8"),
-                          LocalizedStrings.get("playin.eliminated_prefix") + " " + LocalizedStrings.get("playin.eliminated"));
+                          ctx.strings.get(PLAYIN_SECURED_PREFIX) + " " + ctx.strings.get(PLAYIN_SECURED_8),
+                          ctx.strings.get(PLAYIN_ELIMINATED_PREFIX) + " " + ctx.strings.get(PLAYIN_ELIMINATED));
         
         finalSeeds[1] = winner8th; // 8th seed secured
+
+        for (int i = 6; i < 10; i++) {
+            int teamId = RosterRepository.getTeamId(top10[i]);
+            boolean isSeeded = top10[i].equals(finalSeeds[0]) || top10[i].equals(finalSeeds[1]);
+            if (teamId >= 0) seasonOutcome.playIn[teamId] = isSeeded ? SeasonOutcome.PLAY_IN_WON : SeasonOutcome.PLAY_IN_LOST;
+        }
         
         return finalSeeds;
     }
@@ -1461,15 +1639,14 @@ public class Game {
      */
     private void writePlayInRecap() {
         try {
-            PrintStream playinPs = new PrintStream(recapPath + Constants.PLAYIN_RECAP_NAME);
-            System.setOut(playinPs);
+            openOutput(recapPath + Constants.PLAYIN_RECAP_NAME);
 
             for (PlayInRecapData recap : playinRecaps) {
-                System.out.println();
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                System.out.println(recap.roundName);
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                System.out.println();
+                ctx.out.println();
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println(recap.roundName);
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println();
                 
                 writeGameRecap(recap.gameData);
                 
@@ -1479,19 +1656,20 @@ public class Game {
                 String loserEnglish = winnerEnglish.equals(recap.gameData.awayTeam) ? 
                               recap.gameData.homeTeam : recap.gameData.awayTeam;
                 
-                String winner = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+                String winner = ctx.language == LocalizedStrings.Language.CHINESE ?
                                Constants.translateToChinese(winnerEnglish) : winnerEnglish;
-                String loser = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+                String loser = ctx.language == LocalizedStrings.Language.CHINESE ?
                               Constants.translateToChinese(loserEnglish) : loserEnglish;
                 
-                System.out.println("   " + winner + ": " + recap.winnerStatus);
-                System.out.println("   " + loser + ": " + recap.loserStatus);
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println("   " + winner + ": " + recap.winnerStatus);
+                ctx.out.println("   " + loser + ": " + recap.loserStatus);
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
             }
 
-            playinPs.close();
         } catch (Exception e) {
             System.err.println("Error writing play-in recap: " + e.getMessage());
+        } finally {
+            closeOutput();
         }
     }
 
@@ -1500,25 +1678,25 @@ public class Game {
      */
     private void writePlayoffRecap() {
         try {
-            PrintStream playoffPs = new PrintStream(recapPath + Constants.PLAYOFF_RECAP_NAME);
-            System.setOut(playoffPs);
+            openOutput(recapPath + Constants.PLAYOFF_RECAP_NAME);
 
             for (PlayoffRoundRecap roundRecap : playoffRecaps) {
-                System.out.println();
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                System.out.println(roundRecap.roundName);
-                System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-                System.out.println();
+                ctx.out.println();
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println(roundRecap.roundName);
+                ctx.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
+                ctx.out.println();
 
                 for (SeriesRecap series : roundRecap.series) {
                     writeSeriesRecap(series);
-                    System.out.println();
+                    ctx.out.println();
                 }
             }
 
-            playoffPs.close();
         } catch (Exception e) {
             System.err.println("Error writing playoff recap: " + e.getMessage());
+        } finally {
+            closeOutput();
         }
     }
 
@@ -1527,38 +1705,38 @@ public class Game {
      */
     private void writeSeriesRecap(SeriesRecap series) {
         // Translate team names for display
-        String team1Display = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        String team1Display = ctx.language == LocalizedStrings.Language.CHINESE ?
                              Constants.translateToChinese(series.team1) : series.team1;
-        String team2Display = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+        String team2Display = ctx.language == LocalizedStrings.Language.CHINESE ?
                              Constants.translateToChinese(series.team2) : series.team2;
         
         // Get MVP display name
         String mvpDisplay = "";
         if (series.mvpPlayerName != null && !series.mvpPlayerName.isEmpty()) {
-            mvpDisplay = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.ENGLISH ?
+            mvpDisplay = ctx.language == LocalizedStrings.Language.ENGLISH ?
                         series.mvpPlayerEnglishName : series.mvpPlayerName;
         }
 
         // Series header
-        System.out.println("────────────────────────────────────────────────────────────");
-        System.out.println("【" + team1Display + team2Display + "-" + series.seriesName + "】");
+        ctx.out.println("────────────────────────────────────────────────────────────");
+        ctx.out.println("【" + team1Display + team2Display + "-" + series.seriesName + "】");
         
         // Series result
-        String seriesResultLabel = LocalizedStrings.get("playoff.recap.series_result");
-        System.out.println(seriesResultLabel + ": " + team1Display + " " + 
+        String seriesResultLabel = ctx.strings.get(PLAYOFF_RECAP_SERIES_RESULT);
+        ctx.out.println(seriesResultLabel + ": " + team1Display + " " + 
                           series.team1Wins + ":" + series.team2Wins + " " + team2Display);
         
         // Series MVP
         if (!mvpDisplay.isEmpty()) {
-            String mvpLabel = LocalizedStrings.get("playoff.recap.series_mvp");
-            String avgLabel = LocalizedStrings.get("playoff.recap.average");
-            String ptsLabel = LocalizedStrings.get("stat.points.short");
-            String rebLabel = LocalizedStrings.get("stat.rebounds.short");
-            String astLabel = LocalizedStrings.get("stat.assists.short");
-            String stlLabel = LocalizedStrings.get("stat.steals.short");
-            String blkLabel = LocalizedStrings.get("stat.blocks.short");
+            String mvpLabel = ctx.strings.get(PLAYOFF_RECAP_SERIES_MVP);
+            String avgLabel = ctx.strings.get(PLAYOFF_RECAP_AVERAGE);
+            String ptsLabel = ctx.strings.get(STAT_POINTS_SHORT);
+            String rebLabel = ctx.strings.get(STAT_REBOUNDS_SHORT);
+            String astLabel = ctx.strings.get(STAT_ASSISTS_SHORT);
+            String stlLabel = ctx.strings.get(STAT_STEALS_SHORT);
+            String blkLabel = ctx.strings.get(STAT_BLOCKS_SHORT);
             
-            System.out.println(mvpLabel + ": " + mvpDisplay + " (" + avgLabel + " " +
+            ctx.out.println(mvpLabel + ": " + mvpDisplay + " (" + avgLabel + " " +
                              series.mvpAvgPoints + ptsLabel + " " +
                              series.mvpAvgRebounds + rebLabel + " " +
                              series.mvpAvgAssists + astLabel + " " +
@@ -1566,7 +1744,7 @@ public class Game {
                              series.mvpAvgBlocks + blkLabel + ")");
         }
         
-        System.out.println();
+        ctx.out.println();
 
         // Write each game in the series
         for (int i = 0; i < series.games.size(); i++) {
@@ -1589,32 +1767,32 @@ public class Game {
             }
             
             // Game header with series record showing team names and their wins
-            String seriesRecordLabel = LocalizedStrings.get("playoff.recap.series_record");
-            System.out.print("G" + gameNum + ": (" + seriesRecordLabel + " " + 
+            String seriesRecordLabel = ctx.strings.get(PLAYOFF_RECAP_SERIES_RECORD);
+            ctx.out.print("G" + gameNum + ": (" + seriesRecordLabel + " " + 
                            team1Display + " " + team1WinsSoFar + "-" + team2WinsSoFar + " " + team2Display + ")");
             
             // Check if this is the clinching game
             if ((team1WinsSoFar == 4 || team2WinsSoFar == 4) && i == series.games.size() - 1) {
                 // Check if this is championship (总决赛)
-                String championshipLabel = LocalizedStrings.get("playoff.round.championship");
+                String championshipLabel = ctx.strings.get(PLAYOFF_ROUND_CHAMPIONSHIP);
                 boolean isChampionship = series.seriesName.contains(championshipLabel);
                 
                 String advanceLabel = isChampionship ? 
-                    LocalizedStrings.get("playoff.recap.champion") : 
-                    LocalizedStrings.get("playoff.recap.advance");
+                    ctx.strings.get(PLAYOFF_RECAP_CHAMPION) : 
+                    ctx.strings.get(PLAYOFF_RECAP_ADVANCE);
                 String winner = team1WinsSoFar == 4 ? team1Display : team2Display;
-                System.out.print(" " + winner + advanceLabel);
+                ctx.out.print(" " + winner + advanceLabel);
             }
-            System.out.println();
+            ctx.out.println();
             
             writeGameRecap(game);
             
             if (i < series.games.size() - 1) {
-                System.out.println("────────────────────────────────────────");
+                ctx.out.println("────────────────────────────────────────");
             }
         }
         
-        System.out.println("────────────────────────────────────────────────────────────");
+        ctx.out.println("────────────────────────────────────────────────────────────");
     }
 
     /**
@@ -1630,6 +1808,14 @@ public class Game {
         return result;
     }
 
+    /**
+     * Get a team's playoff seed, 99 if the team is not seeded.
+     */
+    private int getTeamSeed(String team) {
+        int teamId = RosterRepository.getTeamId(team);
+        return teamId >= 0 && teamSeeds[teamId] > 0 ? teamSeeds[teamId] : 99;
+    }
+
     /**
      * Determine home and away teams for a playoff game based on 2-2-1-1-1 format
      * Games 1, 2, 5, 7: Higher seed at home
@@ -1642,8 +1828,8 @@ public class Game {
      */
     private String[] getHomeAwayTeams(String team1, String team2, int gameNumber) {
         // Determine which team is higher seed
-        int team1Seed = teamSeedMap.getOrDefault(team1, 99);
-        int team2Seed = teamSeedMap.getOrDefault(team2, 99);
+        int team1Seed = getTeamSeed(team1);
+        int team2Seed = getTeamSeed(team2);
         
         String higherSeed = team1Seed < team2Seed ? team1 : team2;
         String lowerSeed = team1Seed < team2Seed ? team2 : team1;
@@ -1672,9 +1858,7 @@ public class Game {
         SeriesRecap seriesRecap = new SeriesRecap(team1, team2, seriesName);
         
         // Track player stats across the series for MVP calculation
-        Map<String, int[]> playerSeriesStats = new HashMap<>(); // name -> [games, pts, reb, ast, stl, blk]
-        Map<String, String> playerEnglishNames = new HashMap<>(); // Chinese name -> English name
-        Map<String, String> playerTeamMap = new HashMap<>(); // Chinese name -> team English name
+        int[][] playerSeriesStats = silentMode ? null : new int[RosterRepository.getPlayerCount()][]; // player id -> [games, pts, reb, ast, stl, blk]
 
         try {
             while (gameCount <= 7) {
@@ -1685,7 +1869,7 @@ public class Game {
                 
                 // Pass series order (team1, team2) for consistent file naming
                 String gameWinner = hostGame(awayTeam, homeTeam, seriesName + "G" + gameCount, "playoffs", 
-                                            new SeasonStats(), team1, team2);
+                                            null, team1, team2);
                 
                 // Update win counts first
                 if (gameWinner.equals(team1)) team1Win += 1;
@@ -1695,7 +1879,7 @@ public class Game {
                 // Pass team1 and team2 names to maintain series order consistency
                 if (!silentMode) {
                     collectPlayoffGameData(lastPlayoffTeam1, lastPlayoffTeam2, seriesRecap, gameCount, 
-                                          team1Win, team2Win, playerSeriesStats, playerEnglishNames, playerTeamMap,
+                                          team1Win, team2Win, playerSeriesStats,
                                           team1, team2, lastPlayoffFinalQuarter);
                 }
                 
@@ -1709,13 +1893,14 @@ public class Game {
             seriesRecap.team2Wins = team2Win;
             
             // Calculate series MVP
-            if (!silentMode) calculateSeriesMVP(seriesRecap, playerSeriesStats, playerEnglishNames, playerTeamMap);
+            if (!silentMode) calculateSeriesMVP(seriesRecap, playerSeriesStats);
             
             // Store the series recap
             if (!silentMode) addToPlayoffRecaps(seriesRecap);
 
             return team1Win == 4 ? team1 : team2;
         } catch (Exception e) {
+            rethrowIfSilent("Playoff series simulation", e);
             return "";
         }
     }
@@ -1724,8 +1909,7 @@ public class Game {
      * Collect playoff game data for recap
      */
     private void collectPlayoffGameData(Team team1, Team team2, SeriesRecap seriesRecap, int gameCount,
-                                       int team1Wins, int team2Wins, Map<String, int[]> playerSeriesStats,
-                                       Map<String, String> playerEnglishNames, Map<String, String> playerTeamMap,
+                                       int team1Wins, int team2Wins, int[][] playerSeriesStats,
                                        String seriesTeam1Name, String seriesTeam2Name, int finalQuarter) {
         // team1 and team2 here are in away/home order from the actual game
         // We need to store them in away/home order for display, but track series wins correctly
@@ -1751,12 +1935,12 @@ public class Game {
         // Update series stats for all players who played
         for (Player p : team1.players) {
             if (p.hasBeenOnCourt) {
-                updatePlayerSeriesStats(p, playerSeriesStats, playerEnglishNames, playerTeamMap);
+                updatePlayerSeriesStats(p, playerSeriesStats);
             }
         }
         for (Player p : team2.players) {
             if (p.hasBeenOnCourt) {
-                updatePlayerSeriesStats(p, playerSeriesStats, playerEnglishNames, playerTeamMap);
+                updatePlayerSeriesStats(p, playerSeriesStats);
             }
         }
 
@@ -1766,42 +1950,37 @@ public class Game {
     /**
      * Update player's series stats for MVP calculation
      */
-    private void updatePlayerSeriesStats(Player p, Map<String, int[]> playerSeriesStats, 
-                                        Map<String, String> playerEnglishNames, Map<String, String> playerTeamMap) {
-        String name = p.name;
-        int[] stats = playerSeriesStats.getOrDefault(name, new int[6]);
+    private void updatePlayerSeriesStats(Player p, int[][] playerSeriesStats) {
+        if (playerSeriesStats[p.id] == null) playerSeriesStats[p.id] = new int[6];
+        int[] stats = playerSeriesStats[p.id];
         stats[0]++; // games played
         stats[1] += p.score;
         stats[2] += p.rebound;
         stats[3] += p.assist;
         stats[4] += p.steal;
         stats[5] += p.block;
-        playerSeriesStats.put(name, stats);
-        playerEnglishNames.put(name, p.englishName);
-        playerTeamMap.put(name, p.teamName); // Track which team this player belongs to
     }
 
     /**
      * Calculate series MVP based on performance
      */
-    private void calculateSeriesMVP(SeriesRecap seriesRecap, Map<String, int[]> playerSeriesStats,
-                                   Map<String, String> playerEnglishNames, Map<String, String> playerTeamMap) {
-        String mvpName = "";
+    private void calculateSeriesMVP(SeriesRecap seriesRecap, int[][] playerSeriesStats) {
+        int mvpId = -1;
         double maxScore = 0;
         
         // Determine winning team
         String winningTeam = seriesRecap.team1Wins == 4 ? seriesRecap.team1 : seriesRecap.team2;
+        int winningTeamId = RosterRepository.getTeamId(winningTeam);
         
         // Find player with highest MVP score from winning team only
-        for (Map.Entry<String, int[]> entry : playerSeriesStats.entrySet()) {
-            String playerName = entry.getKey();
-            int[] stats = entry.getValue();
+        for (int playerId = 0; playerId < playerSeriesStats.length; playerId++) {
+            int[] stats = playerSeriesStats[playerId];
+            if (stats == null) continue;
             int games = stats[0];
             
             if (games >= 1) {
                 // Only consider players from the winning team for MVP
-                String playerTeam = playerTeamMap.get(playerName);
-                if (!playerTeam.equals(winningTeam)) {
+                if (RosterRepository.getPlayer(playerId).teamId != winningTeamId) {
                     continue; // Skip players not on the winning team
                 }
                 
@@ -1816,16 +1995,16 @@ public class Game {
                 
                 if (mvpScore > maxScore) {
                     maxScore = mvpScore;
-                    mvpName = playerName;
+                    mvpId = playerId;
                 }
             }
         }
         
-        if (!mvpName.isEmpty()) {
-            int[] mvpStats = playerSeriesStats.get(mvpName);
+        if (mvpId >= 0) {
+            int[] mvpStats = playerSeriesStats[mvpId];
             int games = mvpStats[0];
-            seriesRecap.mvpPlayerName = mvpName;
-            seriesRecap.mvpPlayerEnglishName = playerEnglishNames.get(mvpName);
+            seriesRecap.mvpPlayerName = RosterRepository.getPlayer(mvpId).name;
+            seriesRecap.mvpPlayerEnglishName = RosterRepository.getPlayer(mvpId).englishName;
             seriesRecap.mvpAvgPoints = Utilities.roundDouble(mvpStats[1] * 1.0 / games);
             seriesRecap.mvpAvgRebounds = Utilities.roundDouble(mvpStats[2] * 1.0 / games);
             seriesRecap.mvpAvgAssists = Utilities.roundDouble(mvpStats[3] * 1.0 / games);
@@ -1863,15 +2042,16 @@ public class Game {
      * @return The conference champion
      */
     public String getConferenceChamp(List<String> seeds, boolean isWest) {
-        String DIVISION = LocalizedStrings.get(isWest ? "conference.west" : "conference.east");
-        String FIRST_PREFIX = LocalizedStrings.get("playoff.round.first");
-        String SECOND_PREFIX = LocalizedStrings.get("playoff.round.semi");
-        String THIRD_PREFIX = LocalizedStrings.get("playoff.round.final");
+        String DIVISION = ctx.strings.get(isWest ? CONFERENCE_WEST : CONFERENCE_EAST);
+        String FIRST_PREFIX = ctx.strings.get(PLAYOFF_ROUND_FIRST);
+        String SECOND_PREFIX = ctx.strings.get(PLAYOFF_ROUND_SEMI);
+        String THIRD_PREFIX = ctx.strings.get(PLAYOFF_ROUND_FINAL);
 
         // Store seeding information for home court advantage
         // Seeds are 1-indexed in basketball terminology, but 0-indexed in the list
         for (int i = 0; i < seeds.size(); i++) {
-            teamSeedMap.put(seeds.get(i), i + 1); // 1 = highest seed, 8 = lowest seed
+            int teamId = RosterRepository.getTeamId(seeds.get(i));
+            if (teamId >= 0) teamSeeds[teamId] = i + 1; // 1 = highest seed, 8 = lowest seed
         }
 
         // each round has at most 4 win teams
@@ -1890,6 +2070,8 @@ public class Game {
             for (int i = 0; i < 8; i += 2) {
                 team1 = seeds.get(i);
                 team2 = seeds.get(i + 1);
+                seasonOutcome.reachRound(team1, SeasonOutcome.FIRST_ROUND);
+                seasonOutcome.reachRound(team2, SeasonOutcome.FIRST_ROUND);
                 winner = hostSeries(team1, team2, DIVISION + FIRST_PREFIX);
                 winIndexes[i/2] = winner.equals(team1) ? i : i+1;
             }
@@ -1901,6 +2083,8 @@ public class Game {
             for (int i = 0; i < 4; i += 2) {
                 team1 = secondRound.get(i);
                 team2 = secondRound.get(i + 1);
+                seasonOutcome.reachRound(team1, SeasonOutcome.CONFERENCE_SEMIFINALS);
+                seasonOutcome.reachRound(team2, SeasonOutcome.CONFERENCE_SEMIFINALS);
                 winner = hostSeries(team1, team2, DIVISION + SECOND_PREFIX);
                 winIndexes[i/2] = winner.equals(team1) ? i : i+1;
             }
@@ -1910,8 +2094,12 @@ public class Game {
             for (int i = 0; i < 2; i++) thirdRound.add(secondRound.get(winIndexes[i]));
             team1 = thirdRound.get(0);
             team2 = thirdRound.get(1);
+            seasonOutcome.reachRound(team1, SeasonOutcome.CONFERENCE_FINALS);
+            seasonOutcome.reachRound(team2, SeasonOutcome.CONFERENCE_FINALS);
             conferenceChamp = hostSeries(team1, team2, DIVISION + THIRD_PREFIX);
-        } catch (Exception e) {}
+        } catch (Exception e) {
+            rethrowIfSilent("Conference playoff simulation", e);
+        }
 
         return conferenceChamp;
     }
@@ -1923,21 +2111,21 @@ public class Game {
      * @param eastSeeds All 8 seeds of East division
      */
     public String hostPlayoffs(List<String> westSeeds, List<String> eastSeeds) {
-        String FINAL_PREFIX = LocalizedStrings.get("playoff.round.championship");
+        String FINAL_PREFIX = ctx.strings.get(PLAYOFF_ROUND_CHAMPIONSHIP);
         String westChamp = getConferenceChamp(westSeeds, true);
         String eastChamp = getConferenceChamp(eastSeeds, false);
         
         // For NBA Finals, determine home court advantage based on regular season record
         // The team with better regular season record gets home court (lower seed number)
-        if (currentStanding != null) {
-            List<Integer> westRecord = currentStanding.get(westChamp);
-            List<Integer> eastRecord = currentStanding.get(eastChamp);
+        if (seasonWins != null) {
+            int westId = RosterRepository.getTeamId(westChamp);
+            int eastId = RosterRepository.getTeamId(eastChamp);
             
-            if (westRecord != null && eastRecord != null) {
-                int westWins = westRecord.get(0);
-                int westLosses = westRecord.get(1);
-                int eastWins = eastRecord.get(0);
-                int eastLosses = eastRecord.get(1);
+            if (westId >= 0 && eastId >= 0) {
+                int westWins = seasonWins[westId];
+                int westLosses = seasonLoses[westId];
+                int eastWins = seasonWins[eastId];
+                int eastLosses = seasonLoses[eastId];
                 
                 // Calculate win percentages
                 double westWinPct = westWins * 100.0 / (westWins + westLosses);
@@ -1945,25 +2133,28 @@ public class Game {
                 
                 // Team with better record gets seed 1 (home court), other gets seed 2
                 if (westWinPct > eastWinPct) {
-                    teamSeedMap.put(westChamp, 1); // West has better record
-                    teamSeedMap.put(eastChamp, 2);
+                    teamSeeds[westId] = 1; // West has better record
+                    teamSeeds[eastId] = 2;
                 } else if (eastWinPct > westWinPct) {
-                    teamSeedMap.put(eastChamp, 1); // East has better record
-                    teamSeedMap.put(westChamp, 2);
+                    teamSeeds[eastId] = 1; // East has better record
+                    teamSeeds[westId] = 2;
                 } else {
                     // Same win percentage, team with fewer losses gets home court
                     if (westLosses < eastLosses) {
-                        teamSeedMap.put(westChamp, 1);
-                        teamSeedMap.put(eastChamp, 2);
+                        teamSeeds[westId] = 1;
+                        teamSeeds[eastId] = 2;
                     } else {
-                        teamSeedMap.put(eastChamp, 1);
-                        teamSeedMap.put(westChamp, 2);
+                        teamSeeds[eastId] = 1;
+                        teamSeeds[westId] = 2;
                     }
                 }
             }
         }
         
+        seasonOutcome.reachRound(westChamp, SeasonOutcome.FINALS);
+        seasonOutcome.reachRound(eastChamp, SeasonOutcome.FINALS);
         String champion = hostSeries(westChamp, eastChamp, FINAL_PREFIX);
+        seasonOutcome.reachRound(champion, SeasonOutcome.CHAMPION);
         
         // Write playoff recap after all playoff games complete
         if (!silentMode) writePlayoffRecap();
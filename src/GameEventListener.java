@@ -0,0 +1,180 @@
+package src;
+
+import java.util.List;
+
+/**
+ * Receives play-by-play events from the game engine.
+ * The engine only reports what happened; listeners decide what to do with it,
+ * e.g. CommentaryListener formats live comments, while NONE ignores everything
+ * so headless simulations do no string work at all.
+ */
+public interface GameEventListener {
+
+    /** Listener that ignores every event, used by silent simulations */
+    GameEventListener NONE = new GameEventListener() {};
+
+    /**
+     * Two teams jump ball before the game starts.
+     */
+    default void onJumpBall(Team team1, Team team2, Team winTeam) {}
+
+    /**
+     * Two players jump ball after a held ball.
+     */
+    default void onHeldBall(Player offensePlayer, Player defensePlayer, Player winPlayer) {}
+
+    /**
+     * A player gets the ball and starts a possession.
+     */
+    default void onPossession(Team offenseTeam, Player offensePlayer, Player defensePlayer) {}
+
+    /**
+     * A player turns the ball over.
+     */
+    default void onTurnover(Player offensePlayer) {}
+
+    /**
+     * A defender steals the ball.
+     */
+    default void onSteal(Player offensePlayer, Player defensePlayer) {}
+
+    /**
+     * The team that stole the ball sets up a half-court offense.
+     */
+    default void onNoFastBreak(Team team) {}
+
+    /**
+     * The team that stole the ball scores on a fast break.
+     */
+    default void onFastBreak(Team team, Player finisher) {}
+
+    /**
+     * A defender blocks the shot.
+     */
+    default void onBlock(Player defensePlayer) {}
+
+    /**
+     * A blocked shot goes out of bounds.
+     */
+    default void onBlockOutOfBounds(Player defensePlayer) {}
+
+    /**
+     * A player grabs a rebound.
+     */
+    default void onRebound(Player rebounder, boolean isOffensive) {}
+
+    /**
+     * A player fouls out or is ejected.
+     */
+    default void onFoulOut(Player player, boolean isNormalFoul) {}
+
+    /**
+     * A player in foul trouble is benched.
+     */
+    default void onFoulProtect(Player player) {}
+
+    /**
+     * A player comes off the bench to replace a teammate.
+     */
+    default void onSubstitution(Player currentPlayer, Player previousPlayer) {}
+
+    /**
+     * An offensive foul without free throws.
+     */
+    default void onOffensiveFoul(Player fouler, int type) {}
+
+    /**
+     * A defensive foul without free throws.
+     */
+    default void onDefensiveFoul(Player fouler, int type) {}
+
+    /**
+     * A team challenges a foul call.
+     */
+    default void onChallenge(Team team, boolean isSuccessful) {}
+
+    /**
+     * A team reaches the quarter foul bonus.
+     */
+    default void onFoulBonus(Team offenseTeam, Team defenseTeam) {}
+
+    /**
+     * A team calls a timeout.
+     */
+    default void onTimeout(Team team) {}
+
+    /**
+     * A player attempts a shot.
+     */
+    default void onShotAttempt(Player offensePlayer, int distance, Player.ShotType shotType) {}
+
+    /**
+     * A player makes a shot.
+     */
+    default void onMadeShot(Player offensePlayer, Player defensePlayer, int distance, Player.ShotType shotType) {}
+
+    /**
+     * A player misses a shot.
+     */
+    default void onMissedShot(Player offensePlayer, Player.ShotType shotType) {}
+
+    /**
+     * A missed shot goes out of bounds.
+     */
+    default void onShotOutOfBounds(Player offensePlayer) {}
+
+    /**
+     * A player scores with a foul, and goes to the line for one.
+     */
+    default void onAndOne(Player offensePlayer) {}
+
+    /**
+     * A shooting foul.
+     */
+    default void onShootingFoul(Player offensePlayer, Player defensePlayer) {}
+
+    /**
+     * A flagrant foul.
+     */
+    default void onFlagrantFoul(Player offensePlayer, Player defensePlayer) {}
+
+    /**
+     * A player steps to the free throw line.
+     */
+    default void onFreeThrowPrepare(Player player) {}
+
+    /**
+     * A free throw attempt.
+     */
+    default void onFreeThrow(Player player, int count, boolean onlyOneShot, boolean isMade) {}
+
+    /**
+     * A player gets injured.
+     */
+    default void onInjury(Player player) {}
+
+    /**
+     * The score changes.
+     */
+    default void onScoreUpdate(int quarterTime, int currentQuarter, Team awayTeam, Team homeTeam) {}
+
+    /**
+     * A basket is scored in garbage time.
+     */
+    default void onGarbageTime(Team team1, Team team2) {}
+
+    /**
+     * A quarter ends.
+     */
+    default void onQuarterEnd(int currentQuarter, Team awayTeam, Team homeTeam) {}
+
+    /**
+     * Regulation ends tied, overtime starts.
+     */
+    default void onRegulationEnd(Team awayTeam, Team homeTeam) {}
+
+    /**
+     * The game ends. Team totals are already summed up.
+     */
+    default void onGameEnd(Team awayTeam, Team homeTeam, List<Integer> awayScores, List<Integer> homeScores) {}
+}
@@ -0,0 +1,209 @@
+package src;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * JsonReader - Minimal streaming JSON reader for the comment and localization files.
+ * Reads UTF-8 through a char cursor in a single pass, so load time grows linearly with the file size.
+ * Objects are read as maps, arrays as lists, strings as strings, numbers as doubles, and true / false / null as is.
+ * Uses native Java without external dependencies.
+ */
+public class JsonReader {
+    // Size of the read buffer
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    // Read position and num of chars in the buffer
+    private int position = 0;
+    private int limit = 0;
+
+    // Current line, for error messages
+    private int line = 1;
+
+    // Reused buffer for strings and numbers
+    private final StringBuilder sb = new StringBuilder();
+
+    private JsonReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read a JSON file whose top-level value is an object.
+     *
+     * @param path Path of the JSON file
+     * @return The object, keys mapped to their values
+     * @throws IOException If the file can't be read or is not a JSON object
+     */
+    public static Map<String, Object> readObject(String path) throws IOException {
+        try (Reader reader = new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8)) {
+            JsonReader json = new JsonReader(reader);
+            Object value = json.readValue();
+            if (!(value instanceof Map)) throw json.error("Expected an object at the top level");
+            if (json.skipWhitespace() != -1) throw json.error("Unexpected content after the top-level object");
+            return castObject(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castObject(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    /**
+     * Peek the next char without consuming it, -1 at the end of the input.
+     */
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Consume the next char, failing at the end of the input.
+     */
+    private char next() throws IOException {
+        int c = peek();
+        if (c == -1) throw error("Unexpected end of input");
+        position++;
+        if (c == '\n') line++;
+        return (char) c;
+    }
+
+    /**
+     * Skip whitespace and get the next char without consuming it, -1 at the end of the input.
+     */
+    private int skipWhitespace() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\uFEFF') {
+            next();
+            c = peek();
+        }
+        return c;
+    }
+
+    private void expect(char expected) throws IOException {
+        if (skipWhitespace() != expected) throw error("Expected '" + expected + "'");
+        next();
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at line " + line);
+    }
+
+    private Object readValue() throws IOException {
+        int c = skipWhitespace();
+        switch (c) {
+            case '{': return readObjectValue();
+            case '[': return readArray();
+            case '"': return readString();
+            case 't': readLiteral("true"); return Boolean.TRUE;
+            case 'f': readLiteral("false"); return Boolean.FALSE;
+            case 'n': readLiteral("null"); return null;
+            case -1: throw error("Unexpected end of input");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) return readNumber();
+                throw error("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private Map<String, Object> readObjectValue() throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        expect('{');
+        if (skipWhitespace() == '}') {
+            next();
+            return map;
+        }
+
+        while (true) {
+            if (skipWhitespace() != '"') throw error("Expected a key");
+            String key = readString();
+            expect(':');
+            map.put(key, readValue());
+
+            char c = (char) skipWhitespace();
+            next();
+            if (c == '}') return map;
+            if (c != ',') throw error("Expected ',' or '}'");
+        }
+    }
+
+    private List<Object> readArray() throws IOException {
+        List<Object> list = new ArrayList<>();
+        expect('[');
+        if (skipWhitespace() == ']') {
+            next();
+            return list;
+        }
+
+        while (true) {
+            list.add(readValue());
+
+            char c = (char) skipWhitespace();
+            next();
+            if (c == ']') return list;
+            if (c != ',') throw error("Expected ',' or ']'");
+        }
+    }
+
+    private String readString() throws IOException {
+        next(); // skip opening quote
+        sb.setLength(0);
+        while (true) {
+            char c = next();
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            char escaped = next();
+            switch (escaped) {
+                case 'n': sb.append('\n'); break;
+                case 't': sb.append('\t'); break;
+                case 'r': sb.append('\r'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next(), 16);
+                        if (digit < 0) throw error("Invalid unicode escape");
+                        code = code * 16 + digit;
+                    }
+                    sb.append((char) code);
+                    break;
+                default: sb.append(escaped); // \" \\ \/
+            }
+        }
+    }
+
+    private Double readNumber() throws IOException {
+        sb.setLength(0);
+        int c = peek();
+        while (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9')) {
+            sb.append(next());
+            c = peek();
+        }
+        try {
+            return Double.valueOf(sb.toString());
+        } catch (NumberFormatException e) {
+            throw error("Invalid number " + sb);
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) throw error("Invalid literal, expected " + literal);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package src;
+
+/**
+ * Lineup - The five players of a team, one per court position.
+ * Backed by a fixed Player[5] indexed by Player.Position ordinal, so the possession loop
+ * looks up and iterates the players on the court without hashing or allocating.
+ * Slots are visited in Player.Position order: C, PF, SF, SG, PG.
+ * The lineup also caches a SelectionTable per rating criterion, dropped whenever a player is put in.
+ * It keeps the game clock too, and starts or stops a player's minutes clock as the player is put in or taken out,
+ * so advancing the clock after each play is O(1) instead of adding the play time to every player on court.
+ */
+public class Lineup {
+    // Num of players in a lineup
+    public static final int SIZE = 5;
+
+    // All positions, by slot index
+    public static final Player.Position[] POSITIONS = Player.Position.values();
+
+    // Players by slot index
+    private final Player[] players = new Player[SIZE];
+
+    // Selection tables by criterion ordinal, and whether each one matches the current players
+    private final SelectionTable[] tables = new SelectionTable[Utilities.SelectionCriterion.values().length];
+    private final boolean[] tableValid = new boolean[tables.length];
+
+    // Num of times a slot got a different player
+    private int changeCount = 0;
+
+    // Total seconds elapsed in game
+    private int gameTime = 0;
+
+    /**
+     * Get the player at a slot.
+     *
+     * @param slot Slot index, the ordinal of the position
+     * @return The player, or null if the slot is empty
+     */
+    public Player get(int slot) {
+        return players[slot];
+    }
+
+    /**
+     * Get the player at a position.
+     *
+     * @param position Court position
+     * @return The player, or null if the position is empty
+     */
+    public Player get(Player.Position position) {
+        return players[position.ordinal()];
+    }
+
+    /**
+     * Put a player at a position, replacing the previous one.
+     *
+     * @param position Court position
+     * @param player The incoming player
+     */
+    public void put(Player.Position position, Player player) {
+        put(position.ordinal(), player);
+    }
+
+    /**
+     * Put a player at a slot, replacing the previous one.
+     *
+     * @param slot Slot index, the ordinal of the position
+     * @param player The incoming player
+     */
+    public void put(int slot, Player player) {
+        if (players[slot] == player) return;
+        if (players[slot] != null) players[slot].stopClock(gameTime);
+        if (player != null) player.startClock(gameTime);
+        players[slot] = player;
+        changeCount++;
+        for (int i = 0; i < tableValid.length; i++) tableValid[i] = false;
+    }
+
+    /**
+     * Advance the game clock by the time of a play.
+     *
+     * @param playTime Seconds of the play
+     */
+    public void advanceClock(int playTime) {
+        gameTime += playTime;
+    }
+
+    /**
+     * Get the total seconds elapsed in game.
+     */
+    public int getGameTime() {
+        return gameTime;
+    }
+
+    /**
+     * Stop the minutes clocks of the players on court, e.g. at the end of the game.
+     */
+    public void stopClocks() {
+        for (int i = 0; i < SIZE; i++) {
+            if (players[i] != null) players[i].stopClock(gameTime);
+        }
+    }
+
+    /**
+     * Get the num of times a slot got a different player, which tells whether the lineup changed since an earlier look.
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Get the selection table of a rating criterion, rebuilding it if the lineup changed since the last use.
+     *
+     * @param criterion The rating criterion
+     * @return Selection table for the current players
+     */
+    public SelectionTable getSelectionTable(Utilities.SelectionCriterion criterion) {
+        int index = criterion.ordinal();
+        if (!tableValid[index]) {
+            if (tables[index] == null) tables[index] = new SelectionTable();
+            tables[index].build(this, criterion);
+            tableValid[index] = true;
+        }
+        return tables[index];
+    }
+
+    /**
+     * Get the index-th player of the lineup when skipping one position,
+     * e.g. to pick one of the four teammates of a player.
+     *
+     * @param skipped Position to skip
+     * @param index Index among the other four slots, from 0 to 3
+     * @return The player, or null if the slot is empty
+     */
+    public Player getOther(Player.Position skipped, int index) {
+        return players[index < skipped.ordinal() ? index : index + 1];
+    }
+
+    /**
+     * Get the num of filled slots.
+     */
+    public int size() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (players[i] != null) count++;
+        }
+        return count;
+    }
+}
@@ -1,15 +1,18 @@
 package src;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Centralized localization system for the NBA simulation.
  * Loads localized strings from JSON files at runtime.
  * Uses native Java without external dependencies.
+ * Each table flattens its nested strings into one map by full key path when loaded, and a Key created once
+ * (e.g. as a static final field) resolves its string in every language up front, so hot output code reads an array.
  */
 public class LocalizedStrings {
     
@@ -28,9 +31,104 @@ public class LocalizedStrings {
         }
     }
     
-    private static Language currentLanguage = Language.CHINESE;
-    private static Map<String, Object> chineseStrings;
-    private static Map<String, Object> englishStrings;
+    /**
+     * The string table of one language. Tables are read-only once loaded,
+     * so a single table can be shared by simulations running on different threads.
+     */
+    public static class Table {
+        private final Language language;
+
+        // Strings by full key path (e.g., "stat.points.short"), null if the file could not be loaded
+        private final Map<String, String> strings;
+
+        private Table(Language language, Map<String, Object> nested) {
+            this.language = language;
+            if (nested == null) {
+                this.strings = null;
+            } else {
+                this.strings = new HashMap<>();
+                flatten("", nested, strings);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static void flatten(String prefix, Map<String, Object> nested, Map<String, String> flat) {
+            for (Map.Entry<String, Object> entry : nested.entrySet()) {
+                String keyPath = prefix + entry.getKey();
+                if (entry.getValue() instanceof Map) flatten(keyPath + ".", (Map<String, Object>) entry.getValue(), flat);
+                else if (entry.getValue() instanceof String) flat.put(keyPath, (String) entry.getValue());
+            }
+        }
+
+        /**
+         * Get a localized string by key path (e.g., "stat.points.short").
+         * Returns the key itself if not found (for debugging).
+         */
+        public String get(String keyPath) {
+            if (strings == null) {
+                System.err.println("Warning: Localization strings not loaded");
+                return "[" + keyPath + "]";
+            }
+
+            String value = strings.get(keyPath);
+            if (value == null) {
+                System.err.println("Warning: Missing localization key path: " + keyPath);
+                return "[" + keyPath + "]";
+            }
+            return value;
+        }
+
+        /**
+         * Get a localized string by pre-resolved key.
+         */
+        public String get(Key key) {
+            return key.values[language.ordinal()];
+        }
+
+        /**
+         * Get a localized string with format arguments.
+         */
+        public String format(String keyPath, Object... args) {
+            String template = get(keyPath);
+            return String.format(template, args);
+        }
+
+        /**
+         * Get a localized string by pre-resolved key with format arguments.
+         */
+        public String format(Key key, Object... args) {
+            return String.format(get(key), args);
+        }
+    }
+
+    /**
+     * A key path resolved once in the table of every language, so getting its string is an array read.
+     * Create keys once, e.g. as static final fields, with LocalizedStrings.key().
+     */
+    public static final class Key {
+        private final String keyPath;
+
+        // Resolved strings by language ordinal
+        private final String[] values = new String[Language.values().length];
+
+        private Key(String keyPath) {
+            this.keyPath = keyPath;
+        }
+
+        /**
+         * Get the key path of the key.
+         */
+        public String getKeyPath() {
+            return keyPath;
+        }
+    }
+
+    // Default language for new simulations, chosen once at startup
+    private static volatile Language currentLanguage = Language.CHINESE;
+    private static final Map<Language, Table> tables = new EnumMap<>(Language.class);
+
+    // All keys created so far, resolved again when the strings are reloaded
+    private static final List<Key> keys = new ArrayList<>();
     
     static {
         loadStrings();
@@ -39,107 +137,48 @@ public class LocalizedStrings {
     /**
      * Load localized strings from JSON files.
      */
-    private static void loadStrings() {
-        try {
-            chineseStrings = loadJsonFile("database/localization/strings_zh_CN.json");
-            englishStrings = loadJsonFile("database/localization/strings_en_US.json");
-        } catch (IOException e) {
-            System.err.println("Error loading localization files: " + e.getMessage());
-            e.printStackTrace();
+    private static synchronized void loadStrings() {
+        for (Language lang : Language.values()) {
+            Map<String, Object> strings = null;
+            try {
+                strings = JsonReader.readObject("database/localization/strings_" + lang.getCode() + ".json");
+            } catch (IOException e) {
+                System.err.println("Error loading localization files: " + e.getMessage());
+                e.printStackTrace();
+            }
+            tables.put(lang, new Table(lang, strings));
         }
+        for (Key key : keys) resolve(key);
     }
-    
+
     /**
-     * Load a JSON file and return as Map.
+     * Create a key, resolving its key path in the table of every language.
+     * A missing key path is reported once here, and resolves to the key path itself in brackets.
+     *
+     * @param keyPath Key path (e.g., "stat.points.short")
+     * @return The key
      */
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> loadJsonFile(String filePath) throws IOException {
-        String content = new String(Files.readAllBytes(Paths.get(filePath)));
-        return parseJSON(content);
+    public static synchronized Key key(String keyPath) {
+        Key key = new Key(keyPath);
+        resolve(key);
+        keys.add(key);
+        return key;
     }
-    
+
+    private static void resolve(Key key) {
+        for (Language lang : Language.values()) key.values[lang.ordinal()] = tables.get(lang).get(key.keyPath);
+    }
+
     /**
-     * Simple JSON parser for our specific use case.
-     * Handles nested objects and strings.
+     * Get the string table of a language.
      */
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> parseJSON(String json) {
-        json = json.trim();
-        if (json.startsWith("{")) {
-            return parseObject(json);
-        }
-        return new HashMap<>();
-    }
-    
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> parseObject(String json) {
-        Map<String, Object> map = new HashMap<>();
-        json = json.trim().substring(1, json.length() - 1).trim();
-        
-        int i = 0;
-        while (i < json.length()) {
-            // Skip whitespace
-            while (i < json.length() && Character.isWhitespace(json.charAt(i))) i++;
-            if (i >= json.length()) break;
-            
-            // Parse key
-            if (json.charAt(i) != '"') break;
-            i++; // skip opening quote
-            int keyStart = i;
-            while (i < json.length() && json.charAt(i) != '"') {
-                if (json.charAt(i) == '\\') i++; // skip escaped char
-                i++;
-            }
-            String key = json.substring(keyStart, i);
-            i++; // skip closing quote
-            
-            // Skip whitespace and colon
-            while (i < json.length() && (Character.isWhitespace(json.charAt(i)) || json.charAt(i) == ':')) i++;
-            
-            // Parse value
-            Object value = null;
-            if (json.charAt(i) == '{') {
-                // Nested object
-                int braceCount = 0;
-                int start = i;
-                do {
-                    if (json.charAt(i) == '{') braceCount++;
-                    else if (json.charAt(i) == '}') braceCount--;
-                    i++;
-                } while (braceCount > 0 && i < json.length());
-                value = parseObject(json.substring(start, i));
-            } else if (json.charAt(i) == '"') {
-                // String
-                i++; // skip opening quote
-                StringBuilder sb = new StringBuilder();
-                while (i < json.length() && json.charAt(i) != '"') {
-                    if (json.charAt(i) == '\\' && i + 1 < json.length()) {
-                        i++;
-                        char next = json.charAt(i);
-                        if (next == 'n') sb.append('\n');
-                        else if (next == 't') sb.append('\t');
-                        else if (next == 'r') sb.append('\r');
-                        else sb.append(next);
-                    } else {
-                        sb.append(json.charAt(i));
-                    }
-                    i++;
-                }
-                value = sb.toString();
-                i++; // skip closing quote
-            }
-            
-            map.put(key, value);
-            
-            // Skip comma
-            while (i < json.length() && (Character.isWhitespace(json.charAt(i)) || json.charAt(i) == ',')) i++;
-        }
-        
-        return map;
+    public static synchronized Table forLanguage(Language lang) {
+        return tables.get(lang);
     }
     
     /**
-     * Set the current language for the application.
+     * Set the default language for the application.
+     * Running simulations keep the language of their own SimulationContext.
      */
     public static void setLanguage(Language lang) {
         currentLanguage = lang;
@@ -160,50 +199,18 @@ public class LocalizedStrings {
     }
     
     /**
-     * Get a localized string by key path (e.g., "stat.points.short").
+     * Get a localized string of the default language by key path (e.g., "stat.points.short").
      * Returns the key itself if not found (for debugging).
      */
-    @SuppressWarnings("unchecked")
     public static String get(String keyPath) {
-        Map<String, Object> strings = currentLanguage == Language.CHINESE ? chineseStrings : englishStrings;
-        
-        if (strings == null) {
-            System.err.println("Warning: Localization strings not loaded");
-            return "[" + keyPath + "]";
-        }
-        
-        String[] keys = keyPath.split("\\.");
-        Object current = strings;
-        
-        for (int i = 0; i < keys.length; i++) {
-            if (current instanceof Map) {
-                Map<String, Object> map = (Map<String, Object>) current;
-                if (map.containsKey(keys[i])) {
-                    current = map.get(keys[i]);
-                } else {
-                    System.err.println("Warning: Missing localization key path: " + keyPath);
-                    return "[" + keyPath + "]";
-                }
-            } else {
-                System.err.println("Warning: Invalid key path structure: " + keyPath);
-                return "[" + keyPath + "]";
-            }
-        }
-        
-        if (current instanceof String) {
-            return (String) current;
-        } else {
-            System.err.println("Warning: Key path does not point to a string: " + keyPath);
-            return "[" + keyPath + "]";
-        }
+        return forLanguage(currentLanguage).get(keyPath);
     }
     
     /**
-     * Get a localized string with format arguments.
+     * Get a localized string of the default language with format arguments.
      */
     public static String format(String keyPath, Object... args) {
-        String template = get(keyPath);
-        return String.format(template, args);
+        return forLanguage(currentLanguage).format(keyPath, args);
     }
     
     /**
@@ -11,23 +11,46 @@ public class Main {
      * @param args Command line arguments:
      *             --lang=en or --lang=zh : Set language (English or Chinese)
      *             --predict=100 : Run championship prediction simulation (100 times)
+     *             --predict=auto : Run prediction seasons until every title probability is within the precision
+     *             --precision=0.5% : Target half-width of the 95% confidence intervals (default: 0.5% with --predict=auto),
+     *                                with --predict=N the prediction stops early once reached
+     *             --threads=8 : Number of worker threads for prediction (default: all cores)
+     *             --seed=42 : Seed of the random source, the same seed replays the same results (default: random)
+     *             --fast : Draw prediction games from cached head-to-head win probabilities instead of simulating them
+     *             --matrix-games=100 : Num of simulated games per matchup when estimating the win probabilities
+     *             --compare=dir : Paired prediction of the rosters in dir against database/roster, with --predict=N seasons each
+     *             --antithetic : With --compare, also replay every seed with mirrored random streams
+     *             --update-every=1000 : Num of seasons between prediction checkpoints and live result updates
+     *             --resume : Continue the last unfinished prediction from its checkpoint, with its settings
      *             team1 team2 : Host a single game between two teams
      *             (no args) : Run full season simulation
      */
     public static void main(String[] args) throws Exception {
         // Set default language to Chinese
         LocalizedStrings.setLanguage(LocalizedStrings.Language.CHINESE);
-        Constants.setTeamLanguage(false); // false = Chinese
         
         // Parse arguments for language setting
         String[] gameArgs = parseLanguageAndGetGameArgs(args);
         
         // Check for prediction mode
         int predictionCount = 0;
+        int threadCount = 0; // 0 = use all available cores
+        long seed = new RandomSource().nextLong(); // Default: random seed
+        boolean fastMode = false;
+        int matrixGames = Constants.WIN_PROBABILITY_GAMES_PER_PAIR;
+        double precision = 0; // 0 = run exactly predictionCount seasons
+        boolean autoMode = false;
+        String comparePath = null;
+        boolean antithetic = false;
+        boolean resume = false;
+        int updateInterval = Constants.PREDICTION_UPDATE_SEASONS;
         List<String> remainingArgsList = new ArrayList<>();
         for (String arg : gameArgs) {
             if (arg.startsWith("--predict")) {
-                if (arg.contains("=")) {
+                if (arg.equals("--predict=auto")) {
+                    autoMode = true;
+                    predictionCount = Constants.PREDICTION_MAX_SEASONS;
+                } else if (arg.contains("=")) {
                     try {
                         predictionCount = Integer.parseInt(arg.split("=")[1]);
                     } catch (NumberFormatException e) {
@@ -36,48 +59,141 @@ public class Main {
                 } else {
                     predictionCount = 100; // Default
                 }
+            } else if (arg.startsWith("--threads=")) {
+                try {
+                    threadCount = Integer.parseInt(arg.substring(10));
+                } catch (NumberFormatException e) {
+                    threadCount = 0; // Default
+                }
+            } else if (arg.startsWith("--seed=")) {
+                try {
+                    seed = Long.parseLong(arg.substring(7));
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid seed: " + arg.substring(7) + ". Using a random seed.");
+                }
+            } else if (arg.startsWith("--precision=")) {
+                String value = arg.substring(12);
+                try {
+                    // accept both "0.5%" and "0.005"
+                    precision = value.endsWith("%") ? Double.parseDouble(value.substring(0, value.length() - 1)) / 100
+                                                    : Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid precision: " + value + ". Using the default.");
+                }
+            } else if (arg.startsWith("--compare=")) {
+                comparePath = arg.substring(10);
+                if (!comparePath.endsWith("/") && !comparePath.endsWith(File.separator)) comparePath += File.separator;
+            } else if (arg.equals("--antithetic")) {
+                antithetic = true;
+            } else if (arg.equals("--resume")) {
+                resume = true;
+            } else if (arg.startsWith("--update-every=")) {
+                try {
+                    updateInterval = Math.max(Integer.parseInt(arg.substring(15)), 1);
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid update interval: " + arg.substring(15) + ". Using " + updateInterval + ".");
+                }
+            } else if (arg.equals("--fast")) {
+                fastMode = true;
+            } else if (arg.startsWith("--matrix-games=")) {
+                try {
+                    matrixGames = Math.max(Integer.parseInt(arg.substring(15)), 1);
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid matrix games: " + arg.substring(15) + ". Using " + matrixGames + ".");
+                }
             } else {
                 remainingArgsList.add(arg);
             }
         }
         gameArgs = remainingArgsList.toArray(new String[0]);
+        if (autoMode && precision <= 0) precision = Constants.PREDICTION_DEFAULT_PRECISION;
+
+        // Resume: the settings of the run come from its checkpoint
+        PredictionCheckpoint checkpoint = null;
+        if (resume) {
+            if (comparePath != null) {
+                System.err.println("--resume only applies to championship predictions, not to roster comparisons.");
+                return;
+            }
+            checkpoint = PredictionCheckpoint.load(Constants.PREDICTION_CHECKPOINT_PATH);
+            if (checkpoint == null) {
+                System.err.println("No prediction checkpoint to resume from: " + Constants.PREDICTION_CHECKPOINT_PATH);
+                return;
+            }
+            String rosterHash = RosterRepository.getRosterHash(Constants.ROSTER_PATH);
+            if (rosterHash == null) {
+                System.err.println("Roster files can't be hashed, the prediction can't be resumed.");
+                return;
+            }
+            if (!rosterHash.equals(checkpoint.rosterHash)) {
+                System.err.println("Roster files changed since the checkpoint was saved, the prediction can't be resumed.");
+                return;
+            }
+            seed = checkpoint.seed;
+            predictionCount = checkpoint.seasonCount;
+            precision = checkpoint.precision;
+            fastMode = checkpoint.fastMode;
+            matrixGames = checkpoint.matrixGames;
+        }
         
-        Game game = new Game();
+        System.out.println("Random seed: " + seed);
+        Game game = new Game(new SimulationContext(LocalizedStrings.getLanguage(), new RandomSource(seed), System.out));
 
         // Host single game or host a season based on arguments length
-        if (predictionCount > 0) {
+        if (comparePath != null) {
+            if (predictionCount <= 0 || autoMode) {
+                System.err.println("Roster comparison needs a season count, e.g. --compare=" + comparePath + " --predict=1000");
+                return;
+            }
+            if (!new File(comparePath).isDirectory()) {
+                System.err.println("Roster directory not found: " + comparePath);
+                return;
+            }
+            List<String> missingTeams = RosterRepository.getMissingTeams(comparePath);
+            if (!missingTeams.isEmpty()) {
+                System.err.println("Roster directory " + comparePath + " must have a roster file for every team of "
+                                   + Constants.ROSTER_PATH + ", missing: " + String.join(", ", missingTeams));
+                return;
+            }
+            compareRosters(comparePath, predictionCount, threadCount, seed, antithetic, fastMode, matrixGames);
+        } else if (predictionCount > 0) {
             PrintStream console = System.out;
-            System.out.println("Running championship prediction simulation (" + predictionCount + " seasons)...");
-            
-            Map<String, Integer> championCounts = new HashMap<>();
+            if (precision > 0) {
+                System.out.printf("Running championship prediction simulation (until +/-%.2f%%, at most %d seasons)...%n",
+                                  precision * 100, predictionCount);
+            } else {
+                System.out.println("Running championship prediction simulation (" + predictionCount + " seasons)...");
+            }
             
             long startTime = System.currentTimeMillis();
-            
-            for (int i = 0; i < predictionCount; i++) {
-                // Print progress every 5 seasons
-                if ((i + 1) % 5 == 0) {
-                    console.println("Simulated " + (i + 1) + "/" + predictionCount + " seasons...");
-                }
-                
-                // Create new game instance for each simulation to ensure clean state
-                game = new Game();
-                game.silentMode = true;
-                
-                String champion = game.hostSeason();
-                if (champion != null && !champion.isEmpty()) {
-                    championCounts.put(champion, championCounts.getOrDefault(champion, 0) + 1);
-                }
+
+            // Fast mode: estimate or load the head-to-head win probabilities first
+            WinProbabilityMatrix winProbabilities = null;
+            if (fastMode) winProbabilities = WinProbabilityMatrix.loadOrEstimate(Constants.ROSTER_PATH, matrixGames, threadCount, console);
+
+            ChampionshipPredictor predictor = new ChampionshipPredictor(predictionCount, threadCount, seed, console, winProbabilities, precision);
+            System.out.println("Using " + predictor.getThreadCount() + " worker thread(s)");
+
+            // Save a checkpoint and rewrite the results every few seasons, and continue from the last checkpoint when resuming
+            PredictionResults results = new PredictionResults("output/championship_prediction.txt", "output/championship_prediction.json");
+            predictor.setUpdateInterval(updateInterval);
+            predictor.setCheckpointPath(Constants.PREDICTION_CHECKPOINT_PATH);
+            predictor.setLiveResults(results);
+            if (checkpoint != null) {
+                predictor.resumeFrom(checkpoint);
+                System.out.println("Resuming from checkpoint: " + checkpoint.seasonsRun + " seasons done");
             }
-            
-            // Restore console output
-            System.setOut(console);
+
+            predictor.run();
             
             System.out.println("\nSimulation complete!");
             long endTime = System.currentTimeMillis();
             System.out.println("Time taken: " + (endTime - startTime) / 1000.0 + " seconds");
             
             // Output results
-            outputPredictionResults(championCounts, predictionCount);
+            results.write(predictor.getOutcomes(), predictor.getSeasonsRun(), predictor.getSeasonsPerSecond(), true);
+            System.out.println("Results saved to " + results.getTextPath());
+            predictor.getOutcomes().write("output/championship_prediction_outcomes.txt");
             
         } else if (gameArgs.length >= 2) {
             game.hostGame(gameArgs[0], gameArgs[1]);
@@ -89,39 +205,35 @@ public class Main {
     }
     
     /**
-     * Output prediction results to file and console.
+     * Run a paired prediction of a variant roster directory against the default rosters, and write the differences.
      */
-    private static void outputPredictionResults(Map<String, Integer> championCounts, int totalSimulations) {
-        String outputPath = "output/championship_prediction.txt";
-        try (PrintStream ps = new PrintStream(outputPath)) {
-            ps.println(LocalizedStrings.format("prediction.title", totalSimulations));
-            ps.println("==================================================");
-            
-            // Sort by win count
-            List<Map.Entry<String, Integer>> sortedList = new ArrayList<>(championCounts.entrySet());
-            sortedList.sort((e1, e2) -> e2.getValue().compareTo(e1.getValue()));
-            
-            int rank = 1;
-            for (Map.Entry<String, Integer> entry : sortedList) {
-                String teamName = entry.getKey();
-                int wins = entry.getValue();
-                double probability = (double) wins / totalSimulations * 100.0;
-                
-                // Translate team name if needed
-                String displayName = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
-                                     Constants.translateToChinese(teamName) : teamName;
-                
-                ps.printf("%d. %s: %d %s (%.1f%%)\n", rank, displayName, wins, LocalizedStrings.get("prediction.wins"), probability);
-                rank++;
-            }
-            
-            System.out.println("Results saved to " + outputPath);
-            
-        } catch (FileNotFoundException e) {
-            System.err.println("Error writing prediction results: " + e.getMessage());
+    private static void compareRosters(String variantPath, int seasonCount, int threadCount, long seed, boolean antithetic,
+                                       boolean fastMode, int matrixGames) throws InterruptedException {
+        PrintStream console = System.out;
+        System.out.println("Running roster comparison (" + seasonCount + " seasons per roster" + (antithetic ? ", antithetic pairs" : "") + ")...");
+
+        long startTime = System.currentTimeMillis();
+
+        // Fast mode: estimate or load both rosters' win probabilities first
+        WinProbabilityMatrix baselineProbabilities = null;
+        WinProbabilityMatrix variantProbabilities = null;
+        if (fastMode) {
+            baselineProbabilities = WinProbabilityMatrix.loadOrEstimate(Constants.ROSTER_PATH, matrixGames, threadCount, console);
+            variantProbabilities = WinProbabilityMatrix.loadOrEstimate(variantPath, matrixGames, threadCount, console);
         }
+
+        RosterComparison comparison = new RosterComparison(seasonCount, threadCount, seed, antithetic, Constants.ROSTER_PATH, variantPath,
+                                                           baselineProbabilities, variantProbabilities, console);
+        System.out.println("Using " + comparison.getThreadCount() + " worker thread(s)");
+        comparison.run();
+
+        System.out.println("\nSimulation complete!");
+        long endTime = System.currentTimeMillis();
+        System.out.println("Time taken: " + (endTime - startTime) / 1000.0 + " seconds");
+
+        comparison.writeResults("output/roster_comparison.txt");
     }
-    
+
     /**
      * Parse language argument and return remaining arguments for game.
      * 
@@ -139,11 +251,9 @@ public class Main {
             
             if (langCode.equals("en") || langCode.equals("english")) {
                 LocalizedStrings.setLanguage(LocalizedStrings.Language.ENGLISH);
-                Constants.setTeamLanguage(true); // true = English
                 System.out.println("Language set to: English");
             } else if (langCode.equals("zh") || langCode.equals("chinese") || langCode.equals("zh_cn")) {
                 LocalizedStrings.setLanguage(LocalizedStrings.Language.CHINESE);
-                Constants.setTeamLanguage(false); // false = Chinese
                 System.out.println("语言设置为: 中文");
             } else {
                 System.err.println("Unknown language: " + langCode + ". Using default (Chinese).");
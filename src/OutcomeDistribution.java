@@ -0,0 +1,250 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * OutcomeDistribution - Per-team counts of how prediction seasons went: regular season wins, conference seed,
+ * play-in entry and result, and the playoff round each team was eliminated in.
+ * Each worker fills its own distribution with plain primitive counters, and the distributions are merged at the end,
+ * so recording a season needs no locking.
+ */
+public class OutcomeDistribution {
+    // Num of teams, most regular season wins and conference seeds per conference
+    private final int teamCount = RosterRepository.getTeamCount();
+    private final int maxWins;
+    private final int maxSeed;
+
+    // Counts by [team id][wins], [team id][seed], [team id][play-in result] and [team id][playoff round]
+    private final long[][] winCounts;
+    private final long[][] seedCounts;
+    private final long[][] playInCounts;
+    private final long[][] roundCounts;
+
+    // Num of recorded seasons
+    private long seasons = 0;
+
+    /**
+     * Construct an empty distribution.
+     */
+    public OutcomeDistribution() {
+        Schedule schedule = Schedule.forPath(Constants.SCHEDULE_PATH);
+        this.maxWins = schedule.gameCount * 2 / teamCount;
+        int westCount = 0;
+        for (int team = 0; team < teamCount; team++) {
+            if (RosterRepository.getDivision(team) == 0) westCount++;
+        }
+        this.maxSeed = Math.max(westCount, teamCount - westCount);
+
+        this.winCounts = new long[teamCount][maxWins + 1];
+        this.seedCounts = new long[teamCount][maxSeed + 1];
+        this.playInCounts = new long[teamCount][Game.SeasonOutcome.PLAY_IN_WON + 1];
+        this.roundCounts = new long[teamCount][Game.SeasonOutcome.CHAMPION + 1];
+    }
+
+    /**
+     * Record the outcome of a season.
+     */
+    public void record(Game.SeasonOutcome outcome) {
+        for (int team = 0; team < teamCount; team++) {
+            winCounts[team][Math.min(outcome.wins[team], maxWins)]++;
+            seedCounts[team][Math.min(outcome.conferenceSeed[team], maxSeed)]++;
+            playInCounts[team][outcome.playIn[team]]++;
+            roundCounts[team][outcome.playoffRound[team]]++;
+        }
+        seasons++;
+    }
+
+    /**
+     * Add the counts of another distribution to this one.
+     */
+    public void merge(OutcomeDistribution other) {
+        for (int team = 0; team < teamCount; team++) {
+            addAll(winCounts[team], other.winCounts[team]);
+            addAll(seedCounts[team], other.seedCounts[team]);
+            addAll(playInCounts[team], other.playInCounts[team]);
+            addAll(roundCounts[team], other.roundCounts[team]);
+        }
+        seasons += other.seasons;
+    }
+
+    /**
+     * Get a copy of the counts so far, e.g. to write them out while the workers keep recording.
+     */
+    public OutcomeDistribution copy() {
+        OutcomeDistribution copy = new OutcomeDistribution();
+        copy.merge(this);
+        return copy;
+    }
+
+    private static void addAll(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) target[i] += source[i];
+    }
+
+    /**
+     * Write the counts as CSV lines, e.g. for a checkpoint: the num of seasons,
+     * then one line per team with its win, seed, play-in and playoff round counts.
+     */
+    public void writeCounts(PrintStream ps) {
+        ps.println(seasons);
+        for (int team = 0; team < teamCount; team++) {
+            StringBuilder sb = new StringBuilder(RosterRepository.getTeamName(team));
+            for (long[] counts : new long[][]{winCounts[team], seedCounts[team], playInCounts[team], roundCounts[team]}) {
+                for (long count : counts) sb.append(",").append(count);
+            }
+            ps.println(sb.toString());
+        }
+    }
+
+    /**
+     * Read counts written by writeCounts() and add them to this distribution.
+     *
+     * @throws IOException If the lines don't match the current teams
+     */
+    public void readCounts(BufferedReader reader) throws IOException {
+        long readSeasons = Long.parseLong(reader.readLine().trim());
+        for (int team = 0; team < teamCount; team++) {
+            String line = reader.readLine();
+            String[] fields = line == null ? new String[0] : line.split(",");
+            if (fields.length == 0 || !fields[0].equals(RosterRepository.getTeamName(team))) {
+                throw new IOException("Counts don't match team " + RosterRepository.getTeamName(team));
+            }
+
+            int field = 1;
+            for (long[] counts : new long[][]{winCounts[team], seedCounts[team], playInCounts[team], roundCounts[team]}) {
+                for (int i = 0; i < counts.length; i++) {
+                    if (field >= fields.length) throw new IOException("Missing counts of team " + fields[0]);
+                    counts[i] += Long.parseLong(fields[field++]);
+                }
+            }
+        }
+        seasons += readSeasons;
+    }
+
+    /**
+     * Get the num of recorded seasons.
+     */
+    public long getSeasons() {
+        return seasons;
+    }
+
+    /**
+     * Get the num of titles a team won.
+     *
+     * @param teamId Team id
+     */
+    public long getTitles(int teamId) {
+        return roundCounts[teamId][Game.SeasonOutcome.CHAMPION];
+    }
+
+    /**
+     * Get the num of seasons a team reached at least a playoff round.
+     *
+     * @param teamId Team id
+     * @param round Playoff round, one of the round constants of Game.SeasonOutcome
+     */
+    public long getRoundReached(int teamId, int round) {
+        long count = 0;
+        for (int r = round; r <= Game.SeasonOutcome.CHAMPION; r++) count += roundCounts[teamId][r];
+        return count;
+    }
+
+    /**
+     * Get the champion counts of all teams that won at least once.
+     *
+     * @return Map of team name (English) to number of championships won
+     */
+    public Map<String, Integer> getChampionCounts() {
+        Map<String, Integer> championCounts = new HashMap<>();
+        for (int team = 0; team < teamCount; team++) {
+            if (getTitles(team) > 0) championCounts.put(RosterRepository.getTeamName(team), (int) getTitles(team));
+        }
+        return championCounts;
+    }
+
+    /**
+     * Get the smallest win total reached in at least the given share of seasons, e.g. 0.5 for the median.
+     */
+    private int getWinsPercentile(int team, double share) {
+        long target = (long) Math.ceil(share * seasons);
+        long count = 0;
+        for (int wins = 0; wins <= maxWins; wins++) {
+            count += winCounts[team][wins];
+            if (count >= Math.max(target, 1)) return wins;
+        }
+        return maxWins;
+    }
+
+    /**
+     * Write the outcome table and the conference seed table, teams sorted by title odds.
+     *
+     * @param path Path of the output file
+     */
+    public void write(String path) {
+        if (seasons == 0) return;
+
+        List<Integer> teams = new ArrayList<>();
+        for (int team = 0; team < teamCount; team++) teams.add(team);
+        teams.sort((t1, t2) -> getTitles(t1) != getTitles(t2) ? Long.compare(getTitles(t2), getTitles(t1))
+                                                               : Double.compare(getAverageWins(t2), getAverageWins(t1)));
+
+        try {
+            Utilities.writeAtomically(path, ps -> {
+                ps.println(LocalizedStrings.format("outcomes.title", seasons));
+                ps.println("==================================================");
+                ps.printf("%-14s %6s %12s %7s %7s %7s %8s %7s %7s %7s %7s %7s\n",
+                          LocalizedStrings.get("outcomes.team"), LocalizedStrings.get("outcomes.avg_wins"), LocalizedStrings.get("outcomes.wins_range"),
+                          LocalizedStrings.get("outcomes.top6"), LocalizedStrings.get("outcomes.playin"), LocalizedStrings.get("outcomes.playin_won"),
+                          LocalizedStrings.get("outcomes.playoffs"), LocalizedStrings.get("outcomes.out_first"), LocalizedStrings.get("outcomes.out_semis"),
+                          LocalizedStrings.get("outcomes.out_conf_finals"), LocalizedStrings.get("outcomes.lost_finals"), LocalizedStrings.get("outcomes.champion"));
+
+                for (int team : teams) {
+                    long topSix = 0;
+                    for (int seed = 1; seed <= Math.min(6, maxSeed); seed++) topSix += seedCounts[team][seed];
+                    long playIn = playInCounts[team][Game.SeasonOutcome.PLAY_IN_LOST] + playInCounts[team][Game.SeasonOutcome.PLAY_IN_WON];
+
+                    ps.printf("%-14s %6.1f %12s %6.1f%% %6.1f%% %6.1f%% %7.1f%% %6.1f%% %6.1f%% %6.1f%% %6.1f%% %6.1f%%\n",
+                              RosterRepository.getTeamName(team, LocalizedStrings.getCurrentLanguage()), getAverageWins(team),
+                              getWinsPercentile(team, 0.1) + "-" + getWinsPercentile(team, 0.5) + "-" + getWinsPercentile(team, 0.9),
+                              percent(topSix), percent(playIn), percent(playInCounts[team][Game.SeasonOutcome.PLAY_IN_WON]),
+                              percent(seasons - roundCounts[team][Game.SeasonOutcome.MISSED_PLAYOFFS]),
+                              percent(roundCounts[team][Game.SeasonOutcome.FIRST_ROUND]),
+                              percent(roundCounts[team][Game.SeasonOutcome.CONFERENCE_SEMIFINALS]),
+                              percent(roundCounts[team][Game.SeasonOutcome.CONFERENCE_FINALS]),
+                              percent(roundCounts[team][Game.SeasonOutcome.FINALS]),
+                              percent(roundCounts[team][Game.SeasonOutcome.CHAMPION]));
+                }
+
+                // conference seed distribution, one column per seed
+                ps.println("\n" + LocalizedStrings.get("outcomes.seed_title"));
+                ps.println("==================================================");
+                StringBuilder header = new StringBuilder(String.format("%-14s", LocalizedStrings.get("outcomes.team")));
+                for (int seed = 1; seed <= maxSeed; seed++) header.append(String.format(" %5d", seed));
+                ps.println(header.toString());
+
+                for (int team : teams) {
+                    StringBuilder sb = new StringBuilder(String.format("%-14s", RosterRepository.getTeamName(team, LocalizedStrings.getCurrentLanguage())));
+                    for (int seed = 1; seed <= maxSeed; seed++) sb.append(String.format(" %5.1f", percent(seedCounts[team][seed])));
+                    ps.println(sb.toString());
+                }
+
+                System.out.println("Outcome distribution saved to " + path);
+            });
+        } catch (IOException e) {
+            System.err.println("Error writing outcome distribution: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get a team's average regular season wins.
+     */
+    public double getAverageWins(int team) {
+        long total = 0;
+        for (int wins = 0; wins <= maxWins; wins++) total += wins * winCounts[team][wins];
+        return (double) total / seasons;
+    }
+
+    private double percent(long count) {
+        return count * 100.0 / seasons;
+    }
+}
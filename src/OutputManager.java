@@ -0,0 +1,121 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * OutputManager - Opens the result files of a simulation as buffered UTF-8 streams and closes them deterministically.
+ * Every file writes through a large buffer, so a game costs a few write calls instead of one per printed line,
+ * and the buffers of closed files are reused by the next ones.
+ * A manager belongs to one simulation and is not thread-safe.
+ */
+public class OutputManager {
+    // Buffer size of each open file
+    private final int bufferSize;
+
+    // Open streams and their paths
+    private final Map<PrintStream, String> openStreams = new HashMap<>();
+
+    // Buffers of closed files, ready for reuse
+    private final ArrayDeque<byte[]> freeBuffers = new ArrayDeque<>();
+
+    /**
+     * Construct a manager.
+     *
+     * @param bufferSize Buffer size of each open file
+     */
+    public OutputManager(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Open a file for writing, replacing its content.
+     * Nothing reaches the file before the buffer fills up or the stream is closed.
+     *
+     * @param path Path of the file
+     * @return UTF-8 stream writing to the file
+     */
+    public PrintStream open(String path) throws IOException {
+        byte[] buffer = freeBuffers.isEmpty() ? new byte[bufferSize] : freeBuffers.pop();
+        PrintStream ps = new PrintStream(new BufferedFileStream(new FileOutputStream(path), buffer), false, "UTF-8");
+        openStreams.put(ps, path);
+        return ps;
+    }
+
+    /**
+     * Flush and close a stream opened by this manager. Streams the manager didn't open, or closed already, are left alone.
+     */
+    public void close(PrintStream ps) {
+        String path = openStreams.remove(ps);
+        if (path == null) return;
+
+        ps.close();
+        if (ps.checkError()) System.err.println("Error writing output file: " + path);
+    }
+
+    /**
+     * Flush and close all open streams, e.g. at the end of a season.
+     */
+    public void closeAll() {
+        for (PrintStream ps : new ArrayList<>(openStreams.keySet())) close(ps);
+    }
+
+    /**
+     * File stream writing through a pooled buffer, which goes back to the pool when the stream is closed.
+     */
+    private final class BufferedFileStream extends OutputStream {
+        private final FileOutputStream file;
+        private byte[] buffer;
+
+        // Num of buffered bytes
+        private int count = 0;
+
+        private BufferedFileStream(FileOutputStream file, byte[] buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) flushBuffer();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // larger than the buffer, write through
+            if (len >= buffer.length) {
+                flushBuffer();
+                file.write(b, off, len);
+                return;
+            }
+            if (len > buffer.length - count) flushBuffer();
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        private void flushBuffer() throws IOException {
+            if (count > 0) {
+                file.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBuffer();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer == null) return;
+            try {
+                flushBuffer();
+            } finally {
+                file.close();
+                freeBuffers.push(buffer);
+                buffer = null;
+            }
+        }
+    }
+}
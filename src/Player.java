@@ -87,17 +87,55 @@ public class Player {
         }
     }
 
+    public enum Position {
+        C,         // Center
+        PF,        // Power forward
+        SF,        // Small forward
+        SG,        // Shooting guard
+        PG;        // Point guard
+
+        // Returns null for a position outside the five court positions, such a player never gets a lineup slot
+        public static Position fromString(String value) {
+            for (Position position : Position.values()) {
+                if (position.name().equals(value)) {
+                    return position;
+                }
+            }
+            return null;
+        }
+    }
+
     public enum ShotType {
         DUNK,      // Dunk shot
         LAYUP,     // Layup shot
         JUMPER;    // Jump shot (including mid-range and three-pointers)
     }
 
+    public enum ShotZone {
+        CLOSE,     // Close shot, up to MAX_CLOSE_SHOT feet
+        MID_RANGE, // Mid-range shot, up to MAX_MID_SHOT feet
+        THREE;     // Three-pointer
+
+        /**
+         * Get the zone of a shot distance.
+         */
+        public static ShotZone of(int distance) {
+            if (distance <= Constants.MAX_CLOSE_SHOT) return CLOSE;
+            if (distance <= Constants.MAX_MID_SHOT) return MID_RANGE;
+            return THREE;
+        }
+    }
+
+    // Dense ids of the player and of the player's team
+    public int id;
+    public int teamId;
+
     public String name;
     public String englishName;
     public String position;
     public String teamName;
 
+    public Position positionType;
     public PlayerType playerType;
     public DunkerType dunkerType;
     public RotationType rotationType;
@@ -145,9 +183,10 @@ public class Player {
     public int foul;
     public int flagFoul;
 
-    // Minutes tracking
-    public int secondsPlayed;  // Total seconds played in current game
-    public int currentStintSeconds;  // Seconds in current stint (continuous play time)
+    // Minutes tracking, the seconds of the running stretch on court are only added when read or when the clock stops
+    private int bankedSeconds;  // Seconds played in current game, up to the start of the running stretch
+    private int bankedStintSeconds;  // Seconds in current stint (continuous play time), up to the start of the running stretch
+    private int clockStartTime = -1;  // Game time (in seconds) the running stretch started, -1 if off the clock
     public int lastSubbedOutTime;  // Game time (in seconds) when player was last subbed out
 
     // Whether the player can/cannot be on court
@@ -161,82 +200,51 @@ public class Player {
 
     /**
      * Construct a Player object, which can be conceived as an NBA player.
+     * Ratings are copied from the player's roster template, game stats start from zero.
      * 
-     * @param name Player's name (Chinese)
-     * @param englishName Player's English name
-     * @param position Player's position on the court (C / PF / SF / SG / PG)
-     * @param playerType Player's player type (1: all-rounded, 2: insider, 3: mid-range, 4: inside+outside, 5: outsider)
-     * @param rotationType Player's rotation type (1: starter, 2: bench, 3: deep bench)
-     * @param rating Player's general rating
-     * @param insideRating Player's close shot rating
-     * @param midRating Player's mid-range shot rating
-     * @param threeRating Player's three-point shot rating
-     * @param freeThrowPercent Player's free-throw shot rating
-     * @param interiorDefense Player's interior defense rating
-     * @param perimeterDefense Player's perimeter defense rating
-     * @param orbRating Player's offensive rebound rating
-     * @param drbRating Player's defensive rebound rating
-     * @param astRating Player's playmaking and assist rating
-     * @param stlRating Player's steal rating
-     * @param blkRating Player's block rating
-     * @param layupRating Player's layup rating
-     * @param standDunk Player's standing dunk rating
-     * @param drivingDunk Player's driving dunk rating
-     * @param athleticism Player's general athleticism rating (speed, acceleration, strength, ...)
-     * @param durability Player's durability to injuries
-     * @param offConst Player's offensive consistency
-     * @param defConst Player's defensive consistency
-     * @param drawFoul Player's ability to draw foul
-     * @param teamName Player's team name
+     * @param template Player's parsed roster ratings
      */
-    public Player(String name, String englishName, String position, String playerType, String rotationType, String rating, String insideRating, String midRating, 
-                  String threeRating, String freeThrowPercent, String interiorDefense, String perimeterDefense, String orbRating,
-                  String drbRating, String astRating, String stlRating, String blkRating, String layupRating, String standDunk,
-                  String drivingDunk, String athleticism, String durability, String offConst, String defConst, String drawFoul, String teamName) {
-        this.name = name;
-        this.englishName = englishName;
-        this.position = position;
-        this.playerType = PlayerType.fromString(playerType);
-        this.rotationType = RotationType.fromString(rotationType);
-
-        this.rating = Integer.parseInt(rating);
-        this.insideRating = Integer.parseInt(insideRating);
-        this.midRating = Integer.parseInt(midRating);
-        this.threeRating = Integer.parseInt(threeRating);
-        this.freeThrowPercent = Double.valueOf(freeThrowPercent);
-        this.interiorDefense = Integer.parseInt(interiorDefense);
-        this.perimeterDefense = Integer.parseInt(perimeterDefense);
-        this.orbRating = Integer.parseInt(orbRating);
-        this.drbRating = Integer.parseInt(drbRating);
-        this.astRating = Integer.parseInt(astRating);
-        this.stlRating = Integer.parseInt(stlRating);
-        this.blkRating = Integer.parseInt(blkRating);
-        this.layupRating = Integer.parseInt(layupRating);
-        this.standDunk = Integer.parseInt(standDunk);
-        this.drivingDunk = Integer.parseInt(drivingDunk);
-        this.athleticism = Integer.parseInt(athleticism);
-        this.durability = Integer.parseInt(durability);
-        this.offConst = Integer.parseInt(offConst);
-        this.defConst = Integer.parseInt(defConst);
-        this.drawFoul = Integer.parseInt(drawFoul);
-        this.teamName = teamName;
-
-        // Determine dunker type based on dunk ratings
-        // Type 1 - rarely dunk: standDunk + drivingDunk <= 60
-        // Type 2 - normal: other cases
-        // Type 3 - excellent dunker: standDunk + drivingDunk >= 160, or one of them exceeds 90
-        if (this.standDunk + this.drivingDunk <= Constants.DUNK_SUM_LB) {
-            this.dunkerType = DunkerType.RARELY_DUNK;
-        } else if (this.standDunk + this.drivingDunk >= Constants.DUNK_SUM_UB || 
-                (this.standDunk + this.drivingDunk < Constants.DUNK_SUM_UB
-                    && (this.standDunk >= Constants.DUNK_EXCEL_LB || this.drivingDunk >= Constants.DUNK_EXCEL_LB))) {
-            this.dunkerType = DunkerType.EXCELLENT;
-        } else {
-            this.dunkerType = DunkerType.NORMAL;
-        }
-
-        this.isStar = this.rating >= Constants.PLAYER_STAR_LB ? true : false;
+    public Player(PlayerTemplate template) {
+        this.id = template.id;
+        this.teamId = template.teamId;
+        this.name = template.name;
+        this.englishName = template.englishName;
+        this.position = template.position;
+        this.teamName = template.teamName;
+        this.positionType = template.positionType;
+        this.playerType = template.playerType;
+        this.dunkerType = template.dunkerType;
+        this.rotationType = template.rotationType;
+
+        this.rating = template.rating;
+        this.insideRating = template.insideRating;
+        this.midRating = template.midRating;
+        this.threeRating = template.threeRating;
+        this.freeThrowPercent = template.freeThrowPercent;
+        this.interiorDefense = template.interiorDefense;
+        this.perimeterDefense = template.perimeterDefense;
+        this.orbRating = template.orbRating;
+        this.drbRating = template.drbRating;
+        this.astRating = template.astRating;
+        this.stlRating = template.stlRating;
+        this.blkRating = template.blkRating;
+        this.layupRating = template.layupRating;
+        this.standDunk = template.standDunk;
+        this.drivingDunk = template.drivingDunk;
+        this.athleticism = template.athleticism;
+        this.durability = template.durability;
+        this.offConst = template.offConst;
+        this.defConst = template.defConst;
+        this.drawFoul = template.drawFoul;
+        this.isStar = template.isStar;
+
+        resetGameStats();
+    }
 
+    /**
+     * Reset the player's game stats and court status for a new game.
+     */
+    public void resetGameStats() {
         this.score = 0;
         this.rebound = 0;
         this.offensiveRebound = 0;
@@ -254,8 +262,9 @@ public class Player {
         this.foul = 0;
         this.flagFoul = 0;
 
-        this.secondsPlayed = 0;
-        this.currentStintSeconds = 0;
+        this.bankedSeconds = 0;
+        this.bankedStintSeconds = 0;
+        this.clockStartTime = -1;
         this.lastSubbedOutTime = 0;
 
         this.canOnCourt = true;
@@ -263,6 +272,65 @@ public class Player {
         this.isOnCourt = false;
     }
     
+    /**
+     * Get the total seconds played in current game.
+     *
+     * @param gameTime Total seconds elapsed in game
+     */
+    public int getSecondsPlayed(int gameTime) {
+        return clockStartTime < 0 ? bankedSeconds : bankedSeconds + gameTime - clockStartTime;
+    }
+
+    /**
+     * Get the total seconds played in current game, once the player is off the clock (e.g. after the game).
+     */
+    public int getSecondsPlayed() {
+        return bankedSeconds;
+    }
+
+    /**
+     * Get the seconds in current stint (continuous play time).
+     *
+     * @param gameTime Total seconds elapsed in game
+     */
+    public int getStintSeconds(int gameTime) {
+        return clockStartTime < 0 ? bankedStintSeconds : bankedStintSeconds + gameTime - clockStartTime;
+    }
+
+    /**
+     * Start counting minutes when the player is put on court.
+     *
+     * @param gameTime Total seconds elapsed in game
+     */
+    public void startClock(int gameTime) {
+        if (clockStartTime < 0) clockStartTime = gameTime;
+    }
+
+    /**
+     * Stop counting minutes when the player leaves the court, adding the running stretch to the totals.
+     *
+     * @param gameTime Total seconds elapsed in game
+     */
+    public void stopClock(int gameTime) {
+        if (clockStartTime < 0) return;
+        bankedSeconds += gameTime - clockStartTime;
+        bankedStintSeconds += gameTime - clockStartTime;
+        clockStartTime = -1;
+    }
+
+    /**
+     * Start a new stint, keeping the seconds played so far.
+     *
+     * @param gameTime Total seconds elapsed in game
+     */
+    public void resetStint(int gameTime) {
+        if (clockStartTime >= 0) {
+            bankedSeconds += gameTime - clockStartTime;
+            clockStartTime = gameTime;
+        }
+        bankedStintSeconds = 0;
+    }
+
     /**
      * Get the display name for this player based on the current locale.
      * Returns English name if locale is English, otherwise returns Chinese name.
@@ -270,7 +338,17 @@ public class Player {
      * @return The localized player name
      */
     public String getDisplayName() {
-        if (LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.ENGLISH) {
+        return getDisplayName(LocalizedStrings.getCurrentLanguage());
+    }
+    
+    /**
+     * Get the display name for this player in the given language.
+     * 
+     * @param language Display language
+     * @return The localized player name
+     */
+    public String getDisplayName(LocalizedStrings.Language language) {
+        if (language == LocalizedStrings.Language.ENGLISH) {
             return englishName;
         } else {
             return name;
@@ -0,0 +1,131 @@
+package src;
+
+/**
+ * Immutable ratings of a roster player, parsed once from the team's roster file.
+ * Games build fresh Player objects from the templates instead of re-reading the roster.
+ */
+public class PlayerTemplate {
+    // Dense ids of the player and of the player's team, assigned by RosterRepository
+    public final int id;
+    public final int teamId;
+
+    public final String name;
+    public final String englishName;
+    public final String position;
+    public final String teamName;
+
+    public final Player.Position positionType;
+    public final Player.PlayerType playerType;
+    public final Player.DunkerType dunkerType;
+    public final Player.RotationType rotationType;
+
+    // Rating
+    public final int rating;
+    public final int insideRating;
+    public final int midRating;
+    public final int threeRating;
+    public final double freeThrowPercent;
+    public final int interiorDefense;
+    public final int perimeterDefense;
+    public final int orbRating;
+    public final int drbRating;
+    public final int astRating;
+    public final int stlRating;
+    public final int blkRating;
+    public final int layupRating;
+    public final int standDunk;
+    public final int drivingDunk;
+    public final int athleticism;
+    public final int durability;
+    public final int offConst;
+    public final int defConst;
+    public final int drawFoul;
+
+    // Bonus badge
+    public final boolean isStar;
+
+    /**
+     * Construct a PlayerTemplate from one line of a roster file.
+     * 
+     * @param name Player's name (Chinese)
+     * @param englishName Player's English name
+     * @param position Player's position on the court (C / PF / SF / SG / PG)
+     * @param playerType Player's player type (1: all-rounded, 2: insider, 3: mid-range, 4: inside+outside, 5: outsider)
+     * @param rotationType Player's rotation type (1: starter, 2: bench, 3: deep bench)
+     * @param rating Player's general rating
+     * @param insideRating Player's close shot rating
+     * @param midRating Player's mid-range shot rating
+     * @param threeRating Player's three-point shot rating
+     * @param freeThrowPercent Player's free-throw shot rating
+     * @param interiorDefense Player's interior defense rating
+     * @param perimeterDefense Player's perimeter defense rating
+     * @param orbRating Player's offensive rebound rating
+     * @param drbRating Player's defensive rebound rating
+     * @param astRating Player's playmaking and assist rating
+     * @param stlRating Player's steal rating
+     * @param blkRating Player's block rating
+     * @param layupRating Player's layup rating
+     * @param standDunk Player's standing dunk rating
+     * @param drivingDunk Player's driving dunk rating
+     * @param athleticism Player's general athleticism rating (speed, acceleration, strength, ...)
+     * @param durability Player's durability to injuries
+     * @param offConst Player's offensive consistency
+     * @param defConst Player's defensive consistency
+     * @param drawFoul Player's ability to draw foul
+     * @param teamName Player's team name
+     * @param id Player's id
+     * @param teamId Player's team id
+     */
+    public PlayerTemplate(String name, String englishName, String position, String playerType, String rotationType, String rating, String insideRating, String midRating, 
+                          String threeRating, String freeThrowPercent, String interiorDefense, String perimeterDefense, String orbRating,
+                          String drbRating, String astRating, String stlRating, String blkRating, String layupRating, String standDunk,
+                          String drivingDunk, String athleticism, String durability, String offConst, String defConst, String drawFoul, String teamName,
+                          int id, int teamId) {
+        this.id = id;
+        this.teamId = teamId;
+        this.name = name;
+        this.englishName = englishName;
+        this.position = position;
+        this.positionType = Player.Position.fromString(position);
+        this.playerType = Player.PlayerType.fromString(playerType);
+        this.rotationType = Player.RotationType.fromString(rotationType);
+
+        this.rating = Integer.parseInt(rating);
+        this.insideRating = Integer.parseInt(insideRating);
+        this.midRating = Integer.parseInt(midRating);
+        this.threeRating = Integer.parseInt(threeRating);
+        this.freeThrowPercent = Double.valueOf(freeThrowPercent);
+        this.interiorDefense = Integer.parseInt(interiorDefense);
+        this.perimeterDefense = Integer.parseInt(perimeterDefense);
+        this.orbRating = Integer.parseInt(orbRating);
+        this.drbRating = Integer.parseInt(drbRating);
+        this.astRating = Integer.parseInt(astRating);
+        this.stlRating = Integer.parseInt(stlRating);
+        this.blkRating = Integer.parseInt(blkRating);
+        this.layupRating = Integer.parseInt(layupRating);
+        this.standDunk = Integer.parseInt(standDunk);
+        this.drivingDunk = Integer.parseInt(drivingDunk);
+        this.athleticism = Integer.parseInt(athleticism);
+        this.durability = Integer.parseInt(durability);
+        this.offConst = Integer.parseInt(offConst);
+        this.defConst = Integer.parseInt(defConst);
+        this.drawFoul = Integer.parseInt(drawFoul);
+        this.teamName = teamName;
+
+        // Determine dunker type based on dunk ratings
+        // Type 1 - rarely dunk: standDunk + drivingDunk <= 60
+        // Type 2 - normal: other cases
+        // Type 3 - excellent dunker: standDunk + drivingDunk >= 160, or one of them exceeds 90
+        if (this.standDunk + this.drivingDunk <= Constants.DUNK_SUM_LB) {
+            this.dunkerType = Player.DunkerType.RARELY_DUNK;
+        } else if (this.standDunk + this.drivingDunk >= Constants.DUNK_SUM_UB || 
+                (this.standDunk + this.drivingDunk < Constants.DUNK_SUM_UB
+                    && (this.standDunk >= Constants.DUNK_EXCEL_LB || this.drivingDunk >= Constants.DUNK_EXCEL_LB))) {
+            this.dunkerType = Player.DunkerType.EXCELLENT;
+        } else {
+            this.dunkerType = Player.DunkerType.NORMAL;
+        }
+
+        this.isStar = this.rating >= Constants.PLAYER_STAR_LB ? true : false;
+    }
+}
@@ -0,0 +1,88 @@
+package src;
+
+import java.io.*;
+
+/**
+ * PredictionCheckpoint - Saved state of an unfinished prediction run, so a killed run can continue with --resume.
+ * Holds the settings of the run, how far it got, and the merged outcome counts.
+ * The random stream position is the num of season seeds drawn from the root seed, which is the num of finished seasons:
+ * every season is seeded up front by index, so replaying the seed source up to there continues the run exactly
+ * where it stopped, and the final result is the same as an uninterrupted run.
+ */
+public class PredictionCheckpoint {
+    // Settings of the run
+    public long seed;
+    public int seasonCount;
+    public double precision;
+    public boolean fastMode;
+    public int matrixGames;
+    public String rosterHash;
+
+    // Num of finished seasons, and the num of seasons at which the current batch ends
+    public int seasonsRun;
+    public int batchEnd;
+
+    // Merged outcome counts of the finished seasons
+    public OutcomeDistribution outcomes;
+
+    /**
+     * Write the checkpoint: a header line with the settings, a line with the progress, then the outcome counts.
+     * The file is written atomically, so a run killed while writing keeps the previous checkpoint.
+     *
+     * @param path Path of the checkpoint file
+     */
+    public void save(String path) {
+        try {
+            Utilities.writeAtomically(path, ps -> {
+                ps.println(seed + "," + seasonCount + "," + precision + "," + fastMode + "," + matrixGames + "," + rosterHash);
+                ps.println(seasonsRun + "," + batchEnd);
+                outcomes.writeCounts(ps);
+            });
+        } catch (IOException e) {
+            System.err.println("Error writing prediction checkpoint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read a checkpoint file written by save().
+     *
+     * @param path Path of the checkpoint file
+     * @return The checkpoint, or null if there is no readable checkpoint for the current teams
+     */
+    public static PredictionCheckpoint load(String path) {
+        File file = new File(path);
+        if (!file.exists()) return null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"))) {
+            PredictionCheckpoint checkpoint = new PredictionCheckpoint();
+            String[] settings = reader.readLine().split(",", -1);
+            checkpoint.seed = Long.parseLong(settings[0]);
+            checkpoint.seasonCount = Integer.parseInt(settings[1]);
+            checkpoint.precision = Double.parseDouble(settings[2]);
+            checkpoint.fastMode = Boolean.parseBoolean(settings[3]);
+            checkpoint.matrixGames = Integer.parseInt(settings[4]);
+            checkpoint.rosterHash = settings[5];
+
+            String[] progress = reader.readLine().split(",");
+            checkpoint.seasonsRun = Integer.parseInt(progress[0]);
+            checkpoint.batchEnd = Integer.parseInt(progress[1]);
+
+            checkpoint.outcomes = new OutcomeDistribution();
+            checkpoint.outcomes.readCounts(reader);
+            if (checkpoint.outcomes.getSeasons() != checkpoint.seasonsRun) throw new IOException("Season count doesn't match the counts");
+            return checkpoint;
+        } catch (Exception e) {
+            System.err.println("Ignoring unreadable prediction checkpoint: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Delete a checkpoint file, e.g. once its run has finished.
+     *
+     * @param path Path of the checkpoint file
+     */
+    public static void delete(String path) {
+        new File(path).delete();
+    }
+}
@@ -0,0 +1,126 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * PredictionResults - Writes the championship prediction results: the text table, and a JSON sibling for other tools.
+ * While a run goes on, the predictor rewrites both files every few seasons from a snapshot of its counts,
+ * together with the progress, seasons per second and estimated time left, so partial results can be read during long runs.
+ * Both files are replaced atomically, so a reader always sees a complete version.
+ */
+public class PredictionResults {
+    // Paths of the text table and the JSON file
+    private final String textPath;
+    private final String jsonPath;
+
+    /**
+     * Construct a results writer.
+     *
+     * @param textPath Path of the text table
+     * @param jsonPath Path of the JSON file
+     */
+    public PredictionResults(String textPath, String jsonPath) {
+        this.textPath = textPath;
+        this.jsonPath = jsonPath;
+    }
+
+    /**
+     * Get the path of the text table.
+     */
+    public String getTextPath() {
+        return textPath;
+    }
+
+    /**
+     * Write both files from the outcome counts so far.
+     *
+     * @param outcomes Outcome counts so far, not recorded into while writing
+     * @param targetSeasons Num of seasons the run is expected to reach
+     * @param seasonsPerSecond Simulation speed so far
+     * @param finished Whether the run has finished, a finished table has no progress line
+     */
+    public void write(OutcomeDistribution outcomes, int targetSeasons, double seasonsPerSecond, boolean finished) {
+        int seasons = (int) outcomes.getSeasons();
+        if (seasons == 0) return;
+        double etaSeconds = finished || seasonsPerSecond <= 0 ? 0 : Math.max(targetSeasons - seasons, 0) / seasonsPerSecond;
+
+        try {
+            Utilities.writeAtomically(textPath, ps -> {
+                ps.println(LocalizedStrings.format("prediction.title", seasons));
+                if (!finished) ps.println(LocalizedStrings.format("prediction.progress", seasons, targetSeasons, seasonsPerSecond, etaSeconds));
+                ps.println("==================================================");
+                writeTable(ps, outcomes.getChampionCounts(), seasons);
+            });
+            Utilities.writeAtomically(jsonPath, ps -> writeJson(ps, outcomes, targetSeasons, seasonsPerSecond, etaSeconds, finished));
+        } catch (IOException e) {
+            System.err.println("Error writing prediction results: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the champions sorted by titles, with their title probabilities and confidence intervals.
+     */
+    private static void writeTable(PrintStream ps, Map<String, Integer> championCounts, int seasons) {
+        // Sort by win count
+        List<Map.Entry<String, Integer>> sortedList = new ArrayList<>(championCounts.entrySet());
+        sortedList.sort((e1, e2) -> e2.getValue().compareTo(e1.getValue()));
+
+        int rank = 1;
+        for (Map.Entry<String, Integer> entry : sortedList) {
+            String teamName = entry.getKey();
+            int wins = entry.getValue();
+            double probability = (double) wins / seasons * 100.0;
+            double[] interval = ChampionshipPredictor.getConfidenceInterval(wins, seasons);
+
+            // Translate team name if needed
+            String displayName = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+                                 Constants.translateToChinese(teamName) : teamName;
+
+            ps.printf("%d. %s: %d %s (%.1f%%, %s %.2f%% - %.2f%%)\n", rank, displayName, wins, LocalizedStrings.get("prediction.wins"),
+                      probability, LocalizedStrings.get("prediction.interval"), interval[0] * 100.0, interval[1] * 100.0);
+            rank++;
+        }
+    }
+
+    /**
+     * Write the progress and every team's odds as JSON, teams sorted by titles. Team names are in English.
+     */
+    private static void writeJson(PrintStream ps, OutcomeDistribution outcomes, int targetSeasons, double seasonsPerSecond,
+                                  double etaSeconds, boolean finished) {
+        int seasons = (int) outcomes.getSeasons();
+        List<Integer> teams = new ArrayList<>();
+        for (int team = 0; team < RosterRepository.getTeamCount(); team++) teams.add(team);
+        teams.sort((t1, t2) -> Long.compare(outcomes.getTitles(t2), outcomes.getTitles(t1)));
+
+        ps.println("{");
+        ps.println("  \"seasons\": " + seasons + ",");
+        ps.println("  \"target_seasons\": " + targetSeasons + ",");
+        ps.println("  \"finished\": " + finished + ",");
+        ps.println("  \"seasons_per_second\": " + String.format(Locale.ROOT, "%.1f", seasonsPerSecond) + ",");
+        ps.println("  \"eta_seconds\": " + String.format(Locale.ROOT, "%.0f", etaSeconds) + ",");
+        ps.println("  \"teams\": [");
+        for (int i = 0; i < teams.size(); i++) {
+            int team = teams.get(i);
+            int titles = (int) outcomes.getTitles(team);
+            double[] interval = ChampionshipPredictor.getConfidenceInterval(titles, seasons);
+            ps.print(String.format(Locale.ROOT,
+                     "    {\"team\": \"%s\", \"titles\": %d, \"title_odds\": %.5f, \"title_odds_low\": %.5f, \"title_odds_high\": %.5f, "
+                     + "\"finals_odds\": %.5f, \"playoff_odds\": %.5f, \"average_wins\": %.2f}",
+                     escapeJson(RosterRepository.getTeamName(team)), titles, (double) titles / seasons, interval[0], interval[1],
+                     (double) outcomes.getRoundReached(team, Game.SeasonOutcome.FINALS) / seasons,
+                     (double) outcomes.getRoundReached(team, Game.SeasonOutcome.FIRST_ROUND) / seasons,
+                     outcomes.getAverageWins(team)));
+            ps.println(i < teams.size() - 1 ? "," : "");
+        }
+        ps.println("  ]");
+        ps.println("}");
+    }
+
+    /**
+     * Escape a string for a JSON string literal.
+     */
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,93 @@
+package src;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random number source of the simulation.
+ * Backed by SplittableRandom, which is fast and unsynchronized, so one source must only be used by one thread.
+ * A seeded source always produces the same numbers, and split() derives independent child streams
+ * (per season, per game) whose numbers only depend on the parent's seed and the order of the splits.
+ * An antithetic source mirrors every number of the source with the same seed (x becomes bound - 1 - x),
+ * so a season replayed with it is negatively correlated with the original season.
+ */
+public class RandomSource {
+    private final SplittableRandom random;
+
+    // Whether every number is mirrored
+    private final boolean antithetic;
+
+    /**
+     * Construct a source with a random seed.
+     */
+    public RandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Construct a reproducible source.
+     *
+     * @param seed Seed of the source
+     */
+    public RandomSource(long seed) {
+        this(new SplittableRandom(seed), false);
+    }
+
+    /**
+     * Construct a reproducible source, optionally mirroring the numbers of the source with the same seed.
+     *
+     * @param seed Seed of the source
+     * @param antithetic Whether every number is mirrored
+     */
+    public RandomSource(long seed, boolean antithetic) {
+        this(new SplittableRandom(seed), antithetic);
+    }
+
+    private RandomSource(SplittableRandom random) {
+        this(random, false);
+    }
+
+    private RandomSource(SplittableRandom random, boolean antithetic) {
+        this.random = random;
+        this.antithetic = antithetic;
+    }
+
+    /**
+     * Derive an independent child source, advancing this source.
+     */
+    public RandomSource split() {
+        return new RandomSource(random.split(), antithetic);
+    }
+
+    /**
+     * Get a random int from range [0, bound).
+     */
+    public int nextInt(int bound) {
+        int value = random.nextInt(bound);
+        return antithetic ? bound - 1 - value : value;
+    }
+
+    /**
+     * Get a random long, e.g. to seed another source.
+     */
+    public long nextLong() {
+        long value = random.nextLong();
+        return antithetic ? ~value : value;
+    }
+
+    /**
+     * Get a random boolean.
+     */
+    public boolean nextBoolean() {
+        boolean value = random.nextBoolean();
+        return antithetic ? !value : value;
+    }
+
+    /**
+     * Get a random double from range [0, 1).
+     */
+    public double nextDouble() {
+        double value = random.nextDouble();
+        // mirrored on the grid of 2^-53 steps, so the result stays in [0, 1)
+        return antithetic ? Math.nextDown(1.0) - value : value;
+    }
+}
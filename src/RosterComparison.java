@@ -0,0 +1,305 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a paired prediction of two roster directories, e.g. before and after a trade.
+ * Both rosters play every season from the same seed, so the games share their random streams (common random numbers)
+ * and the noise of the two runs mostly cancels out in the difference. With antithetic pairs, every seed is also
+ * replayed with mirrored streams and the two seasons are averaged into one sample.
+ * The result is the difference in each team's title, finals and playoff odds, with its standard error.
+ */
+public class RosterComparison {
+    // Compared odds, by index
+    public static final int TITLE = 0;
+    public static final int FINALS = 1;
+    public static final int PLAYOFFS = 2;
+    private static final int ODDS_COUNT = 3;
+
+    // Num of seasons to simulate per roster directory
+    private final int seasonCount;
+
+    // Number of worker threads
+    private final int threadCount;
+
+    // Whether each seed is also replayed with mirrored streams
+    private final boolean antithetic;
+
+    // Seed of each sample, by sample index
+    private final long[] sampleSeeds;
+
+    // Roster directories, and their win probabilities in fast mode (null to simulate every game)
+    private final String baselinePath;
+    private final String variantPath;
+    private final WinProbabilityMatrix baselineProbabilities;
+    private final WinProbabilityMatrix variantProbabilities;
+
+    // Console stream for progress output
+    private final PrintStream console;
+
+    // Number of samples finished so far, across all workers
+    private final AtomicInteger completed = new AtomicInteger();
+
+    // Sums over samples of the baseline odds, the variant odds, the differences and the squared differences,
+    // by [odds index][team id]
+    private final double[][] baselineSums = new double[ODDS_COUNT][RosterRepository.getTeamCount()];
+    private final double[][] variantSums = new double[ODDS_COUNT][RosterRepository.getTeamCount()];
+    private final double[][] diffSums = new double[ODDS_COUNT][RosterRepository.getTeamCount()];
+    private final double[][] diffSquareSums = new double[ODDS_COUNT][RosterRepository.getTeamCount()];
+
+    /**
+     * Construct a comparison.
+     *
+     * @param seasonCount Num of seasons to simulate per roster directory, rounded up to even with antithetic pairs
+     * @param threadCount Number of worker threads, values below 1 fall back to the number of available cores
+     * @param seed Root seed of the comparison
+     * @param antithetic Whether each seed is also replayed with mirrored streams
+     * @param baselinePath Roster directory of the baseline
+     * @param variantPath Roster directory of the variant
+     * @param baselineProbabilities Win probabilities of the baseline in fast mode, null to simulate every game
+     * @param variantProbabilities Win probabilities of the variant in fast mode, null to simulate every game
+     * @param console Stream to print progress to
+     */
+    public RosterComparison(int seasonCount, int threadCount, long seed, boolean antithetic,
+                            String baselinePath, String variantPath,
+                            WinProbabilityMatrix baselineProbabilities, WinProbabilityMatrix variantProbabilities,
+                            PrintStream console) {
+        int sampleCount = antithetic ? (seasonCount + 1) / 2 : seasonCount;
+        this.seasonCount = antithetic ? sampleCount * 2 : seasonCount;
+        this.threadCount = threadCount > 0 ? Math.min(threadCount, Math.max(sampleCount, 1))
+                                           : Runtime.getRuntime().availableProcessors();
+        this.antithetic = antithetic;
+        this.baselinePath = baselinePath;
+        this.variantPath = variantPath;
+        this.baselineProbabilities = baselineProbabilities;
+        this.variantProbabilities = variantProbabilities;
+        this.console = console;
+
+        RandomSource root = new RandomSource(seed);
+        this.sampleSeeds = new long[sampleCount];
+        for (int i = 0; i < sampleCount; i++) sampleSeeds[i] = root.nextLong();
+    }
+
+    /**
+     * Get the number of worker threads actually used.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Get the num of seasons simulated per roster directory.
+     */
+    public int getSeasonCount() {
+        return seasonCount;
+    }
+
+    /**
+     * Simulate all samples of both roster directories and sum up the odds.
+     *
+     * @throws IllegalStateException If a season fails to simulate
+     */
+    public void run() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        List<Future<double[][][]>> shards = new ArrayList<>();
+        int sampleCount = sampleSeeds.length;
+
+        try {
+            // Split the samples as evenly as possible across the workers
+            int shardStart = 0;
+            for (int i = 0; i < threadCount; i++) {
+                final int start = shardStart;
+                final int end = start + sampleCount / threadCount + (i < sampleCount % threadCount ? 1 : 0);
+                shards.add(pool.submit(() -> runShard(start, end)));
+                shardStart = end;
+            }
+
+            // Merge per-worker sums. The odds are averaged over all samples, so a single failed shard fails the comparison
+            for (Future<double[][][]> shard : shards) {
+                try {
+                    double[][][] sums = shard.get();
+                    addAll(baselineSums, sums[0]);
+                    addAll(variantSums, sums[1]);
+                    addAll(diffSums, sums[2]);
+                    addAll(diffSquareSums, sums[3]);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Roster comparison failed: " + e.getCause(), e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Simulate a range of samples on the current thread.
+     *
+     * @param start Index of the first sample to simulate
+     * @param end Index after the last sample to simulate
+     * @return Sums of this shard: baseline odds, variant odds, differences and squared differences
+     */
+    private double[][][] runShard(int start, int end) {
+        int teamCount = RosterRepository.getTeamCount();
+        double[][][] sums = new double[4][ODDS_COUNT][teamCount];
+        double[][] baseline = new double[ODDS_COUNT][teamCount];
+        double[][] variant = new double[ODDS_COUNT][teamCount];
+
+        for (int i = start; i < end; i++) {
+            for (double[] odds : baseline) Arrays.fill(odds, 0);
+            for (double[] odds : variant) Arrays.fill(odds, 0);
+
+            // same seed for both roster directories, and the mirrored seed too with antithetic pairs
+            double weight = antithetic ? 0.5 : 1;
+            addSeason(baseline, baselinePath, baselineProbabilities, sampleSeeds[i], false, weight);
+            addSeason(variant, variantPath, variantProbabilities, sampleSeeds[i], false, weight);
+            if (antithetic) {
+                addSeason(baseline, baselinePath, baselineProbabilities, sampleSeeds[i], true, weight);
+                addSeason(variant, variantPath, variantProbabilities, sampleSeeds[i], true, weight);
+            }
+
+            for (int odds = 0; odds < ODDS_COUNT; odds++) {
+                for (int team = 0; team < teamCount; team++) {
+                    double diff = variant[odds][team] - baseline[odds][team];
+                    sums[0][odds][team] += baseline[odds][team];
+                    sums[1][odds][team] += variant[odds][team];
+                    sums[2][odds][team] += diff;
+                    sums[3][odds][team] += diff * diff;
+                }
+            }
+
+            // Print progress every 5 samples
+            int done = completed.incrementAndGet();
+            if (done % 5 == 0) {
+                console.println("Simulated " + done + "/" + sampleSeeds.length + " paired samples...");
+            }
+        }
+
+        return sums;
+    }
+
+    /**
+     * Simulate one season of a roster directory and add its outcome to a sample's odds.
+     */
+    private void addSeason(double[][] odds, String rosterPath, WinProbabilityMatrix winProbabilities, long seed,
+                           boolean mirrored, double weight) {
+        SimulationContext ctx = new SimulationContext(LocalizedStrings.getLanguage(), new RandomSource(seed, mirrored), System.out);
+        Game game = new Game(ctx);
+        game.silentMode = true;
+        game.rosterPath = rosterPath;
+        game.winProbabilities = winProbabilities;
+        game.hostSeason();
+
+        int[] playoffRound = game.seasonOutcome.playoffRound;
+        for (int team = 0; team < playoffRound.length; team++) {
+            if (playoffRound[team] == Game.SeasonOutcome.CHAMPION) odds[TITLE][team] += weight;
+            if (playoffRound[team] >= Game.SeasonOutcome.FINALS) odds[FINALS][team] += weight;
+            if (playoffRound[team] >= Game.SeasonOutcome.FIRST_ROUND) odds[PLAYOFFS][team] += weight;
+        }
+    }
+
+    /**
+     * Add one table of sums into another.
+     */
+    private static void addAll(double[][] target, double[][] source) {
+        for (int i = 0; i < target.length; i++) {
+            for (int j = 0; j < target[i].length; j++) target[i][j] += source[i][j];
+        }
+    }
+
+    /**
+     * Get a team's mean odds of the baseline.
+     *
+     * @param odds Odds index (TITLE, FINALS or PLAYOFFS)
+     * @param teamId Team id
+     */
+    public double getBaselineOdds(int odds, int teamId) {
+        return baselineSums[odds][teamId] / sampleSeeds.length;
+    }
+
+    /**
+     * Get a team's mean odds of the variant.
+     *
+     * @param odds Odds index (TITLE, FINALS or PLAYOFFS)
+     * @param teamId Team id
+     */
+    public double getVariantOdds(int odds, int teamId) {
+        return variantSums[odds][teamId] / sampleSeeds.length;
+    }
+
+    /**
+     * Get the standard error of a team's odds difference, from the spread of the paired samples.
+     *
+     * @param odds Odds index (TITLE, FINALS or PLAYOFFS)
+     * @param teamId Team id
+     */
+    public double getStandardError(int odds, int teamId) {
+        int n = sampleSeeds.length;
+        if (n < 2) return 0;
+        double mean = diffSums[odds][teamId] / n;
+        double variance = Math.max(diffSquareSums[odds][teamId] / n - mean * mean, 0) * n / (n - 1);
+        return Math.sqrt(variance / n);
+    }
+
+    /**
+     * Get the standard error two independent predictions of the same num of seasons would have had for a team's odds difference.
+     *
+     * @param odds Odds index (TITLE, FINALS or PLAYOFFS)
+     * @param teamId Team id
+     */
+    public double getIndependentStandardError(int odds, int teamId) {
+        double baseline = getBaselineOdds(odds, teamId);
+        double variant = getVariantOdds(odds, teamId);
+        return Math.sqrt((baseline * (1 - baseline) + variant * (1 - variant)) / seasonCount);
+    }
+
+    /**
+     * Write the odds of both roster directories and their differences, sorted by the change in title odds.
+     *
+     * @param path Path of the output file
+     */
+    public void writeResults(String path) {
+        int teamCount = RosterRepository.getTeamCount();
+        List<Integer> teams = new ArrayList<>();
+        for (int id = 0; id < teamCount; id++) teams.add(id);
+        teams.sort((t1, t2) -> Double.compare(Math.abs(getVariantOdds(TITLE, t2) - getBaselineOdds(TITLE, t2)),
+                                              Math.abs(getVariantOdds(TITLE, t1) - getBaselineOdds(TITLE, t1))));
+
+        String[] oddsNames = {LocalizedStrings.get("comparison.title_odds"), LocalizedStrings.get("comparison.finals_odds"),
+                              LocalizedStrings.get("comparison.playoff_odds")};
+
+        try {
+            Utilities.writeAtomically(path, ps -> {
+                ps.println(LocalizedStrings.format("comparison.title", seasonCount));
+                ps.println(LocalizedStrings.get("comparison.baseline") + ": " + baselinePath);
+                ps.println(LocalizedStrings.get("comparison.variant") + ": " + variantPath);
+                ps.println("==================================================");
+
+                double pairedVariance = 0, independentVariance = 0;
+                for (int teamId : teams) {
+                    ps.println(RosterRepository.getTeamName(teamId, LocalizedStrings.getCurrentLanguage()) + ":");
+                    for (int odds = 0; odds < ODDS_COUNT; odds++) {
+                        double baseline = getBaselineOdds(odds, teamId);
+                        double variant = getVariantOdds(odds, teamId);
+                        ps.printf("    %s: %.1f%% -> %.1f%% (%+.2f%% +/- %.2f%%)\n", oddsNames[odds], baseline * 100.0, variant * 100.0,
+                                  (variant - baseline) * 100.0, getStandardError(odds, teamId) * 100.0);
+                    }
+                    pairedVariance += Math.pow(getStandardError(TITLE, teamId), 2);
+                    independentVariance += Math.pow(getIndependentStandardError(TITLE, teamId), 2);
+                }
+
+                // how many more seasons two independent predictions would need for the same precision of the title odds
+                if (pairedVariance > 0) {
+                    ps.println("==================================================");
+                    ps.printf(LocalizedStrings.get("comparison.variance_reduction") + "\n", independentVariance / pairedVariance);
+                }
+
+                System.out.println("Results saved to " + path);
+            });
+        } catch (IOException e) {
+            System.err.println("Error writing roster comparison results: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package src;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RosterRepository - Parses every team's roster file once and keeps the players as immutable templates.
+ * Teams and players are also interned into dense int ids here, so the engine can index arrays by id
+ * and only resolve names when rendering output.
+ * Team ids follow Constants.EAST_TEAMS_EN then Constants.WEST_TEAMS_EN, player ids follow roster file order.
+ * Rosters of another directory (e.g. a trade scenario) are parsed on first use, with the same team ids.
+ * Their player ids only index their own directory's rosters, so they are meant for silent simulations.
+ */
+public class RosterRepository {
+    // Team names by team id, in English and Chinese
+    private static final String[] teamNames;
+    private static final String[] teamNamesZh;
+
+    // Division of each team by team id (0 west, 1 east)
+    private static final int[] divisions;
+
+    // English team name -> team id
+    private static final Map<String, Integer> teamIds = new HashMap<>();
+
+    // Parsed rosters by team id, and all players by player id
+    private static final List<List<PlayerTemplate>> rosters = new ArrayList<>();
+    private static final PlayerTemplate[] players;
+
+    // Parsed rosters of other roster directories by team id, by directory path
+    private static final Map<String, List<List<PlayerTemplate>>> otherRosters = new ConcurrentHashMap<>();
+
+    static {
+        int eastCount = Constants.EAST_TEAMS_EN.length;
+        int teamCount = eastCount + Constants.WEST_TEAMS_EN.length;
+        teamNames = new String[teamCount];
+        teamNamesZh = new String[teamCount];
+        divisions = new int[teamCount];
+
+        List<PlayerTemplate> allPlayers = new ArrayList<>();
+        for (int id = 0; id < teamCount; id++) {
+            boolean isEast = id < eastCount;
+            teamNames[id] = isEast ? Constants.EAST_TEAMS_EN[id] : Constants.WEST_TEAMS_EN[id - eastCount];
+            teamNamesZh[id] = Constants.translateToChinese(teamNames[id]);
+            divisions[id] = isEast ? 1 : 0;
+            teamIds.put(teamNames[id], id);
+
+            List<PlayerTemplate> roster = loadRoster(Constants.ROSTER_PATH, teamNames[id], id, allPlayers.size());
+            rosters.add(roster);
+            allPlayers.addAll(roster);
+        }
+        players = allPlayers.toArray(new PlayerTemplate[0]);
+    }
+
+    /**
+     * Get a team's id.
+     *
+     * @param name The team's name, in English or Chinese
+     * @return Team id, or -1 if there is no such team
+     */
+    public static int getTeamId(String name) {
+        return teamIds.getOrDefault(Constants.translateToEnglish(name), -1);
+    }
+
+    /**
+     * Get the total num of teams.
+     */
+    public static int getTeamCount() {
+        return teamNames.length;
+    }
+
+    /**
+     * Get a team's English name.
+     *
+     * @param teamId Team id
+     */
+    public static String getTeamName(int teamId) {
+        return teamNames[teamId];
+    }
+
+    /**
+     * Get a team's name in the given language.
+     *
+     * @param teamId Team id
+     * @param language Output language
+     */
+    public static String getTeamName(int teamId, LocalizedStrings.Language language) {
+        return language == LocalizedStrings.Language.CHINESE ? teamNamesZh[teamId] : teamNames[teamId];
+    }
+
+    /**
+     * Get a team's division.
+     *
+     * @param teamId Team id
+     * @return 0 for west, 1 for east
+     */
+    public static int getDivision(int teamId) {
+        return divisions[teamId];
+    }
+
+    /**
+     * Get a team's roster.
+     *
+     * @param teamId Team id
+     * @return Unmodifiable list of the team's player templates, in roster file order
+     */
+    public static List<PlayerTemplate> getRoster(int teamId) {
+        return rosters.get(teamId);
+    }
+
+    /**
+     * Get a team's roster.
+     *
+     * @param name The team's name
+     * @return Unmodifiable list of the team's player templates, in roster file order
+     */
+    public static List<PlayerTemplate> getRoster(String name) {
+        int teamId = getTeamId(name);
+        if (teamId < 0) {
+            System.err.println("Error loading roster for team: " + name);
+            return Collections.emptyList();
+        }
+        return getRoster(teamId);
+    }
+
+    /**
+     * Get a team's roster from a roster directory.
+     *
+     * @param name The team's name
+     * @param rosterPath Roster directory
+     * @return Unmodifiable list of the team's player templates, in roster file order
+     */
+    public static List<PlayerTemplate> getRoster(String name, String rosterPath) {
+        if (rosterPath.equals(Constants.ROSTER_PATH)) return getRoster(name);
+
+        int teamId = getTeamId(name);
+        if (teamId < 0) {
+            System.err.println("Error loading roster for team: " + name);
+            return Collections.emptyList();
+        }
+        return otherRosters.computeIfAbsent(rosterPath, RosterRepository::loadRosters).get(teamId);
+    }
+
+    /**
+     * Get the total num of players of all teams.
+     */
+    public static int getPlayerCount() {
+        return players.length;
+    }
+
+    /**
+     * Get a player's template.
+     *
+     * @param playerId Player id
+     */
+    public static PlayerTemplate getPlayer(int playerId) {
+        return players[playerId];
+    }
+
+    /**
+     * Get a hash of all roster files of a roster directory, which changes whenever any team's roster or ratings change.
+     *
+     * @param rosterPath Roster directory
+     * @return SHA-256 of the roster files in team id order, as a hex string, or null if a roster file can't be read
+     */
+    public static String getRosterHash(String rosterPath) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String name : teamNames) {
+                digest.update(Files.readAllBytes(Paths.get(rosterPath + Constants.getTeamRosterFilename(name))));
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception e) {
+            System.err.println("Error hashing roster files: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Get the teams without a roster file in a roster directory.
+     * Team ids are shared by all roster directories, so another directory must have a roster file for every team.
+     *
+     * @param rosterPath Roster directory
+     * @return Names of the teams whose roster file is missing, in team id order
+     */
+    public static List<String> getMissingTeams(String rosterPath) {
+        List<String> missing = new ArrayList<>();
+        for (String name : teamNames) {
+            if (!new File(rosterPath + Constants.getTeamRosterFilename(name)).isFile()) missing.add(name);
+        }
+        return missing;
+    }
+
+    /**
+     * Load all team roster files of another roster directory.
+     *
+     * @param rosterPath Roster directory
+     * @return Unmodifiable rosters by team id
+     */
+    private static List<List<PlayerTemplate>> loadRosters(String rosterPath) {
+        List<List<PlayerTemplate>> result = new ArrayList<>();
+        int playerCount = 0;
+        for (int id = 0; id < teamNames.length; id++) {
+            List<PlayerTemplate> roster = loadRoster(rosterPath, teamNames[id], id, playerCount);
+            result.add(roster);
+            playerCount += roster.size();
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Load a team roster file.
+     *
+     * @param rosterPath Roster directory
+     * @param name The team's name
+     * @param teamId The team's id
+     * @param firstPlayerId Id of the first player in the roster file
+     * @return Unmodifiable list of the team's player templates
+     */
+    private static List<PlayerTemplate> loadRoster(String rosterPath, String name, int teamId, int firstPlayerId) {
+        List<PlayerTemplate> roster = new ArrayList<>();
+        String filePath = rosterPath + Constants.getTeamRosterFilename(name);
+
+        try (BufferedReader file = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "UTF-8"))) {
+            String record;
+            boolean isFirst = true;
+            while ((record = file.readLine()) != null) {
+                // Skip first header line
+                if (isFirst) {
+                    isFirst = false;
+                    continue;
+                }
+
+                // Get current player's ratings, with both Chinese name (index 0) and English name (index 1)
+                String[] attributes = record.split(",");
+                roster.add(new PlayerTemplate(attributes[0], attributes[1], attributes[2], attributes[3], attributes[4], attributes[5], attributes[6],
+                                              attributes[7], attributes[8], attributes[9], attributes[10], attributes[11], attributes[12],
+                                              attributes[13], attributes[14], attributes[15], attributes[16], attributes[17], attributes[18],
+                                              attributes[19], attributes[20], attributes[21], attributes[22], attributes[23], attributes[24], name,
+                                              firstPlayerId + roster.size(), teamId));
+            }
+        } catch (Exception e) {
+            System.err.println("Error loading roster for team: " + name);
+            System.err.println("File path: " + filePath);
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return Collections.unmodifiableList(roster);
+    }
+}
@@ -0,0 +1,122 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schedule - A regular season schedule compiled once into primitive arrays.
+ * Game i is played on dates[gameDates[i]] between team awayTeams[i] and team homeTeams[i], by RosterRepository team id.
+ * Compiled schedules are read-only and shared by all seasons and threads.
+ */
+public class Schedule {
+    // Compiled schedules, by schedule file path
+    private static final Map<String, Schedule> schedules = new ConcurrentHashMap<>();
+
+    // Distinct game dates, in schedule order
+    public final String[] dates;
+
+    // Per-game date index, away team id and home team id
+    public final int[] gameDates;
+    public final int[] awayTeams;
+    public final int[] homeTeams;
+
+    // Total num of games in the schedule
+    public final int gameCount;
+
+    /**
+     * Get the compiled schedule of a schedule file, compiling it on first use.
+     *
+     * @param path Path of the schedule file
+     * @return Compiled schedule, shared by all callers
+     */
+    public static Schedule forPath(String path) {
+        return schedules.computeIfAbsent(path, Schedule::new);
+    }
+
+    /**
+     * Compile a schedule file. A date line sets the date of all following games,
+     * and each game line holds the away team and the home team.
+     *
+     * @param path Path of the schedule file
+     */
+    private Schedule(String path) {
+        List<String> dateList = new ArrayList<>();
+        List<int[]> games = new ArrayList<>();
+
+        try (BufferedReader file = new BufferedReader(new InputStreamReader(new FileInputStream(path), "UTF-8"))) {
+            String line;
+            while ((line = file.readLine()) != null) {
+                // skip empty line
+                if (line.length() == 0) continue;
+
+                // current line only contains a date, set as current date
+                else if ((line.charAt(0) == '0' || line.charAt(0) == '1') && line.charAt(2) == '-') dateList.add(line);
+
+                // teams line, record game between two teams
+                else {
+                    String[] parts = line.split(" ");
+                    String team1, team2;
+
+                    // Handle "Trail Blazers" which has a space in the name
+                    if (parts.length == 3) {
+                        // Could be "Team1 Trail Blazers" or "Trail Blazers Team2"
+                        if (parts[0].equals("Trail") && parts[1].equals("Blazers")) {
+                            team1 = "Trail Blazers";
+                            team2 = parts[2];
+                        } else if (parts[1].equals("Trail") && parts[2].equals("Blazers")) {
+                            team1 = parts[0];
+                            team2 = "Trail Blazers";
+                        } else {
+                            // Fallback: shouldn't happen
+                            team1 = parts[0];
+                            team2 = parts[1];
+                        }
+                    } else if (parts.length == 4) {
+                        // Both teams have spaces: "Trail Blazers Trail Blazers" (shouldn't happen in practice)
+                        team1 = parts[0] + " " + parts[1];
+                        team2 = parts[2] + " " + parts[3];
+                    } else {
+                        // Normal case: two single-word team names
+                        team1 = parts[0];
+                        team2 = parts[1];
+                    }
+
+                    int awayId = RosterRepository.getTeamId(team1);
+                    int homeId = RosterRepository.getTeamId(team2);
+                    if (awayId < 0 || homeId < 0) {
+                        System.err.println("Unknown team in schedule line: " + line);
+                        continue;
+                    }
+                    games.add(new int[] {dateList.size() - 1, awayId, homeId});
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error loading schedule: " + path);
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        dates = dateList.toArray(new String[0]);
+        gameCount = games.size();
+        gameDates = new int[gameCount];
+        awayTeams = new int[gameCount];
+        homeTeams = new int[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            int[] game = games.get(i);
+            gameDates[i] = game[0];
+            awayTeams[i] = game[1];
+            homeTeams[i] = game[2];
+        }
+    }
+
+    /**
+     * Get the date of a game.
+     *
+     * @param game Game index
+     * @return Date string of the game, e.g. "10-21"
+     */
+    public String getDate(int game) {
+        return gameDates[game] >= 0 ? dates[gameDates[game]] : "";
+    }
+}
@@ -2,132 +2,123 @@ package src;
 
 import java.util.*;
 
+/**
+ * SeasonStats - Season totals of every player and team, stored as primitive columns indexed by
+ * RosterRepository player / team id. Totals are accumulated in place after each game, and
+ * per-game averages are only derived when a leaderboard is printed.
+ */
 public class SeasonStats {
-    // player total stats table
-    public final Map<String, Integer> playerTotalGames;
-    public final Map<String, Integer> playerTotalScores;
-    public final Map<String, Integer> playerTotalRebs;
-    public final Map<String, Integer> playerTotalOffensiveRebs;
-    public final Map<String, Integer> playerTotalDefensiveRebs;
-    public final Map<String, Integer> playerTotalAsts;
-    public final Map<String, Integer> playerTotalStls;
-    public final Map<String, Integer> playerTotalBlks;
-    public final Map<String, Integer> playerTotalThrees;
-    public final Map<String, Integer> playerTotalFts;
-    public final Map<String, Integer> playerTotalShotsAttempted;
-    public final Map<String, Integer> playerTotalShotsMade;
-
-    // player per-game stats table
-    public final Map<String, Double> playerPerScores;
-    public final Map<String, Double> playerPerRebs;
-    public final Map<String, Double> playerPerOffensiveRebs;
-    public final Map<String, Double> playerPerDefensiveRebs;
-    public final Map<String, Double> playerPerAsts;
-    public final Map<String, Double> playerPerStls;
-    public final Map<String, Double> playerPerBlks;
-    public final Map<String, Double> playerPerThrees;
-    public final Map<String, Double> playerPerFts;
-    public final Map<String, Double> playerPerShotsAttempted;
-    public final Map<String, Double> playerPerShotsMade;
-    
-    // player additional stats
-    public final Map<String, Integer> playerTotalThreesAttempted;
-    public final Map<String, Integer> playerTotalFtsAttempted;
-    public final Map<String, Integer> playerTotalSecondsPlayed;  // Total seconds played
-    public final Map<String, Double> playerPerThreesAttempted;
-    public final Map<String, Double> playerPerFtsAttempted;
-    public final Map<String, Double> playerPerMinutesPlayed;  // Average minutes per game
-    public final Map<String, String> playerTeamMap;  // maps player name to team name
-    public final Map<String, String> playerEnglishNameMap;  // maps Chinese name to English name
-
-    // team total stats table
-    public final Map<String, Integer> teamTotalGames;
-    public final Map<String, Integer> teamTotalScores;
-    public final Map<String, Integer> teamTotalScoresAllowed;
-    public final Map<String, Integer> teamTotalShotsMade;
-    public final Map<String, Integer> teamTotalThreeMade;
-    public final Map<String, Integer> teamTotalFreeMade;
-    public final Map<String, Integer> teamTotalShotsAttempted;
-    public final Map<String, Integer> teamTotalThreeAttempted;
-
-    // team per-game stats table
-    public final Map<String, Double> teamPerScores;
-    public final Map<String, Double> teamPerScoresAllowed;
-    public final Map<String, Double> teamPerShotsMade;
-    public final Map<String, Double> teamPerThreeMade;
-    public final Map<String, Double> teamPerFreeMade;
-    public final Map<String, Double> teamPerShotsPercent;
-    public final Map<String, Double> teamPerThreePercent;
-
-    // team opponent stats
-    public final Map<String, Integer> teamTotalOpponentShotMade;
-    public final Map<String, Integer> teamTotalOpponentShotAttempted;
-    public final Map<String, Integer> teamTotalOpponent3Made;
-    public final Map<String, Integer> teamTotalOpponent3Attempted;
-    public final Map<String, Double> teamPerOpponentShotsPercent;
-    public final Map<String, Double> teamPerOpponent3Percent;
+    // Localized strings, resolved once when the class is loaded
+    private static final LocalizedStrings.Key STAT_POINTS_SHORT = LocalizedStrings.key("stat.points.short");
+    private static final LocalizedStrings.Key STAT_REBOUNDS_SHORT = LocalizedStrings.key("stat.rebounds.short");
+    private static final LocalizedStrings.Key STAT_REBOUNDS_OFFENSIVE_SHORT = LocalizedStrings.key("stat.rebounds.offensive.short");
+    private static final LocalizedStrings.Key STAT_REBOUNDS_DEFENSIVE_SHORT = LocalizedStrings.key("stat.rebounds.defensive.short");
+    private static final LocalizedStrings.Key STAT_ASSISTS_SHORT = LocalizedStrings.key("stat.assists.short");
+    private static final LocalizedStrings.Key STAT_STEALS_SHORT = LocalizedStrings.key("stat.steals.short");
+    private static final LocalizedStrings.Key STAT_BLOCKS_SHORT = LocalizedStrings.key("stat.blocks.short");
+    private static final LocalizedStrings.Key STAT_FIELDGOAL_LABEL = LocalizedStrings.key("stat.fieldgoal.label");
+    private static final LocalizedStrings.Key STAT_THREEPOINT_LABEL = LocalizedStrings.key("stat.threepoint.label");
+    private static final LocalizedStrings.Key STAT_FREETHROW_LABEL = LocalizedStrings.key("stat.freethrow.label");
+    private static final LocalizedStrings.Key STAT_MINUTES_LONG = LocalizedStrings.key("stat.minutes.long");
+    private static final LocalizedStrings.Key STAT_WINRATE = LocalizedStrings.key("stat.winrate");
+
+    // Player leaderboards
+    public enum PlayerStat {
+        SCORES, REBS, ASTS, STLS, BLKS, FTS, THREES
+    }
+
+    // Team leaderboards, lower is better for points allowed and opponent percentages
+    public enum TeamStat {
+        SCORES(false), SCORES_ALLOWED(true), SHOTS_MADE(false), THREE_MADE(false), FREE_MADE(false),
+        SHOTS_PERCENT(false), THREE_PERCENT(false), OPPONENT_SHOTS_PERCENT(true), OPPONENT_3_PERCENT(true);
+
+        private final boolean isAscending;
+
+        TeamStat(boolean isAscending) {
+            this.isAscending = isAscending;
+        }
+    }
+
+    // player total stats columns
+    public final int[] playerTotalGames;
+    public final int[] playerTotalScores;
+    public final int[] playerTotalRebs;
+    public final int[] playerTotalOffensiveRebs;
+    public final int[] playerTotalDefensiveRebs;
+    public final int[] playerTotalAsts;
+    public final int[] playerTotalStls;
+    public final int[] playerTotalBlks;
+    public final int[] playerTotalThrees;
+    public final int[] playerTotalThreesAttempted;
+    public final int[] playerTotalFts;
+    public final int[] playerTotalFtsAttempted;
+    public final int[] playerTotalShotsAttempted;
+    public final int[] playerTotalShotsMade;
+    public final int[] playerTotalSecondsPlayed;
+
+    // Num of games played as of the player's last game with a field goal attempt,
+    // field goal averages are only refreshed in such games
+    public final int[] playerShotGames;
+
+    // team total stats columns
+    public final int[] teamTotalGames;
+    public final int[] teamTotalScores;
+    public final int[] teamTotalScoresAllowed;
+    public final int[] teamTotalShotsMade;
+    public final int[] teamTotalThreeMade;
+    public final int[] teamTotalFreeMade;
+    public final int[] teamTotalShotsAttempted;
+    public final int[] teamTotalThreeAttempted;
+    public final int[] teamTotalOpponentShotMade;
+    public final int[] teamTotalOpponentShotAttempted;
+    public final int[] teamTotalOpponent3Made;
+    public final int[] teamTotalOpponent3Attempted;
+
+    // Player / team ids in the order they first appeared, so leaderboard ties keep a stable order
+    private final int[] playerOrder;
+    private int playerOrderSize = 0;
+    private final int[] teamOrder;
+    private int teamOrderSize = 0;
 
     /**
      * Construct a SeasonStats object to store all player stats.
      */
     public SeasonStats() {
-        playerTotalGames = new HashMap<>();
-        playerTotalScores = new HashMap<>();
-        playerTotalRebs = new HashMap<>();
-        playerTotalOffensiveRebs = new HashMap<>();
-        playerTotalDefensiveRebs = new HashMap<>();
-        playerTotalAsts = new HashMap<>();
-        playerTotalStls = new HashMap<>();
-        playerTotalBlks = new HashMap<>();
-        playerTotalThrees = new HashMap<>();
-        playerTotalFts = new HashMap<>();
-        playerTotalShotsAttempted = new HashMap<>();
-        playerTotalShotsMade = new HashMap<>();
-
-        playerPerScores = new HashMap<>();
-        playerPerRebs = new HashMap<>();
-        playerPerOffensiveRebs = new HashMap<>();
-        playerPerDefensiveRebs = new HashMap<>();
-        playerPerAsts = new HashMap<>();
-        playerPerStls = new HashMap<>();
-        playerPerBlks = new HashMap<>();
-        playerPerThrees = new HashMap<>();
-        playerPerFts = new HashMap<>();
-        playerPerShotsAttempted = new HashMap<>();
-        playerPerShotsMade = new HashMap<>();
-        
-        playerTotalThreesAttempted = new HashMap<>();
-        playerTotalFtsAttempted = new HashMap<>();
-        playerTotalSecondsPlayed = new HashMap<>();
-        playerPerThreesAttempted = new HashMap<>();
-        playerPerFtsAttempted = new HashMap<>();
-        playerPerMinutesPlayed = new HashMap<>();
-        playerTeamMap = new HashMap<>();
-        playerEnglishNameMap = new HashMap<>();
-
-        teamTotalGames = new HashMap<>();
-        teamTotalScores = new HashMap<>();
-        teamTotalScoresAllowed = new HashMap<>();
-        teamTotalShotsMade = new HashMap<>();
-        teamTotalThreeMade = new HashMap<>();
-        teamTotalFreeMade = new HashMap<>();
-        teamTotalShotsAttempted = new HashMap<>();
-        teamTotalThreeAttempted = new HashMap<>();
-
-        teamPerScores = new HashMap<>();
-        teamPerScoresAllowed = new HashMap<>();
-        teamPerShotsMade = new HashMap<>();
-        teamPerThreeMade = new HashMap<>();
-        teamPerFreeMade = new HashMap<>();
-        teamPerShotsPercent = new HashMap<>();
-        teamPerThreePercent = new HashMap<>();
-
-        teamTotalOpponentShotMade = new HashMap<>();
-        teamTotalOpponentShotAttempted = new HashMap<>();
-        teamTotalOpponent3Made = new HashMap<>();
-        teamTotalOpponent3Attempted = new HashMap<>();
-        teamPerOpponentShotsPercent = new HashMap<>();
-        teamPerOpponent3Percent = new HashMap<>();
+        int playerCount = RosterRepository.getPlayerCount();
+        int teamCount = RosterRepository.getTeamCount();
+
+        playerTotalGames = new int[playerCount];
+        playerTotalScores = new int[playerCount];
+        playerTotalRebs = new int[playerCount];
+        playerTotalOffensiveRebs = new int[playerCount];
+        playerTotalDefensiveRebs = new int[playerCount];
+        playerTotalAsts = new int[playerCount];
+        playerTotalStls = new int[playerCount];
+        playerTotalBlks = new int[playerCount];
+        playerTotalThrees = new int[playerCount];
+        playerTotalThreesAttempted = new int[playerCount];
+        playerTotalFts = new int[playerCount];
+        playerTotalFtsAttempted = new int[playerCount];
+        playerTotalShotsAttempted = new int[playerCount];
+        playerTotalShotsMade = new int[playerCount];
+        playerTotalSecondsPlayed = new int[playerCount];
+        playerShotGames = new int[playerCount];
+
+        teamTotalGames = new int[teamCount];
+        teamTotalScores = new int[teamCount];
+        teamTotalScoresAllowed = new int[teamCount];
+        teamTotalShotsMade = new int[teamCount];
+        teamTotalThreeMade = new int[teamCount];
+        teamTotalFreeMade = new int[teamCount];
+        teamTotalShotsAttempted = new int[teamCount];
+        teamTotalThreeAttempted = new int[teamCount];
+        teamTotalOpponentShotMade = new int[teamCount];
+        teamTotalOpponentShotAttempted = new int[teamCount];
+        teamTotalOpponent3Made = new int[teamCount];
+        teamTotalOpponent3Attempted = new int[teamCount];
+
+        playerOrder = new int[playerCount];
+        teamOrder = new int[teamCount];
     }
 
     /**
@@ -136,63 +127,29 @@ public class SeasonStats {
      * @param p A player object
      */
     public void updatePlayerStats(Player p) {
-        String name = p.name;
-        int score = p.score;
-        int reb = p.rebound;
-        int oreb = p.offensiveRebound;
-        int dreb = p.defensiveRebound;
-        int ast = p.assist;
-        int stl = p.steal;
-        int blk = p.block;
-        int three = p.threeMade;
-        int threeAttempted = p.threeAttempted;
-        int ft = p.freeThrowMade;
-        int ftAttempted = p.freeThrowAttempted;
-        int shotMade = p.shotMade;
-        int shotAttempted = p.shotAttempted;
-        int secondsPlayed = p.secondsPlayed;
-
-        if (p.hasBeenOnCourt) {
-            // Store player's team name and English name
-            playerTeamMap.put(name, p.teamName);
-            playerEnglishNameMap.put(name, p.englishName);
-            
-            // update total stats
-            playerTotalGames.put(name, playerTotalGames.getOrDefault(name, 0) + 1);
-            playerTotalScores.put(name, playerTotalScores.getOrDefault(name, 0) + score);
-            playerTotalRebs.put(name, playerTotalRebs.getOrDefault(name, 0) + reb);
-            playerTotalOffensiveRebs.put(name, playerTotalOffensiveRebs.getOrDefault(name, 0) + oreb);
-            playerTotalDefensiveRebs.put(name, playerTotalDefensiveRebs.getOrDefault(name, 0) + dreb);
-            playerTotalAsts.put(name, playerTotalAsts.getOrDefault(name, 0) + ast);
-            playerTotalStls.put(name, playerTotalStls.getOrDefault(name, 0) + stl);
-            playerTotalBlks.put(name, playerTotalBlks.getOrDefault(name, 0) + blk);
-            playerTotalThrees.put(name, playerTotalThrees.getOrDefault(name, 0) + three);
-            playerTotalThreesAttempted.put(name, playerTotalThreesAttempted.getOrDefault(name, 0) + threeAttempted);
-            playerTotalFts.put(name, playerTotalFts.getOrDefault(name, 0) + ft);
-            playerTotalFtsAttempted.put(name, playerTotalFtsAttempted.getOrDefault(name, 0) + ftAttempted);
-            playerTotalShotsAttempted.put(name, playerTotalShotsAttempted.getOrDefault(name, 0) + shotAttempted);
-            playerTotalShotsMade.put(name, playerTotalShotsMade.getOrDefault(name, 0) + shotMade);
-            playerTotalSecondsPlayed.put(name, playerTotalSecondsPlayed.getOrDefault(name, 0) + secondsPlayed);
-
-            // update per-game stats
-            playerPerScores.put(name, Utilities.roundDouble(playerTotalScores.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerRebs.put(name, Utilities.roundDouble(playerTotalRebs.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerOffensiveRebs.put(name, Utilities.roundDouble(playerTotalOffensiveRebs.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerDefensiveRebs.put(name, Utilities.roundDouble(playerTotalDefensiveRebs.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerAsts.put(name, Utilities.roundDouble(playerTotalAsts.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerStls.put(name, Utilities.roundDouble(playerTotalStls.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerBlks.put(name, Utilities.roundDouble(playerTotalBlks.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerThrees.put(name, Utilities.roundDouble(playerTotalThrees.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerThreesAttempted.put(name, Utilities.roundDouble(playerTotalThreesAttempted.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerFts.put(name, Utilities.roundDouble(playerTotalFts.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerFtsAttempted.put(name, Utilities.roundDouble(playerTotalFtsAttempted.get(name) * 1.0 / playerTotalGames.get(name)));
-            playerPerMinutesPlayed.put(name, Utilities.roundDouble(playerTotalSecondsPlayed.get(name) / 60.0 / playerTotalGames.get(name)));
-
-            if (shotAttempted > 0) {
-                playerPerShotsAttempted.put(name, Utilities.roundDouble(playerTotalShotsAttempted.get(name) * 1.0 / playerTotalGames.get(name)));
-                playerPerShotsMade.put(name, Utilities.roundDouble(playerTotalShotsMade.get(name) * 1.0 / playerTotalGames.get(name)));
-            }
-        }
+        if (!p.hasBeenOnCourt) return;
+
+        int id = p.id;
+        if (playerTotalGames[id] == 0) playerOrder[playerOrderSize++] = id;
+
+        // update total stats
+        playerTotalGames[id]++;
+        playerTotalScores[id] += p.score;
+        playerTotalRebs[id] += p.rebound;
+        playerTotalOffensiveRebs[id] += p.offensiveRebound;
+        playerTotalDefensiveRebs[id] += p.defensiveRebound;
+        playerTotalAsts[id] += p.assist;
+        playerTotalStls[id] += p.steal;
+        playerTotalBlks[id] += p.block;
+        playerTotalThrees[id] += p.threeMade;
+        playerTotalThreesAttempted[id] += p.threeAttempted;
+        playerTotalFts[id] += p.freeThrowMade;
+        playerTotalFtsAttempted[id] += p.freeThrowAttempted;
+        playerTotalShotsAttempted[id] += p.shotAttempted;
+        playerTotalShotsMade[id] += p.shotMade;
+        playerTotalSecondsPlayed[id] += p.getSecondsPlayed();
+
+        if (p.shotAttempted > 0) playerShotGames[id] = playerTotalGames[id];
     }
 
     /**
@@ -201,62 +158,134 @@ public class SeasonStats {
      * @param t A team object
      */
     public void updateTeamStats(Team t) {
-        String name = t.name;
-        int score = t.totalScore;
-        int scoreAllowed = t.totalScoreAllowed;
-        int shotsMade = t.totalShotMade;
-        int threeMade = t.total3Made;
-        int freeMade = t.totalFreeMade;
-        int shotsAttempted = t.totalShotAttempted;
-        int threeAttempted = t.total3Attempted;
-        int opponentShotMade = t.opponentShotMade;
-        int opponentShotAttempted = t.opponentShotAttempted;
-        int opponent3Made = t.opponent3Made;
-        int opponent3Attempted = t.opponent3Attempted;
+        int id = t.id;
+        if (teamTotalGames[id] == 0) teamOrder[teamOrderSize++] = id;
 
         // update total stats
-        teamTotalGames.put(name, teamTotalGames.getOrDefault(name, 0) + 1);
-        teamTotalScores.put(name, teamTotalScores.getOrDefault(name, 0) + score);
-        teamTotalScoresAllowed.put(name, teamTotalScoresAllowed.getOrDefault(name, 0) + scoreAllowed);
-        teamTotalShotsMade.put(name, teamTotalShotsMade.getOrDefault(name, 0) + shotsMade);
-        teamTotalThreeMade.put(name, teamTotalThreeMade.getOrDefault(name, 0) + threeMade);
-        teamTotalFreeMade.put(name, teamTotalFreeMade.getOrDefault(name, 0) + freeMade);
-        teamTotalShotsAttempted.put(name, teamTotalShotsAttempted.getOrDefault(name, 0) + shotsAttempted);
-        teamTotalThreeAttempted.put(name, teamTotalThreeAttempted.getOrDefault(name, 0) + threeAttempted);
-
-        // update per-game stats
-        teamPerScores.put(name, Utilities.roundDouble(teamTotalScores.get(name) * 1.0 / teamTotalGames.get(name)));
-        teamPerScoresAllowed.put(name, Utilities.roundDouble(teamTotalScoresAllowed.get(name) * 1.0 / teamTotalGames.get(name)));
-        teamPerShotsMade.put(name, Utilities.roundDouble(teamTotalShotsMade.get(name) * 1.0 / teamTotalGames.get(name)));
-        teamPerThreeMade.put(name, Utilities.roundDouble(teamTotalThreeMade.get(name) * 1.0 / teamTotalGames.get(name)));
-        teamPerFreeMade.put(name, Utilities.roundDouble(teamTotalFreeMade.get(name) * 1.0 / teamTotalGames.get(name)));
-        teamPerShotsPercent.put(name, Utilities.roundDouble(teamTotalShotsMade.get(name) * 1.0 / teamTotalShotsAttempted.get(name), 3));
-        teamPerThreePercent.put(name, Utilities.roundDouble(teamTotalThreeMade.get(name) * 1.0 / teamTotalThreeAttempted.get(name), 3));
+        teamTotalGames[id]++;
+        teamTotalScores[id] += t.totalScore;
+        teamTotalScoresAllowed[id] += t.totalScoreAllowed;
+        teamTotalShotsMade[id] += t.totalShotMade;
+        teamTotalThreeMade[id] += t.total3Made;
+        teamTotalFreeMade[id] += t.totalFreeMade;
+        teamTotalShotsAttempted[id] += t.totalShotAttempted;
+        teamTotalThreeAttempted[id] += t.total3Attempted;
 
         // update opponent stats
-        teamTotalOpponentShotMade.put(name, teamTotalOpponentShotMade.getOrDefault(name, 0) + opponentShotMade);
-        teamTotalOpponentShotAttempted.put(name, teamTotalOpponentShotAttempted.getOrDefault(name, 0) + opponentShotAttempted);
-        teamTotalOpponent3Made.put(name, teamTotalOpponent3Made.getOrDefault(name, 0) + opponent3Made);
-        teamTotalOpponent3Attempted.put(name, teamTotalOpponent3Attempted.getOrDefault(name, 0) + opponent3Attempted);
-        teamPerOpponentShotsPercent.put(name, Utilities.roundDouble(teamTotalOpponentShotMade.get(name) * 1.0 / teamTotalOpponentShotAttempted.get(name), 3));
-        teamPerOpponent3Percent.put(name, Utilities.roundDouble(teamTotalOpponent3Made.get(name) * 1.0 / teamTotalOpponent3Attempted.get(name), 3));
+        teamTotalOpponentShotMade[id] += t.opponentShotMade;
+        teamTotalOpponentShotAttempted[id] += t.opponentShotAttempted;
+        teamTotalOpponent3Made[id] += t.opponent3Made;
+        teamTotalOpponent3Attempted[id] += t.opponent3Attempted;
     }
 
     /**
-     * Sort a given table and reorder in a list.
+     * Get a player's per-game average of a total stats column.
      * 
-     * @param table A stat table
-     * @return A sorted stat list 
+     * @param totals A player total stats column
+     * @param id Player id
      */
-    public List<Map.Entry<String, Double>> sortStats(Map<String, Double> table) {
-        Comparator<Map.Entry<String, Double>> vComparator = (o1, o2) -> {
-            if (table.equals(teamPerScoresAllowed) || table.equals(teamPerOpponentShotsPercent) || table.equals(teamPerOpponent3Percent)) {
-                return o1.getValue().compareTo(o2.getValue());
+    private double playerPerGame(int[] totals, int id) {
+        return Utilities.roundDouble(totals[id] * 1.0 / playerTotalGames[id]);
+    }
+
+    /**
+     * Get a player's per-game field goal average, 0 if the player never attempted a field goal.
+     * 
+     * @param totals playerTotalShotsMade or playerTotalShotsAttempted
+     * @param id Player id
+     */
+    private double playerPerShotGame(int[] totals, int id) {
+        if (playerShotGames[id] == 0) return 0.0;
+        return Utilities.roundDouble(totals[id] * 1.0 / playerShotGames[id]);
+    }
+
+    /**
+     * Build the per-game table of a player leaderboard, keyed by player id.
+     * 
+     * @param stat The leaderboard
+     */
+    private Map<Integer, Double> getPlayerTable(PlayerStat stat) {
+        int[] totals;
+        switch (stat) {
+            case SCORES: totals = playerTotalScores; break;
+            case REBS: totals = playerTotalRebs; break;
+            case ASTS: totals = playerTotalAsts; break;
+            case STLS: totals = playerTotalStls; break;
+            case BLKS: totals = playerTotalBlks; break;
+            case FTS: totals = playerTotalFts; break;
+            default: totals = playerTotalThrees; break;
+        }
+
+        Map<Integer, Double> table = new LinkedHashMap<>();
+        for (int i = 0; i < playerOrderSize; i++) table.put(playerOrder[i], playerPerGame(totals, playerOrder[i]));
+        return table;
+    }
+
+    /**
+     * Build the per-game table of a team leaderboard, keyed by team id.
+     * 
+     * @param stat The leaderboard
+     */
+    private Map<Integer, Double> getTeamTable(TeamStat stat) {
+        Map<Integer, Double> table = new LinkedHashMap<>();
+        for (int i = 0; i < teamOrderSize; i++) {
+            int id = teamOrder[i];
+            double games = teamTotalGames[id];
+            double value;
+            switch (stat) {
+                case SCORES: value = Utilities.roundDouble(teamTotalScores[id] / games); break;
+                case SCORES_ALLOWED: value = Utilities.roundDouble(teamTotalScoresAllowed[id] / games); break;
+                case SHOTS_MADE: value = Utilities.roundDouble(teamTotalShotsMade[id] / games); break;
+                case THREE_MADE: value = Utilities.roundDouble(teamTotalThreeMade[id] / games); break;
+                case FREE_MADE: value = Utilities.roundDouble(teamTotalFreeMade[id] / games); break;
+                case SHOTS_PERCENT: value = Utilities.roundDouble(teamTotalShotsMade[id] * 1.0 / teamTotalShotsAttempted[id], 3); break;
+                case THREE_PERCENT: value = Utilities.roundDouble(teamTotalThreeMade[id] * 1.0 / teamTotalThreeAttempted[id], 3); break;
+                case OPPONENT_SHOTS_PERCENT: value = Utilities.roundDouble(teamTotalOpponentShotMade[id] * 1.0 / teamTotalOpponentShotAttempted[id], 3); break;
+                default: value = Utilities.roundDouble(teamTotalOpponent3Made[id] * 1.0 / teamTotalOpponent3Attempted[id], 3); break;
             }
-            return o2.getValue().compareTo(o1.getValue());
+            table.put(id, value);
+        }
+        return table;
+    }
+
+    /**
+     * Get all players' names (Chinese), by player id.
+     */
+    private static String[] getPlayerNames() {
+        String[] names = new String[RosterRepository.getPlayerCount()];
+        for (int id = 0; id < names.length; id++) names[id] = RosterRepository.getPlayer(id).name;
+        return names;
+    }
+
+    /**
+     * Get all teams' names (English), by team id.
+     */
+    private static String[] getTeamNames() {
+        String[] names = new String[RosterRepository.getTeamCount()];
+        for (int id = 0; id < names.length; id++) names[id] = RosterRepository.getTeamName(id);
+        return names;
+    }
+
+    /**
+     * Sort a given table and reorder in a list.
+     * Ties are listed in hash order of the name keys, the same order the leaderboards have always used.
+     * 
+     * @param table A stat table, keyed by player / team id
+     * @param names Player / team name of each id, used as the tie order
+     * @param isAscending Whether lower values rank first
+     * @return A sorted id list
+     */
+    private List<Integer> sortStats(Map<Integer, Double> table, String[] names, boolean isAscending) {
+        // Re-key by name in first-appearance order, so the map iterates ties exactly as before
+        Map<String, Integer> byName = new HashMap<>();
+        for (int id : table.keySet()) byName.put(names[id], id);
+
+        Comparator<Integer> vComparator = (o1, o2) -> {
+            if (isAscending) return table.get(o1).compareTo(table.get(o2));
+            return table.get(o2).compareTo(table.get(o1));
         };
 
-        List<Map.Entry<String, Double>> sortedList = new ArrayList<Map.Entry<String, Double>>(table.entrySet());
+        List<Integer> sortedList = new ArrayList<>(byName.values());
         Collections.sort(sortedList, vComparator);
         return sortedList;
     }
@@ -264,12 +293,16 @@ public class SeasonStats {
     /**
      * Print the rank of a player stat table.
      * 
-     * @param table A stat table
+     * @param ctx Simulation context to print to
+     * @param stat The leaderboard to print
      */
-    public void printPlayerRank(Map<String, Double> table) {
+    public void printPlayerRank(SimulationContext ctx, PlayerStat stat) {
+        Map<Integer, Double> table = getPlayerTable(stat);
+
         // current rank
         int rank = 1;
 
+        int id;
         String name;
         String teamName;
         double score;
@@ -284,37 +317,39 @@ public class SeasonStats {
         double perFtMade;
         double perFtAttempted;
 
-        for (Map.Entry<String, Double> player : sortStats(table)) {
+        for (int playerId : sortStats(table, getPlayerNames(), false)) {
             // output each player's basic 5 stats, except for three mades per game ranking or free-throws per game
-            if (!table.equals(playerPerThrees) && !table.equals(playerPerFts)) {
-                name = player.getKey();
-                teamName = playerTeamMap.getOrDefault(name, "");
-                score = playerPerScores.get(name);
-                reb = playerPerRebs.get(name);
-                double oreb = playerPerOffensiveRebs.getOrDefault(name, 0.0);
-                double dreb = playerPerDefensiveRebs.getOrDefault(name, 0.0);
-                ast = playerPerAsts.get(name);
-                stl = playerPerStls.get(name);
-                blk = playerPerBlks.get(name);
-                perShotMade = playerPerShotsMade.getOrDefault(name, 0.0);
-                perShotAttempted = playerPerShotsAttempted.getOrDefault(name, 0.0);
-                perThreeMade = playerPerThrees.getOrDefault(name, 0.0);
-                perThreeAttempted = playerPerThreesAttempted.getOrDefault(name, 0.0);
-                perFtMade = playerPerFts.getOrDefault(name, 0.0);
-                perFtAttempted = playerPerFtsAttempted.getOrDefault(name, 0.0);
-                double perMinutes = playerPerMinutesPlayed.getOrDefault(name, 0.0);
+            if (stat != PlayerStat.THREES && stat != PlayerStat.FTS) {
+                id = playerId;
+                PlayerTemplate player = RosterRepository.getPlayer(id);
+                name = player.name;
+                teamName = player.teamName;
+                score = playerPerGame(playerTotalScores, id);
+                reb = playerPerGame(playerTotalRebs, id);
+                double oreb = playerPerGame(playerTotalOffensiveRebs, id);
+                double dreb = playerPerGame(playerTotalDefensiveRebs, id);
+                ast = playerPerGame(playerTotalAsts, id);
+                stl = playerPerGame(playerTotalStls, id);
+                blk = playerPerGame(playerTotalBlks, id);
+                perShotMade = playerPerShotGame(playerTotalShotsMade, id);
+                perShotAttempted = playerPerShotGame(playerTotalShotsAttempted, id);
+                perThreeMade = playerPerGame(playerTotalThrees, id);
+                perThreeAttempted = playerPerGame(playerTotalThreesAttempted, id);
+                perFtMade = playerPerGame(playerTotalFts, id);
+                perFtAttempted = playerPerGame(playerTotalFtsAttempted, id);
+                double perMinutes = Utilities.roundDouble(playerTotalSecondsPlayed[id] / 60.0 / playerTotalGames[id]);
                 
                 // Translate team name if in Chinese mode
                 String teamDisplay = "";
                 if (!teamName.isEmpty()) {
-                    teamDisplay = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
+                    teamDisplay = ctx.language == LocalizedStrings.Language.CHINESE ?
                                  Constants.translateToChinese(teamName) : teamName;
                 }
                 
                 // Get localized player name
                 String displayName = name;  // Default to Chinese name
-                if (LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.ENGLISH) {
-                    displayName = playerEnglishNameMap.getOrDefault(name, name);
+                if (ctx.language == LocalizedStrings.Language.ENGLISH) {
+                    displayName = player.englishName;
                 }
 
                 // Build stats string
@@ -325,66 +360,67 @@ public class SeasonStats {
                 }
                 sb.append(displayName).append(" ");
                 
-                sb.append(score).append(LocalizedStrings.get("stat.points.short")).append(" ");
+                sb.append(score).append(ctx.strings.get(STAT_POINTS_SHORT)).append(" ");
                 
                 // Rebound stats with ORB/DRB breakdown
-                sb.append(reb).append(LocalizedStrings.get("stat.rebounds.short"));
+                sb.append(reb).append(ctx.strings.get(STAT_REBOUNDS_SHORT));
                 if (oreb > 0 || dreb > 0) {
                     sb.append("(")
-                      .append(oreb).append(LocalizedStrings.get("stat.rebounds.offensive.short"))
+                      .append(oreb).append(ctx.strings.get(STAT_REBOUNDS_OFFENSIVE_SHORT))
                       .append("+")
-                      .append(dreb).append(LocalizedStrings.get("stat.rebounds.defensive.short"))
+                      .append(dreb).append(ctx.strings.get(STAT_REBOUNDS_DEFENSIVE_SHORT))
                       .append(")");
                 }
                 sb.append(" ");
                 
-                sb.append(ast).append(LocalizedStrings.get("stat.assists.short")).append(" ");
-                sb.append(stl).append(LocalizedStrings.get("stat.steals.short")).append(" ");
-                sb.append(blk).append(LocalizedStrings.get("stat.blocks.short")).append("  ");
+                sb.append(ast).append(ctx.strings.get(STAT_ASSISTS_SHORT)).append(" ");
+                sb.append(stl).append(ctx.strings.get(STAT_STEALS_SHORT)).append(" ");
+                sb.append(blk).append(ctx.strings.get(STAT_BLOCKS_SHORT)).append("  ");
                 
                 // Field goal stats
                 if (perShotAttempted > 0) {
-                    sb.append(LocalizedStrings.get("stat.fieldgoal.label"))
+                    sb.append(ctx.strings.get(STAT_FIELDGOAL_LABEL))
                       .append(perShotMade).append("/").append(perShotAttempted).append(" ")
                       .append(String.format("%.2f", perShotMade * 100.0 / perShotAttempted)).append("%  ");
                 } else {
-                    sb.append(LocalizedStrings.get("stat.fieldgoal.label")).append("0.0/0.0 0.00%  ");
+                    sb.append(ctx.strings.get(STAT_FIELDGOAL_LABEL)).append("0.0/0.0 0.00%  ");
                 }
                 
                 // Three-point stats
                 if (perThreeAttempted > 0) {
-                    sb.append(LocalizedStrings.get("stat.threepoint.label"))
+                    sb.append(ctx.strings.get(STAT_THREEPOINT_LABEL))
                       .append(perThreeMade).append("/").append(perThreeAttempted).append(" ")
                       .append(String.format("%.2f", perThreeMade * 100.0 / perThreeAttempted)).append("%  ");
                 } else if (perThreeMade > 0) {
                     // Player made 3s but attempted is 0 (shouldn't happen, but handle it)
-                    sb.append(LocalizedStrings.get("stat.threepoint.label"))
+                    sb.append(ctx.strings.get(STAT_THREEPOINT_LABEL))
                       .append(perThreeMade).append("/0.0 0.00%  ");
                 } else {
-                    sb.append(LocalizedStrings.get("stat.threepoint.label")).append("0.0  ");
+                    sb.append(ctx.strings.get(STAT_THREEPOINT_LABEL)).append("0.0  ");
                 }
                 
                 // Free throw stats
                 if (perFtAttempted > 0) {
-                    sb.append(LocalizedStrings.get("stat.freethrow.label"))
+                    sb.append(ctx.strings.get(STAT_FREETHROW_LABEL))
                       .append(perFtMade).append("/").append(perFtAttempted).append(" ")
                       .append(String.format("%.2f", perFtMade * 100.0 / perFtAttempted)).append("%  ");
                 } else {
-                    sb.append(LocalizedStrings.get("stat.freethrow.label")).append("0.0/0.0 0.00%  ");
+                    sb.append(ctx.strings.get(STAT_FREETHROW_LABEL)).append("0.0/0.0 0.00%  ");
                 }
                 
                 // Minutes played (at the end)
-                sb.append(LocalizedStrings.get("stat.minutes.long"))
+                sb.append(ctx.strings.get(STAT_MINUTES_LONG))
                   .append(String.format("%.1f", perMinutes));
 
-                System.out.println(sb.toString());
+                ctx.out.println(sb.toString());
             } else {
                 // For Three-Pointers and Free Throws rankings, use English name in English mode
-                String playerName = player.getKey();
-                if (LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.ENGLISH) {
-                    playerName = playerEnglishNameMap.getOrDefault(playerName, playerName);
+                PlayerTemplate player = RosterRepository.getPlayer(playerId);
+                String playerName = player.name;
+                if (ctx.language == LocalizedStrings.Language.ENGLISH) {
+                    playerName = player.englishName;
                 }
-                System.out.println(rank + " " + playerName + "  " + player.getValue());
+                ctx.out.println(rank + " " + playerName + "  " + table.get(playerId));
             }
 
             rank++;
@@ -395,18 +431,20 @@ public class SeasonStats {
     /**
      * Print the rank of a player stat table.
      * 
-     * @param table A stat table
+     * @param ctx Simulation context to print to
+     * @param stat The leaderboard to print
      */
-    public void printTeamRank(Map<String, Double> table) {
+    public void printTeamRank(SimulationContext ctx, TeamStat stat) {
+        Map<Integer, Double> table = getTeamTable(stat);
+
         // current rank
         int rank = 1;
 
-        for (Map.Entry<String, Double> team : sortStats(table)) {
+        for (int teamId : sortStats(table, getTeamNames(), stat.isAscending)) {
             // Translate team name if in Chinese mode
-            String teamDisplay = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
-                                Constants.translateToChinese(team.getKey()) : team.getKey();
+            String teamDisplay = RosterRepository.getTeamName(teamId, ctx.language);
             
-            System.out.println(rank + " " + teamDisplay + "  " + team.getValue());
+            ctx.out.println(rank + " " + teamDisplay + "  " + table.get(teamId));
 
             rank++;
             if (rank > Constants.MAX_TEAM_RANK) break;
@@ -416,19 +454,20 @@ public class SeasonStats {
     /**
      * Print out all teams' division standing.
      * 
-     * @param standing The hashmap which contains all team's win and lose num
-     * @param list The list container for standing rank
+     * @param ctx Simulation context to print to
+     * @param totalWins Total win num of each team, by team id
+     * @param totalLoses Total lose num of each team, by team id
+     * @param list Team ids in standing rank order
      */
-    public static void printStanding(Map<String, List<Integer>> standing, List<Map.Entry<String, Integer>> list) {
+    public static void printStanding(SimulationContext ctx, int[] totalWins, int[] totalLoses, List<Integer> list) {
         int rank = 1;
-        for (Map.Entry<String, Integer> team : list) {
+        for (int teamId : list) {
             // Translate team name if in Chinese mode
-            String teamDisplay = LocalizedStrings.getCurrentLanguage() == LocalizedStrings.Language.CHINESE ?
-                                Constants.translateToChinese(team.getKey()) : team.getKey();
+            String teamDisplay = RosterRepository.getTeamName(teamId, ctx.language);
             
-            double winRate = team.getValue() * 100.0 / (team.getValue() + standing.get(team.getKey()).get(1));
-            System.out.println(rank + " " + teamDisplay + " " + team.getValue() + "-" + standing.get(team.getKey()).get(1)
-                               + "  " + LocalizedStrings.get("stat.winrate") + String.format("%.2f", winRate) + "%");
+            double winRate = totalWins[teamId] * 100.0 / (totalWins[teamId] + totalLoses[teamId]);
+            ctx.out.println(rank + " " + teamDisplay + " " + totalWins[teamId] + "-" + totalLoses[teamId]
+                               + "  " + ctx.strings.get(STAT_WINRATE) + String.format("%.2f", winRate) + "%");
             rank++;
         }
     }
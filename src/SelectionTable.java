@@ -0,0 +1,162 @@
+package src;
+
+/**
+ * SelectionTable - Precomputed weights for picking a player of a lineup by one rating criterion.
+ * Only depends on who is on court, so the Lineup caches one table per criterion and rebuilds it
+ * after a substitution. A pick then walks the cumulative weights, with no rating math and no allocation.
+ */
+public class SelectionTable {
+    // Cumulative pick chances by slot, out of 1000
+    private final double[] cumulativePoss = new double[Lineup.SIZE];
+
+    // Players of the lineup by slot, as of the last build
+    private final Player[] players = new Player[Lineup.SIZE];
+
+    // Scoring options (RATING only): players close to the highest rating on court who are not insiders
+    private final Player[] scorers = new Player[Lineup.SIZE];
+    private final int[] cumulativeScorerRating = new int[Lineup.SIZE];
+    public int scorerCount;
+    public int scorerRatingSum;
+    public Player topScorer;
+
+    /**
+     * Rebuild the table for the current players of a lineup.
+     *
+     * @param lineup Players on the court
+     * @param criterion The rating criterion
+     */
+    public void build(Lineup lineup, Utilities.SelectionCriterion criterion) {
+        double major = Constants.MAJOR_SCORE_FACTOR;
+        double minor = Constants.MINOR_SCORE_FACTOR;
+        double[] poss = cumulativePoss;
+
+        double totalRating = 0;
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player player = lineup.get(i);
+            players[i] = player;
+            if (player == null) continue;
+
+            switch (criterion) {
+                case RATING:
+                    totalRating += (major*player.rating +
+                                    minor*Math.max(player.insideRating, player.layupRating) +
+                                    minor*Math.max(player.midRating, player.threeRating) +
+                                    minor*player.offConst);
+                    break;
+                case ORB: totalRating += player.orbRating; break;
+                case DRB: totalRating += player.drbRating; break;
+                case AST: totalRating += player.astRating; break;
+            }
+        }
+        double avgRating = totalRating * 1.0 / 5;
+
+        scorerCount = 0;
+        scorerRatingSum = 0;
+        topScorer = null;
+
+        int basePoss = 100 / 5;
+        if (criterion == Utilities.SelectionCriterion.RATING) {
+            // get top-highest rating players
+            int highestRating = 0;
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                if (players[i] != null) highestRating = Math.max(highestRating, players[i].rating);
+            }
+
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                Player p = players[i];
+                if (p != null && highestRating - p.rating <= Constants.RATING_RANGE && p.playerType != Player.PlayerType.INSIDER) {
+                    scorerRatingSum += p.rating;
+                    scorers[scorerCount] = p;
+                    cumulativeScorerRating[scorerCount] = scorerRatingSum;
+                    scorerCount++;
+                    if (topScorer == null || p.rating > topScorer.rating) topScorer = p;
+                }
+            }
+
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                Player player = players[i];
+                if (player == null) {
+                    System.err.println("Warning: Missing player at position " + Lineup.POSITIONS[i]);
+                    poss[i] = 0;
+                    continue;
+                }
+                poss[i] = (10 * (basePoss + major*player.rating +
+                                minor*Math.max(player.insideRating, player.layupRating) +
+                                minor*Math.max(player.midRating, player.threeRating) +
+                                minor*player.offConst - avgRating ));
+            }
+        } else {
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                Player player = players[i];
+                if (player == null) {
+                    System.err.println("Warning: Missing player at position " + Lineup.POSITIONS[i]);
+                    poss[i] = 0;
+                    continue;
+                }
+
+                if (criterion == Utilities.SelectionCriterion.ORB) {
+                    // Use power scaling for rebounds to create NBA-realistic distribution
+                    // REBOUND_POWER_SCALE controls the advantage elite rebounders get
+                    // Higher values (closer to 1.0) = more advantage for elite rebounders
+                    double normalizedRating = Math.pow(Math.max(player.orbRating, 1), Constants.REBOUND_POWER_SCALE);
+                    poss[i] = normalizedRating * 100;
+                } else if (criterion == Utilities.SelectionCriterion.DRB) {
+                    double normalizedRating = Math.pow(Math.max(player.drbRating, 1), Constants.REBOUND_POWER_SCALE);
+                    poss[i] = normalizedRating * 100;
+                } else {
+                    poss[i] = Math.max( (1000 * (Constants.AST_SCALE * player.astRating - avgRating) / totalRating), 0);
+                }
+            }
+        }
+
+        // For rebounds, normalize probabilities to sum to 1000 for proper distribution
+        if (criterion == Utilities.SelectionCriterion.ORB || criterion == Utilities.SelectionCriterion.DRB) {
+            double totalPoss = 0;
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                totalPoss += poss[i];
+            }
+            if (totalPoss > 0) {
+                for (int i = 0; i < Lineup.SIZE; i++) {
+                    poss[i] = (poss[i] / totalPoss) * 1000;
+                }
+            }
+        }
+
+        // turn the chances into running sums, in position order
+        for (int i = 1; i < Lineup.SIZE; i++) {
+            poss[i] += poss[i - 1];
+        }
+    }
+
+    /**
+     * Pick a player by the cumulative chances. The last position takes the rest.
+     *
+     * @param pick Random number from range [1, 1000]
+     * @return Selected player, or null if the lineup is empty
+     */
+    public Player pick(int pick) {
+        for (int i = 0; i < Lineup.SIZE - 1; i++) {
+            if (pick <= cumulativePoss[i] && players[i] != null) return players[i];
+        }
+        if (players[Lineup.SIZE - 1] != null) return players[Lineup.SIZE - 1];
+
+        // Fallback: return any non-null player
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            if (players[i] != null) return players[i];
+        }
+        return null;
+    }
+
+    /**
+     * Pick one of the scoring options, weighted by rating.
+     *
+     * @param randomPick Random number from range [1, scorerRatingSum]
+     * @return Selected scoring option
+     */
+    public Player pickScorer(int randomPick) {
+        for (int i = 0; i < scorerCount; i++) {
+            if (randomPick <= cumulativeScorerRating[i]) return scorers[i];
+        }
+        return null;
+    }
+}
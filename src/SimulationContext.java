@@ -0,0 +1,120 @@
+package src;
+
+import java.io.PrintStream;
+
+/**
+ * Per-simulation state shared by the game engine and the commentary.
+ * Each Game owns one context, so simulations running on different threads
+ * never share random generators, output streams or scratch buffers.
+ */
+public class SimulationContext {
+    // Root random source of this simulation, every game splits its own streams from it
+    public final RandomSource rootRandom;
+
+    // Random source for game logic of the current game
+    public RandomSource random;
+
+    // Random source for commentary picks of the current game
+    public RandomSource commentaryRandom;
+
+    // Output language of this simulation
+    public final LocalizedStrings.Language language;
+
+    // Localized UI strings of the output language
+    public final LocalizedStrings.Table strings;
+
+    // Commentary corpus of the output language
+    public final CommentLoader.Corpus comments;
+
+    // Stream that game output is written to
+    public PrintStream out;
+
+    // Receiver of play-by-play events, ignores them unless a game sets a listener
+    public GameEventListener events = GameEventListener.NONE;
+
+    // Scratch buffer for building output lines
+    private final StringBuilder sb = new StringBuilder(Constants.MAX_SB_LEN);
+
+    // Scratch buffer for rendering comments, separate so a comment can be rendered while a line is being built
+    private final StringBuilder commentBuilder = new StringBuilder(Constants.MAX_SB_LEN);
+
+    /**
+     * Construct a context with a randomly seeded random source, writing to System.out.
+     *
+     * @param language Output language
+     */
+    public SimulationContext(LocalizedStrings.Language language) {
+        this(language, new RandomSource(), System.out);
+    }
+
+    /**
+     * Construct a context.
+     *
+     * @param language Output language
+     * @param rootRandom Root random source, the same seed replays the same simulation
+     * @param out Stream that game output is written to
+     */
+    public SimulationContext(LocalizedStrings.Language language, RandomSource rootRandom, PrintStream out) {
+        this.language = language;
+        this.rootRandom = rootRandom;
+        this.random = rootRandom.split();
+        this.commentaryRandom = rootRandom.split();
+        this.strings = LocalizedStrings.forLanguage(language);
+        this.comments = CommentLoader.forLanguage(language);
+        this.out = out;
+    }
+
+    /**
+     * Split fresh game logic and commentary streams from the root source for a new game,
+     * so each game's numbers only depend on the seed and the game's order in the simulation.
+     */
+    public void startGame() {
+        random = rootRandom.split();
+        commentaryRandom = rootRandom.split();
+    }
+
+    /**
+     * Get the scratch buffer, cleared for reuse.
+     */
+    public StringBuilder builder() {
+        sb.setLength(0);
+        return sb;
+    }
+
+    /**
+     * Pick a random comment of a corpus key with the commentary random source and fill in its placeholders.
+     */
+    public String comment(CommentLoader.Key key, Object... args) {
+        return comments.getRandomFormatted(commentaryRandom, commentBuilder, key, args);
+    }
+
+    /**
+     * Get a localized UI string by key path.
+     */
+    public String str(String keyPath) {
+        return strings.get(keyPath);
+    }
+
+    /**
+     * Get the display name of a team in the output language.
+     *
+     * @param englishName English team name (from Team.name)
+     */
+    public String teamName(String englishName) {
+        return Constants.getLocalizedTeamName(englishName, language);
+    }
+
+    /**
+     * Get the display name of a team in the output language, looked up by team id.
+     */
+    public String teamName(Team team) {
+        return team.id >= 0 ? RosterRepository.getTeamName(team.id, language) : teamName(team.name);
+    }
+
+    /**
+     * Get the display name of a player in the output language.
+     */
+    public String playerName(Player player) {
+        return player.getDisplayName(language);
+    }
+}
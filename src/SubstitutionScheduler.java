@@ -0,0 +1,185 @@
+package src;
+
+import java.util.*;
+
+/**
+ * SubstitutionScheduler - Decides when a team's rotation logic needs to run.
+ * After each rotation check, the scheduler works out whether any substitution rule could fire on the current state,
+ * and if not, the earliest game time a stint, minutes or rest threshold is crossed. Until then the check is skipped,
+ * unless a dead-ball event (foul, injury, cold shot, lineup change) or a game phase change asks for it earlier.
+ * A check is only ever skipped when it could not substitute whatever its random draws are,
+ * so the rotation behaves the same as checking on every possession.
+ */
+public class SubstitutionScheduler {
+    // Bits of a game phase key, the rest of the key is the quarter number
+    private static final int GARBAGE_TIME = 1;
+    private static final int NO_SUB_TIME = 2;
+    private static final int OVERTIME = 4;
+    private static final int CLUTCH_TIME = 8;
+    private static final int CLOSE_GAME = 16;
+    private static final int QUARTER_SHIFT = 5;
+
+    // Whether a rule could fire right now, so the team keeps checking every possession
+    private boolean active = true;
+
+    // Whether an event changed a player's state since the last check
+    private boolean pending = true;
+
+    // Earliest game time a time-based rule can fire
+    private int nextCheckTime = 0;
+
+    // Phase key and lineup change count seen by the last check
+    private int lastPhase = -1;
+    private int lastLineupChanges = -1;
+
+    /**
+     * Get the game phase key, which changes whenever a rotation rule starts or stops applying because of the clock or the score.
+     *
+     * @param currentQuarter Current quarter number
+     * @param quarterTime Seconds remaining in quarter
+     * @param scoreDiff Absolute score difference
+     * @param isGarbageTime Whether the game is in garbage time
+     * @return Phase key
+     */
+    public static int phaseOf(int currentQuarter, int quarterTime, int scoreDiff, boolean isGarbageTime) {
+        boolean isCloseGame = scoreDiff <= Constants.CLOSE_GAME_DIFF;
+        int phase = currentQuarter << QUARTER_SHIFT;
+        if (isGarbageTime) phase |= GARBAGE_TIME;
+        if (currentQuarter == Constants.QUARTER_1 && quarterTime > Constants.Q1_NO_SUB_TIME) phase |= NO_SUB_TIME;
+        if (currentQuarter >= Constants.OVERTIME_QUARTER) phase |= OVERTIME;
+        if (currentQuarter == Constants.CLUTCH_QUARTER && quarterTime <= Constants.TIME_LEFT_CLUTCH && isCloseGame) phase |= CLUTCH_TIME;
+        if (isCloseGame) phase |= CLOSE_GAME;
+        return phase;
+    }
+
+    /**
+     * Check whether the rotation logic needs to run on this possession.
+     *
+     * @param teamOnCourt Current players on court
+     * @param phase Current phase key
+     * @param gameTime Total seconds elapsed in game
+     */
+    public boolean isDue(Lineup teamOnCourt, int phase, int gameTime) {
+        return active || pending || gameTime >= nextCheckTime || phase != lastPhase
+               || teamOnCourt.getChangeCount() != lastLineupChanges;
+    }
+
+    /**
+     * Start over for a new game, so the first check runs on the first possession.
+     */
+    public void reset() {
+        active = true;
+        pending = true;
+        nextCheckTime = 0;
+        lastPhase = -1;
+        lastLineupChanges = -1;
+    }
+
+    /**
+     * Record a dead-ball event that changed a player's fouls or availability.
+     */
+    public void onFoulOrInjury() {
+        pending = true;
+    }
+
+    /**
+     * Record a shot attempt, which may turn the shooter into a cold shooter worth subbing.
+     *
+     * @param shooter The player taking the shot
+     */
+    public void onShot(Player shooter) {
+        if (Utilities.shouldSubForPerformance(shooter)) pending = true;
+    }
+
+    /**
+     * Work out when the next check is needed, right after a check has run.
+     *
+     * @param team Team of the scheduler
+     * @param teamOnCourt Current players on court
+     * @param phase Current phase key
+     * @param gameTime Total seconds elapsed in game
+     */
+    public void reschedule(Team team, Lineup teamOnCourt, int phase, int gameTime) {
+        pending = false;
+        lastPhase = phase;
+        lastLineupChanges = teamOnCourt.getChangeCount();
+        nextCheckTime = Integer.MAX_VALUE;
+
+        if ((phase & GARBAGE_TIME) != 0) active = canUseDeepBench(team, teamOnCourt);
+        else if ((phase & NO_SUB_TIME) != 0) active = false;
+        else if ((phase & OVERTIME) != 0) active = canRestoreStarters(team, teamOnCourt, true);
+        else if ((phase & CLUTCH_TIME) != 0) active = canRestoreStarters(team, teamOnCourt, false);
+        else active = canRotate(team, teamOnCourt, phase >> QUARTER_SHIFT, (phase & CLOSE_GAME) != 0, gameTime);
+    }
+
+    /**
+     * Garbage time rule: a starter or regular bench player on court has an available deep bench player at the same position.
+     */
+    private boolean canUseDeepBench(Team team, Lineup teamOnCourt) {
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player currentPlayer = teamOnCourt.get(i);
+            if (currentPlayer == null || currentPlayer.rotationType == Player.RotationType.DEEP_BENCH) continue;
+
+            List<Player> deepBench = team.rareBenches.get(Lineup.POSITIONS[i].name());
+            if (deepBench == null) continue;
+            for (Player p : deepBench) {
+                if (p.canOnCourt && !p.isOnCourt) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clutch time and overtime rule: an available starter is off court, or (overtime only) a player on court can no longer play.
+     */
+    private boolean canRestoreStarters(Team team, Lineup teamOnCourt, boolean isOvertime) {
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player currentPlayer = teamOnCourt.get(i);
+            Player starter = team.starters.get(i);
+            if (currentPlayer == null) continue;
+
+            if (starter != null && starter.canOnCourt && !starter.isOnCourt && currentPlayer != starter) return true;
+            if (isOvertime && !currentPlayer.canOnCourt) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Regular rotation rules: a rested starter can come back, or a player on court is in foul trouble,
+     * tired, over the minutes cap or shooting cold. Also sets the earliest game time a threshold is crossed.
+     */
+    private boolean canRotate(Team team, Lineup teamOnCourt, int currentQuarter, boolean isCloseGame, int gameTime) {
+        int minRest = isCloseGame ? Constants.MIN_REST_TIME_CLOSE_GAME : Constants.MIN_REST_TIME;
+        int maxStarterStint = isCloseGame ? Constants.MAX_STARTER_STINT_CLOSE_GAME : Constants.MAX_STARTER_STINT_NORMAL_GAME;
+
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            // rested starter coming back, a resting starter's minutes and fouls don't change
+            Player starter = team.starters.get(i);
+            Player currentPlayer = teamOnCourt.get(i);
+            if (starter != null && currentPlayer != null && starter.canOnCourt && !starter.isOnCourt &&
+                currentPlayer.rotationType != Player.RotationType.STARTER &&
+                starter.getSecondsPlayed(gameTime) < Utilities.getTargetMinutes(starter) && Utilities.isFoulSituationSafe(starter, currentQuarter)) {
+                scheduleAt(starter.lastSubbedOutTime + minRest);
+            }
+
+            if (currentPlayer == null) continue;
+            if (Utilities.shouldSubForFoulTrouble(currentPlayer, currentQuarter)) return true;
+            if (!isCloseGame && Utilities.shouldSubForPerformance(currentPlayer)) return true;
+
+            // stint and minutes grow with the game clock while the player is on court
+            if (currentPlayer.rotationType == Player.RotationType.STARTER)
+                scheduleAt(gameTime + maxStarterStint - currentPlayer.getStintSeconds(gameTime));
+            else if (currentPlayer.rotationType == Player.RotationType.BENCH)
+                scheduleAt(gameTime + Constants.MAX_BENCH_STINT - currentPlayer.getStintSeconds(gameTime));
+            scheduleAt(gameTime + Utilities.getTargetMinutes(currentPlayer) - currentPlayer.getSecondsPlayed(gameTime));
+        }
+        return nextCheckTime <= gameTime;
+    }
+
+    /**
+     * Move the next check earlier to the given game time.
+     */
+    private void scheduleAt(int time) {
+        nextCheckTime = Math.min(nextCheckTime, time);
+    }
+}
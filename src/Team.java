@@ -1,12 +1,14 @@
 package src;
 
 import java.util.*;
-import java.io.*;
 
 public class Team {
     // Team name
     public String name;
 
+    // Dense team id
+    public int id;
+
     // Team stats in a game
     public int totalScore;
     public int totalRebound;
@@ -36,10 +38,13 @@ public class Team {
     // Whether the team is able to challenge the foul or not
     public boolean canChallenge;
 
+    // Decides when the team's rotation logic needs to run
+    public final SubstitutionScheduler substitutions = new SubstitutionScheduler();
+
     // All players in this teams
     public final List<Player> players = new ArrayList<Player>();
 
-    public final Map<String, Player> starters = new HashMap<>(); // Starting lineup
+    public final Lineup starters = new Lineup(); // Starting lineup
     public final Map<String, List<Player>> benches = new HashMap<>(); // Normal bench
     public final Map<String, List<Player>> rareBenches = new HashMap<>(); // Bench that rarely show up
 
@@ -49,8 +54,28 @@ public class Team {
      * @param name The team's name
      */
     public Team(String name) {
+        this(name, Constants.ROSTER_PATH);
+    }
+
+    /**
+     * Construct a Team object from a roster directory.
+     * 
+     * @param name The team's name
+     * @param rosterPath Roster directory
+     */
+    public Team(String name, String rosterPath) {
         this.name = name;
+        this.id = RosterRepository.getTeamId(name);
+
+        loadPlayers(name, rosterPath, players, starters, benches, rareBenches);
+        resetGameStats();
+    }
 
+    /**
+     * Reset the team's and its players' game stats and court status for a new game, so the team can play game after game.
+     * Ratings and the rotation never change during a game, so they are kept.
+     */
+    public void resetGameStats() {
         this.totalScore = 0;
         this.totalRebound = 0;
         this.totalAssist = 0;
@@ -75,77 +100,71 @@ public class Team {
         this.hasBall = false;
         this.canChallenge = true;
 
-        loadPlayers(name, players, starters, benches, rareBenches);
+        substitutions.reset();
+        for (Player player : players) player.resetGameStats();
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player starter = starters.get(i);
+            if (starter != null) starter.hasBeenOnCourt = true;
+        }
+    }
+
+    /**
+     * Sum up all players' box score stats into the team's total stats, once the game ends.
+     */
+    public void sumPlayerStats() {
+        for (Player player : players) {
+            totalRebound += player.rebound;
+            totalAssist += player.assist;
+            totalSteal += player.steal;
+            totalBlock += player.block;
+            totalFoul += player.foul;
+            totalTurnover += player.turnover;
+            totalShotAttempted += player.shotAttempted;
+            totalShotMade += player.shotMade;
+            total3Attempted += player.threeAttempted;
+            total3Made += player.threeMade;
+            totalFreeAttempted += player.freeThrowAttempted;
+            totalFreeMade += player.freeThrowMade;
+        }
     }
 
     /**
-     * Load team rosters files and generate all Players objects of the team.
+     * Generate all Players objects of the team from the team's cached roster.
      * 
      * @param name The team's name
-     * @param players Starting lineup list
+     * @param rosterPath Roster directory
+     * @param players All players list
+     * @param starters Starting lineup
      * @param benches Normal benches map
      * @param rareBenches Rarely-appeared benches map
      */
-    public static void loadPlayers(String name, List<Player> players, Map<String, Player> starters, Map<String, List<Player>> benches,
+    public static void loadPlayers(String name, String rosterPath, List<Player> players, Lineup starters, Map<String, List<Player>> benches,
                                    Map<String, List<Player>> rareBenches) {
-        String filePath = Constants.ROSTER_PATH + Constants.getTeamRosterFilename(name);
-
-        try (BufferedReader file = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "UTF-8"))) {
-            String record;
-            Boolean isFirst = true;
-            while ((record = file.readLine()) != null) {
-                // Skip first header line
-                if (isFirst) {
-                    isFirst = false;
-                    continue;
-                }
+        for (PlayerTemplate template : RosterRepository.getRoster(name, rosterPath)) {
+            Player player = new Player(template);
+            String currentPos = player.position;
+
+            // Add player to the team player list
+            players.add(player);
 
-                // Get current player's ratings
-                String[] attributes = record.split(",");
-                String currentPos = attributes[2];  // position is now at index 2 (after name and englishName)
-                String currentRotationType = attributes[4];  // rotationType is now at index 4
-                
-                // Create player with both Chinese name (index 0) and English name (index 1)
-                Player player = new Player(attributes[0], attributes[1], attributes[2], attributes[3], attributes[4], attributes[5], attributes[6],
-                                           attributes[7], attributes[8], attributes[9], attributes[10], attributes[11], attributes[12],
-                                           attributes[13], attributes[14], attributes[15], attributes[16], attributes[17], attributes[18],
-                                           attributes[19], attributes[20], attributes[21], attributes[22], attributes[23], attributes[24], name);
-                
-                // Add player to the team player list
-                players.add(player);
-
-                // Add player based on rotationType
-                if (currentRotationType.equals("1")) {
-                    starters.put(currentPos, player);
-                    player.hasBeenOnCourt = true;
-                } else if (currentRotationType.equals("2")) {
-                    if (!benches.containsKey(currentPos)) {
-                        List<Player> posList = new ArrayList<>();
-                        posList.add(player);
-                        benches.put(currentPos, posList);
-                    } else {
-                        benches.get(currentPos).add(player);
-                    }
-                } else if (currentRotationType.equals("3")) {
-                    if (!rareBenches.containsKey(currentPos)) {
-                        List<Player> posList = new ArrayList<>();
-                        posList.add(player);
-                        rareBenches.put(currentPos, posList);
-                    } else {
-                        rareBenches.get(currentPos).add(player);
-                    }
+            // Add player based on rotationType
+            if (player.rotationType == Player.RotationType.STARTER) {
+                if (player.positionType == null) {
+                    System.err.println("Warning: Starter " + player.englishName + " of " + name + " has invalid position " + currentPos);
+                    continue;
                 }
+                starters.put(player.positionType, player);
+                player.hasBeenOnCourt = true;
+            } else if (player.rotationType == Player.RotationType.BENCH) {
+                benches.computeIfAbsent(currentPos, k -> new ArrayList<>()).add(player);
+            } else {
+                rareBenches.computeIfAbsent(currentPos, k -> new ArrayList<>()).add(player);
             }
+        }
 
-            // Sort benches by general rating in descending order
-            for (String pos : benches.keySet()) {
-                Collections.sort(benches.get(pos), (o1, o2) -> { return o2.rating - o1.rating; });
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading roster for team: " + name);
-            System.err.println("File path: " + filePath);
-            System.err.println("Error: " + e.getMessage());
-            e.printStackTrace();
+        // Sort benches by general rating in descending order
+        for (String pos : benches.keySet()) {
+            Collections.sort(benches.get(pos), (o1, o2) -> { return o2.rating - o1.rating; });
         }
     }
 }
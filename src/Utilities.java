@@ -1,7 +1,9 @@
 package src;
 
 import java.io.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.function.Consumer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -45,6 +47,16 @@ public class Utilities {
         OUT_OF_BOUNDS           // 4 - shot went out of bounds
     }
     
+    /**
+     * Rating criteria for choosePlayerBasedOnRating method
+     */
+    public enum SelectionCriterion {
+        RATING,                 // offense option, by overall and scoring ratings
+        ORB,                    // offensive rebounder
+        DRB,                    // defensive rebounder
+        AST                     // assister
+    }
+    
     /**
      * Result enum for makeFreeThrow method
      */
@@ -58,12 +70,12 @@ public class Utilities {
     /**
      * Generate a random number from range [min, max].
      * 
-     * @param random The Random object to generate random number
+     * @param random The random source to generate random number
      * @param min The lower bound of the range
      * @param max The upper bound of the range
      * @return A random number
      */
-    public static int generateRandomNum(Random random, int min, int max) {
+    public static int generateRandomNum(RandomSource random, int min, int max) {
         if (min == max) return min;
         return random.nextInt(max - min + 1) + min;
     }
@@ -71,10 +83,10 @@ public class Utilities {
     /**
      * Overloading, generate a random number from default range [1, 100].
      * 
-     * @param random The Random object to generate random number
+     * @param random The random source to generate random number
      * @return A random number
      */
-    public static int generateRandomNum(Random random) {
+    public static int generateRandomNum(RandomSource random) {
         return generateRandomNum(random, 1, 100);
     }
 
@@ -119,6 +131,25 @@ public class Utilities {
         }
     }
 
+    /**
+     * Write a file atomically: the content goes to a temporary file next to it, which is then moved over the file,
+     * so a reader never sees a partly written file and a killed run keeps the previous version.
+     *
+     * @param path Path of the file
+     * @param content Writes the content to the stream
+     */
+    public static void writeAtomically(String path, Consumer<PrintStream> content) throws IOException {
+        File file = new File(path);
+        if (file.getParentFile() != null) file.getParentFile().mkdirs();
+        File tempFile = new File(path + ".tmp");
+
+        try (PrintStream ps = new PrintStream(tempFile, "UTF-8")) {
+            content.accept(ps);
+            if (ps.checkError()) throw new IOException("Error writing " + tempFile);
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
     /**
      * Generate current play's time based on NBA-realistic distributions.
      * Uses a weighted probability system to simulate realistic possession times:
@@ -128,22 +159,22 @@ public class Utilities {
      * @param time Maximum time of current play (24 for full possession, 14 for offensive rebound)
      * @return current play's time in seconds
      */
-    public static int generateRandomPlayTime(Random random, int time) {
+    public static int generateRandomPlayTime(SimulationContext ctx, int time) {
         if (time == 24) {
             // Distribution: 5% very quick (4-7s), 80% normal (8-18s), 15% slow (19-24s)
-            int roll = generateRandomNum(random, 1, 100);
+            int roll = generateRandomNum(ctx.random, 1, 100);
             
             if (roll <= 5) {
                 // Very quick play: 4-7 seconds
-                return generateRandomNum(random, 4, 7);
+                return generateRandomNum(ctx.random, 4, 7);
             } else if (roll <= 85) {
                 // Use triangle distribution for more realistic clustering
-                int r1 = generateRandomNum(random, 8, 18);
-                int r2 = generateRandomNum(random, 8, 18);
+                int r1 = generateRandomNum(ctx.random, 8, 18);
+                int r2 = generateRandomNum(ctx.random, 8, 18);
                 return (r1 + r2) / 2; // Averages toward middle values (12-14)
             } else {
                 // Slow, deliberate play: 19-24 seconds
-                return generateRandomNum(random, 19, 24);
+                return generateRandomNum(ctx.random, 19, 24);
             }
             
         } else if (time == 14) {
@@ -151,19 +182,19 @@ public class Utilities {
             // Real NBA average: ~8-10 seconds
             // Distribution: 50% quick putback (4-6s), 40% normal reset (7-11s), 10% full reset (12-14s)
             
-            int roll = generateRandomNum(random, 1, 100);
+            int roll = generateRandomNum(ctx.random, 1, 100);
             
             if (roll <= 50) {
                 // Quick putback or tip-in: 4-6 seconds
-                return generateRandomNum(random, 4, 6);
+                return generateRandomNum(ctx.random, 4, 6);
             } else if (roll <= 90) {
                 // Normal reset play: 7-11 seconds (bell curve around 9)
-                int r1 = generateRandomNum(random, 7, 11);
-                int r2 = generateRandomNum(random, 7, 11);
+                int r1 = generateRandomNum(ctx.random, 7, 11);
+                int r2 = generateRandomNum(ctx.random, 7, 11);
                 return (r1 + r2) / 2; // Averages toward 9 seconds
             } else {
                 // Full reset to perimeter: 12-14 seconds
-                return generateRandomNum(random, 12, 14);
+                return generateRandomNum(ctx.random, 12, 14);
             }
             
         } else {
@@ -171,164 +202,60 @@ public class Utilities {
             // Use proportional scaling based on 24-second distribution
             int scaledMin = Math.max(4, time / 6);
             int scaledMax = time;
-            return generateRandomNum(random, scaledMin, scaledMax);
+            return generateRandomNum(ctx.random, scaledMin, scaledMax);
         }
     }
 
     /**
      * Overloading for choosePlayerBasedOnRating() function, remove quarter and team information.
      * 
-     * @param TeamOnCourt Current players on the court
-     * @param attr The rating criteria, including 'rating', 'orb', 'drb' and 'ast'
+     * @param teamOnCourt Current players on the court
+     * @param criterion The rating criterion
      * @return Selected player
      */
-    public static Player choosePlayerBasedOnRating(Random random, Map<String, Player> TeamOnCourt, String attr) {
-        return choosePlayerBasedOnRating(random, TeamOnCourt, attr, 0, 0, null, null);
+    public static Player choosePlayerBasedOnRating(SimulationContext ctx, Lineup teamOnCourt, SelectionCriterion criterion) {
+        return choosePlayerBasedOnRating(ctx, teamOnCourt, criterion, 0, 0, null, null);
     }
 
     /**
      * Select a player based on rating.
      * 
-     * @param TeamOnCourt Current players on the court
-     * @param attr The rating criteria, including 'rating', 'orb', 'drb' and 'ast'
+     * @param teamOnCourt Current players on the court
+     * @param criterion The rating criterion
      * @param currentQuarter Current quarter number
      * @param quarterTime Time left in current quarter
      * @param offenseTeam Offense team
      * @param defenseTeam Defense team
      * @return Selected player
      */
-    public static Player choosePlayerBasedOnRating(Random random, Map<String, Player> TeamOnCourt, String attr,
+    public static Player choosePlayerBasedOnRating(SimulationContext ctx, Lineup teamOnCourt, SelectionCriterion criterion,
                                                    int currentQuarter, int quarterTime, Team offenseTeam, Team defenseTeam) {
-        double major = Constants.MAJOR_SCORE_FACTOR;
-        double minor = Constants.MINOR_SCORE_FACTOR;
-        
-        double totalRating = 0;
-        for (String pos : TeamOnCourt.keySet()) {
-            if (attr.equals("rating")) 
-                totalRating += (major*TeamOnCourt.get(pos).rating + 
-                                minor*Math.max(TeamOnCourt.get(pos).insideRating, TeamOnCourt.get(pos).layupRating) +
-                                minor*Math.max(TeamOnCourt.get(pos).midRating, TeamOnCourt.get(pos).threeRating) +
-                                minor*TeamOnCourt.get(pos).offConst);
-            if (attr.equals("orb")) totalRating += TeamOnCourt.get(pos).orbRating;
-            if (attr.equals("drb")) totalRating += TeamOnCourt.get(pos).drbRating;
-            if (attr.equals("ast")) totalRating += TeamOnCourt.get(pos).astRating;
-        }
-        double avgRating = totalRating * 1.0 / 5;
-
-        double[] poss = new double[5];
-        String[] positions = {"C", "PF", "SF", "SG", "PG"};
-
-        double poss1, poss2, poss3, poss4 = 0;
-        int basePoss = 100 / 5;
-        if (attr.equals("rating")) {
-            // get top-highest rating players
-            int highestRating = 0;
-            PriorityQueue<Player> selectedPlayerList = new PriorityQueue<>((a, b) -> { return b.rating - a.rating; });
-            Player selectedPlayer = null;
+        SelectionTable table = teamOnCourt.getSelectionTable(criterion);
 
-            for (Player p : TeamOnCourt.values())
-                highestRating = Math.max(highestRating, p.rating);
+        // get top-highest rating players
+        if (criterion == SelectionCriterion.RATING && table.scorerCount >= 1) {
+            Player selectedPlayer;
 
-            for (Player p : TeamOnCourt.values()) {
-                if (highestRating - p.rating <= Constants.RATING_RANGE && p.playerType != Player.PlayerType.INSIDER)
-                    selectedPlayerList.offer(p);
-            }
-            
             // higher chance to select the player with highest rating
-            if (selectedPlayerList.size() >= 1) {
-                if (selectedPlayerList.size() == 1 ||
-                    (generateRandomNum(random) <= Constants.SINGLE_STAR_EXTRA && selectedPlayerList.peek().rating <= Constants.GENERAL_THLD))
-                    selectedPlayer = selectedPlayerList.peek();
-                else {
-                    int totalStarRating = 0;
-                    for (Player p : selectedPlayerList) totalStarRating += p.rating;
-
-                    int currentRatingSum = 0;
-                    int randomPick = generateRandomNum(random, 1, totalStarRating);
-                    for (Player p : selectedPlayerList) {
-                        currentRatingSum += p.rating;
-                        if (randomPick <= currentRatingSum) {
-                            selectedPlayer = p;
-                            break;
-                        }
-                    }
-                }
-
-                // clutch time, give star players with top-highest rating
-                if (currentQuarter >= 4 && quarterTime <= Constants.TIME_LEFT_CLUTCH
-                    && Math.abs(offenseTeam.totalScore - defenseTeam.totalScore) <= Constants.CLOSE_GAME_DIFF) {
-                    if (generateRandomNum(random) <= Constants.CLUTCH_PERCENT && selectedPlayer.isStar) {
-                        return selectedPlayer;
-                    }
-                }
-            }
-
-            for (int i = 0; i < poss.length; i++) {
-                String currentPos = positions[i];
-                Player player = TeamOnCourt.get(currentPos);
-                if (player == null) {
-                    System.err.println("Warning: Missing player at position " + currentPos);
-                    poss[i] = 0;
-                    continue;
+            if (table.scorerCount == 1 ||
+                (generateRandomNum(ctx.random) <= Constants.SINGLE_STAR_EXTRA && table.topScorer.rating <= Constants.GENERAL_THLD))
+                selectedPlayer = table.topScorer;
+            else selectedPlayer = table.pickScorer(generateRandomNum(ctx.random, 1, table.scorerRatingSum));
+
+            // clutch time, give star players with top-highest rating
+            if (currentQuarter >= 4 && quarterTime <= Constants.TIME_LEFT_CLUTCH
+                && Math.abs(offenseTeam.totalScore - defenseTeam.totalScore) <= Constants.CLOSE_GAME_DIFF) {
+                if (generateRandomNum(ctx.random) <= Constants.CLUTCH_PERCENT && selectedPlayer.isStar) {
+                    return selectedPlayer;
                 }
-                poss[i] = (10 * (basePoss + major*player.rating + 
-                                minor*Math.max(player.insideRating, player.layupRating) +
-                                minor*Math.max(player.midRating, player.threeRating) +
-                                minor*player.offConst - avgRating ));
             }
-        } else {
-            for (int i = 0; i < poss.length; i++) {
-                String currentPos = positions[i];
-                Player player = TeamOnCourt.get(currentPos);
-                if (player == null) {
-                    System.err.println("Warning: Missing player at position " + currentPos);
-                    poss[i] = 0;
-                    continue;
-                }
-
-                if (attr.equals("orb")) {
-                    // Use power scaling for rebounds to create NBA-realistic distribution
-                    // REBOUND_POWER_SCALE controls the advantage elite rebounders get
-                    // Higher values (closer to 1.0) = more advantage for elite rebounders
-                    double normalizedRating = Math.pow(Math.max(player.orbRating, 1), Constants.REBOUND_POWER_SCALE);
-                    poss[i] = normalizedRating * 100;
-                } else if (attr.equals("drb")) {
-                    double normalizedRating = Math.pow(Math.max(player.drbRating, 1), Constants.REBOUND_POWER_SCALE);
-                    poss[i] = normalizedRating * 100;
-                } else {
-                    poss[i] = Math.max( (1000 * (Constants.AST_SCALE * player.astRating - avgRating) / totalRating), 0);
-                }
-            }
-        }
-        
-        // For rebounds, normalize probabilities to sum to 1000 for proper distribution
-        if (attr.equals("orb") || attr.equals("drb")) {
-            double totalPoss = 0;
-            for (int i = 0; i < poss.length; i++) {
-                totalPoss += poss[i];
-            }
-            if (totalPoss > 0) {
-                for (int i = 0; i < poss.length; i++) {
-                    poss[i] = (poss[i] / totalPoss) * 1000;
-                }
-            }
-        }
-        
-        int pick = generateRandomNum(random, 1, 1000);
-        if (pick <= poss[0] && TeamOnCourt.get("C") != null) return TeamOnCourt.get("C");
-        else if (pick <= poss[0] + poss[1] && TeamOnCourt.get("PF") != null) return TeamOnCourt.get("PF");
-        else if (pick <= poss[0] + poss[1] + poss[2] && TeamOnCourt.get("SF") != null) return TeamOnCourt.get("SF");
-        else if (pick <= poss[0] + poss[1] + poss[2] + poss[3] && TeamOnCourt.get("SG") != null) return TeamOnCourt.get("SG");
-        else if (TeamOnCourt.get("PG") != null) return TeamOnCourt.get("PG");
-        
-        // Fallback: return any non-null player
-        for (Player p : TeamOnCourt.values()) {
-            if (p != null) return p;
         }
+
+        Player player = table.pick(generateRandomNum(ctx.random, 1, 1000));
         
         // This should never happen, but return null as last resort
-        System.err.println("ERROR: No players found in TeamOnCourt map!");
-        return null;
+        if (player == null) System.err.println("ERROR: No players found in the lineup!");
+        return player;
     }
 
     /**
@@ -338,18 +265,15 @@ public class Utilities {
      * @param defenseTeamOnCourt Current defense players on the court
      * @return Selected player
      */
-    public static Player chooseDefensePlayer(Random random, Player offensePlayer, Map<String, Player> defenseTeamOnCourt) {
-        String offensePos = offensePlayer.position;
-        List<String> otherPos = new ArrayList<>();
-        for (String pos : defenseTeamOnCourt.keySet()) 
-            if (pos != offensePos) otherPos.add(pos);
+    public static Player chooseDefensePlayer(SimulationContext ctx, Player offensePlayer, Lineup defenseTeamOnCourt) {
+        Player.Position offensePos = offensePlayer.positionType;
         
-        int poss = generateRandomNum(random);
+        int poss = generateRandomNum(ctx.random);
         if (poss <= Constants.SAME_POS) return defenseTeamOnCourt.get(offensePos);
-        else if (poss <= Constants.SAME_POS + Constants.OTHER_POS) return defenseTeamOnCourt.get( otherPos.get(0) );
-        else if (poss <= Constants.SAME_POS + 2 * Constants.OTHER_POS) return defenseTeamOnCourt.get( otherPos.get(1) );
-        else if (poss <= Constants.SAME_POS + 3 * Constants.OTHER_POS) return defenseTeamOnCourt.get( otherPos.get(2) );
-        else return defenseTeamOnCourt.get( otherPos.get(3) );
+        else if (poss <= Constants.SAME_POS + Constants.OTHER_POS) return defenseTeamOnCourt.getOther(offensePos, 0);
+        else if (poss <= Constants.SAME_POS + 2 * Constants.OTHER_POS) return defenseTeamOnCourt.getOther(offensePos, 1);
+        else if (poss <= Constants.SAME_POS + 3 * Constants.OTHER_POS) return defenseTeamOnCourt.getOther(offensePos, 2);
+        else return defenseTeamOnCourt.getOther(offensePos, 3);
     }
 
     /**
@@ -361,7 +285,7 @@ public class Utilities {
      * @param defenseTeamOnCourt Current defense players on the court
      * @return LoseBallResult indicating the outcome
      */
-    public static LoseBallResult judgeLoseBall(Random random, Team defenseTeam, Map<String, Player> defenseTeamOnCourt, Player offensePlayer, Player defensePlayer) {
+    public static LoseBallResult judgeLoseBall(SimulationContext ctx, Team defenseTeam, Lineup defenseTeamOnCourt, Player offensePlayer, Player defensePlayer) {
         double range = 60 * Constants.STEAL_BASE + Constants.STEAL_RATING_SCALE * defensePlayer.stlRating
                         + Constants.STEAL_DEFENSE_SCALE * Math.max(defensePlayer.interiorDefense, defensePlayer.perimeterDefense)
                         + defensePlayer.athleticism;
@@ -373,19 +297,19 @@ public class Utilities {
             range *= Constants.STEAL_BONUS_SCALE3;
         else if (defensePlayer.stlRating >= Constants.STEAL_BONUS_THLD4) range *= Constants.STEAL_BONUS_SCALE4;
 
-        int poss = generateRandomNum(random);
+        int poss = generateRandomNum(ctx.random);
         // chance to jump ball
         if (poss <= 1) {
-            if (generateRandomNum(random) <= Constants.JUMP_BALL_PLAY) {
-                String winPlayer = jumpBall(random, offensePlayer.getDisplayName(), defensePlayer.getDisplayName());
-                return winPlayer.equals(offensePlayer.getDisplayName()) ? LoseBallResult.JUMP_BALL_WIN : LoseBallResult.LOSE_BALL_NO_SCORE;
+            if (generateRandomNum(ctx.random) <= Constants.JUMP_BALL_PLAY) {
+                Player winPlayer = jumpBall(ctx, offensePlayer, defensePlayer);
+                return winPlayer == offensePlayer ? LoseBallResult.JUMP_BALL_WIN : LoseBallResult.LOSE_BALL_NO_SCORE;
             }
         }
 
         // chance to turnover
         else if (poss <= 1 + Constants.TURNOVER) {
             offensePlayer.turnover++;
-            Comments.getTurnoverComment(offensePlayer.getDisplayName());
+            ctx.events.onTurnover(offensePlayer);
             return LoseBallResult.LOSE_BALL_NO_SCORE;
         }
 
@@ -393,35 +317,33 @@ public class Utilities {
         else if (60 * poss <= 60 * (1 + Constants.TURNOVER) + range) {
             offensePlayer.turnover++;
             defensePlayer.steal++;
-            Comments.getStealComment(offensePlayer.getDisplayName(), defensePlayer.getDisplayName());
+            ctx.events.onSteal(offensePlayer, defensePlayer);
 
             // low chance to start a non-fast-break play, high chance to start a fast break
-            int fastBreak = generateRandomNum(random);
+            int fastBreak = generateRandomNum(ctx.random);
             if (fastBreak <= Constants.NON_FASTBREAK) {
-                Comments.getNonFastBreak(Constants.getLocalizedTeamName(defenseTeam.name));
+                ctx.events.onNoFastBreak(defenseTeam);
                 return LoseBallResult.LOSE_BALL_NO_SCORE;
             } else {
-                int fastBreakTemp = generateRandomNum(random);
+                int fastBreakTemp = generateRandomNum(ctx.random);
                 
                 // finish by himself or teammate
                 Player finisher;
                 if (fastBreakTemp <= Constants.SAME_POS) finisher = defensePlayer;
                 else {
-                    List<String> otherTeammate = new ArrayList<>();
-                    for (String pos : defenseTeamOnCourt.keySet()) 
-                        if (pos != defensePlayer.position) otherTeammate.add(pos);
-
-                    if (poss <= Constants.SAME_POS + Constants.OTHER_POS) finisher = defenseTeamOnCourt.get( otherTeammate.get(0) );
-                    else if (poss <= Constants.SAME_POS + 2 * Constants.OTHER_POS) finisher = defenseTeamOnCourt.get( otherTeammate.get(1) );
-                    else if (poss <= Constants.SAME_POS + 3 * Constants.OTHER_POS) finisher = defenseTeamOnCourt.get( otherTeammate.get(2) );
-                    else finisher = defenseTeamOnCourt.get( otherTeammate.get(3) );
+                    Player.Position defensePos = defensePlayer.positionType;
+                    if (poss <= Constants.SAME_POS + Constants.OTHER_POS) finisher = defenseTeamOnCourt.getOther(defensePos, 0);
+                    else if (poss <= Constants.SAME_POS + 2 * Constants.OTHER_POS) finisher = defenseTeamOnCourt.getOther(defensePos, 1);
+                    else if (poss <= Constants.SAME_POS + 3 * Constants.OTHER_POS) finisher = defenseTeamOnCourt.getOther(defensePos, 2);
+                    else finisher = defenseTeamOnCourt.getOther(defensePos, 3);
                 }
 
-                Comments.getFastBreak(Constants.getLocalizedTeamName(defenseTeam.name), finisher.getDisplayName());
+                ctx.events.onFastBreak(defenseTeam, finisher);
                 defenseTeam.totalScore += 2;
                 finisher.score += 2;
                 finisher.shotMade++;
                 finisher.shotAttempted++;
+                defenseTeam.substitutions.onShot(finisher);
             }
             return LoseBallResult.LOSE_BALL_AND_SCORE;
         }
@@ -432,13 +354,14 @@ public class Utilities {
      * Generate actions after a block.
      * 
      * @param distance Shot distance
+     * @param offenseTeam Offense team
      * @param offensePlayer Offense player
      * @param defensePlayer Defense player
      * @param offenseTeamOnCourt Current offense players on the court
      * @param defenseTeamOnCourt Current defense players on the court
      * @return BlockResult indicating the outcome
      */
-    public static BlockResult judgeBlock(Random random, int distance, Map<String, Player> offenseTeamOnCourt, Map<String, Player> defenseTeamOnCourt,
+    public static BlockResult judgeBlock(SimulationContext ctx, int distance, Team offenseTeam, Lineup offenseTeamOnCourt, Lineup defenseTeamOnCourt,
                                  Player offensePlayer, Player defensePlayer) {
         double range = Constants.BLOCK_RATING_SCALE * defensePlayer.blkRating +
                         Math.max(defensePlayer.interiorDefense, defensePlayer.perimeterDefense) + defensePlayer.athleticism;
@@ -453,20 +376,21 @@ public class Utilities {
             range *= Constants.BLOCK_BONUS_SCALE4;
         else if (defensePlayer.blkRating >= Constants.BLOCK_BONUS_THLD5) range *= Constants.BLOCK_BONUS_SCALE5;
 
-        int poss = generateRandomNum(random);
+        int poss = generateRandomNum(ctx.random);
         if (60 * poss <= range) {
             offensePlayer.shotAttempted++;
             if (distance >= Constants.MIN_THREE_SHOT) offensePlayer.threeAttempted++;
+            offenseTeam.substitutions.onShot(offensePlayer);
             defensePlayer.block++;
-            Comments.getBlockComment(defensePlayer.getDisplayName());
+            ctx.events.onBlock(defensePlayer);
 
             // low chance to out of bound, high chance to go to rebound juding
-            int outOfBound = generateRandomNum(random);
+            int outOfBound = generateRandomNum(ctx.random);
             if (outOfBound <= Constants.BLOCK_OUT_OF_BOUND) {
-                Comments.getOutOfBound(defensePlayer.getDisplayName());
+                ctx.events.onBlockOutOfBounds(defensePlayer);
                 return BlockResult.BLOCK_OFFENSIVE_REBOUND;
             } else {
-                boolean stillOffense = judgeRebound(random, offenseTeamOnCourt, defenseTeamOnCourt);
+                boolean stillOffense = judgeRebound(ctx, offenseTeamOnCourt, defenseTeamOnCourt);
                 return stillOffense ? BlockResult.BLOCK_OFFENSIVE_REBOUND : BlockResult.BLOCK_DEFENSIVE_REBOUND;
             }
         }
@@ -480,48 +404,50 @@ public class Utilities {
      * @param defenseTeamOnCourt Current defense players on the court
      * @return true - offensive rebound, false - defensive rebound
      */
-    public static boolean judgeRebound(Random random, Map<String, Player> offenseTeamOnCourt, Map<String, Player> defenseTeamOnCourt) {
+    public static boolean judgeRebound(SimulationContext ctx, Lineup offenseTeamOnCourt, Lineup defenseTeamOnCourt) {
         int offenseTeamReb = 0, defenseTeamReb = 0;
-        for (String pos : offenseTeamOnCourt.keySet()) 
-            offenseTeamReb += offenseTeamOnCourt.get(pos).orbRating;
-        for (String pos : defenseTeamOnCourt.keySet()) 
-            defenseTeamReb += defenseTeamOnCourt.get(pos).drbRating;
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            if (offenseTeamOnCourt.get(i) != null) offenseTeamReb += offenseTeamOnCourt.get(i).orbRating;
+            if (defenseTeamOnCourt.get(i) != null) defenseTeamReb += defenseTeamOnCourt.get(i).drbRating;
+        }
 
         boolean offRebBonus = offenseTeamReb > defenseTeamReb ? true : false;
         
-        int orbORdrb = generateRandomNum(random);
-        int rebAssign = generateRandomNum(random);
+        int orbORdrb = generateRandomNum(ctx.random);
+        int rebAssign = generateRandomNum(ctx.random);
         Player rebounder = null;
         if ((offRebBonus && orbORdrb <= Constants.ORB_WITH_BONUS) || (!offRebBonus && orbORdrb <= Constants.ORB_WITHOUT_BONUS)) {
             if (rebAssign <= Constants.REBOUND_RATING_BONUS_PERCENT) {
-                for (String pos : offenseTeamOnCourt.keySet()) {
-                    if (offenseTeamOnCourt.get(pos).orbRating >= Constants.REBOUND_RATING_BONUS) {
-                        rebounder = offenseTeamOnCourt.get(pos);
+                for (int i = 0; i < Lineup.SIZE; i++) {
+                    Player p = offenseTeamOnCourt.get(i);
+                    if (p != null && p.orbRating >= Constants.REBOUND_RATING_BONUS) {
+                        rebounder = p;
                         break;
                     }
                 }
-                if (rebounder == null) rebounder = choosePlayerBasedOnRating(random, offenseTeamOnCourt, "orb");
+                if (rebounder == null) rebounder = choosePlayerBasedOnRating(ctx, offenseTeamOnCourt, SelectionCriterion.ORB);
             } else {
-                rebounder = choosePlayerBasedOnRating(random, offenseTeamOnCourt, "orb");
+                rebounder = choosePlayerBasedOnRating(ctx, offenseTeamOnCourt, SelectionCriterion.ORB);
             }
 
-            Comments.getReboundComment(rebounder.getDisplayName(), true);
+            ctx.events.onRebound(rebounder, true);
             rebounder.rebound++;
             return true;
         } else {
             if (rebAssign <= Constants.REBOUND_RATING_BONUS_PERCENT) {
-                for (String pos : defenseTeamOnCourt.keySet()) {
-                    if (defenseTeamOnCourt.get(pos).drbRating >= Constants.REBOUND_RATING_BONUS) {
-                        rebounder = defenseTeamOnCourt.get(pos);
+                for (int i = 0; i < Lineup.SIZE; i++) {
+                    Player p = defenseTeamOnCourt.get(i);
+                    if (p != null && p.drbRating >= Constants.REBOUND_RATING_BONUS) {
+                        rebounder = p;
                         break;
                     }
                 }
-                if (rebounder == null) rebounder = choosePlayerBasedOnRating(random, defenseTeamOnCourt, "drb");
+                if (rebounder == null) rebounder = choosePlayerBasedOnRating(ctx, defenseTeamOnCourt, SelectionCriterion.DRB);
             } else {
-                rebounder = choosePlayerBasedOnRating(random, defenseTeamOnCourt, "drb");
+                rebounder = choosePlayerBasedOnRating(ctx, defenseTeamOnCourt, SelectionCriterion.DRB);
             }
 
-            Comments.getReboundComment(rebounder.getDisplayName(), false);
+            ctx.events.onRebound(rebounder, false);
             rebounder.rebound++;
             return false;
         }
@@ -535,14 +461,15 @@ public class Utilities {
      * @param teamOnCourt Players on the court
      * @return 0 - no lose ball, 1 - lose ball but no score, 2 - loss ball and score
      */
-    public static void judgeFoulOut(Player previousPlayer, Team team, Map<String, Player> teamOnCourt) {
+    public static void judgeFoulOut(SimulationContext ctx, Player previousPlayer, Team team, Lineup teamOnCourt) {
+        team.substitutions.onFoulOrInjury();
         if (previousPlayer.foul == Constants.FOULS_TO_FOUL_OUT || previousPlayer.flagFoul == Constants.FLAGRANT_FOULS_TO_EJECT) {
-            Comments.getFoulOutComment(previousPlayer.getDisplayName(), previousPlayer.foul == Constants.FOULS_TO_FOUL_OUT ? true : false);
+            ctx.events.onFoulOut(previousPlayer, previousPlayer.foul == Constants.FOULS_TO_FOUL_OUT ? true : false);
             previousPlayer.canOnCourt = false;
 
-            Player currentPlayer = findSubPlayer(previousPlayer, team);
-            teamOnCourt.put(previousPlayer.position, currentPlayer);
-            Comments.getSubstituteComment(currentPlayer.getDisplayName(), previousPlayer.getDisplayName());
+            Player currentPlayer = findSubPlayer(ctx, previousPlayer, team);
+            teamOnCourt.put(previousPlayer.positionType, currentPlayer);
+            ctx.events.onSubstitution(currentPlayer, previousPlayer);
         }
     }
 
@@ -554,22 +481,22 @@ public class Utilities {
      * @param teamOnCourt Players on the court
      * @param currentQuarter Current quarter number
      */
-    public static void foulProtect(Player previousPlayer, Team team, Map<String, Player> teamOnCourt, int currentQuarter) {
+    public static void foulProtect(SimulationContext ctx, Player previousPlayer, Team team, Lineup teamOnCourt, int currentQuarter) {
         if (previousPlayer.rotationType == Player.RotationType.STARTER && 
             ((currentQuarter == 1 && previousPlayer.foul == Constants.QUARTER1_PROTECT) ||
              (currentQuarter == 2 && previousPlayer.foul == Constants.QUARTER2_PROTECT) ||
              (currentQuarter == 3 && previousPlayer.foul == Constants.QUARTER3_PROTECT))) {
-            Comments.getFoulProtectComment(previousPlayer.getDisplayName());
+            ctx.events.onFoulProtect(previousPlayer);
 
-            Player currentPlayer = findSubPlayer(previousPlayer, team);
+            Player currentPlayer = findSubPlayer(ctx, previousPlayer, team);
             
             // Update on-court status
             previousPlayer.isOnCourt = false;
             currentPlayer.isOnCourt = true;
-            currentPlayer.currentStintSeconds = 0;
+            currentPlayer.resetStint(teamOnCourt.getGameTime());
             
-            teamOnCourt.put(previousPlayer.position, currentPlayer);
-            Comments.getSubstituteComment(currentPlayer.getDisplayName(), previousPlayer.getDisplayName());
+            teamOnCourt.put(previousPlayer.positionType, currentPlayer);
+            ctx.events.onSubstitution(currentPlayer, previousPlayer);
         }
     }
 
@@ -587,11 +514,11 @@ public class Utilities {
      * @param quarterTime Times left in current quarter
      * @return FoulResult indicating the outcome
      */
-    public static FoulResult judgeNormalFoul(Random random, Map<String, Player> offenseTeamOnCourt, Map<String, Player> defenseTeamOnCourt,
+    public static FoulResult judgeNormalFoul(SimulationContext ctx, Lineup offenseTeamOnCourt, Lineup defenseTeamOnCourt,
                                       Player offensePlayer, Player defensePlayer, Team offenseTeam, Team defenseTeam, int currentQuarter,
                                       int quarterTime, Team team1, Team team2) {
-        int poss = generateRandomNum(random);
-        int foulTemp = generateRandomNum(random);
+        int poss = generateRandomNum(ctx.random);
+        int foulTemp = generateRandomNum(ctx.random);
 
         if (poss <= Constants.OFF_FOUL) {
             Player fouler;
@@ -599,23 +526,21 @@ public class Utilities {
             // high chance to foul on offensePlayer, small chance on teammates
             if (foulTemp <= Constants.SAME_POS) {
                 fouler = offensePlayer;
-                Comments.getOffensiveFoul(fouler.getDisplayName(), 1);
+                ctx.events.onOffensiveFoul(fouler, 1);
             } else {
-                List<String> otherTeammate = new ArrayList<>();
-                for (String pos : offenseTeamOnCourt.keySet()) 
-                    if (pos != offensePlayer.position) otherTeammate.add(pos);
-
-                if (foulTemp <= Constants.SAME_POS + Constants.OTHER_POS) fouler = offenseTeamOnCourt.get( otherTeammate.get(0) );
-                else if (foulTemp <= Constants.SAME_POS + 2 * Constants.OTHER_POS) fouler = offenseTeamOnCourt.get( otherTeammate.get(1) );
-                else if (foulTemp <= Constants.SAME_POS + 3 * Constants.OTHER_POS) fouler = offenseTeamOnCourt.get( otherTeammate.get(2) );
-                else fouler = offenseTeamOnCourt.get( otherTeammate.get(3) );
-                Comments.getOffensiveFoul(fouler.getDisplayName(), 2);
+                Player.Position offensePos = offensePlayer.positionType;
+                if (foulTemp <= Constants.SAME_POS + Constants.OTHER_POS) fouler = offenseTeamOnCourt.getOther(offensePos, 0);
+                else if (foulTemp <= Constants.SAME_POS + 2 * Constants.OTHER_POS) fouler = offenseTeamOnCourt.getOther(offensePos, 1);
+                else if (foulTemp <= Constants.SAME_POS + 3 * Constants.OTHER_POS) fouler = offenseTeamOnCourt.getOther(offensePos, 2);
+                else fouler = offenseTeamOnCourt.getOther(offensePos, 3);
+                ctx.events.onOffensiveFoul(fouler, 2);
             }
 
             // challenge the foul
             if (currentQuarter >= Constants.CHALLENGE_START_QUARTER && offenseTeam.canChallenge &&
-                generateRandomNum(random) <= Constants.FOUL_CHALLENGE) {
-                boolean isSuccessful = Comments.getChallengeComment(Constants.getLocalizedTeamName(offenseTeam.name));
+                generateRandomNum(ctx.random) <= Constants.FOUL_CHALLENGE) {
+                boolean isSuccessful = generateRandomNum(ctx.random) <= Constants.CHALLENGE_SUCCESS;
+                ctx.events.onChallenge(offenseTeam, isSuccessful);
                 offenseTeam.canChallenge = false;
                 
                 if (isSuccessful) return FoulResult.NO_FOUL;
@@ -623,8 +548,8 @@ public class Utilities {
 
             fouler.turnover++;
             fouler.foul++;
-            judgeFoulOut(fouler, offenseTeam, offenseTeamOnCourt);
-            foulProtect(fouler, offenseTeam, offenseTeamOnCourt, currentQuarter);
+            judgeFoulOut(ctx, fouler, offenseTeam, offenseTeamOnCourt);
+            foulProtect(ctx, fouler, offenseTeam, offenseTeamOnCourt, currentQuarter);
             return FoulResult.OFFENSIVE_FOUL;
         } else if (poss <= Constants.OFF_FOUL + Constants.DEF_FOUL) {
             Player fouler;
@@ -632,37 +557,35 @@ public class Utilities {
             // high chance to foul on offensePlayer, small chance on teammates
             if (foulTemp <= Constants.SAME_POS) {
                 fouler = defensePlayer;
-                Comments.getDefensiveFoul(fouler.getDisplayName(), 1);
+                ctx.events.onDefensiveFoul(fouler, 1);
             } else {
-                List<String> otherTeammate = new ArrayList<>();
-                for (String pos : defenseTeamOnCourt.keySet()) 
-                    if (pos != defensePlayer.position) otherTeammate.add(pos);
-
-                if (poss <= Constants.SAME_POS + Constants.OTHER_POS) fouler = defenseTeamOnCourt.get( otherTeammate.get(0) );
-                else if (poss <= Constants.SAME_POS + 2 * Constants.OTHER_POS) fouler = defenseTeamOnCourt.get( otherTeammate.get(1) );
-                else if (poss <= Constants.SAME_POS + 3 * Constants.OTHER_POS) fouler = defenseTeamOnCourt.get( otherTeammate.get(2) );
-                else fouler = defenseTeamOnCourt.get( otherTeammate.get(3) );
-                Comments.getDefensiveFoul(fouler.getDisplayName(), 2);
+                Player.Position defensePos = defensePlayer.positionType;
+                if (poss <= Constants.SAME_POS + Constants.OTHER_POS) fouler = defenseTeamOnCourt.getOther(defensePos, 0);
+                else if (poss <= Constants.SAME_POS + 2 * Constants.OTHER_POS) fouler = defenseTeamOnCourt.getOther(defensePos, 1);
+                else if (poss <= Constants.SAME_POS + 3 * Constants.OTHER_POS) fouler = defenseTeamOnCourt.getOther(defensePos, 2);
+                else fouler = defenseTeamOnCourt.getOther(defensePos, 3);
+                ctx.events.onDefensiveFoul(fouler, 2);
             }
 
             // challenge the foul
             if (currentQuarter >= Constants.CHALLENGE_START_QUARTER && defenseTeam.canChallenge &&
-                generateRandomNum(random) <= Constants.FOUL_CHALLENGE) {
-                boolean isSuccessful = Comments.getChallengeComment(Constants.getLocalizedTeamName(defenseTeam.name));
+                generateRandomNum(ctx.random) <= Constants.FOUL_CHALLENGE) {
+                boolean isSuccessful = generateRandomNum(ctx.random) <= Constants.CHALLENGE_SUCCESS;
+                ctx.events.onChallenge(defenseTeam, isSuccessful);
                 defenseTeam.canChallenge = false;
                 
                 if (isSuccessful) return FoulResult.NO_FOUL;
             }
 
             fouler.foul++;
-            judgeFoulOut(fouler, defenseTeam, defenseTeamOnCourt);
-            foulProtect(fouler, defenseTeam, defenseTeamOnCourt, currentQuarter);
+            judgeFoulOut(ctx, fouler, defenseTeam, defenseTeamOnCourt);
+            foulProtect(ctx, fouler, defenseTeam, defenseTeamOnCourt, currentQuarter);
 
             defenseTeam.quarterFoul++;
             if (defenseTeam.quarterFoul >= Constants.BONUS_FOUL_THRESHOLD) {
-                Comments.getReachFoulTimes(Constants.getLocalizedTeamName(offenseTeam.name), Constants.getLocalizedTeamName(defenseTeam.name));
+                ctx.events.onFoulBonus(offenseTeam, defenseTeam);
 
-                makeFreeThrow(random, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt, offenseTeam,
+                makeFreeThrow(ctx, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt, offenseTeam,
                               2, quarterTime, currentQuarter, team1, team2, false);
             }
             return FoulResult.DEFENSIVE_FOUL;
@@ -673,10 +596,10 @@ public class Utilities {
     /**
      * Generates actions when two teams jumping ball before the game starts.
      */
-    public static void jumpBall(Random random, Team team1, Team team2) {
-        Team winTeam = Utilities.generateRandomNum(random) <= Constants.JUMP_BALL_FIFTY_FIFTY ? team1 : team2;
+    public static void jumpBall(SimulationContext ctx, Team team1, Team team2) {
+        Team winTeam = Utilities.generateRandomNum(ctx.random) <= Constants.JUMP_BALL_FIFTY_FIFTY ? team1 : team2;
         winTeam.hasBall = true;
-        Comments.getJumpBallComments(team1, team2, winTeam);
+        ctx.events.onJumpBall(team1, team2, winTeam);
     }
 
     /**
@@ -685,9 +608,9 @@ public class Utilities {
      * @param defensePlayer Defense player
      * @return The player that wins the jumpball 
      */
-    public static String jumpBall(Random random, String offensePlayer, String defensePlayer) {
-        String winPlayer = Utilities.generateRandomNum(random) <= Constants.JUMP_BALL_FIFTY_FIFTY ? offensePlayer : defensePlayer;
-        Comments.getJumpBallComments(offensePlayer, defensePlayer, winPlayer);
+    public static Player jumpBall(SimulationContext ctx, Player offensePlayer, Player defensePlayer) {
+        Player winPlayer = Utilities.generateRandomNum(ctx.random) <= Constants.JUMP_BALL_FIFTY_FIFTY ? offensePlayer : defensePlayer;
+        ctx.events.onHeldBall(offensePlayer, defensePlayer, winPlayer);
         return winPlayer;
     }
 
@@ -698,9 +621,8 @@ public class Utilities {
      * @param team The team making substitution
      * @return The incoming player 
      */
-    public static Player findSubPlayer(Player previousPlayer, Team team) {
+    public static Player findSubPlayer(SimulationContext ctx, Player previousPlayer, Team team) {
         Player currentPlayer = null;
-        Random random = new Random();
 
         if (previousPlayer.rotationType == Player.RotationType.STARTER) {
             if (team.benches.get( previousPlayer.position ).get(0).canOnCourt)
@@ -712,12 +634,12 @@ public class Utilities {
                     if (p.canOnCourt) availableDeepBench.add(p);
                 }
                 if (!availableDeepBench.isEmpty()) {
-                    currentPlayer = availableDeepBench.get(generateRandomNum(random, 0, availableDeepBench.size() - 1));
+                    currentPlayer = availableDeepBench.get(generateRandomNum(ctx.random, 0, availableDeepBench.size() - 1));
                 }
             }
         } else if (previousPlayer.rotationType == Player.RotationType.BENCH) {
-            if (team.starters.get( previousPlayer.position ).canOnCourt)
-                currentPlayer = team.starters.get( previousPlayer.position );
+            if (team.starters.get( previousPlayer.positionType ).canOnCourt)
+                currentPlayer = team.starters.get( previousPlayer.positionType );
 
             if (currentPlayer == null && team.rareBenches.containsKey(previousPlayer.position)) {
                 List<Player> availableDeepBench = new ArrayList<>();
@@ -725,12 +647,12 @@ public class Utilities {
                     if (p.canOnCourt) availableDeepBench.add(p);
                 }
                 if (!availableDeepBench.isEmpty()) {
-                    currentPlayer = availableDeepBench.get(generateRandomNum(random, 0, availableDeepBench.size() - 1));
+                    currentPlayer = availableDeepBench.get(generateRandomNum(ctx.random, 0, availableDeepBench.size() - 1));
                 }
             }
         } else if (previousPlayer.rotationType == Player.RotationType.DEEP_BENCH) {
-            if (team.starters.get( previousPlayer.position ).canOnCourt)
-                currentPlayer = team.starters.get( previousPlayer.position );
+            if (team.starters.get( previousPlayer.positionType ).canOnCourt)
+                currentPlayer = team.starters.get( previousPlayer.positionType );
 
             if (currentPlayer == null && team.benches.containsKey(previousPlayer.position)) {
                 if (team.benches.get( previousPlayer.position ).get(0).canOnCourt)
@@ -747,11 +669,13 @@ public class Utilities {
      * @param garbageFlag Whether rareBenches have been substituted
      * @param teamOnCourt Team players on the court
      */
-    public static void makeSubstitutions(Team team, boolean subBench, boolean garbageFlag, Map<String, Player> teamOnCourt) {
-        Random random = new Random();
+    public static void makeSubstitutions(SimulationContext ctx, Team team, boolean subBench, boolean garbageFlag, Lineup teamOnCourt) {
         
-        for (String pos : team.benches.keySet()) {
-            Player previousPlayer = teamOnCourt.get(pos);
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            String pos = Lineup.POSITIONS[i].name();
+            if (!team.benches.containsKey(pos)) continue;
+
+            Player previousPlayer = teamOnCourt.get(i);
             Player currentPlayer = null;
 
             // subBench True: starter -> bench, False: bench -> starter
@@ -763,7 +687,7 @@ public class Utilities {
                         if (p.canOnCourt) availableDeepBench.add(p);
                     }
                     if (!availableDeepBench.isEmpty()) {
-                        currentPlayer = availableDeepBench.get(generateRandomNum(random, 0, availableDeepBench.size() - 1));
+                        currentPlayer = availableDeepBench.get(generateRandomNum(ctx.random, 0, availableDeepBench.size() - 1));
                     } else {
                         currentPlayer = team.benches.get(pos).get(0);
                     }
@@ -771,11 +695,11 @@ public class Utilities {
                     currentPlayer = team.benches.get(pos).get(0);
                 }
             } else {
-                currentPlayer = findSubPlayer(previousPlayer, team);
+                currentPlayer = findSubPlayer(ctx, previousPlayer, team);
             }
 
-            Comments.getSubstituteComment(currentPlayer.getDisplayName(), previousPlayer.getDisplayName());
-            teamOnCourt.put(pos, currentPlayer);
+            ctx.events.onSubstitution(currentPlayer, previousPlayer);
+            teamOnCourt.put(i, currentPlayer);
             currentPlayer.hasBeenOnCourt = true;
         }
     }
@@ -788,19 +712,18 @@ public class Utilities {
      * @param teamOneOnCourt Team 1's players on the court
      * @param teamTwoOnCourt Team 2's players on the court
      */
-    public static void timeOutSub(Team team1, Team team2, boolean subBench, boolean garbageFlag,
-                                  Map<String, Player> teamOneOnCourt, Map<String, Player> teamTwoOnCourt) {
-        String currentPossess = team1.hasBall ? team1.name : team2.name;
-        Comments.getTimeOutComment(currentPossess);
+    public static void timeOutSub(SimulationContext ctx, Team team1, Team team2, boolean subBench, boolean garbageFlag,
+                                  Lineup teamOneOnCourt, Lineup teamTwoOnCourt) {
+        Team currentPossess = team1.hasBall ? team1 : team2;
+        ctx.events.onTimeout(currentPossess);
         
         // Randomize substitution order to avoid identical playing times
-        Random random = new Random();
-        if (random.nextBoolean()) {
-            makeSubstitutions(team1, subBench, garbageFlag, teamOneOnCourt);
-            makeSubstitutions(team2, subBench, garbageFlag, teamTwoOnCourt);
+        if (ctx.random.nextBoolean()) {
+            makeSubstitutions(ctx, team1, subBench, garbageFlag, teamOneOnCourt);
+            makeSubstitutions(ctx, team2, subBench, garbageFlag, teamTwoOnCourt);
         } else {
-            makeSubstitutions(team2, subBench, garbageFlag, teamTwoOnCourt);
-            makeSubstitutions(team1, subBench, garbageFlag, teamOneOnCourt);
+            makeSubstitutions(ctx, team2, subBench, garbageFlag, teamTwoOnCourt);
+            makeSubstitutions(ctx, team1, subBench, garbageFlag, teamOneOnCourt);
         }
     }
 
@@ -810,43 +733,75 @@ public class Utilities {
      * @param offensePlayer Offense player
      * @return Shot distance
      */
-    public static int getShotDistance(Random random, Player offensePlayer) {
+    public static int getShotDistance(SimulationContext ctx, Player offensePlayer) {
         int distance = 0;
-        int shotChoice = generateRandomNum(random);
+        int shotChoice = generateRandomNum(ctx.random);
         switch (offensePlayer.playerType) {
             case ALL_ROUNDED:
-                distance = generateRandomNum(random, Constants.MIN_CLOSE_SHOT, Constants.MAX_THREE_SHOT);
+                distance = generateRandomNum(ctx.random, Constants.MIN_CLOSE_SHOT, Constants.MAX_THREE_SHOT);
                 break;
             case INSIDER:
-                distance = generateRandomNum(random, Constants.MIN_CLOSE_SHOT, Constants.MAX_CLOSE_SHOT);
+                distance = generateRandomNum(ctx.random, Constants.MIN_CLOSE_SHOT, Constants.MAX_CLOSE_SHOT);
                 break;
             case MID_RANGE:
-                distance = generateRandomNum(random, Constants.MIN_CLOSE_SHOT, Constants.MID_THREE_SHOT);
-                if (distance >= Constants.MIN_MID_SHOT && generateRandomNum(random) <= Constants.TYPE3_PERCENT) 
+                distance = generateRandomNum(ctx.random, Constants.MIN_CLOSE_SHOT, Constants.MID_THREE_SHOT);
+                if (distance >= Constants.MIN_MID_SHOT && generateRandomNum(ctx.random) <= Constants.TYPE3_PERCENT) 
                     distance -= (Constants.MIN_MID_SHOT - Constants.MIN_CLOSE_SHOT);
                 break;
             case INSIDE_OUTSIDE:
                 if (shotChoice <= Constants.TYPE4_CLOSE_SHOT)
-                    distance = generateRandomNum(random, Constants.MIN_CLOSE_SHOT, Constants.MAX_CLOSE_SHOT);
+                    distance = generateRandomNum(ctx.random, Constants.MIN_CLOSE_SHOT, Constants.MAX_CLOSE_SHOT);
                 else if (shotChoice <= Constants.TYPE4_CLOSE_SHOT + Constants.TYPE4_MID_SHOT)
-                    distance = generateRandomNum(random, Constants.MIN_MID_SHOT, Constants.MIN_MID_SHOT);
-                else distance = generateRandomNum(random, Constants.MIN_THREE_SHOT, Constants.MAX_THREE_SHOT);
+                    distance = generateRandomNum(ctx.random, Constants.MIN_MID_SHOT, Constants.MIN_MID_SHOT);
+                else distance = generateRandomNum(ctx.random, Constants.MIN_THREE_SHOT, Constants.MAX_THREE_SHOT);
                 break;
             case OUTSIDER:
                 if (shotChoice <= Constants.TYPE5_CLOSE_SHOT)
-                    distance = generateRandomNum(random, Constants.MIN_CLOSE_SHOT, Constants.MAX_CLOSE_SHOT);
+                    distance = generateRandomNum(ctx.random, Constants.MIN_CLOSE_SHOT, Constants.MAX_CLOSE_SHOT);
                 else if (shotChoice <= Constants.TYPE5_CLOSE_SHOT + Constants.TYPE5_MID_SHOT)
-                    distance = generateRandomNum(random, Constants.MIN_MID_SHOT, Constants.MIN_MID_SHOT);
-                else distance = generateRandomNum(random, Constants.MIN_THREE_SHOT, Constants.MAX_THREE_SHOT);
+                    distance = generateRandomNum(ctx.random, Constants.MIN_MID_SHOT, Constants.MIN_MID_SHOT);
+                else distance = generateRandomNum(ctx.random, Constants.MIN_THREE_SHOT, Constants.MAX_THREE_SHOT);
                 break;
             default:
                 break;
         }
-        if (distance >= Constants.MIN_DIST_CURVE && generateRandomNum(random) <= Constants.DIST_CURVE_PERCENT)
+        if (distance >= Constants.MIN_DIST_CURVE && generateRandomNum(ctx.random) <= Constants.DIST_CURVE_PERCENT)
             distance -= Constants.DIST_CURVE;
         return distance;
     }
 
+    /**
+     * Choose the shot type (layup, dunk or jump shot) by player's dunker type and shot distance.
+     * The commentary renders its sentence from the type, so the simulation does not depend on the language.
+     *
+     * @param offensePlayer Offense player
+     * @param distance Shot distance
+     * @return Shot type
+     */
+    public static Player.ShotType chooseShotType(SimulationContext ctx, Player offensePlayer, int distance) {
+        int temp = generateRandomNum(ctx.random);
+        if (distance > Constants.MAX_CLOSE_SHOT) return Player.ShotType.JUMPER;
+
+        int layup, dunk;
+        switch (offensePlayer.dunkerType) {
+            case RARELY_DUNK:
+                layup = Constants.TYPE_1_LAYUP;
+                dunk = Constants.TYPE_1_DUNK;
+                break;
+            case NORMAL:
+                layup = Constants.TYPE_2_LAYUP;
+                dunk = Constants.TYPE_2_DUNK;
+                break;
+            default:
+                layup = Constants.TYPE_3_LAYUP;
+                dunk = Constants.TYPE_3_DUNK;
+                break;
+        }
+        if (temp <= layup) return Player.ShotType.LAYUP;
+        if (temp <= layup + dunk) return Player.ShotType.DUNK;
+        return Player.ShotType.JUMPER;
+    }
+
     /**
      * Calculate shot goal percentage in double.
      * 
@@ -856,11 +811,11 @@ public class Utilities {
      * @param offenseTeamOnCourt Current offense players on the court
      * @param currentQuarter Current quarter number
      * @param quarterTime Times left in current quarter
-     * @param movement Shot choice string
+     * @param shotType Shot type
      * @return Shot goal percentage
      */
-    public static double calculatePercentage(Random random, int distance, Player offensePlayer, Player defensePlayer,
-                                             Map<String, Player> offenseTeamOnCourt, String movement, int quarterTime,
+    public static double calculatePercentage(SimulationContext ctx, int distance, Player offensePlayer, Player defensePlayer,
+                                             Lineup offenseTeamOnCourt, Player.ShotType shotType, int quarterTime,
                                              int currentQuarter, Team team1, Team team2) {
         double percentage = 0.0;
 
@@ -871,20 +826,21 @@ public class Utilities {
                           + Constants.INIT_THREE_SHOT_INTCP;
 
         // based on shot choice, adjust percentage
-        if (movement.contains(LocalizedStrings.get("commentary.shot.dunk_marker"))) percentage *= Constants.DUNK_SCALE;
-        else if (movement.contains(LocalizedStrings.get("commentary.shot.layup_marker"))) percentage += Constants.SHOT_COFF * offensePlayer.layupRating;
+        Player.ShotZone zone = Player.ShotZone.of(distance);
+        if (shotType == Player.ShotType.DUNK) percentage *= Constants.DUNK_SCALE;
+        else if (shotType == Player.ShotType.LAYUP) percentage += Constants.SHOT_COFF * offensePlayer.layupRating;
         else {
-            if (distance <= Constants.MAX_CLOSE_SHOT) percentage += Constants.SHOT_COFF * (offensePlayer.insideRating - Constants.OFFENSE_BASE);
-            else if (distance <= Constants.MAX_MID_SHOT) percentage += Constants.SHOT_COFF * (offensePlayer.midRating - Constants.OFFENSE_BASE);
+            if (zone == Player.ShotZone.CLOSE) percentage += Constants.SHOT_COFF * (offensePlayer.insideRating - Constants.OFFENSE_BASE);
+            else if (zone == Player.ShotZone.MID_RANGE) percentage += Constants.SHOT_COFF * (offensePlayer.midRating - Constants.OFFENSE_BASE);
             else percentage += Constants.SHOT_COFF * (offensePlayer.threeRating - Constants.OFFENSE_BASE);
         }
 
         // based on defender, adjust percentage
-        if (distance <= Constants.MAX_CLOSE_SHOT) percentage -= Constants.DEFENSE_COFF * (defensePlayer.interiorDefense - Constants.DEFENSE_BASE);
+        if (zone == Player.ShotZone.CLOSE) percentage -= Constants.DEFENSE_COFF * (defensePlayer.interiorDefense - Constants.DEFENSE_BASE);
         else percentage -= Constants.DEFENSE_COFF * (defensePlayer.perimeterDefense - Constants.DEFENSE_BASE);
 
         // check defense density
-        int temp = generateRandomNum(random);
+        int temp = generateRandomNum(ctx.random);
         if (temp <= Constants.DEFENSE_EASY) percentage += Constants.DEFENSE_BUFF;
         else if (temp <= Constants.DEFENSE_EASY + Constants.DEFENSE_HARD) percentage -= Constants.DEFENSE_BUFF;
 
@@ -921,8 +877,9 @@ public class Utilities {
 
         // Elite playmaker bonus - count 90+ astRating players on court
         int elitePlaymakerCount = 0;
-        for (Player p : offenseTeamOnCourt.values()) {
-            if (p.astRating >= Constants.ELITE_PLAYMAKER_THRESHOLD) {
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player p = offenseTeamOnCourt.get(i);
+            if (p != null && p.astRating >= Constants.ELITE_PLAYMAKER_THRESHOLD) {
                 elitePlaymakerCount++;
             }
         }
@@ -947,19 +904,20 @@ public class Utilities {
      * @param defenseTeamOnCourt Current defense players on the court
      * @param currentQuarter Current quarter number
      * @param quarterTime Times left in current quarter
-     * @param movement Shot choice string
+     * @param shotType Shot type
      * @param percentage Shot goal percentage
      * @return ShotResult indicating the outcome
      */
-    public static ShotResult judgeMakeShot(Random random, int distance, Player offensePlayer, Player defensePlayer, Team offenseTeam, 
-                                    Team defenseTeam, Map<String, Player> offenseTeamOnCourt, Map<String, Player> defenseTeamOnCourt,
-                                    double percentage, int quarterTime, int currentQuarter, Team team1, Team team2, String movement) {
-        int judgeShot = generateRandomNum(random, 1, 10000);
+    public static ShotResult judgeMakeShot(SimulationContext ctx, int distance, Player offensePlayer, Player defensePlayer, Team offenseTeam, 
+                                    Team defenseTeam, Lineup offenseTeamOnCourt, Lineup defenseTeamOnCourt,
+                                    double percentage, int quarterTime, int currentQuarter, Team team1, Team team2, Player.ShotType shotType) {
+        int judgeShot = generateRandomNum(ctx.random, 1, 10000);
 
         // make the shot
         if (judgeShot < (int)(100 * percentage)) {
             offensePlayer.shotMade++;
             offensePlayer.shotAttempted++;
+            offenseTeam.substitutions.onShot(offensePlayer);
 
             if (distance >= Constants.MIN_THREE_SHOT) {
                 offensePlayer.threeAttempted++;
@@ -972,34 +930,28 @@ public class Utilities {
                 offenseTeam.totalScore += 2;
             }
 
-            Comments.getMakeShotsComment(offensePlayer.getDisplayName(), defensePlayer.getDisplayName(), distance, movement);
-            if (generateRandomNum(random) <= Constants.STATUS_COMMENT_PERCENT) Comments.getStatusComment(offensePlayer, true);
-            Comments.getTimeAndScore(quarterTime, currentQuarter, team1, team2);
+            ctx.events.onMadeShot(offensePlayer, defensePlayer, distance, shotType);
+            ctx.events.onScoreUpdate(quarterTime, currentQuarter, team1, team2);
 
             // chance to give starters extra live comments in garbage time
             if (currentQuarter >= 4 && Math.abs(team1.totalScore - team2.totalScore) >= Constants.DIFF2) {
-                int temp = generateRandomNum(random);
-                if (temp <= Constants.EXTRA_COMMENT) {
-                    Comments.getStartersComment(team1);
-                } else if (temp <= 2 * Constants.EXTRA_COMMENT) {
-                    Comments.getStartersComment(team2);
-                }
+                ctx.events.onGarbageTime(team1, team2);
             }
 
             // find the teammate with the highest astRating
             int highestAstRating = 0;
             Player highestPlayer = null;
-            for (String pos : offenseTeamOnCourt.keySet()) {
-                if (pos == offensePlayer.position) continue;
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                Player teammate = offenseTeamOnCourt.get(i);
+                if (teammate == null || teammate == offensePlayer) continue;
 
-                int currentAst = offenseTeamOnCourt.get(pos).astRating;
-                if (highestAstRating < currentAst) {
-                    highestAstRating = currentAst;
-                    highestPlayer = offenseTeamOnCourt.get(pos);
+                if (highestAstRating < teammate.astRating) {
+                    highestAstRating = teammate.astRating;
+                    highestPlayer = teammate;
                 }
             }
 
-            int assistAssign = generateRandomNum(random);
+            int assistAssign = generateRandomNum(ctx.random);
             if (assistAssign <= Constants.HIGH_BOTH_RATING) {
                 // high rating and high astRating, or highest astRating in the team
                 if ((highestPlayer.rating >= Constants.HIGH_BOTH_RATING_THLD && highestPlayer.astRating >= Constants.HIGH_BOTH_RATING_THLD) ||
@@ -1007,28 +959,28 @@ public class Utilities {
                     highestPlayer.assist += 1;
                 }
             } else {
-                int astTemp = generateRandomNum(random);
+                int astTemp = generateRandomNum(ctx.random);
                 if ((offensePlayer.isStar && astTemp <= Constants.STAR_PLAYER_AST) ||
                     (!offensePlayer.isStar && astTemp <= Constants.NON_STAR_PLAYER_AST)) {
                     Player assister;
                     while (true) {
-                        assister = choosePlayerBasedOnRating(random, offenseTeamOnCourt, "ast");
-                        if (assister.position != offensePlayer.position) break;
+                        assister = choosePlayerBasedOnRating(ctx, offenseTeamOnCourt, SelectionCriterion.AST);
+                        if (assister != offensePlayer) break;
                     }
                     assister.assist += 1;
                 }
             }
 
             // judge free throw chance
-            int andOneTemp = generateRandomNum(random, 1, 10000);
+            int andOneTemp = generateRandomNum(ctx.random, 1, 10000);
             int drawFoulPercent = calculateFoulPercent(distance, offensePlayer, defensePlayer, true);
 
             if (andOneTemp <= drawFoulPercent) {
                 defensePlayer.foul++;
-                Comments.getAndOneComment(offensePlayer.getDisplayName());
-                judgeFoulOut(defensePlayer, defenseTeam, defenseTeamOnCourt);
-                foulProtect(defensePlayer, defenseTeam, defenseTeamOnCourt, currentQuarter);
-                FreeThrowResult andOneResult = makeFreeThrow(random, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt, offenseTeam, 1,
+                ctx.events.onAndOne(offensePlayer);
+                judgeFoulOut(ctx, defensePlayer, defenseTeam, defenseTeamOnCourt);
+                foulProtect(ctx, defensePlayer, defenseTeam, defenseTeamOnCourt, currentQuarter);
+                FreeThrowResult andOneResult = makeFreeThrow(ctx, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt, offenseTeam, 1,
                                                  quarterTime, currentQuarter, team1, team2, false);
                 // Convert FreeThrowResult to ShotResult
                 return convertFreeThrowToShotResult(andOneResult);
@@ -1038,29 +990,30 @@ public class Utilities {
 
         // miss the shot
         else {
-            int foulTemp = generateRandomNum(random, 1, 10000);
+            int foulTemp = generateRandomNum(ctx.random, 1, 10000);
             int drawFoulPercent = calculateFoulPercent(distance, offensePlayer, defensePlayer, false);
 
             // get a foul
             if (foulTemp <= drawFoulPercent) {
                 // flagrant foul
-                if (generateRandomNum(random) <= Constants.FLAG_FOUL) {
+                if (generateRandomNum(ctx.random) <= Constants.FLAG_FOUL) {
                     defensePlayer.flagFoul++;
-                    Comments.getFlagFoulComment(offensePlayer.getDisplayName(), defensePlayer.getDisplayName());
-                    judgeFoulOut(defensePlayer, defenseTeam, defenseTeamOnCourt);
+                    ctx.events.onFlagrantFoul(offensePlayer, defensePlayer);
+                    judgeFoulOut(ctx, defensePlayer, defenseTeam, defenseTeamOnCourt);
 
                     // two free throws, one shot
-                    FreeThrowResult flagrantResult = makeFreeThrow(random, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt,
+                    FreeThrowResult flagrantResult = makeFreeThrow(ctx, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt,
                                          offenseTeam, 2, quarterTime, currentQuarter, team1, team2, true);
                     return convertFreeThrowToShotResult(flagrantResult);
                 }
 
-                Comments.getFoulComment(offensePlayer.getDisplayName(), defensePlayer.getDisplayName());
+                ctx.events.onShootingFoul(offensePlayer, defensePlayer);
 
                 // challenge the foul
                 if (currentQuarter >= Constants.CHALLENGE_START_QUARTER && defenseTeam.canChallenge &&
-                    generateRandomNum(random) <= Constants.FOUL_CHALLENGE) {
-                    boolean isSuccessful = Comments.getChallengeComment(Constants.getLocalizedTeamName(defenseTeam.name));
+                    generateRandomNum(ctx.random) <= Constants.FOUL_CHALLENGE) {
+                    boolean isSuccessful = generateRandomNum(ctx.random) <= Constants.CHALLENGE_SUCCESS;
+                    ctx.events.onChallenge(defenseTeam, isSuccessful);
                     defenseTeam.canChallenge = false;
                     
                     if (isSuccessful) return ShotResult.DEFENSIVE_REBOUND;
@@ -1069,14 +1022,14 @@ public class Utilities {
                 defensePlayer.foul++;
                 defenseTeam.quarterFoul++;
                 
-                judgeFoulOut(defensePlayer, defenseTeam, defenseTeamOnCourt);
-                foulProtect(defensePlayer, defenseTeam, defenseTeamOnCourt, currentQuarter);
+                judgeFoulOut(ctx, defensePlayer, defenseTeam, defenseTeamOnCourt);
+                foulProtect(ctx, defensePlayer, defenseTeam, defenseTeamOnCourt, currentQuarter);
 
                 FreeThrowResult freeThrowResult;
                 if (distance <= Constants.MAX_MID_SHOT) 
-                    freeThrowResult = makeFreeThrow(random, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt,
+                    freeThrowResult = makeFreeThrow(ctx, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt,
                                                     offenseTeam, 2, quarterTime, currentQuarter, team1, team2, false);
-                else freeThrowResult = makeFreeThrow(random, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt,
+                else freeThrowResult = makeFreeThrow(ctx, offensePlayer, offenseTeamOnCourt, defenseTeamOnCourt,
                                                      offenseTeam, 3, quarterTime, currentQuarter, team1, team2, false);
 
                 return convertFreeThrowToShotResult(freeThrowResult);
@@ -1084,16 +1037,16 @@ public class Utilities {
 
             offensePlayer.shotAttempted++;
             if (distance >= Constants.THREE_POINT_LINE_DISTANCE) offensePlayer.threeAttempted++;
-            Comments.getMissShotsComment(movement, offensePlayer.getDisplayName());
-            if (generateRandomNum(random) <= Constants.STATUS_COMMENT_PERCENT) Comments.getStatusComment(offensePlayer, false);
+            offenseTeam.substitutions.onShot(offensePlayer);
+            ctx.events.onMissedShot(offensePlayer, shotType);
 
             // shot out of bound
-            if (generateRandomNum(random) <= Constants.SHOT_OUT_OF_BOUND) {
-                Comments.shotOutOfBound(offensePlayer.getDisplayName());
+            if (generateRandomNum(ctx.random) <= Constants.SHOT_OUT_OF_BOUND) {
+                ctx.events.onShotOutOfBounds(offensePlayer);
                 return ShotResult.OUT_OF_BOUNDS;
             }
 
-            return judgeRebound(random, offenseTeamOnCourt, defenseTeamOnCourt) ? ShotResult.OFFENSIVE_REBOUND : ShotResult.DEFENSIVE_REBOUND;
+            return judgeRebound(ctx, offenseTeamOnCourt, defenseTeamOnCourt) ? ShotResult.OFFENSIVE_REBOUND : ShotResult.DEFENSIVE_REBOUND;
         }
     }
     
@@ -1159,34 +1112,34 @@ public class Utilities {
      * @param isFlagFoul Whether current foul is flagrant foul or not
      * @return FreeThrowResult indicating the outcome
      */
-    public static FreeThrowResult makeFreeThrow(Random random, Player player, Map<String, Player> offenseTeamOnCourt, Map<String, Player> defenseTeamOnCourt,
+    public static FreeThrowResult makeFreeThrow(SimulationContext ctx, Player player, Lineup offenseTeamOnCourt, Lineup defenseTeamOnCourt,
                                     Team offenseTeam, int times, int quarterTime, int currentQuarter, Team team1, Team team2, boolean isFlagFoul) {
         int timesLeft = times;
         boolean onlyOneShot = timesLeft == 1 ? true : false;
         int count = 0;
 
-        Comments.getFreeThrowPrepareComment(player.getDisplayName());
+        ctx.events.onFreeThrowPrepare(player);
 
         while (timesLeft > 0) {
             timesLeft--;
             count++;
 
-            if (generateRandomNum(random) <= player.freeThrowPercent) {
+            if (generateRandomNum(ctx.random) <= player.freeThrowPercent) {
                 player.freeThrowAttempted++;
                 player.freeThrowMade++;
                 player.score++;
                 offenseTeam.totalScore++;
-                Comments.getMakeFreeThrowComment(count, onlyOneShot);
-                Comments.getTimeAndScore(quarterTime, currentQuarter, team1, team2);
+                ctx.events.onFreeThrow(player, count, onlyOneShot, true);
+                ctx.events.onScoreUpdate(quarterTime, currentQuarter, team1, team2);
 
                 if (timesLeft == 0) return isFlagFoul ? FreeThrowResult.OFFENSIVE_REBOUND : FreeThrowResult.MADE_LAST_FREE_THROW;
             } else {
                 player.freeThrowAttempted++;
-                Comments.getMissFreeThrowComment(count, onlyOneShot);
+                ctx.events.onFreeThrow(player, count, onlyOneShot, false);
 
                 if (timesLeft == 0) 
                     return isFlagFoul ? FreeThrowResult.OFFENSIVE_REBOUND
-                                      : judgeRebound(random, offenseTeamOnCourt, defenseTeamOnCourt) ? FreeThrowResult.OFFENSIVE_REBOUND : FreeThrowResult.DEFENSIVE_REBOUND;
+                                      : judgeRebound(ctx, offenseTeamOnCourt, defenseTeamOnCourt) ? FreeThrowResult.OFFENSIVE_REBOUND : FreeThrowResult.DEFENSIVE_REBOUND;
             }
         }
         return FreeThrowResult.ERROR;
@@ -1199,16 +1152,19 @@ public class Utilities {
      * @param teamOnCourt Current team players on the court
      * @return true - A player gets injured, false - No player gets injured
      */
-    public static boolean handleInjury(Random random, Map<String, Player> teamOnCourt, Team team) {
-        for (String pos : teamOnCourt.keySet()) {
-            if (generateRandomNum(random, 1, Constants.INJURY_PROBABILITY_DIVISOR) <= Constants.INJURY_BASE_PROBABILITY - teamOnCourt.get(pos).durability) {
-                Player previousPlayer = teamOnCourt.get(pos);
-                Player currentPlayer = findSubPlayer(previousPlayer, team);
+    public static boolean handleInjury(SimulationContext ctx, Lineup teamOnCourt, Team team) {
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player previousPlayer = teamOnCourt.get(i);
+            if (previousPlayer == null) continue;
+
+            if (generateRandomNum(ctx.random, 1, Constants.INJURY_PROBABILITY_DIVISOR) <= Constants.INJURY_BASE_PROBABILITY - previousPlayer.durability) {
+                Player currentPlayer = findSubPlayer(ctx, previousPlayer, team);
                 
                 previousPlayer.canOnCourt = false;
-                teamOnCourt.put(previousPlayer.position, currentPlayer);
-                Comments.getInjuryComment(previousPlayer.getDisplayName());
-                Comments.getSubstituteComment(currentPlayer.getDisplayName(), previousPlayer.getDisplayName());
+                teamOnCourt.put(previousPlayer.positionType, currentPlayer);
+                team.substitutions.onFoulOrInjury();
+                ctx.events.onInjury(previousPlayer);
+                ctx.events.onSubstitution(currentPlayer, previousPlayer);
                 return true;
             }
         }
@@ -1224,9 +1180,9 @@ public class Utilities {
      * @param defenseTeamOnCourt Current defense players on the court
      * @return true - A player gets injured, false - No player gets injured
      */
-    public static boolean judgeInjury(Random random, Map<String, Player> offenseTeamOnCourt, Map<String, Player> defenseTeamOnCourt,
+    public static boolean judgeInjury(SimulationContext ctx, Lineup offenseTeamOnCourt, Lineup defenseTeamOnCourt,
                                       Team offenseTeam, Team defenseTeam) {
-        return handleInjury(random, offenseTeamOnCourt, offenseTeam) || handleInjury(random, defenseTeamOnCourt, defenseTeam);
+        return handleInjury(ctx, offenseTeamOnCourt, offenseTeam) || handleInjury(ctx, defenseTeamOnCourt, defenseTeam);
     }
 
     /**
@@ -1242,6 +1198,31 @@ public class Utilities {
         team2Scores.add(totalScore2);
     }
     
+    /**
+     * Run the intelligent substitution system for a team, only when the team's scheduler says a substitution could happen.
+     * 
+     * @param team Team to check for substitutions
+     * @param teamOnCourt Current players on court
+     * @param currentQuarter Current quarter (1-4 for regulation, 5+ for OT)
+     * @param quarterTime Seconds remaining in quarter
+     * @param gameTime Total seconds elapsed in game (for fatigue tracking)
+     * @param team1 Team 1 reference (for score differential)
+     * @param team2 Team 2 reference (for score differential)
+     * @param isGarbageTime Whether the game is in garbage time
+     * @return true if substitutions were made, false otherwise
+     */
+    public static boolean scheduleSubstitutions(SimulationContext ctx, Team team, Lineup teamOnCourt,
+                                                int currentQuarter, int quarterTime, int gameTime,
+                                                Team team1, Team team2, boolean isGarbageTime) {
+        int phase = SubstitutionScheduler.phaseOf(currentQuarter, quarterTime, Math.abs(team1.totalScore - team2.totalScore), isGarbageTime);
+        if (!team.substitutions.isDue(teamOnCourt, phase, gameTime)) return false;
+
+        boolean madeSubs = checkIntelligentSubstitutions(ctx, team, teamOnCourt, currentQuarter, quarterTime, gameTime,
+                                                         team1, team2, isGarbageTime);
+        team.substitutions.reschedule(team, teamOnCourt, phase, gameTime);
+        return madeSubs;
+    }
+
     /**
      * Intelligent substitution system that evaluates multiple factors
      * 
@@ -1255,12 +1236,12 @@ public class Utilities {
      * @param isGarbageTime Whether the game is in garbage time
      * @return true if substitutions were made, false otherwise
      */
-    public static boolean checkIntelligentSubstitutions(Random random, Team team, Map<String, Player> teamOnCourt,
+    public static boolean checkIntelligentSubstitutions(SimulationContext ctx, Team team, Lineup teamOnCourt,
                                                        int currentQuarter, int quarterTime, int gameTime,
                                                        Team team1, Team team2, boolean isGarbageTime) {
         // Garbage time: prioritize giving deep bench players minutes
         if (isGarbageTime) {
-            return checkGarbageTimeSubstitutions(random, team, teamOnCourt);
+            return checkGarbageTimeSubstitutions(ctx, team, teamOnCourt);
         }
         
         // Q1 first 6 minutes: Keep all starters in (unless fouled out or injured)
@@ -1270,7 +1251,7 @@ public class Utilities {
         
         // Overtime: only play starters unless injured/fouled out
         if (currentQuarter >= Constants.OVERTIME_QUARTER) {
-            return checkOvertimeSubstitutions(team, teamOnCourt);
+            return checkOvertimeSubstitutions(ctx, team, teamOnCourt);
         }
         
         boolean madeSubs = false;
@@ -1280,17 +1261,17 @@ public class Utilities {
         
         // Clutch time: keep best players in
         if (isClutchTime) {
-            return ensureStartersInClutch(team, teamOnCourt);
+            return ensureStartersInClutch(ctx, team, teamOnCourt);
         }
         
         // Proactively check if rested starters with safe foul situation can return
         // This ensures foul-protected starters don't sit too long
-        if (generateRandomNum(random, 1, 100) < Constants.SUB_CHECK_PROBABILITY) {
-            for (String pos : team.starters.keySet()) {
-                Player starter = team.starters.get(pos);
-                Player currentPlayer = teamOnCourt.get(pos);
+        if (generateRandomNum(ctx.random, 1, 100) < Constants.SUB_CHECK_PROBABILITY) {
+            for (int i = 0; i < Lineup.SIZE; i++) {
+                Player starter = team.starters.get(i);
+                Player currentPlayer = teamOnCourt.get(i);
                 
-                if (starter != null && starter.canOnCourt && !starter.isOnCourt && 
+                if (starter != null && currentPlayer != null && starter.canOnCourt && !starter.isOnCourt && 
                     currentPlayer.rotationType != Player.RotationType.STARTER) {
                     
                     int restTime = gameTime - starter.lastSubbedOutTime;
@@ -1298,17 +1279,17 @@ public class Utilities {
                     int targetMinutes = getTargetMinutes(starter);
                     
                     // If starter has rested enough, is under target minutes, AND foul situation is safe
-                    if (restTime >= minRest && starter.secondsPlayed < targetMinutes && isFoulSituationSafe(starter, currentQuarter)) {
-                        teamOnCourt.put(pos, starter);
+                    if (restTime >= minRest && starter.getSecondsPlayed(gameTime) < targetMinutes && isFoulSituationSafe(starter, currentQuarter)) {
+                        teamOnCourt.put(i, starter);
                         currentPlayer.isOnCourt = false;
                         currentPlayer.lastSubbedOutTime = gameTime;
-                        currentPlayer.currentStintSeconds = 0;
+                        currentPlayer.resetStint(gameTime);
                         
                         starter.isOnCourt = true;
                         starter.hasBeenOnCourt = true;
-                        starter.currentStintSeconds = 0;
+                        starter.resetStint(gameTime);
                         
-                        Comments.getSubstituteComment(starter.getDisplayName(), currentPlayer.getDisplayName());
+                        ctx.events.onSubstitution(starter, currentPlayer);
                         return true; // Successfully brought back a starter
                     }
                 }
@@ -1317,16 +1298,17 @@ public class Utilities {
         
         // Random chance to check for substitutions
         // This spreads out substitutions naturally instead of clustering them
-        if (generateRandomNum(random, 1, 100) >= Constants.SUB_DECISION_PROBABILITY) {
+        if (generateRandomNum(ctx.random, 1, 100) >= Constants.SUB_DECISION_PROBABILITY) {
             return false; // Skip this substitution check
         }
         
         // Find ONE player who most needs to be subbed
-        String posToSub = null;
+        int slotToSub = -1;
         int highestPriority = 0;
         
-        for (String pos : teamOnCourt.keySet()) {
-            Player currentPlayer = teamOnCourt.get(pos);
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player currentPlayer = teamOnCourt.get(i);
+            if (currentPlayer == null) continue;
             int priority = 0;
             
             // Critical: foul trouble (highest priority)
@@ -1334,11 +1316,11 @@ public class Utilities {
                 priority = Constants.FOUL_TROUBLE_PRIORITY;
             }
             // High: fatigue
-            else if (shouldSubForFatigue(currentPlayer, isCloseGame)) {
-                priority = Constants.FATIGUE_BASE_PRIORITY + (int)(currentPlayer.currentStintSeconds / Constants.FATIGUE_SECONDS_TO_PRIORITY); // More tired = higher priority
+            else if (shouldSubForFatigue(currentPlayer, isCloseGame, gameTime)) {
+                priority = Constants.FATIGUE_BASE_PRIORITY + (int)(currentPlayer.getStintSeconds(gameTime) / Constants.FATIGUE_SECONDS_TO_PRIORITY); // More tired = higher priority
             }
             // High: minutes cap - dynamic based on durability for starters
-            else if (currentPlayer.secondsPlayed >= getTargetMinutes(currentPlayer)) {
+            else if (currentPlayer.getSecondsPlayed(gameTime) >= getTargetMinutes(currentPlayer)) {
                 priority = Constants.MINUTES_CAP_PRIORITY;
             }
             // Medium: performance (cold shooter - only if not close game)
@@ -1348,26 +1330,26 @@ public class Utilities {
             
             if (priority > highestPriority) {
                 highestPriority = priority;
-                posToSub = pos;
+                slotToSub = i;
             }
         }
         
         // Make ONE substitution if needed
-        if (posToSub != null && highestPriority > 0) {
-            Player currentPlayer = teamOnCourt.get(posToSub);
-            Player newPlayer = findBestSubstitute(team, currentPlayer, gameTime, isCloseGame, currentQuarter);
+        if (slotToSub >= 0 && highestPriority > 0) {
+            Player currentPlayer = teamOnCourt.get(slotToSub);
+            Player newPlayer = findBestSubstitute(ctx, team, currentPlayer, gameTime, isCloseGame, currentQuarter);
             
             if (newPlayer != null && newPlayer != currentPlayer) {
-                teamOnCourt.put(posToSub, newPlayer);
+                teamOnCourt.put(slotToSub, newPlayer);
                 currentPlayer.isOnCourt = false;
                 currentPlayer.lastSubbedOutTime = gameTime;
-                currentPlayer.currentStintSeconds = 0;
+                currentPlayer.resetStint(gameTime);
                 
                 newPlayer.isOnCourt = true;
                 newPlayer.hasBeenOnCourt = true;
-                newPlayer.currentStintSeconds = 0;
+                newPlayer.resetStint(gameTime);
                 
-                Comments.getSubstituteComment(newPlayer.getDisplayName(), currentPlayer.getDisplayName());
+                ctx.events.onSubstitution(newPlayer, currentPlayer);
                 madeSubs = true;
             }
         }
@@ -1378,7 +1360,7 @@ public class Utilities {
     /**
      * Check if player should be subbed due to foul trouble
      */
-    private static boolean shouldSubForFoulTrouble(Player player, int currentQuarter) {
+    public static boolean shouldSubForFoulTrouble(Player player, int currentQuarter) {
         if (currentQuarter == Constants.QUARTER_1 && player.foul >= Constants.QUARTER1_PROTECT) return true;
         if (currentQuarter == Constants.QUARTER_2 && player.foul >= Constants.QUARTER2_PROTECT) return true;
         if (currentQuarter >= Constants.QUARTER_3 && player.foul >= Constants.QUARTER3_PROTECT) return true;
@@ -1389,7 +1371,7 @@ public class Utilities {
      * Check if player's foul situation is safe for the current quarter
      * (opposite of shouldSubForFoulTrouble - checks if it's safe to bring them back)
      */
-    private static boolean isFoulSituationSafe(Player player, int currentQuarter) {
+    public static boolean isFoulSituationSafe(Player player, int currentQuarter) {
         // In Q1, safe if less than 2 fouls
         if (currentQuarter == Constants.QUARTER_1) return player.foul < Constants.QUARTER1_PROTECT;
         // In Q2, safe if less than 4 fouls (player with 2-3 fouls can come back)
@@ -1405,7 +1387,7 @@ public class Utilities {
      * @param player The player to calculate target minutes for
      * @return Target minutes in seconds
      */
-    private static int getTargetMinutes(Player player) {
+    public static int getTargetMinutes(Player player) {
         if (player.rotationType != Player.RotationType.STARTER) {
             return Constants.NON_STARTER_MAX_MINUTES; // Bench players use default high limit
         }
@@ -1444,15 +1426,15 @@ public class Utilities {
     /**
      * Check if player should be subbed due to fatigue
      */
-    private static boolean shouldSubForFatigue(Player player, boolean isCloseGame) {
+    private static boolean shouldSubForFatigue(Player player, boolean isCloseGame, int gameTime) {
         // Starters: rest after stints (to control total minutes)
         if (player.rotationType == Player.RotationType.STARTER) {
             int maxStint = isCloseGame ? Constants.MAX_STARTER_STINT_CLOSE_GAME : Constants.MAX_STARTER_STINT_NORMAL_GAME;
-            return player.currentStintSeconds >= maxStint;
+            return player.getStintSeconds(gameTime) >= maxStint;
         }
         // Bench: rest after 5 minute stints
         else if (player.rotationType == Player.RotationType.BENCH) {
-            return player.currentStintSeconds >= Constants.MAX_BENCH_STINT;
+            return player.getStintSeconds(gameTime) >= Constants.MAX_BENCH_STINT;
         }
         return false;
     }
@@ -1460,7 +1442,7 @@ public class Utilities {
     /**
      * Check if player should be subbed due to poor performance (cold shooting)
      */
-    private static boolean shouldSubForPerformance(Player player) {
+    public static boolean shouldSubForPerformance(Player player) {
         // Only sub if player has taken enough shots and is shooting poorly
         if (player.shotAttempted >= Constants.MIN_SHOTS_FOR_HOT) {
             double shotPct = (double) player.shotMade / player.shotAttempted;
@@ -1475,19 +1457,19 @@ public class Utilities {
     /**
      * Find best available substitute for a player
      */
-    private static Player findBestSubstitute(Team team, Player currentPlayer, int gameTime, boolean isCloseGame, int currentQuarter) {
+    private static Player findBestSubstitute(SimulationContext ctx, Team team, Player currentPlayer, int gameTime, boolean isCloseGame, int currentQuarter) {
         String pos = currentPlayer.position;
         Player.RotationType currentRotation = currentPlayer.rotationType;
         
         // Priority 1: Bring back starters if they've rested enough AND foul situation is safe
         if (currentRotation == Player.RotationType.BENCH || currentRotation == Player.RotationType.DEEP_BENCH) {
-            Player starter = team.starters.get(pos);
+            Player starter = team.starters.get(currentPlayer.positionType);
             if (starter != null && starter.canOnCourt && !starter.isOnCourt) {
                 int restTime = gameTime - starter.lastSubbedOutTime;
                 int minRest = isCloseGame ? 60 : Constants.MIN_REST_TIME;  // Shorter rest in close games
                 
                 // Check if starter has rested enough, is under minutes cap, AND foul situation is safe
-                if (restTime >= minRest && starter.secondsPlayed < 2340 && isFoulSituationSafe(starter, currentQuarter)) {
+                if (restTime >= minRest && starter.getSecondsPlayed(gameTime) < 2340 && isFoulSituationSafe(starter, currentQuarter)) {
                     return starter;
                 }
             }
@@ -1500,7 +1482,7 @@ public class Utilities {
                     if (benchPlayer.canOnCourt && !benchPlayer.isOnCourt) {
                         // Check if bench player hasn't played too much
                         int targetMinutes = Constants.BENCH_TARGET_MINUTES;
-                        if (benchPlayer.secondsPlayed < targetMinutes + Constants.BENCH_MINUTES_BUFFER) {  // +5 min buffer
+                        if (benchPlayer.getSecondsPlayed(gameTime) < targetMinutes + Constants.BENCH_MINUTES_BUFFER) {  // +5 min buffer
                             return benchPlayer;
                         }
                     }
@@ -1519,8 +1501,7 @@ public class Utilities {
                     }
                 }
                 if (!availableDeepBench.isEmpty()) {
-                    Random random = new Random();
-                    return availableDeepBench.get(generateRandomNum(random, 0, availableDeepBench.size() - 1));
+                    return availableDeepBench.get(generateRandomNum(ctx.random, 0, availableDeepBench.size() - 1));
                 }
             }
         }
@@ -1532,20 +1513,20 @@ public class Utilities {
     /**
      * Ensure starters are in during clutch time
      */
-    private static boolean ensureStartersInClutch(Team team, Map<String, Player> teamOnCourt) {
+    private static boolean ensureStartersInClutch(SimulationContext ctx, Team team, Lineup teamOnCourt) {
         // Find ONE non-starter to replace with a starter
-        for (String pos : team.starters.keySet()) {
-            Player starter = team.starters.get(pos);
-            Player currentPlayer = teamOnCourt.get(pos);
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player starter = team.starters.get(i);
+            Player currentPlayer = teamOnCourt.get(i);
             
             // If starter is available and not on court, put them in
-            if (starter.canOnCourt && !starter.isOnCourt && currentPlayer != starter) {
-                teamOnCourt.put(pos, starter);
+            if (starter != null && currentPlayer != null && starter.canOnCourt && !starter.isOnCourt && currentPlayer != starter) {
+                teamOnCourt.put(i, starter);
                 currentPlayer.isOnCourt = false;
                 starter.isOnCourt = true;
                 starter.hasBeenOnCourt = true;
                 
-                Comments.getSubstituteComment(starter.getDisplayName(), currentPlayer.getDisplayName());
+                ctx.events.onSubstitution(starter, currentPlayer);
                 return true; // Only sub ONE player per call
             }
         }
@@ -1557,18 +1538,19 @@ public class Utilities {
      * Handle garbage time substitutions - give deep bench players minutes
      * More aggressive substitution rate to ensure all deep bench get playing time
      */
-    private static boolean checkGarbageTimeSubstitutions(Random random, Team team, Map<String, Player> teamOnCourt) {
+    private static boolean checkGarbageTimeSubstitutions(SimulationContext ctx, Team team, Lineup teamOnCourt) {
         // Higher chance (50%) to check for substitutions in garbage time
-        if (generateRandomNum(random, 1, 100) >= Constants.GARBAGE_TIME_SUB_PROBABILITY) {
+        if (generateRandomNum(ctx.random, 1, 100) >= Constants.GARBAGE_TIME_SUB_PROBABILITY) {
             return false;
         }
         
         // Find starters or regular bench players still on court
-        for (String pos : teamOnCourt.keySet()) {
-            Player currentPlayer = teamOnCourt.get(pos);
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            String pos = Lineup.POSITIONS[i].name();
+            Player currentPlayer = teamOnCourt.get(i);
             
             // If there's a starter or regular bench on court, try to sub them with deep bench
-            if (currentPlayer.rotationType == Player.RotationType.STARTER || 
+            if (currentPlayer != null && currentPlayer.rotationType == Player.RotationType.STARTER || 
                 currentPlayer.rotationType == Player.RotationType.BENCH) {
                 
                 // Try to find an available deep bench player
@@ -1581,15 +1563,15 @@ public class Utilities {
                     }
                     
                     if (!availableDeepBench.isEmpty()) {
-                        Player newPlayer = availableDeepBench.get(generateRandomNum(random, 0, availableDeepBench.size() - 1));
+                        Player newPlayer = availableDeepBench.get(generateRandomNum(ctx.random, 0, availableDeepBench.size() - 1));
                         
-                        teamOnCourt.put(pos, newPlayer);
+                        teamOnCourt.put(i, newPlayer);
                         currentPlayer.isOnCourt = false;
                         newPlayer.isOnCourt = true;
                         newPlayer.hasBeenOnCourt = true;
-                        newPlayer.currentStintSeconds = 0;
+                        newPlayer.resetStint(teamOnCourt.getGameTime());
                         
-                        Comments.getSubstituteComment(newPlayer.getDisplayName(), currentPlayer.getDisplayName());
+                        ctx.events.onSubstitution(newPlayer, currentPlayer);
                         return true; // Only sub ONE player per call
                     }
                 }
@@ -1602,31 +1584,32 @@ public class Utilities {
     /**
      * Handle overtime substitutions - only starters play unless injured/fouled out
      */
-    private static boolean checkOvertimeSubstitutions(Team team, Map<String, Player> teamOnCourt) {
+    private static boolean checkOvertimeSubstitutions(SimulationContext ctx, Team team, Lineup teamOnCourt) {
         // Find ONE non-starter to replace or ONE injured player to replace
-        for (String pos : teamOnCourt.keySet()) {
-            Player currentPlayer = teamOnCourt.get(pos);
-            Player starter = team.starters.get(pos);
+        for (int i = 0; i < Lineup.SIZE; i++) {
+            Player currentPlayer = teamOnCourt.get(i);
+            Player starter = team.starters.get(i);
+            if (currentPlayer == null) continue;
             
             // Put starter in if they're available and not already in
             if (starter != null && starter.canOnCourt && !starter.isOnCourt && currentPlayer != starter) {
-                teamOnCourt.put(pos, starter);
+                teamOnCourt.put(i, starter);
                 currentPlayer.isOnCourt = false;
                 starter.isOnCourt = true;
                 starter.hasBeenOnCourt = true;
                 
-                Comments.getSubstituteComment(starter.getDisplayName(), currentPlayer.getDisplayName());
+                ctx.events.onSubstitution(starter, currentPlayer);
                 return true; // Only sub ONE player per call
             }
             // If starter can't play, find next best available
             else if (!currentPlayer.canOnCourt) {
-                Player replacement = findSubPlayer(currentPlayer, team);
+                Player replacement = findSubPlayer(ctx, currentPlayer, team);
                 if (replacement != currentPlayer) {
-                    teamOnCourt.put(pos, replacement);
+                    teamOnCourt.put(i, replacement);
                     replacement.isOnCourt = true;
                     replacement.hasBeenOnCourt = true;
                     
-                    Comments.getSubstituteComment(replacement.getDisplayName(), currentPlayer.getDisplayName());
+                    ctx.events.onSubstitution(replacement, currentPlayer);
                     return true; // Only sub ONE player per call
                 }
             }
@@ -1680,16 +1663,4 @@ public class Utilities {
         
         return MAX_IMPACT * sigmoidValue * distanceWeight;
     }
-    
-    /**
-     * Update player minutes after each play
-     */
-    public static void updatePlayerMinutes(Map<String, Player> teamOnCourt, int playTime) {
-        for (Player p : teamOnCourt.values()) {
-            if (p != null) {
-                p.secondsPlayed += playTime;
-                p.currentStintSeconds += playTime;
-            }
-        }
-    }
 }
@@ -0,0 +1,216 @@
+package src;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WinProbabilityMatrix - Head-to-head win probabilities of every home / away matchup, for the fast prediction mode.
+ * The matrix is estimated once by simulating silent games for each ordered pair of teams, then a season only needs
+ * one random draw per game instead of a full simulation. Estimates are cached on disk in one file per model version
+ * and hash of the roster files, so they are reused until a roster or the simulation model changes. Estimation games use a fixed seed, so the matrix only depends on
+ * the rosters, and two roster directories' matrices share their random streams matchup by matchup.
+ */
+public class WinProbabilityMatrix {
+    // Probability that the home team wins, by [away team id][home team id]
+    private final double[][] homeWinProbability;
+
+    // Hash of the roster files the matrix was estimated from
+    private final String rosterHash;
+
+    // Num of simulated games per matchup
+    private final int gamesPerPair;
+
+    // Version of the simulation model the matrix was estimated with
+    private final int modelVersion;
+
+    private WinProbabilityMatrix(double[][] homeWinProbability, String rosterHash, int gamesPerPair, int modelVersion) {
+        this.homeWinProbability = homeWinProbability;
+        this.rosterHash = rosterHash;
+        this.gamesPerPair = gamesPerPair;
+        this.modelVersion = modelVersion;
+    }
+
+    /**
+     * Load the cached matrix of a roster directory, or estimate and cache it if there is none.
+     * A directory whose roster files can't be hashed is estimated every time and never cached.
+     *
+     * @param rosterPath Roster directory
+     * @param gamesPerPair Num of simulated games per matchup
+     * @param threadCount Num of worker threads for the estimation
+     * @param console Stream to print progress to
+     * @return The matrix
+     */
+    public static WinProbabilityMatrix loadOrEstimate(String rosterPath, int gamesPerPair, int threadCount, PrintStream console) throws InterruptedException {
+        String rosterHash = RosterRepository.getRosterHash(rosterPath);
+        if (rosterHash == null) {
+            // without a hash the estimate can't be matched to its rosters later, so it isn't cached
+            console.println("Roster files of " + rosterPath + " can't be hashed, estimating without the cache");
+            return estimate(rosterPath, gamesPerPair, threadCount, null, console);
+        }
+
+        String cachePath = Constants.WIN_PROBABILITY_DIR + "win-probability-v" + Constants.MODEL_VERSION + "-"
+                           + rosterHash.substring(0, Math.min(rosterHash.length(), 16)) + ".csv";
+        WinProbabilityMatrix cached = load(cachePath);
+        if (cached != null && cached.rosterHash.equals(rosterHash) && cached.gamesPerPair == gamesPerPair
+            && cached.modelVersion == Constants.MODEL_VERSION) {
+            console.println("Using cached win probabilities from " + cachePath);
+            return cached;
+        }
+
+        WinProbabilityMatrix matrix = estimate(rosterPath, gamesPerPair, threadCount, rosterHash, console);
+        matrix.save(cachePath);
+        return matrix;
+    }
+
+    /**
+     * Estimate the matrix by simulating silent games for every ordered pair of teams.
+     * Every matchup's random source is seeded up front by pair index, so the estimate does not depend on the number of workers.
+     *
+     * @throws IllegalStateException If any matchup fails to simulate, so an incomplete matrix is never cached
+     */
+    private static WinProbabilityMatrix estimate(String rosterPath, int gamesPerPair, int threadCount, String rosterHash,
+                                                 PrintStream console) throws InterruptedException {
+        int teamCount = RosterRepository.getTeamCount();
+        int pairCount = teamCount * teamCount;
+        console.println("Estimating win probabilities (" + gamesPerPair + " games per matchup)...");
+
+        RandomSource root = new RandomSource(Constants.WIN_PROBABILITY_SEED);
+        long[] pairSeeds = new long[pairCount];
+        for (int i = 0; i < pairCount; i++) pairSeeds[i] = root.nextLong();
+
+        double[][] homeWinProbability = new double[teamCount][teamCount];
+        AtomicInteger completed = new AtomicInteger();
+        int workers = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        List<Future<?>> shards = new ArrayList<>();
+
+        try {
+            // Split the pairs as evenly as possible across the workers, each worker fills its own cells
+            int shardStart = 0;
+            for (int i = 0; i < workers; i++) {
+                final int start = shardStart;
+                final int end = start + pairCount / workers + (i < pairCount % workers ? 1 : 0);
+                shards.add(pool.submit(() -> {
+                    for (int pair = start; pair < end; pair++) {
+                        int away = pair / teamCount;
+                        int home = pair % teamCount;
+                        if (away == home) continue;
+
+                        homeWinProbability[away][home] = estimatePair(rosterPath, away, home, gamesPerPair, pairSeeds[pair]);
+
+                        int done = completed.incrementAndGet();
+                        if (done % 100 == 0) {
+                            console.println("Estimated " + done + "/" + (pairCount - teamCount) + " matchups...");
+                        }
+                    }
+                    return null;
+                }));
+                shardStart = end;
+            }
+
+            // a failed matchup would be left at 0, so a single failed shard fails the whole estimate
+            for (Future<?> shard : shards) {
+                try {
+                    shard.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Win probability estimation failed: " + e.getCause(), e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new WinProbabilityMatrix(homeWinProbability, rosterHash, gamesPerPair, Constants.MODEL_VERSION);
+    }
+
+    /**
+     * Simulate silent games of one matchup and get the home team's win probability.
+     * Uses the rule of succession, (wins + 1) / (games + 2), so a lopsided matchup still leaves room for an upset.
+     */
+    private static double estimatePair(String rosterPath, int away, int home, int gamesPerPair, long seed) throws Exception {
+        SimulationContext ctx = new SimulationContext(LocalizedStrings.getLanguage(), new RandomSource(seed), System.out);
+        Game game = new Game(ctx);
+        game.silentMode = true;
+        game.rosterPath = rosterPath;
+
+        String awayName = RosterRepository.getTeamName(away);
+        String homeName = RosterRepository.getTeamName(home);
+        int homeWins = 0;
+        for (int i = 0; i < gamesPerPair; i++) {
+            if (game.hostGame(awayName, homeName, "", "single", null).equals(homeName)) homeWins++;
+        }
+        return (homeWins + 1.0) / (gamesPerPair + 2.0);
+    }
+
+    /**
+     * Get the num of simulated games per matchup the matrix was estimated from.
+     */
+    public int getGamesPerPair() {
+        return gamesPerPair;
+    }
+
+    /**
+     * Draw the winner of a game.
+     *
+     * @param random Random source of the season
+     * @param away Away team id
+     * @param home Home team id
+     * @return Team id of the winner
+     */
+    public int drawWinner(RandomSource random, int away, int home) {
+        return random.nextDouble() < homeWinProbability[away][home] ? home : away;
+    }
+
+    /**
+     * Write the matrix to a cache file: a header line with the roster hash, games per matchup and model version,
+     * then one line per away team with the home win probability against every team, by team id.
+     * The file is written atomically, so a run killed while writing never leaves a truncated cache behind.
+     */
+    private void save(String path) {
+        try {
+            Utilities.writeAtomically(path, ps -> {
+                ps.println(rosterHash + "," + gamesPerPair + "," + modelVersion);
+                for (int away = 0; away < homeWinProbability.length; away++) {
+                    StringBuilder sb = new StringBuilder(RosterRepository.getTeamName(away));
+                    for (int home = 0; home < homeWinProbability.length; home++) {
+                        sb.append(",").append(homeWinProbability[away][home]);
+                    }
+                    ps.println(sb.toString());
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Error writing win probabilities: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read a cache file written by save().
+     *
+     * @return The cached matrix, or null if there is no readable cache for the current teams and model version
+     */
+    private static WinProbabilityMatrix load(String path) {
+        File file = new File(path);
+        if (!file.exists()) return null;
+
+        int teamCount = RosterRepository.getTeamCount();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"))) {
+            String[] header = reader.readLine().split(",");
+            if (header.length < 3 || Integer.parseInt(header[2]) != Constants.MODEL_VERSION) return null;
+            double[][] homeWinProbability = new double[teamCount][teamCount];
+
+            for (int away = 0; away < teamCount; away++) {
+                String[] fields = reader.readLine().split(",");
+                if (fields.length != teamCount + 1 || !fields[0].equals(RosterRepository.getTeamName(away))) return null;
+                for (int home = 0; home < teamCount; home++) {
+                    homeWinProbability[away][home] = Double.parseDouble(fields[home + 1]);
+                }
+            }
+            return new WinProbabilityMatrix(homeWinProbability, header[0], Integer.parseInt(header[1]), Integer.parseInt(header[2]));
+        } catch (Exception e) {
+            System.err.println("Ignoring unreadable win probability cache: " + e.getMessage());
+            return null;
+        }
+    }
+}